@@ -0,0 +1,12 @@
+package dev.ivanhernandez.urlshortener.application.dto.request;
+
+import dev.ivanhernandez.urlshortener.domain.model.ClickGranularity;
+
+import java.time.Instant;
+
+public record ClickSeriesQuery(
+        ClickGranularity granularity,
+        Instant from,
+        Instant to
+) {
+}
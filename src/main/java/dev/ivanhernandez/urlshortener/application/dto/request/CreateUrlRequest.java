@@ -1,17 +1,29 @@
 package dev.ivanhernandez.urlshortener.application.dto.request;
 
+import dev.ivanhernandez.urlshortener.application.validation.ValidUrl;
+import dev.ivanhernandez.urlshortener.domain.model.RedirectType;
 import jakarta.validation.constraints.NotBlank;
-import org.hibernate.validator.constraints.URL;
 
 import java.time.LocalDateTime;
 
 public record CreateUrlRequest(
         @NotBlank(message = "Original URL is required")
-        @URL(message = "Invalid URL format")
+        @ValidUrl
         String originalUrl,
 
         String customAlias,
 
-        LocalDateTime expiresAt
+        LocalDateTime expiresAt,
+
+        RedirectType redirectType
 ) {
+    public CreateUrlRequest {
+        if (redirectType == null) {
+            redirectType = RedirectType.TEMPORARY;
+        }
+    }
+
+    public CreateUrlRequest(String originalUrl, String customAlias, LocalDateTime expiresAt) {
+        this(originalUrl, customAlias, expiresAt, null);
+    }
 }
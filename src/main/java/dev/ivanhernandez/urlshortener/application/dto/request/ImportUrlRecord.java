@@ -0,0 +1,41 @@
+package dev.ivanhernandez.urlshortener.application.dto.request;
+
+import dev.ivanhernandez.urlshortener.application.validation.ValidUrl;
+import dev.ivanhernandez.urlshortener.domain.model.RedirectType;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+
+public record ImportUrlRecord(
+        long line,
+
+        @NotBlank(message = "Original URL is required")
+        @Size(max = 2048, message = "Original URL must be at most 2048 characters")
+        @ValidUrl
+        String originalUrl,
+
+        @Size(max = 20, message = "Short code must be at most 20 characters")
+        String shortCode,
+
+        LocalDateTime expiresAt,
+
+        RedirectType redirectType,
+
+        String parseError
+) {
+    public ImportUrlRecord {
+        if (redirectType == null) {
+            redirectType = RedirectType.TEMPORARY;
+        }
+    }
+
+    public ImportUrlRecord(long line, String originalUrl, String shortCode, LocalDateTime expiresAt,
+                           RedirectType redirectType) {
+        this(line, originalUrl, shortCode, expiresAt, redirectType, null);
+    }
+
+    public static ImportUrlRecord malformed(long line, String parseError) {
+        return new ImportUrlRecord(line, null, null, null, null, parseError);
+    }
+}
@@ -0,0 +1,10 @@
+package dev.ivanhernandez.urlshortener.application.dto.response;
+
+import java.util.List;
+
+public record AliasAvailabilityResponse(
+        String alias,
+        boolean available,
+        List<String> suggestions
+) {
+}
@@ -0,0 +1,14 @@
+package dev.ivanhernandez.urlshortener.application.dto.response;
+
+import java.util.List;
+
+public record BatchCreateResponse(
+        int created,
+        int failed,
+        List<BatchItemResponse> items
+) {
+    public static BatchCreateResponse of(List<BatchItemResponse> items) {
+        int created = (int) items.stream().filter(BatchItemResponse::created).count();
+        return new BatchCreateResponse(created, items.size() - created, items);
+    }
+}
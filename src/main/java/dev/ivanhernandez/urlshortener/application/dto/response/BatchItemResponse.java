@@ -0,0 +1,16 @@
+package dev.ivanhernandez.urlshortener.application.dto.response;
+
+public record BatchItemResponse(
+        int index,
+        boolean created,
+        ShortUrlResponse url,
+        String error
+) {
+    public static BatchItemResponse created(int index, ShortUrlResponse url) {
+        return new BatchItemResponse(index, true, url, null);
+    }
+
+    public static BatchItemResponse failed(int index, String error) {
+        return new BatchItemResponse(index, false, null, error);
+    }
+}
@@ -0,0 +1,18 @@
+package dev.ivanhernandez.urlshortener.application.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import dev.ivanhernandez.urlshortener.domain.model.ClickCount;
+import dev.ivanhernandez.urlshortener.domain.model.ClickGranularity;
+
+import java.time.Instant;
+import java.util.List;
+
+public record ClickSeriesResponse(
+        ClickGranularity granularity,
+        Instant from,
+        Instant to,
+        long totalClicks,
+        @JsonInclude(JsonInclude.Include.NON_NULL) Long uniqueVisitors,
+        List<ClickCount> points
+) {
+}
@@ -0,0 +1,21 @@
+package dev.ivanhernandez.urlshortener.application.dto.response;
+
+import dev.ivanhernandez.urlshortener.domain.model.HeavyHitter;
+
+public record HotLinkResponse(
+        String shortCode,
+        long estimatedHits,
+        long maxOverestimate,
+        double requestsPerSecond,
+        boolean pinned
+) {
+    public static HotLinkResponse fromDomain(HeavyHitter heavyHitter) {
+        return new HotLinkResponse(
+                heavyHitter.shortCode(),
+                heavyHitter.estimatedHits(),
+                heavyHitter.maxOverestimate(),
+                heavyHitter.requestsPerSecond(),
+                heavyHitter.pinned()
+        );
+    }
+}
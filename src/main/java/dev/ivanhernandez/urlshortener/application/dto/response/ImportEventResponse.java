@@ -0,0 +1,31 @@
+package dev.ivanhernandez.urlshortener.application.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ImportEventResponse(
+        String type,
+        Long line,
+        String error,
+        Long processed,
+        Long imported,
+        Long failed,
+        Double recordsPerSecond
+) {
+    public static ImportEventResponse lineError(long line, String error) {
+        return new ImportEventResponse("error", line, error, null, null, null, null);
+    }
+
+    public static ImportEventResponse progress(long processed, long imported, long failed, double recordsPerSecond) {
+        return new ImportEventResponse("progress", null, null, processed, imported, failed, recordsPerSecond);
+    }
+
+    public static ImportEventResponse completed(long processed, long imported, long failed, double recordsPerSecond) {
+        return new ImportEventResponse("completed", null, null, processed, imported, failed, recordsPerSecond);
+    }
+
+    public static ImportEventResponse aborted(long processed, long imported, long failed, double recordsPerSecond,
+                                              String error) {
+        return new ImportEventResponse("aborted", null, error, processed, imported, failed, recordsPerSecond);
+    }
+}
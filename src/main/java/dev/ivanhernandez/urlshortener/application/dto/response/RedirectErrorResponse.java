@@ -0,0 +1,7 @@
+package dev.ivanhernandez.urlshortener.application.dto.response;
+
+public record RedirectErrorResponse(
+        int status,
+        String message
+) {
+}
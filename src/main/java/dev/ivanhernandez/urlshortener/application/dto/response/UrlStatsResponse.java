@@ -1,5 +1,6 @@
 package dev.ivanhernandez.urlshortener.application.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import dev.ivanhernandez.urlshortener.domain.model.Url;
 
 import java.time.LocalDateTime;
@@ -8,16 +9,29 @@ public record UrlStatsResponse(
         String shortCode,
         String originalUrl,
         Long accessCount,
+        @JsonInclude(JsonInclude.Include.NON_NULL) Long uniqueVisitors,
         LocalDateTime createdAt,
-        LocalDateTime lastAccessedAt
+        LocalDateTime lastAccessedAt,
+        @JsonInclude(JsonInclude.Include.NON_NULL) ClickSeriesResponse clicks
 ) {
+    public UrlStatsResponse(String shortCode, String originalUrl, Long accessCount, LocalDateTime createdAt,
+                            LocalDateTime lastAccessedAt) {
+        this(shortCode, originalUrl, accessCount, null, createdAt, lastAccessedAt, null);
+    }
+
     public static UrlStatsResponse fromDomain(Url url) {
+        return fromDomain(url, null, null);
+    }
+
+    public static UrlStatsResponse fromDomain(Url url, Long uniqueVisitors, ClickSeriesResponse clicks) {
         return new UrlStatsResponse(
                 url.getShortCode(),
                 url.getOriginalUrl(),
                 url.getAccessCount(),
+                uniqueVisitors,
                 url.getCreatedAt(),
-                url.getLastAccessedAt()
+                url.getLastAccessedAt(),
+                clicks
         );
     }
 }
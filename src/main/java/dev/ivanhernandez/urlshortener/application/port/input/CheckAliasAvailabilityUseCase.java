@@ -0,0 +1,8 @@
+package dev.ivanhernandez.urlshortener.application.port.input;
+
+import dev.ivanhernandez.urlshortener.application.dto.response.AliasAvailabilityResponse;
+
+public interface CheckAliasAvailabilityUseCase {
+
+    AliasAvailabilityResponse checkAvailability(String alias, int suggestions);
+}
@@ -1,9 +1,17 @@
 package dev.ivanhernandez.urlshortener.application.port.input;
 
 import dev.ivanhernandez.urlshortener.application.dto.request.CreateUrlRequest;
+import dev.ivanhernandez.urlshortener.application.dto.response.BatchCreateResponse;
 import dev.ivanhernandez.urlshortener.application.dto.response.ShortUrlResponse;
 
+import java.util.List;
+import java.util.Optional;
+
 public interface CreateShortUrlUseCase {
 
     ShortUrlResponse createShortUrl(CreateUrlRequest request);
+
+    Optional<ShortUrlResponse> acceptShortUrl(CreateUrlRequest request);
+
+    BatchCreateResponse createShortUrls(List<CreateUrlRequest> requests);
 }
@@ -0,0 +1,10 @@
+package dev.ivanhernandez.urlshortener.application.port.input;
+
+import dev.ivanhernandez.urlshortener.application.dto.response.HotLinkResponse;
+
+import java.util.List;
+
+public interface GetHotLinksUseCase {
+
+    List<HotLinkResponse> getHotLinks(int limit);
+}
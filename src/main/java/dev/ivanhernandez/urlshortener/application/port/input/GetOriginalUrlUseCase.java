@@ -1,6 +1,13 @@
 package dev.ivanhernandez.urlshortener.application.port.input;
 
+import dev.ivanhernandez.urlshortener.domain.model.ClickContext;
+import dev.ivanhernandez.urlshortener.domain.model.RedirectResult;
+
 public interface GetOriginalUrlUseCase {
 
     String getOriginalUrl(String shortCode);
+
+    RedirectResult resolveRedirect(String shortCode);
+
+    RedirectResult resolveRedirect(String shortCode, ClickContext clickContext);
 }
@@ -1,8 +1,11 @@
 package dev.ivanhernandez.urlshortener.application.port.input;
 
+import dev.ivanhernandez.urlshortener.application.dto.request.ClickSeriesQuery;
 import dev.ivanhernandez.urlshortener.application.dto.response.UrlStatsResponse;
 
 public interface GetUrlStatsUseCase {
 
     UrlStatsResponse getUrlStats(String shortCode);
+
+    UrlStatsResponse getUrlStats(String shortCode, ClickSeriesQuery clickSeriesQuery);
 }
@@ -1,5 +1,6 @@
 package dev.ivanhernandez.urlshortener.application.port.input;
 
+import dev.ivanhernandez.urlshortener.application.dto.request.ClickSeriesQuery;
 import dev.ivanhernandez.urlshortener.application.dto.response.UrlStatsResponse;
 
 import java.util.UUID;
@@ -7,4 +8,6 @@ import java.util.UUID;
 public interface GetUserUrlStatsUseCase {
 
     UrlStatsResponse getUserUrlStats(String shortCode, UUID userId);
+
+    UrlStatsResponse getUserUrlStats(String shortCode, UUID userId, ClickSeriesQuery clickSeriesQuery);
 }
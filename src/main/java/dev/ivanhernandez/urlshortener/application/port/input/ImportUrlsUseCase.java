@@ -0,0 +1,14 @@
+package dev.ivanhernandez.urlshortener.application.port.input;
+
+import dev.ivanhernandez.urlshortener.application.dto.request.ImportUrlRecord;
+import dev.ivanhernandez.urlshortener.application.dto.response.ImportEventResponse;
+
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+public interface ImportUrlsUseCase {
+
+    ImportEventResponse importUrls(Iterator<ImportUrlRecord> records, UUID userId, UUID tenantId,
+                                   Consumer<ImportEventResponse> listener);
+}
@@ -0,0 +1,12 @@
+package dev.ivanhernandez.urlshortener.application.port.output;
+
+import dev.ivanhernandez.urlshortener.domain.model.RedirectTarget;
+
+import java.util.Optional;
+
+public interface AccessCounter {
+
+    void recordAccess(String shortCode);
+
+    Optional<RedirectTarget> resolveAndRecordAccess(String shortCode);
+}
@@ -0,0 +1,6 @@
+package dev.ivanhernandez.urlshortener.application.port.output;
+
+public interface ClickRollupRecorder {
+
+    void recordClick(long urlId);
+}
@@ -0,0 +1,15 @@
+package dev.ivanhernandez.urlshortener.application.port.output;
+
+import dev.ivanhernandez.urlshortener.domain.model.ClickCount;
+import dev.ivanhernandez.urlshortener.domain.model.ClickGranularity;
+import dev.ivanhernandez.urlshortener.domain.model.ClickRollup;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface ClickRollupRepository {
+
+    void addClicks(List<ClickRollup> rollups);
+
+    List<ClickCount> findClicks(long urlId, ClickGranularity granularity, Instant from, Instant to);
+}
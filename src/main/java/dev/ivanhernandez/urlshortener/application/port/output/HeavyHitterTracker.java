@@ -0,0 +1,12 @@
+package dev.ivanhernandez.urlshortener.application.port.output;
+
+import dev.ivanhernandez.urlshortener.domain.model.HeavyHitter;
+
+import java.util.List;
+
+public interface HeavyHitterTracker {
+
+    void recordHit(String shortCode);
+
+    List<HeavyHitter> topHitters(int limit);
+}
@@ -0,0 +1,10 @@
+package dev.ivanhernandez.urlshortener.application.port.output;
+
+import java.util.function.Consumer;
+
+public interface InvalidationBus {
+
+    void publish(String shortCode);
+
+    void subscribe(Consumer<String> listener);
+}
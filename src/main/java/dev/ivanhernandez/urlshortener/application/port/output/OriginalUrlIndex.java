@@ -0,0 +1,14 @@
+package dev.ivanhernandez.urlshortener.application.port.output;
+
+import dev.ivanhernandez.urlshortener.domain.model.Url;
+
+import java.util.Optional;
+
+public interface OriginalUrlIndex {
+
+    byte[] digest(String originalUrl);
+
+    Optional<Url> find(Url url);
+
+    void add(Url url);
+}
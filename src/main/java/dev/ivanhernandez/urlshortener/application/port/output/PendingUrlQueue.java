@@ -0,0 +1,15 @@
+package dev.ivanhernandez.urlshortener.application.port.output;
+
+import dev.ivanhernandez.urlshortener.domain.model.RedirectTarget;
+import dev.ivanhernandez.urlshortener.domain.model.Url;
+
+import java.util.Optional;
+
+public interface PendingUrlQueue {
+
+    boolean isEnabled();
+
+    void enqueue(Url url);
+
+    Optional<RedirectTarget> find(String shortCode);
+}
@@ -0,0 +1,14 @@
+package dev.ivanhernandez.urlshortener.application.port.output;
+
+import dev.ivanhernandez.urlshortener.domain.model.RedirectTarget;
+
+import java.util.Optional;
+
+public interface RedirectCache {
+
+    Optional<RedirectTarget> get(String shortCode);
+
+    void put(RedirectTarget target);
+
+    void evict(String shortCode);
+}
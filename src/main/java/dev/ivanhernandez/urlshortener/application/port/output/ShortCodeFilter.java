@@ -0,0 +1,10 @@
+package dev.ivanhernandez.urlshortener.application.port.output;
+
+public interface ShortCodeFilter {
+
+    boolean mightContain(String shortCode);
+
+    void add(String shortCode);
+
+    void remove(String shortCode);
+}
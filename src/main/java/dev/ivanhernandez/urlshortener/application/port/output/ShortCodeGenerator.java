@@ -0,0 +1,10 @@
+package dev.ivanhernandez.urlshortener.application.port.output;
+
+public interface ShortCodeGenerator {
+
+    String nextShortCode();
+
+    void recordCollision(String shortCode);
+
+    boolean reservesCodes();
+}
@@ -0,0 +1,12 @@
+package dev.ivanhernandez.urlshortener.application.port.output;
+
+public interface ShortCodeIndex {
+
+    boolean isLoaded();
+
+    boolean contains(String shortCode);
+
+    void add(String shortCode);
+
+    void remove(String shortCode);
+}
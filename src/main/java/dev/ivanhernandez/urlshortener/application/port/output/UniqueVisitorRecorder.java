@@ -0,0 +1,8 @@
+package dev.ivanhernandez.urlshortener.application.port.output;
+
+import dev.ivanhernandez.urlshortener.domain.model.ClickContext;
+
+public interface UniqueVisitorRecorder {
+
+    void recordVisit(long urlId, ClickContext clickContext);
+}
@@ -1,22 +1,47 @@
 package dev.ivanhernandez.urlshortener.application.port.output;
 
+import dev.ivanhernandez.urlshortener.domain.model.AccessCountDelta;
+import dev.ivanhernandez.urlshortener.domain.model.InsertResult;
+import dev.ivanhernandez.urlshortener.domain.model.RedirectTarget;
+import dev.ivanhernandez.urlshortener.domain.model.RedirectType;
 import dev.ivanhernandez.urlshortener.domain.model.Url;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 public interface UrlRepository {
 
     Url save(Url url);
 
+    InsertResult insert(Url url);
+
+    List<InsertResult> insertAll(List<Url> urls);
+
     Optional<Url> findByShortCode(String shortCode);
 
+    Optional<RedirectTarget> findRedirectTarget(String shortCode);
+
+    Optional<RedirectTarget> resolveAndIncrementAccessCount(String shortCode, LocalDateTime accessedAt);
+
     boolean existsByShortCode(String shortCode);
 
+    void incrementAccessCount(String shortCode, LocalDateTime accessedAt);
+
+    void incrementAccessCounts(List<AccessCountDelta> deltas);
+
     void deleteByShortCode(String shortCode);
 
+    void forEachShortCodeInsertedSince(LocalDateTime insertedSince, BiConsumer<String, LocalDateTime> consumer);
+
+    void forEachRedirectTarget(long afterId, Consumer<RedirectTarget> consumer);
+
     List<Url> findByUserId(UUID userId);
 
     Optional<Url> findByShortCodeAndUserId(String shortCode, UUID userId);
+
+    Optional<Url> findByOriginalUrlHash(byte[] originalUrlHash, RedirectType redirectType);
 }
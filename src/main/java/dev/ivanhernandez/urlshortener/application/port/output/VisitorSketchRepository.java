@@ -0,0 +1,17 @@
+package dev.ivanhernandez.urlshortener.application.port.output;
+
+import dev.ivanhernandez.urlshortener.domain.model.HyperLogLog;
+import dev.ivanhernandez.urlshortener.domain.model.VisitorSketch;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface VisitorSketchRepository {
+
+    void mergeSketches(List<VisitorSketch> sketches);
+
+    Optional<HyperLogLog> findTotalSketch(long urlId);
+
+    List<HyperLogLog> findDailySketches(long urlId, LocalDate from, LocalDate to);
+}
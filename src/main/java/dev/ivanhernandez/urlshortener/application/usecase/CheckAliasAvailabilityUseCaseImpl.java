@@ -0,0 +1,64 @@
+package dev.ivanhernandez.urlshortener.application.usecase;
+
+import dev.ivanhernandez.urlshortener.application.dto.response.AliasAvailabilityResponse;
+import dev.ivanhernandez.urlshortener.application.port.input.CheckAliasAvailabilityUseCase;
+import dev.ivanhernandez.urlshortener.application.port.output.ShortCodeIndex;
+import dev.ivanhernandez.urlshortener.application.port.output.UrlRepository;
+import dev.ivanhernandez.urlshortener.domain.exception.InvalidUrlException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+public class CheckAliasAvailabilityUseCaseImpl implements CheckAliasAvailabilityUseCase {
+
+    private static final int MAX_ALIAS_LENGTH = 20;
+    private static final int MAX_CANDIDATES = 500;
+
+    private final ShortCodeIndex shortCodeIndex;
+    private final UrlRepository urlRepository;
+
+    public CheckAliasAvailabilityUseCaseImpl(ShortCodeIndex shortCodeIndex, UrlRepository urlRepository) {
+        this.shortCodeIndex = shortCodeIndex;
+        this.urlRepository = urlRepository;
+    }
+
+    @Override
+    public AliasAvailabilityResponse checkAvailability(String alias, int suggestions) {
+        if (alias == null || alias.isBlank() || alias.length() > MAX_ALIAS_LENGTH) {
+            throw new InvalidUrlException("Alias must be between 1 and " + MAX_ALIAS_LENGTH + " characters");
+        }
+        if (!isTaken(alias)) {
+            return new AliasAvailabilityResponse(alias, true, List.of());
+        }
+        return new AliasAvailabilityResponse(alias, false, suggest(alias, suggestions));
+    }
+
+    private List<String> suggest(String alias, int limit) {
+        List<String> suggestions = new ArrayList<>(limit);
+        for (int n = 1; n <= MAX_CANDIDATES && suggestions.size() < limit; n++) {
+            String suffix = Integer.toString(n);
+            addIfFree(suggestions, withSuffix(alias, suffix), limit);
+            addIfFree(suggestions, withSuffix(alias, "-" + suffix), limit);
+        }
+        return suggestions;
+    }
+
+    private void addIfFree(List<String> suggestions, String candidate, int limit) {
+        if (suggestions.size() < limit && !suggestions.contains(candidate) && !isTaken(candidate)) {
+            suggestions.add(candidate);
+        }
+    }
+
+    private boolean isTaken(String shortCode) {
+        return shortCodeIndex.isLoaded()
+                ? shortCodeIndex.contains(shortCode)
+                : urlRepository.existsByShortCode(shortCode);
+    }
+
+    private static String withSuffix(String alias, String suffix) {
+        int keep = Math.min(alias.length(), MAX_ALIAS_LENGTH - suffix.length());
+        return alias.substring(0, keep) + suffix;
+    }
+}
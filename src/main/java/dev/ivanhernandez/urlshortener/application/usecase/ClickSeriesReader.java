@@ -0,0 +1,75 @@
+package dev.ivanhernandez.urlshortener.application.usecase;
+
+import dev.ivanhernandez.urlshortener.application.dto.request.ClickSeriesQuery;
+import dev.ivanhernandez.urlshortener.application.dto.response.ClickSeriesResponse;
+import dev.ivanhernandez.urlshortener.application.port.output.ClickRollupRepository;
+import dev.ivanhernandez.urlshortener.domain.exception.InvalidUrlException;
+import dev.ivanhernandez.urlshortener.domain.model.ClickCount;
+import dev.ivanhernandez.urlshortener.domain.model.ClickGranularity;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+final class ClickSeriesReader {
+
+    static final int MAX_POINTS = 1000;
+    private static final int DEFAULT_HOURLY_POINTS = 24;
+    private static final int DEFAULT_DAILY_POINTS = 30;
+
+    private final ClickRollupRepository clickRollupRepository;
+    private final UniqueVisitorEstimator uniqueVisitorEstimator;
+
+    ClickSeriesReader(ClickRollupRepository clickRollupRepository, UniqueVisitorEstimator uniqueVisitorEstimator) {
+        this.clickRollupRepository = clickRollupRepository;
+        this.uniqueVisitorEstimator = uniqueVisitorEstimator;
+    }
+
+    ClickSeriesResponse read(Long urlId, ClickSeriesQuery query) {
+        if (query == null || query.granularity() == null || urlId == null) {
+            return null;
+        }
+        ClickGranularity granularity = query.granularity();
+        Duration bucketSize = granularity.bucketSize();
+        Instant to = endOfBucket(granularity, query.to() != null ? query.to() : Instant.now());
+        int defaultPoints = granularity == ClickGranularity.HOUR ? DEFAULT_HOURLY_POINTS : DEFAULT_DAILY_POINTS;
+        Instant from = query.from() != null
+                ? granularity.bucketStart(query.from())
+                : to.minus(bucketSize.multipliedBy(defaultPoints));
+        if (!from.isBefore(to)) {
+            throw new InvalidUrlException("Stats range must end after it starts");
+        }
+        long points = Duration.between(from, to).dividedBy(bucketSize);
+        if (points > MAX_POINTS) {
+            throw new InvalidUrlException("Stats range must not exceed " + MAX_POINTS + " buckets");
+        }
+
+        Map<Instant, Long> stored = new HashMap<>();
+        for (ClickCount count : clickRollupRepository.findClicks(urlId, granularity, from, to)) {
+            stored.put(count.bucketStart(), count.clicks());
+        }
+        List<ClickCount> series = new ArrayList<>((int) points);
+        long total = 0;
+        for (Instant bucket = from; bucket.isBefore(to); bucket = bucket.plus(bucketSize)) {
+            long clicks = stored.getOrDefault(bucket, 0L);
+            series.add(new ClickCount(bucket, clicks));
+            total += clicks;
+        }
+        Long uniqueVisitors = null;
+        if (granularity == ClickGranularity.DAY) {
+            uniqueVisitors = uniqueVisitorEstimator.estimate(urlId,
+                    LocalDate.ofInstant(from, ZoneOffset.UTC), LocalDate.ofInstant(to, ZoneOffset.UTC));
+        }
+        return new ClickSeriesResponse(granularity, from, to, total, uniqueVisitors, series);
+    }
+
+    private static Instant endOfBucket(ClickGranularity granularity, Instant instant) {
+        Instant start = granularity.bucketStart(instant);
+        return start.equals(instant) ? start : start.plus(granularity.bucketSize());
+    }
+}
@@ -1,77 +1,119 @@
 package dev.ivanhernandez.urlshortener.application.usecase;
 
 import dev.ivanhernandez.urlshortener.application.dto.request.CreateUrlRequest;
+import dev.ivanhernandez.urlshortener.application.dto.response.BatchCreateResponse;
 import dev.ivanhernandez.urlshortener.application.dto.response.ShortUrlResponse;
 import dev.ivanhernandez.urlshortener.application.port.input.CreateShortUrlUseCase;
+import dev.ivanhernandez.urlshortener.application.port.output.OriginalUrlIndex;
+import dev.ivanhernandez.urlshortener.application.port.output.PendingUrlQueue;
+import dev.ivanhernandez.urlshortener.application.port.output.ShortCodeFilter;
+import dev.ivanhernandez.urlshortener.application.port.output.ShortCodeGenerator;
+import dev.ivanhernandez.urlshortener.application.port.output.ShortCodeIndex;
 import dev.ivanhernandez.urlshortener.application.port.output.UrlRepository;
-import dev.ivanhernandez.urlshortener.domain.exception.InvalidUrlException;
 import dev.ivanhernandez.urlshortener.domain.model.Url;
+import dev.ivanhernandez.urlshortener.domain.model.UrlNormalizer;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.Validator;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.security.SecureRandom;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 @Component
-@Transactional
 public class CreateShortUrlUseCaseImpl implements CreateShortUrlUseCase {
 
-    private static final String CHARACTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
-    private static final SecureRandom RANDOM = new SecureRandom();
-
-    private final UrlRepository urlRepository;
+    private final ShortCodeFilter shortCodeFilter;
+    private final ShortCodeGenerator shortCodeGenerator;
+    private final ShortCodeIndex shortCodeIndex;
+    private final OriginalUrlIndex originalUrlIndex;
+    private final PendingUrlQueue pendingUrlQueue;
     private final String baseUrl;
-    private final int shortCodeLength;
+    private final UrlInserter inserter;
+    private final UrlBatchCreator batchCreator;
 
     public CreateShortUrlUseCaseImpl(
             UrlRepository urlRepository,
+            ShortCodeFilter shortCodeFilter,
+            ShortCodeGenerator shortCodeGenerator,
+            ShortCodeIndex shortCodeIndex,
+            OriginalUrlIndex originalUrlIndex,
+            PendingUrlQueue pendingUrlQueue,
+            MeterRegistry meterRegistry,
+            Validator validator,
             @Value("${app.base-url}") String baseUrl,
-            @Value("${app.short-code.length}") int shortCodeLength) {
-        this.urlRepository = urlRepository;
+            @Value("${app.batch.max-size:1000}") int maxBatchSize) {
+        if (pendingUrlQueue.isEnabled() && !shortCodeGenerator.reservesCodes()) {
+            throw new IllegalStateException(
+                    "app.async-create.enabled requires app.short-code.generator.mode sequence or pool");
+        }
+        this.shortCodeFilter = shortCodeFilter;
+        this.shortCodeGenerator = shortCodeGenerator;
+        this.shortCodeIndex = shortCodeIndex;
+        this.originalUrlIndex = originalUrlIndex;
+        this.pendingUrlQueue = pendingUrlQueue;
         this.baseUrl = baseUrl;
-        this.shortCodeLength = shortCodeLength;
+        this.inserter = new UrlInserter(
+                urlRepository, shortCodeFilter, shortCodeGenerator, shortCodeIndex, pendingUrlQueue, meterRegistry);
+        this.batchCreator = new UrlBatchCreator(
+                urlRepository, shortCodeFilter, shortCodeGenerator, shortCodeIndex, pendingUrlQueue, meterRegistry,
+                validator, baseUrl, maxBatchSize);
     }
 
     @Override
     public ShortUrlResponse createShortUrl(CreateUrlRequest request) {
-        String shortCode = resolveShortCode(request.customAlias());
-
-        Url url = new Url();
-        url.setOriginalUrl(request.originalUrl());
-        url.setShortCode(shortCode);
-        url.setCreatedAt(LocalDateTime.now());
-        url.setExpiresAt(request.expiresAt());
-        url.setAccessCount(0L);
-
-        Url savedUrl = urlRepository.save(url);
+        Url url = toUrl(request);
+        if (isDeduplicable(request)) {
+            url.setOriginalUrlHash(originalUrlIndex.digest(url.getOriginalUrl()));
+            Optional<Url> existing = originalUrlIndex.find(url);
+            if (existing.isPresent()) {
+                return ShortUrlResponse.fromDomain(existing.get(), baseUrl);
+            }
+        }
+        Url savedUrl = inserter.insert(url, request.customAlias());
+        originalUrlIndex.add(savedUrl);
 
         return ShortUrlResponse.fromDomain(savedUrl, baseUrl);
     }
 
-    private String resolveShortCode(String customAlias) {
-        if (customAlias != null && !customAlias.isBlank()) {
-            if (urlRepository.existsByShortCode(customAlias)) {
-                throw new InvalidUrlException("Custom alias already exists: " + customAlias);
-            }
-            return customAlias;
+    @Override
+    public Optional<ShortUrlResponse> acceptShortUrl(CreateUrlRequest request) {
+        if (!pendingUrlQueue.isEnabled() || hasCustomAlias(request)) {
+            return Optional.empty();
         }
-        return generateUniqueShortCode();
+        Url url = toUrl(request);
+        if (isDeduplicable(request)) {
+            url.setOriginalUrlHash(originalUrlIndex.digest(url.getOriginalUrl()));
+        }
+        url.setShortCode(shortCodeGenerator.nextShortCode());
+        shortCodeFilter.add(url.getShortCode());
+        pendingUrlQueue.enqueue(url);
+        shortCodeIndex.add(url.getShortCode());
+
+        return Optional.of(ShortUrlResponse.fromDomain(url, baseUrl));
     }
 
-    private String generateUniqueShortCode() {
-        String shortCode;
-        do {
-            shortCode = generateRandomCode();
-        } while (urlRepository.existsByShortCode(shortCode));
-        return shortCode;
+    @Override
+    public BatchCreateResponse createShortUrls(List<CreateUrlRequest> requests) {
+        return batchCreator.create(requests, this::toUrl);
     }
 
-    private String generateRandomCode() {
-        StringBuilder sb = new StringBuilder(shortCodeLength);
-        for (int i = 0; i < shortCodeLength; i++) {
-            sb.append(CHARACTERS.charAt(RANDOM.nextInt(CHARACTERS.length())));
-        }
-        return sb.toString();
+    private Url toUrl(CreateUrlRequest request) {
+        Url url = new Url();
+        url.setOriginalUrl(UrlNormalizer.normalize(request.originalUrl()));
+        url.setCreatedAt(LocalDateTime.now());
+        url.setExpiresAt(request.expiresAt());
+        url.setRedirectType(request.redirectType());
+        url.setAccessCount(0L);
+        return url;
+    }
+
+    private boolean isDeduplicable(CreateUrlRequest request) {
+        return !hasCustomAlias(request) && request.expiresAt() == null;
+    }
+
+    private boolean hasCustomAlias(CreateUrlRequest request) {
+        return request.customAlias() != null && !request.customAlias().isBlank();
     }
 }
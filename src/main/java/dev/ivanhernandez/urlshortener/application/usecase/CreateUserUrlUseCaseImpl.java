@@ -1,80 +1,71 @@
 package dev.ivanhernandez.urlshortener.application.usecase;
 
 import dev.ivanhernandez.urlshortener.application.dto.request.CreateUrlRequest;
+import dev.ivanhernandez.urlshortener.application.dto.response.BatchCreateResponse;
 import dev.ivanhernandez.urlshortener.application.dto.response.ShortUrlResponse;
 import dev.ivanhernandez.urlshortener.application.port.input.CreateUserUrlUseCase;
+import dev.ivanhernandez.urlshortener.application.port.output.PendingUrlQueue;
+import dev.ivanhernandez.urlshortener.application.port.output.ShortCodeFilter;
+import dev.ivanhernandez.urlshortener.application.port.output.ShortCodeGenerator;
+import dev.ivanhernandez.urlshortener.application.port.output.ShortCodeIndex;
 import dev.ivanhernandez.urlshortener.application.port.output.UrlRepository;
-import dev.ivanhernandez.urlshortener.domain.exception.InvalidUrlException;
 import dev.ivanhernandez.urlshortener.domain.model.Url;
+import dev.ivanhernandez.urlshortener.domain.model.UrlNormalizer;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.Validator;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.security.SecureRandom;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 @Component
-@Transactional
 public class CreateUserUrlUseCaseImpl implements CreateUserUrlUseCase {
 
-    private static final String CHARACTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
-    private static final SecureRandom RANDOM = new SecureRandom();
-
-    private final UrlRepository urlRepository;
     private final String baseUrl;
-    private final int shortCodeLength;
+    private final UrlInserter inserter;
+    private final UrlBatchCreator batchCreator;
 
     public CreateUserUrlUseCaseImpl(
             UrlRepository urlRepository,
+            ShortCodeFilter shortCodeFilter,
+            ShortCodeGenerator shortCodeGenerator,
+            ShortCodeIndex shortCodeIndex,
+            PendingUrlQueue pendingUrlQueue,
+            MeterRegistry meterRegistry,
+            Validator validator,
             @Value("${app.base-url}") String baseUrl,
-            @Value("${app.short-code.length}") int shortCodeLength) {
-        this.urlRepository = urlRepository;
+            @Value("${app.batch.max-size:1000}") int maxBatchSize) {
         this.baseUrl = baseUrl;
-        this.shortCodeLength = shortCodeLength;
+        this.inserter = new UrlInserter(
+                urlRepository, shortCodeFilter, shortCodeGenerator, shortCodeIndex, pendingUrlQueue, meterRegistry);
+        this.batchCreator = new UrlBatchCreator(
+                urlRepository, shortCodeFilter, shortCodeGenerator, shortCodeIndex, pendingUrlQueue, meterRegistry,
+                validator, baseUrl, maxBatchSize);
     }
 
     @Override
     public ShortUrlResponse createUserUrl(CreateUrlRequest request, UUID userId, UUID tenantId) {
-        String shortCode = resolveShortCode(request.customAlias());
+        Url savedUrl = inserter.insert(toUrl(request, userId, tenantId), request.customAlias());
+
+        return ShortUrlResponse.fromDomain(savedUrl, baseUrl);
+    }
 
+    @Override
+    public BatchCreateResponse createUserUrls(List<CreateUrlRequest> requests, UUID userId, UUID tenantId) {
+        return batchCreator.create(requests, request -> toUrl(request, userId, tenantId));
+    }
+
+    private Url toUrl(CreateUrlRequest request, UUID userId, UUID tenantId) {
         Url url = new Url();
-        url.setOriginalUrl(request.originalUrl());
-        url.setShortCode(shortCode);
+        url.setOriginalUrl(UrlNormalizer.normalize(request.originalUrl()));
         url.setUserId(userId);
         url.setTenantId(tenantId);
         url.setCreatedAt(LocalDateTime.now());
         url.setExpiresAt(request.expiresAt());
+        url.setRedirectType(request.redirectType());
         url.setAccessCount(0L);
-
-        Url savedUrl = urlRepository.save(url);
-
-        return ShortUrlResponse.fromDomain(savedUrl, baseUrl);
-    }
-
-    private String resolveShortCode(String customAlias) {
-        if (customAlias != null && !customAlias.isBlank()) {
-            if (urlRepository.existsByShortCode(customAlias)) {
-                throw new InvalidUrlException("Custom alias already exists: " + customAlias);
-            }
-            return customAlias;
-        }
-        return generateUniqueShortCode();
-    }
-
-    private String generateUniqueShortCode() {
-        String shortCode;
-        do {
-            shortCode = generateRandomCode();
-        } while (urlRepository.existsByShortCode(shortCode));
-        return shortCode;
-    }
-
-    private String generateRandomCode() {
-        StringBuilder sb = new StringBuilder(shortCodeLength);
-        for (int i = 0; i < shortCodeLength; i++) {
-            sb.append(CHARACTERS.charAt(RANDOM.nextInt(CHARACTERS.length())));
-        }
-        return sb.toString();
+        return url;
     }
 }
@@ -1,6 +1,9 @@
 package dev.ivanhernandez.urlshortener.application.usecase;
 
 import dev.ivanhernandez.urlshortener.application.port.input.DeleteUrlUseCase;
+import dev.ivanhernandez.urlshortener.application.port.output.InvalidationBus;
+import dev.ivanhernandez.urlshortener.application.port.output.RedirectCache;
+import dev.ivanhernandez.urlshortener.application.port.output.ShortCodeFilter;
 import dev.ivanhernandez.urlshortener.application.port.output.UrlRepository;
 import dev.ivanhernandez.urlshortener.domain.exception.UrlNotFoundException;
 import dev.ivanhernandez.urlshortener.domain.exception.UrlOwnershipException;
@@ -13,9 +16,16 @@ import org.springframework.transaction.annotation.Transactional;
 public class DeleteUrlUseCaseImpl implements DeleteUrlUseCase {
 
     private final UrlRepository urlRepository;
+    private final RedirectCache redirectCache;
+    private final ShortCodeFilter shortCodeFilter;
+    private final InvalidationBus invalidationBus;
 
-    public DeleteUrlUseCaseImpl(UrlRepository urlRepository) {
+    public DeleteUrlUseCaseImpl(UrlRepository urlRepository, RedirectCache redirectCache,
+                                ShortCodeFilter shortCodeFilter, InvalidationBus invalidationBus) {
         this.urlRepository = urlRepository;
+        this.redirectCache = redirectCache;
+        this.shortCodeFilter = shortCodeFilter;
+        this.invalidationBus = invalidationBus;
     }
 
     @Override
@@ -28,5 +38,8 @@ public class DeleteUrlUseCaseImpl implements DeleteUrlUseCase {
         }
 
         urlRepository.deleteByShortCode(shortCode);
+        redirectCache.evict(shortCode);
+        shortCodeFilter.remove(shortCode);
+        invalidationBus.publish(shortCode);
     }
 }
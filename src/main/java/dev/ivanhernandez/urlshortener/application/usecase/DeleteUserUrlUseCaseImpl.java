@@ -1,6 +1,9 @@
 package dev.ivanhernandez.urlshortener.application.usecase;
 
 import dev.ivanhernandez.urlshortener.application.port.input.DeleteUserUrlUseCase;
+import dev.ivanhernandez.urlshortener.application.port.output.InvalidationBus;
+import dev.ivanhernandez.urlshortener.application.port.output.RedirectCache;
+import dev.ivanhernandez.urlshortener.application.port.output.ShortCodeFilter;
 import dev.ivanhernandez.urlshortener.application.port.output.UrlRepository;
 import dev.ivanhernandez.urlshortener.domain.exception.UrlNotFoundException;
 import dev.ivanhernandez.urlshortener.domain.model.Url;
@@ -14,9 +17,16 @@ import java.util.UUID;
 public class DeleteUserUrlUseCaseImpl implements DeleteUserUrlUseCase {
 
     private final UrlRepository urlRepository;
+    private final RedirectCache redirectCache;
+    private final ShortCodeFilter shortCodeFilter;
+    private final InvalidationBus invalidationBus;
 
-    public DeleteUserUrlUseCaseImpl(UrlRepository urlRepository) {
+    public DeleteUserUrlUseCaseImpl(UrlRepository urlRepository, RedirectCache redirectCache,
+                                    ShortCodeFilter shortCodeFilter, InvalidationBus invalidationBus) {
         this.urlRepository = urlRepository;
+        this.redirectCache = redirectCache;
+        this.shortCodeFilter = shortCodeFilter;
+        this.invalidationBus = invalidationBus;
     }
 
     @Override
@@ -25,5 +35,8 @@ public class DeleteUserUrlUseCaseImpl implements DeleteUserUrlUseCase {
                 .orElseThrow(() -> new UrlNotFoundException(shortCode));
 
         urlRepository.deleteByShortCode(shortCode);
+        redirectCache.evict(shortCode);
+        shortCodeFilter.remove(shortCode);
+        invalidationBus.publish(shortCode);
     }
 }
@@ -0,0 +1,25 @@
+package dev.ivanhernandez.urlshortener.application.usecase;
+
+import dev.ivanhernandez.urlshortener.application.dto.response.HotLinkResponse;
+import dev.ivanhernandez.urlshortener.application.port.input.GetHotLinksUseCase;
+import dev.ivanhernandez.urlshortener.application.port.output.HeavyHitterTracker;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class GetHotLinksUseCaseImpl implements GetHotLinksUseCase {
+
+    private final HeavyHitterTracker heavyHitterTracker;
+
+    public GetHotLinksUseCaseImpl(HeavyHitterTracker heavyHitterTracker) {
+        this.heavyHitterTracker = heavyHitterTracker;
+    }
+
+    @Override
+    public List<HotLinkResponse> getHotLinks(int limit) {
+        return heavyHitterTracker.topHitters(limit).stream()
+                .map(HotLinkResponse::fromDomain)
+                .toList();
+    }
+}
@@ -1,35 +1,105 @@
 package dev.ivanhernandez.urlshortener.application.usecase;
 
 import dev.ivanhernandez.urlshortener.application.port.input.GetOriginalUrlUseCase;
-import dev.ivanhernandez.urlshortener.application.port.output.UrlRepository;
+import dev.ivanhernandez.urlshortener.application.port.output.AccessCounter;
+import dev.ivanhernandez.urlshortener.application.port.output.ClickEventLog;
+import dev.ivanhernandez.urlshortener.application.port.output.ClickRollupRecorder;
+import dev.ivanhernandez.urlshortener.application.port.output.HeavyHitterTracker;
+import dev.ivanhernandez.urlshortener.application.port.output.PendingUrlQueue;
+import dev.ivanhernandez.urlshortener.application.port.output.RedirectCache;
+import dev.ivanhernandez.urlshortener.application.port.output.ShortCodeFilter;
+import dev.ivanhernandez.urlshortener.application.port.output.UniqueVisitorRecorder;
 import dev.ivanhernandez.urlshortener.domain.exception.ExpiredUrlException;
 import dev.ivanhernandez.urlshortener.domain.exception.UrlNotFoundException;
-import dev.ivanhernandez.urlshortener.domain.model.Url;
+import dev.ivanhernandez.urlshortener.domain.model.ClickContext;
+import dev.ivanhernandez.urlshortener.domain.model.RedirectResult;
+import dev.ivanhernandez.urlshortener.domain.model.RedirectTarget;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
 
 @Component
-@Transactional
 public class GetOriginalUrlUseCaseImpl implements GetOriginalUrlUseCase {
 
-    private final UrlRepository urlRepository;
+    private final RedirectCache redirectCache;
+    private final AccessCounter accessCounter;
+    private final ShortCodeFilter shortCodeFilter;
+    private final HeavyHitterTracker heavyHitterTracker;
+    private final PendingUrlQueue pendingUrlQueue;
+    private final ClickEventLog clickEventLog;
+    private final ClickRollupRecorder clickRollupRecorder;
+    private final UniqueVisitorRecorder uniqueVisitorRecorder;
 
-    public GetOriginalUrlUseCaseImpl(UrlRepository urlRepository) {
-        this.urlRepository = urlRepository;
+    public GetOriginalUrlUseCaseImpl(RedirectCache redirectCache, AccessCounter accessCounter,
+                                     ShortCodeFilter shortCodeFilter, HeavyHitterTracker heavyHitterTracker,
+                                     PendingUrlQueue pendingUrlQueue, ClickEventLog clickEventLog,
+                                     ClickRollupRecorder clickRollupRecorder,
+                                     UniqueVisitorRecorder uniqueVisitorRecorder) {
+        this.redirectCache = redirectCache;
+        this.accessCounter = accessCounter;
+        this.shortCodeFilter = shortCodeFilter;
+        this.heavyHitterTracker = heavyHitterTracker;
+        this.pendingUrlQueue = pendingUrlQueue;
+        this.clickEventLog = clickEventLog;
+        this.clickRollupRecorder = clickRollupRecorder;
+        this.uniqueVisitorRecorder = uniqueVisitorRecorder;
     }
 
     @Override
     public String getOriginalUrl(String shortCode) {
-        Url url = urlRepository.findByShortCode(shortCode)
-                .orElseThrow(() -> new UrlNotFoundException(shortCode));
+        return switch (resolveRedirect(shortCode)) {
+            case RedirectResult.Found found -> found.target().originalUrl();
+            case RedirectResult.NotFound notFound -> throw new UrlNotFoundException(shortCode);
+            case RedirectResult.Expired expired -> throw new ExpiredUrlException(shortCode);
+        };
+    }
+
+    @Override
+    public RedirectResult resolveRedirect(String shortCode) {
+        return resolveRedirect(shortCode, ClickContext.NONE);
+    }
+
+    @Override
+    public RedirectResult resolveRedirect(String shortCode, ClickContext clickContext) {
+        Optional<RedirectTarget> cached = redirectCache.get(shortCode);
+        if (cached.isEmpty()) {
+            cached = pendingUrlQueue.find(shortCode);
+        }
+        if (cached.isPresent()) {
+            RedirectTarget target = cached.get();
+            if (target.isExpired()) {
+                return RedirectResult.EXPIRED;
+            }
+            accessCounter.recordAccess(shortCode);
+            heavyHitterTracker.recordHit(shortCode);
+            recordClick(target, clickContext);
+            return RedirectResult.found(target);
+        }
 
-        if (url.isExpired()) {
-            throw new ExpiredUrlException(shortCode);
+        if (!shortCodeFilter.mightContain(shortCode)) {
+            return RedirectResult.NOT_FOUND;
         }
 
-        url.incrementAccessCount();
-        urlRepository.save(url);
+        Optional<RedirectTarget> resolved = accessCounter.resolveAndRecordAccess(shortCode);
+        if (resolved.isEmpty()) {
+            return RedirectResult.NOT_FOUND;
+        }
 
-        return url.getOriginalUrl();
+        RedirectTarget target = resolved.get();
+        redirectCache.put(target);
+        if (target.isExpired()) {
+            return RedirectResult.EXPIRED;
+        }
+        heavyHitterTracker.recordHit(shortCode);
+        recordClick(target, clickContext);
+        return RedirectResult.found(target);
+    }
+
+    private void recordClick(RedirectTarget target, ClickContext clickContext) {
+        if (target.urlId() != null) {
+            clickEventLog.recordClick(target.urlId(), clickContext);
+            clickRollupRecorder.recordClick(target.urlId());
+            uniqueVisitorRecorder.recordVisit(target.urlId(), clickContext);
+        }
     }
 }
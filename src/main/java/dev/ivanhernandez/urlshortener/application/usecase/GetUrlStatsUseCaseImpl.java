@@ -1,8 +1,11 @@
 package dev.ivanhernandez.urlshortener.application.usecase;
 
+import dev.ivanhernandez.urlshortener.application.dto.request.ClickSeriesQuery;
 import dev.ivanhernandez.urlshortener.application.dto.response.UrlStatsResponse;
 import dev.ivanhernandez.urlshortener.application.port.input.GetUrlStatsUseCase;
+import dev.ivanhernandez.urlshortener.application.port.output.ClickRollupRepository;
 import dev.ivanhernandez.urlshortener.application.port.output.UrlRepository;
+import dev.ivanhernandez.urlshortener.application.port.output.VisitorSketchRepository;
 import dev.ivanhernandez.urlshortener.domain.exception.UrlNotFoundException;
 import dev.ivanhernandez.urlshortener.domain.model.Url;
 import org.springframework.stereotype.Component;
@@ -13,16 +16,27 @@ import org.springframework.transaction.annotation.Transactional;
 public class GetUrlStatsUseCaseImpl implements GetUrlStatsUseCase {
 
     private final UrlRepository urlRepository;
+    private final UniqueVisitorEstimator uniqueVisitorEstimator;
+    private final ClickSeriesReader clickSeriesReader;
 
-    public GetUrlStatsUseCaseImpl(UrlRepository urlRepository) {
+    public GetUrlStatsUseCaseImpl(UrlRepository urlRepository, ClickRollupRepository clickRollupRepository,
+                                  VisitorSketchRepository visitorSketchRepository) {
         this.urlRepository = urlRepository;
+        this.uniqueVisitorEstimator = new UniqueVisitorEstimator(visitorSketchRepository);
+        this.clickSeriesReader = new ClickSeriesReader(clickRollupRepository, uniqueVisitorEstimator);
     }
 
     @Override
     public UrlStatsResponse getUrlStats(String shortCode) {
+        return getUrlStats(shortCode, null);
+    }
+
+    @Override
+    public UrlStatsResponse getUrlStats(String shortCode, ClickSeriesQuery clickSeriesQuery) {
         Url url = urlRepository.findByShortCode(shortCode)
                 .orElseThrow(() -> new UrlNotFoundException(shortCode));
 
-        return UrlStatsResponse.fromDomain(url);
+        return UrlStatsResponse.fromDomain(url, uniqueVisitorEstimator.estimate(url.getId()),
+                clickSeriesReader.read(url.getId(), clickSeriesQuery));
     }
 }
@@ -1,8 +1,11 @@
 package dev.ivanhernandez.urlshortener.application.usecase;
 
+import dev.ivanhernandez.urlshortener.application.dto.request.ClickSeriesQuery;
 import dev.ivanhernandez.urlshortener.application.dto.response.UrlStatsResponse;
 import dev.ivanhernandez.urlshortener.application.port.input.GetUserUrlStatsUseCase;
+import dev.ivanhernandez.urlshortener.application.port.output.ClickRollupRepository;
 import dev.ivanhernandez.urlshortener.application.port.output.UrlRepository;
+import dev.ivanhernandez.urlshortener.application.port.output.VisitorSketchRepository;
 import dev.ivanhernandez.urlshortener.domain.exception.UrlNotFoundException;
 import dev.ivanhernandez.urlshortener.domain.model.Url;
 import org.springframework.stereotype.Component;
@@ -15,16 +18,27 @@ import java.util.UUID;
 public class GetUserUrlStatsUseCaseImpl implements GetUserUrlStatsUseCase {
 
     private final UrlRepository urlRepository;
+    private final UniqueVisitorEstimator uniqueVisitorEstimator;
+    private final ClickSeriesReader clickSeriesReader;
 
-    public GetUserUrlStatsUseCaseImpl(UrlRepository urlRepository) {
+    public GetUserUrlStatsUseCaseImpl(UrlRepository urlRepository, ClickRollupRepository clickRollupRepository,
+                                      VisitorSketchRepository visitorSketchRepository) {
         this.urlRepository = urlRepository;
+        this.uniqueVisitorEstimator = new UniqueVisitorEstimator(visitorSketchRepository);
+        this.clickSeriesReader = new ClickSeriesReader(clickRollupRepository, uniqueVisitorEstimator);
     }
 
     @Override
     public UrlStatsResponse getUserUrlStats(String shortCode, UUID userId) {
+        return getUserUrlStats(shortCode, userId, null);
+    }
+
+    @Override
+    public UrlStatsResponse getUserUrlStats(String shortCode, UUID userId, ClickSeriesQuery clickSeriesQuery) {
         Url url = urlRepository.findByShortCodeAndUserId(shortCode, userId)
                 .orElseThrow(() -> new UrlNotFoundException(shortCode));
 
-        return UrlStatsResponse.fromDomain(url);
+        return UrlStatsResponse.fromDomain(url, uniqueVisitorEstimator.estimate(url.getId()),
+                clickSeriesReader.read(url.getId(), clickSeriesQuery));
     }
 }
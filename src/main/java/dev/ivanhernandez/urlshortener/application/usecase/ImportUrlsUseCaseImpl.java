@@ -0,0 +1,188 @@
+package dev.ivanhernandez.urlshortener.application.usecase;
+
+import dev.ivanhernandez.urlshortener.application.dto.request.ImportUrlRecord;
+import dev.ivanhernandez.urlshortener.application.dto.response.ImportEventResponse;
+import dev.ivanhernandez.urlshortener.application.port.input.ImportUrlsUseCase;
+import dev.ivanhernandez.urlshortener.application.port.output.PendingUrlQueue;
+import dev.ivanhernandez.urlshortener.application.port.output.ShortCodeFilter;
+import dev.ivanhernandez.urlshortener.application.port.output.ShortCodeGenerator;
+import dev.ivanhernandez.urlshortener.application.port.output.ShortCodeIndex;
+import dev.ivanhernandez.urlshortener.application.port.output.UrlRepository;
+import dev.ivanhernandez.urlshortener.domain.exception.InvalidUrlException;
+import dev.ivanhernandez.urlshortener.domain.exception.ShortCodeExhaustedException;
+import dev.ivanhernandez.urlshortener.domain.model.InsertResult;
+import dev.ivanhernandez.urlshortener.domain.model.Url;
+import dev.ivanhernandez.urlshortener.domain.model.UrlNormalizer;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+@Component
+public class ImportUrlsUseCaseImpl implements ImportUrlsUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(ImportUrlsUseCaseImpl.class);
+    private static final String ABORTED_MESSAGE = "Import aborted";
+
+    private final Validator validator;
+    private final UrlBatchCreator batchCreator;
+    private final int chunkSize;
+
+    public ImportUrlsUseCaseImpl(
+            UrlRepository urlRepository,
+            ShortCodeFilter shortCodeFilter,
+            ShortCodeGenerator shortCodeGenerator,
+            ShortCodeIndex shortCodeIndex,
+            PendingUrlQueue pendingUrlQueue,
+            MeterRegistry meterRegistry,
+            Validator validator,
+            @Value("${app.base-url}") String baseUrl,
+            @Value("${app.import.chunk-size:500}") int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Import chunk size must be positive: " + chunkSize);
+        }
+        this.validator = validator;
+        this.batchCreator = new UrlBatchCreator(
+                urlRepository, shortCodeFilter, shortCodeGenerator, shortCodeIndex, pendingUrlQueue, meterRegistry,
+                validator, baseUrl, chunkSize);
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public ImportEventResponse importUrls(Iterator<ImportUrlRecord> records, UUID userId, UUID tenantId,
+                                          Consumer<ImportEventResponse> listener) {
+        ImportProgress progress = new ImportProgress(System.nanoTime(), listener);
+        List<ImportUrlRecord> chunk = new ArrayList<>(chunkSize);
+        try {
+            while (records.hasNext()) {
+                chunk.add(records.next());
+                if (chunk.size() == chunkSize) {
+                    importChunk(chunk, userId, tenantId, progress);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(chunk, userId, tenantId, progress);
+            }
+        } catch (RuntimeException ex) {
+            String error = ABORTED_MESSAGE;
+            if (ex instanceof InvalidUrlException || ex instanceof ShortCodeExhaustedException) {
+                error = ex.getMessage();
+            } else {
+                log.error("Import aborted after {} records", progress.processed, ex);
+            }
+            ImportEventResponse aborted = ImportEventResponse.aborted(progress.processed, progress.imported,
+                    progress.failed, progress.recordsPerSecond(), error);
+            listener.accept(aborted);
+            return aborted;
+        }
+        ImportEventResponse completed = ImportEventResponse.completed(progress.processed, progress.imported,
+                progress.failed, progress.recordsPerSecond());
+        listener.accept(completed);
+        return completed;
+    }
+
+    private void importChunk(List<ImportUrlRecord> chunk, UUID userId, UUID tenantId, ImportProgress progress) {
+        List<String> violations = chunk.parallelStream().map(this::validate).toList();
+        Map<Integer, Url> pending = new LinkedHashMap<>();
+        Set<Integer> preserved = new HashSet<>();
+        Set<String> shortCodes = new HashSet<>();
+
+        for (int index = 0; index < chunk.size(); index++) {
+            ImportUrlRecord record = chunk.get(index);
+            if (violations.get(index) != null) {
+                progress.fail(record.line(), violations.get(index));
+                continue;
+            }
+            Url url = toUrl(record, userId, tenantId);
+            String shortCode = record.shortCode();
+            if (shortCode != null && !shortCode.isBlank()) {
+                if (!shortCodes.add(shortCode)) {
+                    progress.fail(record.line(), "Short code already exists: " + shortCode);
+                    continue;
+                }
+                url.setShortCode(shortCode);
+                preserved.add(index);
+            }
+            pending.put(index, url);
+        }
+        batchCreator.insert(pending, preserved, shortCodes, (index, result) -> {
+            if (result instanceof InsertResult.ShortCodeTaken taken) {
+                progress.fail(chunk.get(index).line(), "Short code already exists: " + taken.shortCode());
+            } else {
+                progress.imported++;
+            }
+        }, index -> progress.fail(chunk.get(index).line(), UrlBatchCreator.EXHAUSTED_MESSAGE));
+        progress.processed += chunk.size();
+        progress.report();
+    }
+
+    private String validate(ImportUrlRecord record) {
+        if (record.parseError() != null) {
+            return record.parseError();
+        }
+        Set<ConstraintViolation<ImportUrlRecord>> violations = validator.validate(record);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private Url toUrl(ImportUrlRecord record, UUID userId, UUID tenantId) {
+        Url url = new Url();
+        url.setOriginalUrl(UrlNormalizer.normalize(record.originalUrl()));
+        url.setUserId(userId);
+        url.setTenantId(tenantId);
+        url.setCreatedAt(LocalDateTime.now());
+        url.setExpiresAt(record.expiresAt());
+        url.setRedirectType(record.redirectType());
+        url.setAccessCount(0L);
+        return url;
+    }
+
+    private static final class ImportProgress {
+
+        private final long startNanos;
+        private final Consumer<ImportEventResponse> listener;
+        private long processed;
+        private long imported;
+        private long failed;
+
+        ImportProgress(long startNanos, Consumer<ImportEventResponse> listener) {
+            this.startNanos = startNanos;
+            this.listener = listener;
+        }
+
+        void fail(long line, String error) {
+            failed++;
+            listener.accept(ImportEventResponse.lineError(line, error));
+        }
+
+        void report() {
+            listener.accept(ImportEventResponse.progress(processed, imported, failed, recordsPerSecond()));
+        }
+
+        double recordsPerSecond() {
+            double elapsedSeconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+            return elapsedSeconds > 0 ? processed / elapsedSeconds : 0;
+        }
+    }
+}
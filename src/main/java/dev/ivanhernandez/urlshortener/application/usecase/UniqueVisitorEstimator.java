@@ -0,0 +1,32 @@
+package dev.ivanhernandez.urlshortener.application.usecase;
+
+import dev.ivanhernandez.urlshortener.application.port.output.VisitorSketchRepository;
+import dev.ivanhernandez.urlshortener.domain.model.HyperLogLog;
+
+import java.time.LocalDate;
+
+final class UniqueVisitorEstimator {
+
+    private final VisitorSketchRepository visitorSketchRepository;
+
+    UniqueVisitorEstimator(VisitorSketchRepository visitorSketchRepository) {
+        this.visitorSketchRepository = visitorSketchRepository;
+    }
+
+    Long estimate(Long urlId) {
+        if (urlId == null) {
+            return null;
+        }
+        return visitorSketchRepository.findTotalSketch(urlId)
+                .map(HyperLogLog::estimate)
+                .orElse(0L);
+    }
+
+    long estimate(long urlId, LocalDate from, LocalDate to) {
+        HyperLogLog merged = new HyperLogLog();
+        for (HyperLogLog day : visitorSketchRepository.findDailySketches(urlId, from, to)) {
+            merged.merge(day);
+        }
+        return merged.estimate();
+    }
+}
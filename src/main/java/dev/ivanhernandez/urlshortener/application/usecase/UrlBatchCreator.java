@@ -0,0 +1,171 @@
+package dev.ivanhernandez.urlshortener.application.usecase;
+
+import dev.ivanhernandez.urlshortener.application.dto.request.CreateUrlRequest;
+import dev.ivanhernandez.urlshortener.application.dto.response.BatchCreateResponse;
+import dev.ivanhernandez.urlshortener.application.dto.response.BatchItemResponse;
+import dev.ivanhernandez.urlshortener.application.dto.response.ShortUrlResponse;
+import dev.ivanhernandez.urlshortener.application.port.output.PendingUrlQueue;
+import dev.ivanhernandez.urlshortener.application.port.output.ShortCodeFilter;
+import dev.ivanhernandez.urlshortener.application.port.output.ShortCodeGenerator;
+import dev.ivanhernandez.urlshortener.application.port.output.ShortCodeIndex;
+import dev.ivanhernandez.urlshortener.application.port.output.UrlRepository;
+import dev.ivanhernandez.urlshortener.domain.exception.InvalidUrlException;
+import dev.ivanhernandez.urlshortener.domain.exception.ShortCodeExhaustedException;
+import dev.ivanhernandez.urlshortener.domain.model.InsertResult;
+import dev.ivanhernandez.urlshortener.domain.model.Url;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
+
+final class UrlBatchCreator {
+
+    static final String EXHAUSTED_MESSAGE = new ShortCodeExhaustedException(UrlInserter.MAX_ATTEMPTS).getMessage();
+
+    private final UrlRepository urlRepository;
+    private final ShortCodeFilter shortCodeFilter;
+    private final ShortCodeGenerator shortCodeGenerator;
+    private final ShortCodeIndex shortCodeIndex;
+    private final PendingUrlQueue pendingUrlQueue;
+    private final Validator validator;
+    private final String baseUrl;
+    private final int maxBatchSize;
+    private final Counter exhaustedInserts;
+
+    UrlBatchCreator(
+            UrlRepository urlRepository,
+            ShortCodeFilter shortCodeFilter,
+            ShortCodeGenerator shortCodeGenerator,
+            ShortCodeIndex shortCodeIndex,
+            PendingUrlQueue pendingUrlQueue,
+            MeterRegistry meterRegistry,
+            Validator validator,
+            String baseUrl,
+            int maxBatchSize) {
+        this.urlRepository = urlRepository;
+        this.shortCodeFilter = shortCodeFilter;
+        this.shortCodeGenerator = shortCodeGenerator;
+        this.shortCodeIndex = shortCodeIndex;
+        this.pendingUrlQueue = pendingUrlQueue;
+        this.validator = validator;
+        this.baseUrl = baseUrl;
+        this.maxBatchSize = maxBatchSize;
+        this.exhaustedInserts = UrlInserter.exhaustedInserts(meterRegistry);
+    }
+
+    BatchCreateResponse create(List<CreateUrlRequest> requests, Function<CreateUrlRequest, Url> toUrl) {
+        if (requests == null || requests.isEmpty() || requests.size() > maxBatchSize) {
+            throw new InvalidUrlException("A batch must contain between 1 and " + maxBatchSize + " URLs");
+        }
+        BatchItemResponse[] items = new BatchItemResponse[requests.size()];
+        Set<String> aliases = new HashSet<>();
+        Map<Integer, Url> pending = new LinkedHashMap<>();
+        Set<Integer> aliased = new HashSet<>();
+
+        for (int index = 0; index < requests.size(); index++) {
+            CreateUrlRequest request = requests.get(index);
+            String violations = validate(request);
+            if (violations != null) {
+                items[index] = BatchItemResponse.failed(index, violations);
+                continue;
+            }
+            Url url = toUrl.apply(request);
+            String customAlias = request.customAlias();
+            if (customAlias != null && !customAlias.isBlank()) {
+                if (!aliases.add(customAlias)) {
+                    items[index] = BatchItemResponse.failed(index,
+                            "Custom alias appears more than once in the batch: " + customAlias);
+                    continue;
+                }
+                url.setShortCode(customAlias);
+                aliased.add(index);
+            }
+            pending.put(index, url);
+        }
+        insert(pending, aliased, aliases, (index, result) -> items[index] = switch (result) {
+            case InsertResult.Inserted inserted ->
+                    BatchItemResponse.created(index, ShortUrlResponse.fromDomain(inserted.url(), baseUrl));
+            case InsertResult.ShortCodeTaken taken ->
+                    BatchItemResponse.failed(index, "Custom alias already exists: " + taken.shortCode());
+        }, index -> items[index] = BatchItemResponse.failed(index, EXHAUSTED_MESSAGE));
+        return BatchCreateResponse.of(Arrays.asList(items));
+    }
+
+    void insert(Map<Integer, Url> pending, Set<Integer> customCodes, Set<String> aliases,
+                BiConsumer<Integer, InsertResult> onResult, IntConsumer onExhausted) {
+        Map<Integer, Url> round = new LinkedHashMap<>();
+        pending.forEach((index, url) -> {
+            if (!customCodes.contains(index)) {
+                url.setShortCode(nextShortCode(aliases));
+            } else if (pendingUrlQueue.find(url.getShortCode()).isPresent()) {
+                onResult.accept(index, InsertResult.shortCodeTaken(url.getShortCode()));
+                return;
+            }
+            round.put(index, url);
+        });
+        Map<Integer, Integer> attempts = new HashMap<>();
+        while (!round.isEmpty()) {
+            List<Integer> indexes = new ArrayList<>(round.keySet());
+            List<Url> urls = new ArrayList<>(round.values());
+            urls.forEach(url -> shortCodeFilter.add(url.getShortCode()));
+            List<InsertResult> results = urlRepository.insertAll(urls);
+            Map<Integer, Url> retries = new LinkedHashMap<>();
+            for (int i = 0; i < indexes.size(); i++) {
+                int index = indexes.get(i);
+                InsertResult result = results.get(i);
+                if (result instanceof InsertResult.ShortCodeTaken taken && !customCodes.contains(index)) {
+                    shortCodeGenerator.recordCollision(taken.shortCode());
+                    if (attempts.merge(index, 1, Integer::sum) >= UrlInserter.MAX_ATTEMPTS) {
+                        exhaustedInserts.increment();
+                        onExhausted.accept(index);
+                        continue;
+                    }
+                    Url url = urls.get(i);
+                    url.setShortCode(nextShortCode(aliases));
+                    retries.put(index, url);
+                } else {
+                    if (result instanceof InsertResult.Inserted inserted) {
+                        shortCodeIndex.add(inserted.url().getShortCode());
+                    }
+                    onResult.accept(index, result);
+                }
+            }
+            round = retries;
+        }
+    }
+
+    private String validate(CreateUrlRequest request) {
+        if (request == null) {
+            return "Item is required";
+        }
+        Set<ConstraintViolation<CreateUrlRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private String nextShortCode(Set<String> aliases) {
+        String shortCode;
+        do {
+            shortCode = shortCodeGenerator.nextShortCode();
+        } while (aliases.contains(shortCode));
+        return shortCode;
+    }
+}
@@ -0,0 +1,80 @@
+package dev.ivanhernandez.urlshortener.application.usecase;
+
+import dev.ivanhernandez.urlshortener.application.port.output.PendingUrlQueue;
+import dev.ivanhernandez.urlshortener.application.port.output.ShortCodeFilter;
+import dev.ivanhernandez.urlshortener.application.port.output.ShortCodeGenerator;
+import dev.ivanhernandez.urlshortener.application.port.output.ShortCodeIndex;
+import dev.ivanhernandez.urlshortener.application.port.output.UrlRepository;
+import dev.ivanhernandez.urlshortener.domain.exception.InvalidUrlException;
+import dev.ivanhernandez.urlshortener.domain.exception.ShortCodeExhaustedException;
+import dev.ivanhernandez.urlshortener.domain.model.InsertResult;
+import dev.ivanhernandez.urlshortener.domain.model.Url;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+final class UrlInserter {
+
+    static final int MAX_ATTEMPTS = 5;
+
+    private final UrlRepository urlRepository;
+    private final ShortCodeFilter shortCodeFilter;
+    private final ShortCodeGenerator shortCodeGenerator;
+    private final ShortCodeIndex shortCodeIndex;
+    private final PendingUrlQueue pendingUrlQueue;
+    private final Counter exhaustedInserts;
+
+    UrlInserter(
+            UrlRepository urlRepository,
+            ShortCodeFilter shortCodeFilter,
+            ShortCodeGenerator shortCodeGenerator,
+            ShortCodeIndex shortCodeIndex,
+            PendingUrlQueue pendingUrlQueue,
+            MeterRegistry meterRegistry) {
+        this.urlRepository = urlRepository;
+        this.shortCodeFilter = shortCodeFilter;
+        this.shortCodeGenerator = shortCodeGenerator;
+        this.shortCodeIndex = shortCodeIndex;
+        this.pendingUrlQueue = pendingUrlQueue;
+        this.exhaustedInserts = exhaustedInserts(meterRegistry);
+    }
+
+    static Counter exhaustedInserts(MeterRegistry meterRegistry) {
+        return Counter.builder("url.insert.collisions")
+                .tag("outcome", "exhausted")
+                .description("Creates abandoned because every generated short code was already taken")
+                .register(meterRegistry);
+    }
+
+    Url insert(Url url, String customAlias) {
+        if (customAlias != null && !customAlias.isBlank()) {
+            if (pendingUrlQueue.find(customAlias).isPresent()) {
+                throw new InvalidUrlException("Custom alias already exists: " + customAlias);
+            }
+            return switch (tryInsert(url, customAlias)) {
+                case InsertResult.Inserted inserted -> inserted.url();
+                case InsertResult.ShortCodeTaken taken ->
+                        throw new InvalidUrlException("Custom alias already exists: " + taken.shortCode());
+            };
+        }
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            switch (tryInsert(url, shortCodeGenerator.nextShortCode())) {
+                case InsertResult.Inserted inserted -> {
+                    return inserted.url();
+                }
+                case InsertResult.ShortCodeTaken taken -> shortCodeGenerator.recordCollision(taken.shortCode());
+            }
+        }
+        exhaustedInserts.increment();
+        throw new ShortCodeExhaustedException(MAX_ATTEMPTS);
+    }
+
+    private InsertResult tryInsert(Url url, String shortCode) {
+        url.setShortCode(shortCode);
+        shortCodeFilter.add(shortCode);
+        InsertResult result = urlRepository.insert(url);
+        if (result instanceof InsertResult.Inserted) {
+            shortCodeIndex.add(shortCode);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,24 @@
+package dev.ivanhernandez.urlshortener.application.validation;
+
+import dev.ivanhernandez.urlshortener.domain.model.UrlNormalizer;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+public class ValidUrlValidator implements ConstraintValidator<ValidUrl, String> {
+
+    private int maxLength;
+
+    @Override
+    public void initialize(ValidUrl constraint) {
+        this.maxLength = constraint.maxLength();
+    }
+
+    @Override
+    public boolean isValid(String value, ConstraintValidatorContext context) {
+        if (value == null || value.isEmpty()) {
+            return true;
+        }
+        String normalized = UrlNormalizer.tryNormalize(value);
+        return normalized != null && normalized.length() <= maxLength;
+    }
+}
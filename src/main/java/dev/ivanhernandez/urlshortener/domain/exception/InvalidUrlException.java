@@ -3,6 +3,6 @@ package dev.ivanhernandez.urlshortener.domain.exception;
 public class InvalidUrlException extends RuntimeException {
 
     public InvalidUrlException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
@@ -0,0 +1,8 @@
+package dev.ivanhernandez.urlshortener.domain.exception;
+
+public class ShortCodeExhaustedException extends RuntimeException {
+
+    public ShortCodeExhaustedException(int attempts) {
+        super("No free short code found after " + attempts + " attempts", null, false, false);
+    }
+}
@@ -3,6 +3,6 @@ package dev.ivanhernandez.urlshortener.domain.exception;
 public class UrlNotFoundException extends RuntimeException {
 
     public UrlNotFoundException(String shortCode) {
-        super("URL not found with short code: " + shortCode);
+        super("URL not found with short code: " + shortCode, null, false, false);
     }
 }
@@ -0,0 +1,10 @@
+package dev.ivanhernandez.urlshortener.domain.model;
+
+import java.time.LocalDateTime;
+
+public record AccessCountDelta(
+        String shortCode,
+        long accesses,
+        LocalDateTime lastAccessedAt
+) {
+}
@@ -0,0 +1,6 @@
+package dev.ivanhernandez.urlshortener.domain.model;
+
+public record ClickContext(String referrer, String userAgent, String clientAddress) {
+
+    public static final ClickContext NONE = new ClickContext(null, null, null);
+}
@@ -0,0 +1,6 @@
+package dev.ivanhernandez.urlshortener.domain.model;
+
+import java.time.Instant;
+
+public record ClickCount(Instant bucketStart, long clicks) {
+}
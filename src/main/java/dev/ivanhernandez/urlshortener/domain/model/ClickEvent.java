@@ -0,0 +1,11 @@
+package dev.ivanhernandez.urlshortener.domain.model;
+
+import java.time.Instant;
+
+public record ClickEvent(
+        long urlId,
+        Instant occurredAt,
+        String referrerHost,
+        UserAgentClass userAgentClass
+) {
+}
@@ -0,0 +1,24 @@
+package dev.ivanhernandez.urlshortener.domain.model;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+public enum ClickGranularity {
+    HOUR(ChronoUnit.HOURS),
+    DAY(ChronoUnit.DAYS);
+
+    private final ChronoUnit unit;
+
+    ClickGranularity(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    public Duration bucketSize() {
+        return unit.getDuration();
+    }
+
+    public Instant bucketStart(Instant instant) {
+        return instant.truncatedTo(unit);
+    }
+}
@@ -0,0 +1,11 @@
+package dev.ivanhernandez.urlshortener.domain.model;
+
+import java.time.Instant;
+
+public record ClickRollup(
+        long urlId,
+        ClickGranularity granularity,
+        Instant bucketStart,
+        long clicks
+) {
+}
@@ -0,0 +1,10 @@
+package dev.ivanhernandez.urlshortener.domain.model;
+
+public record HeavyHitter(
+        String shortCode,
+        long estimatedHits,
+        long maxOverestimate,
+        double requestsPerSecond,
+        boolean pinned
+) {
+}
@@ -0,0 +1,288 @@
+package dev.ivanhernandez.urlshortener.domain.model;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
+public final class HyperLogLog {
+
+    public static final int PRECISION = 12;
+    public static final int REGISTER_COUNT = 1 << PRECISION;
+    public static final double STANDARD_ERROR = 1.04 / Math.sqrt(REGISTER_COUNT);
+    public static final int MAX_SERIALIZED_BYTES = 2 + REGISTER_COUNT;
+
+    static final int SPARSE_LIMIT = REGISTER_COUNT / 16;
+
+    private static final int MAX_RANK = Long.SIZE - PRECISION + 1;
+    private static final VarHandle REGISTERS = MethodHandles.arrayElementVarHandle(byte[].class);
+    private static final byte DENSE = 0;
+    private static final byte SPARSE = 1;
+    private static final int HEADER_BYTES = 2;
+    private static final int SPARSE_ENTRY_BYTES = 3;
+    private static final int INITIAL_SPARSE_CAPACITY = 4;
+
+    private volatile byte[] registers;
+    private int[] sparse;
+    private int sparseSize;
+
+    public HyperLogLog() {
+        this.sparse = new int[INITIAL_SPARSE_CAPACITY];
+    }
+
+    private HyperLogLog(byte[] registers) {
+        this.registers = registers;
+    }
+
+    private HyperLogLog(int[] sparse) {
+        this.sparse = sparse;
+        this.sparseSize = sparse.length;
+    }
+
+    public boolean add(long hash) {
+        int index = (int) (hash >>> (Long.SIZE - PRECISION));
+        long remaining = (hash << PRECISION) | (1L << (PRECISION - 1));
+        return raise(index, (byte) (Long.numberOfLeadingZeros(remaining) + 1));
+    }
+
+    public void merge(HyperLogLog other) {
+        int[] otherSparse = other.sparseSnapshot();
+        if (otherSparse != null) {
+            for (int entry : otherSparse) {
+                raise(entry >>> 8, (byte) entry);
+            }
+            return;
+        }
+        byte[] otherRegisters = other.registers;
+        byte[] dense = dense();
+        for (int i = 0; i < REGISTER_COUNT; i++) {
+            byte rank = (byte) REGISTERS.getVolatile(otherRegisters, i);
+            if (rank != 0) {
+                raiseDense(dense, i, rank);
+            }
+        }
+    }
+
+    public long estimate() {
+        byte[] snapshot = snapshot();
+        int[] histogram = new int[MAX_RANK + 1];
+        for (byte rank : snapshot) {
+            histogram[rank]++;
+        }
+        double z = REGISTER_COUNT * tau(1 - (double) histogram[MAX_RANK] / REGISTER_COUNT);
+        for (int rank = MAX_RANK - 1; rank >= 1; rank--) {
+            z = 0.5 * (z + histogram[rank]);
+        }
+        z += REGISTER_COUNT * sigma((double) histogram[0] / REGISTER_COUNT);
+        return Math.round(REGISTER_COUNT * REGISTER_COUNT / (2 * Math.log(2)) / z);
+    }
+
+    boolean isSparse() {
+        return registers == null;
+    }
+
+    public byte[] toBytes() {
+        byte[] snapshot = snapshot();
+        int nonZero = 0;
+        for (byte rank : snapshot) {
+            if (rank != 0) {
+                nonZero++;
+            }
+        }
+        if (nonZero * SPARSE_ENTRY_BYTES >= REGISTER_COUNT) {
+            byte[] bytes = new byte[HEADER_BYTES + REGISTER_COUNT];
+            bytes[0] = PRECISION;
+            bytes[1] = DENSE;
+            System.arraycopy(snapshot, 0, bytes, HEADER_BYTES, REGISTER_COUNT);
+            return bytes;
+        }
+        byte[] bytes = new byte[HEADER_BYTES + nonZero * SPARSE_ENTRY_BYTES];
+        bytes[0] = PRECISION;
+        bytes[1] = SPARSE;
+        int position = HEADER_BYTES;
+        for (int i = 0; i < REGISTER_COUNT; i++) {
+            if (snapshot[i] != 0) {
+                bytes[position] = (byte) (i >>> 8);
+                bytes[position + 1] = (byte) i;
+                bytes[position + 2] = snapshot[i];
+                position += SPARSE_ENTRY_BYTES;
+            }
+        }
+        return bytes;
+    }
+
+    public static HyperLogLog fromBytes(byte[] bytes) {
+        if (bytes.length < HEADER_BYTES || bytes[0] != PRECISION) {
+            throw new IllegalArgumentException("Unsupported HyperLogLog sketch");
+        }
+        if (bytes[1] == DENSE && bytes.length == HEADER_BYTES + REGISTER_COUNT) {
+            byte[] registers = Arrays.copyOfRange(bytes, HEADER_BYTES, bytes.length);
+            for (byte rank : registers) {
+                checkRank(rank);
+            }
+            return new HyperLogLog(registers);
+        }
+        if (bytes[1] != SPARSE || (bytes.length - HEADER_BYTES) % SPARSE_ENTRY_BYTES != 0) {
+            throw new IllegalArgumentException("Corrupt HyperLogLog sketch");
+        }
+        int[] entries = new int[(bytes.length - HEADER_BYTES) / SPARSE_ENTRY_BYTES];
+        int previousIndex = -1;
+        for (int i = 0; i < entries.length; i++) {
+            int position = HEADER_BYTES + i * SPARSE_ENTRY_BYTES;
+            int index = (bytes[position] & 0xFF) << 8 | bytes[position + 1] & 0xFF;
+            byte rank = bytes[position + 2];
+            if (index >= REGISTER_COUNT || index <= previousIndex || rank == 0) {
+                throw new IllegalArgumentException("Corrupt HyperLogLog sketch");
+            }
+            checkRank(rank);
+            entries[i] = index << 8 | rank;
+            previousIndex = index;
+        }
+        HyperLogLog sketch = new HyperLogLog(entries);
+        if (entries.length > SPARSE_LIMIT) {
+            sketch.dense();
+        }
+        return sketch;
+    }
+
+    private boolean raise(int index, byte rank) {
+        byte[] dense = registers;
+        if (dense == null) {
+            synchronized (this) {
+                dense = registers;
+                if (dense == null) {
+                    return raiseSparse(index, rank);
+                }
+            }
+        }
+        return raiseDense(dense, index, rank);
+    }
+
+    private boolean raiseSparse(int index, byte rank) {
+        int position = findSparse(index);
+        if (position >= 0) {
+            if ((byte) sparse[position] >= rank) {
+                return false;
+            }
+            sparse[position] = index << 8 | rank;
+            return true;
+        }
+        if (sparseSize == SPARSE_LIMIT) {
+            return raiseDense(toDense(), index, rank);
+        }
+        int insertAt = -position - 1;
+        if (sparseSize == sparse.length) {
+            sparse = Arrays.copyOf(sparse, Math.min(SPARSE_LIMIT, sparse.length * 2));
+        }
+        System.arraycopy(sparse, insertAt, sparse, insertAt + 1, sparseSize - insertAt);
+        sparse[insertAt] = index << 8 | rank;
+        sparseSize++;
+        return true;
+    }
+
+    private int findSparse(int index) {
+        int low = 0;
+        int high = sparseSize - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int middleIndex = sparse[middle] >>> 8;
+            if (middleIndex < index) {
+                low = middle + 1;
+            } else if (middleIndex > index) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private static boolean raiseDense(byte[] registers, int index, byte rank) {
+        byte current = (byte) REGISTERS.getVolatile(registers, index);
+        while (current < rank) {
+            if (REGISTERS.compareAndSet(registers, index, current, rank)) {
+                return true;
+            }
+            current = (byte) REGISTERS.getVolatile(registers, index);
+        }
+        return false;
+    }
+
+    private byte[] dense() {
+        byte[] dense = registers;
+        if (dense != null) {
+            return dense;
+        }
+        synchronized (this) {
+            return registers != null ? registers : toDense();
+        }
+    }
+
+    private byte[] toDense() {
+        byte[] dense = new byte[REGISTER_COUNT];
+        for (int i = 0; i < sparseSize; i++) {
+            dense[sparse[i] >>> 8] = (byte) sparse[i];
+        }
+        sparse = null;
+        sparseSize = 0;
+        registers = dense;
+        return dense;
+    }
+
+    private synchronized int[] sparseSnapshot() {
+        return registers == null ? Arrays.copyOf(sparse, sparseSize) : null;
+    }
+
+    private byte[] snapshot() {
+        byte[] snapshot = new byte[REGISTER_COUNT];
+        int[] entries = sparseSnapshot();
+        if (entries != null) {
+            for (int entry : entries) {
+                snapshot[entry >>> 8] = (byte) entry;
+            }
+            return snapshot;
+        }
+        byte[] dense = registers;
+        for (int i = 0; i < REGISTER_COUNT; i++) {
+            snapshot[i] = (byte) REGISTERS.getVolatile(dense, i);
+        }
+        return snapshot;
+    }
+
+    private static void checkRank(byte rank) {
+        if (rank < 0 || rank > MAX_RANK) {
+            throw new IllegalArgumentException("Corrupt HyperLogLog sketch");
+        }
+    }
+
+    private static double sigma(double x) {
+        if (x == 1) {
+            return Double.POSITIVE_INFINITY;
+        }
+        double y = 1;
+        double z = x;
+        double previous;
+        do {
+            x *= x;
+            previous = z;
+            z += x * y;
+            y += y;
+        } while (z != previous);
+        return z;
+    }
+
+    private static double tau(double x) {
+        if (x == 0 || x == 1) {
+            return 0;
+        }
+        double y = 1;
+        double z = 1 - x;
+        double previous;
+        do {
+            x = Math.sqrt(x);
+            previous = z;
+            y *= 0.5;
+            z -= (1 - x) * (1 - x) * y;
+        } while (z != previous);
+        return z / 3;
+    }
+}
@@ -0,0 +1,19 @@
+package dev.ivanhernandez.urlshortener.domain.model;
+
+public sealed interface InsertResult
+        permits InsertResult.Inserted, InsertResult.ShortCodeTaken {
+
+    static InsertResult inserted(Url url) {
+        return new Inserted(url);
+    }
+
+    static InsertResult shortCodeTaken(String shortCode) {
+        return new ShortCodeTaken(shortCode);
+    }
+
+    record Inserted(Url url) implements InsertResult {
+    }
+
+    record ShortCodeTaken(String shortCode) implements InsertResult {
+    }
+}
@@ -0,0 +1,21 @@
+package dev.ivanhernandez.urlshortener.domain.model;
+
+public sealed interface RedirectResult
+        permits RedirectResult.Found, RedirectResult.NotFound, RedirectResult.Expired {
+
+    RedirectResult NOT_FOUND = new NotFound();
+    RedirectResult EXPIRED = new Expired();
+
+    static RedirectResult found(RedirectTarget target) {
+        return new Found(target);
+    }
+
+    record Found(RedirectTarget target) implements RedirectResult {
+    }
+
+    record NotFound() implements RedirectResult {
+    }
+
+    record Expired() implements RedirectResult {
+    }
+}
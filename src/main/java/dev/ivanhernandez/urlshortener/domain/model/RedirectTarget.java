@@ -0,0 +1,66 @@
+package dev.ivanhernandez.urlshortener.domain.model;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+public record RedirectTarget(
+        Long urlId,
+        String shortCode,
+        String originalUrl,
+        LocalDateTime expiresAt,
+        RedirectType redirectType,
+        String location
+) {
+    public RedirectTarget(Long urlId, String shortCode, String originalUrl, LocalDateTime expiresAt) {
+        this(urlId, shortCode, originalUrl, expiresAt, RedirectType.TEMPORARY);
+    }
+
+    public RedirectTarget(Long urlId, String shortCode, String originalUrl, LocalDateTime expiresAt,
+                          RedirectType redirectType) {
+        this(urlId, shortCode, originalUrl, expiresAt, redirectType, encodeLocation(originalUrl));
+    }
+
+    public static RedirectTarget from(Url url) {
+        return new RedirectTarget(
+                url.getId(),
+                url.getShortCode(),
+                url.getOriginalUrl(),
+                url.getExpiresAt(),
+                url.getRedirectType()
+        );
+    }
+
+    public boolean isExpired() {
+        return expiresAt != null && LocalDateTime.now().isAfter(expiresAt);
+    }
+
+    static String encodeLocation(String url) {
+        if (url == null) {
+            return null;
+        }
+        int length = url.length();
+        int safePrefix = 0;
+        while (safePrefix < length && isLocationSafe(url.charAt(safePrefix))) {
+            safePrefix++;
+        }
+        if (safePrefix == length) {
+            return url;
+        }
+
+        StringBuilder encoded = new StringBuilder(length + 16);
+        encoded.append(url, 0, safePrefix);
+        for (byte b : url.substring(safePrefix).getBytes(StandardCharsets.UTF_8)) {
+            int value = b & 0xFF;
+            if (isLocationSafe((char) value)) {
+                encoded.append((char) value);
+            } else {
+                UriCharacters.appendEscaped(encoded, value);
+            }
+        }
+        return encoded.toString();
+    }
+
+    private static boolean isLocationSafe(char c) {
+        return c == '%' || UriCharacters.isLocationSafe(c);
+    }
+}
@@ -0,0 +1,7 @@
+package dev.ivanhernandez.urlshortener.domain.model;
+
+public enum RedirectType {
+    TEMPORARY,
+    CACHEABLE,
+    PERMANENT
+}
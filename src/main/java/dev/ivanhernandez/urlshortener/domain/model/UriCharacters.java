@@ -0,0 +1,26 @@
+package dev.ivanhernandez.urlshortener.domain.model;
+
+final class UriCharacters {
+
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+    private static final boolean[] LOCATION_SAFE = new boolean[128];
+
+    static {
+        String safe = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789"
+                + "-._~:/?#[]@!$&'()*+,;=";
+        for (int i = 0; i < safe.length(); i++) {
+            LOCATION_SAFE[safe.charAt(i)] = true;
+        }
+    }
+
+    private UriCharacters() {
+    }
+
+    static boolean isLocationSafe(char c) {
+        return c < LOCATION_SAFE.length && LOCATION_SAFE[c];
+    }
+
+    static void appendEscaped(StringBuilder builder, int value) {
+        builder.append('%').append(HEX_DIGITS[value >> 4]).append(HEX_DIGITS[value & 0x0F]);
+    }
+}
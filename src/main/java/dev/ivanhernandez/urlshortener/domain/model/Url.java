@@ -14,6 +14,8 @@ public class Url {
     private LocalDateTime expiresAt;
     private Long accessCount;
     private LocalDateTime lastAccessedAt;
+    private RedirectType redirectType = RedirectType.TEMPORARY;
+    private byte[] originalUrlHash;
 
     public Url() {
     }
@@ -21,6 +23,13 @@ public class Url {
     public Url(Long id, String originalUrl, String shortCode, UUID userId, UUID tenantId,
                LocalDateTime createdAt, LocalDateTime expiresAt, Long accessCount,
                LocalDateTime lastAccessedAt) {
+        this(id, originalUrl, shortCode, userId, tenantId, createdAt, expiresAt, accessCount, lastAccessedAt,
+                RedirectType.TEMPORARY);
+    }
+
+    public Url(Long id, String originalUrl, String shortCode, UUID userId, UUID tenantId,
+               LocalDateTime createdAt, LocalDateTime expiresAt, Long accessCount,
+               LocalDateTime lastAccessedAt, RedirectType redirectType) {
         this.id = id;
         this.originalUrl = originalUrl;
         this.shortCode = shortCode;
@@ -30,6 +39,7 @@ public class Url {
         this.expiresAt = expiresAt;
         this.accessCount = accessCount;
         this.lastAccessedAt = lastAccessedAt;
+        this.redirectType = redirectType;
     }
 
     public boolean isExpired() {
@@ -120,4 +130,20 @@ public class Url {
     public void setLastAccessedAt(LocalDateTime lastAccessedAt) {
         this.lastAccessedAt = lastAccessedAt;
     }
+
+    public RedirectType getRedirectType() {
+        return redirectType;
+    }
+
+    public void setRedirectType(RedirectType redirectType) {
+        this.redirectType = redirectType;
+    }
+
+    public byte[] getOriginalUrlHash() {
+        return originalUrlHash;
+    }
+
+    public void setOriginalUrlHash(byte[] originalUrlHash) {
+        this.originalUrlHash = originalUrlHash;
+    }
 }
@@ -0,0 +1,314 @@
+package dev.ivanhernandez.urlshortener.domain.model;
+
+import dev.ivanhernandez.urlshortener.domain.exception.InvalidUrlException;
+
+import java.net.IDN;
+import java.util.Locale;
+
+public final class UrlNormalizer {
+
+    private static final boolean[] HOST_SAFE = new boolean[128];
+    private static final int MAX_PORT = 65_535;
+
+    static {
+        String hostSafe = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-._~";
+        for (int i = 0; i < hostSafe.length(); i++) {
+            HOST_SAFE[hostSafe.charAt(i)] = true;
+        }
+    }
+
+    private final String input;
+    private final int start;
+    private final int end;
+    private StringBuilder output;
+
+    private UrlNormalizer(String input, int start, int end) {
+        this.input = input;
+        this.start = start;
+        this.end = end;
+    }
+
+    public static String normalize(String url) {
+        String normalized = tryNormalize(url);
+        if (normalized == null) {
+            throw new InvalidUrlException("Invalid URL format");
+        }
+        return normalized;
+    }
+
+    public static String tryNormalize(String url) {
+        if (url == null) {
+            return null;
+        }
+        int start = 0;
+        int end = url.length();
+        while (start < end && url.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && url.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return new UrlNormalizer(url, start, end).parse();
+    }
+
+    private String parse() {
+        int authorityStart = parseScheme();
+        if (authorityStart < 0) {
+            return null;
+        }
+        int defaultPort = defaultPort();
+        int authorityEnd = authorityStart;
+        int userInfoEnd = -1;
+        while (authorityEnd < end) {
+            char c = input.charAt(authorityEnd);
+            if (c == '/' || c == '?' || c == '#') {
+                break;
+            }
+            if (c == '@') {
+                userInfoEnd = authorityEnd;
+            }
+            authorityEnd++;
+        }
+
+        int hostStart = authorityStart;
+        if (userInfoEnd >= 0) {
+            if (!copyEncoded(authorityStart, userInfoEnd + 1)) {
+                return null;
+            }
+            hostStart = userInfoEnd + 1;
+        }
+        int hostEnd = parseHost(hostStart, authorityEnd);
+        if (hostEnd < 0 || !parsePort(hostEnd, authorityEnd, defaultPort)) {
+            return null;
+        }
+        if (!copyEncoded(authorityEnd, end)) {
+            return null;
+        }
+
+        if (output != null) {
+            return output.toString();
+        }
+        return start == 0 && end == input.length() ? input : input.substring(start, end);
+    }
+
+    private int parseScheme() {
+        int position = start;
+        while (position < end && isSchemeChar(input.charAt(position))) {
+            position++;
+        }
+        if (position == start || position + 2 >= end || input.charAt(position) != ':'
+                || input.charAt(position + 1) != '/' || input.charAt(position + 2) != '/') {
+            return -1;
+        }
+        if (!isSupportedScheme(start, position)) {
+            return -1;
+        }
+        for (int i = start; i < position; i++) {
+            if (Character.isUpperCase(input.charAt(i))) {
+                beginOutput(i);
+                output.append(input.substring(i, position).toLowerCase(Locale.ROOT));
+                appendRaw(position, position + 3);
+                return position + 3;
+            }
+        }
+        appendRaw(start, position + 3);
+        return position + 3;
+    }
+
+    private int parseHost(int hostStart, int authorityEnd) {
+        if (hostStart < authorityEnd && input.charAt(hostStart) == '[') {
+            return parseIpv6Host(hostStart, authorityEnd);
+        }
+        int hostEnd = hostStart;
+        boolean ascii = true;
+        boolean lowercase = true;
+        while (hostEnd < authorityEnd && input.charAt(hostEnd) != ':') {
+            char c = input.charAt(hostEnd);
+            if (c >= 0x80) {
+                ascii = false;
+            } else if (!HOST_SAFE[c]) {
+                return -1;
+            } else if (c >= 'A' && c <= 'Z') {
+                lowercase = false;
+            }
+            hostEnd++;
+        }
+        if (hostEnd == hostStart) {
+            return -1;
+        }
+        if (ascii && lowercase) {
+            appendRaw(hostStart, hostEnd);
+        } else {
+            String host = input.substring(hostStart, hostEnd);
+            if (!ascii) {
+                try {
+                    host = IDN.toASCII(host, IDN.ALLOW_UNASSIGNED);
+                } catch (IllegalArgumentException ex) {
+                    return -1;
+                }
+            }
+            beginOutput(hostStart);
+            output.append(host.toLowerCase(Locale.ROOT));
+        }
+        return hasValidLabels(hostStart, hostEnd) ? hostEnd : -1;
+    }
+
+    private int parseIpv6Host(int hostStart, int authorityEnd) {
+        int position = hostStart + 1;
+        boolean lowercase = true;
+        while (position < authorityEnd && input.charAt(position) != ']') {
+            char c = input.charAt(position);
+            if (c >= 'A' && c <= 'F') {
+                lowercase = false;
+            } else if (!(c >= '0' && c <= '9') && !(c >= 'a' && c <= 'f') && c != ':' && c != '.') {
+                return -1;
+            }
+            position++;
+        }
+        if (position >= authorityEnd || position == hostStart + 1) {
+            return -1;
+        }
+        if (lowercase) {
+            appendRaw(hostStart, position + 1);
+        } else {
+            beginOutput(hostStart);
+            output.append(input.substring(hostStart, position + 1).toLowerCase(Locale.ROOT));
+        }
+        return position + 1;
+    }
+
+    private boolean parsePort(int hostEnd, int authorityEnd, int defaultPort) {
+        if (hostEnd == authorityEnd) {
+            return true;
+        }
+        if (input.charAt(hostEnd) != ':') {
+            return false;
+        }
+        int port = 0;
+        for (int i = hostEnd + 1; i < authorityEnd; i++) {
+            char c = input.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+            port = port * 10 + (c - '0');
+            if (port > MAX_PORT) {
+                return false;
+            }
+        }
+        boolean empty = hostEnd + 1 == authorityEnd;
+        boolean leadingZero = !empty && input.charAt(hostEnd + 1) == '0' && authorityEnd - hostEnd > 2;
+        if (empty || port == defaultPort) {
+            beginOutput(hostEnd);
+        } else if (leadingZero) {
+            beginOutput(hostEnd);
+            output.append(':').append(port);
+        } else {
+            appendRaw(hostEnd, authorityEnd);
+        }
+        return true;
+    }
+
+    private boolean copyEncoded(int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = input.charAt(i);
+            if (UriCharacters.isLocationSafe(c)) {
+                append(c);
+            } else if (c == '%') {
+                if (i + 2 < to && isHexDigit(input.charAt(i + 1)) && isHexDigit(input.charAt(i + 2))) {
+                    append(c);
+                } else {
+                    beginOutput(i);
+                    appendEscaped(c);
+                }
+            } else if (c < ' ' || c == 0x7F) {
+                return false;
+            } else if (c < 0x80) {
+                beginOutput(i);
+                appendEscaped(c);
+            } else {
+                int codePoint = input.codePointAt(i);
+                if (codePoint < Character.MIN_SUPPLEMENTARY_CODE_POINT && Character.isSurrogate((char) codePoint)) {
+                    return false;
+                }
+                beginOutput(i);
+                appendUtf8(codePoint);
+                i += Character.charCount(codePoint) - 1;
+            }
+        }
+        return true;
+    }
+
+    private boolean hasValidLabels(int hostStart, int hostEnd) {
+        char previous = '.';
+        for (int i = hostStart; i < hostEnd; i++) {
+            char c = input.charAt(i);
+            if (c == '.' && previous == '.') {
+                return false;
+            }
+            previous = c;
+        }
+        return true;
+    }
+
+    private boolean isSupportedScheme(int from, int to) {
+        return input.regionMatches(true, from, "http", 0, to - from) && to - from == 4
+                || input.regionMatches(true, from, "https", 0, to - from) && to - from == 5
+                || input.regionMatches(true, from, "ftp", 0, to - from) && to - from == 3;
+    }
+
+    private int defaultPort() {
+        char first = output != null ? output.charAt(0) : input.charAt(start);
+        if (first == 'f' || first == 'F') {
+            return 21;
+        }
+        char fifth = output != null ? output.charAt(4) : input.charAt(start + 4);
+        return fifth == 's' || fifth == 'S' ? 443 : 80;
+    }
+
+    private void beginOutput(int position) {
+        if (output == null) {
+            output = new StringBuilder(end - start + 16).append(input, start, position);
+        }
+    }
+
+    private void append(char c) {
+        if (output != null) {
+            output.append(c);
+        }
+    }
+
+    private void appendRaw(int from, int to) {
+        if (output != null) {
+            output.append(input, from, to);
+        }
+    }
+
+    private void appendUtf8(int codePoint) {
+        if (codePoint < 0x800) {
+            appendEscaped(0xC0 | codePoint >> 6);
+            appendEscaped(0x80 | codePoint & 0x3F);
+        } else if (codePoint < 0x10000) {
+            appendEscaped(0xE0 | codePoint >> 12);
+            appendEscaped(0x80 | codePoint >> 6 & 0x3F);
+            appendEscaped(0x80 | codePoint & 0x3F);
+        } else {
+            appendEscaped(0xF0 | codePoint >> 18);
+            appendEscaped(0x80 | codePoint >> 12 & 0x3F);
+            appendEscaped(0x80 | codePoint >> 6 & 0x3F);
+            appendEscaped(0x80 | codePoint & 0x3F);
+        }
+    }
+
+    private void appendEscaped(int value) {
+        UriCharacters.appendEscaped(output, value);
+    }
+
+    private static boolean isSchemeChar(char c) {
+        return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c == '+' || c == '-'
+                || c == '.';
+    }
+
+    private static boolean isHexDigit(char c) {
+        return c >= '0' && c <= '9' || c >= 'a' && c <= 'f' || c >= 'A' && c <= 'F';
+    }
+}
@@ -0,0 +1,36 @@
+package dev.ivanhernandez.urlshortener.domain.model;
+
+public enum UserAgentClass {
+    UNKNOWN,
+    BROWSER,
+    MOBILE,
+    BOT,
+    OTHER;
+
+    private static final String[] BOT_MARKERS = {"bot", "crawl", "spider", "slurp", "externalhit", "preview"};
+    private static final String[] MOBILE_MARKERS = {"mobi", "android", "iphone", "ipad"};
+
+    public static UserAgentClass classify(String userAgent) {
+        if (userAgent == null || userAgent.isBlank()) {
+            return UNKNOWN;
+        }
+        if (containsAny(userAgent, BOT_MARKERS)) {
+            return BOT;
+        }
+        if (!userAgent.startsWith("Mozilla/")) {
+            return OTHER;
+        }
+        return containsAny(userAgent, MOBILE_MARKERS) ? MOBILE : BROWSER;
+    }
+
+    private static boolean containsAny(String value, String[] markers) {
+        for (String marker : markers) {
+            for (int i = 0; i + marker.length() <= value.length(); i++) {
+                if (value.regionMatches(true, i, marker, 0, marker.length())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,10 @@
+package dev.ivanhernandez.urlshortener.domain.model;
+
+import java.time.LocalDate;
+
+public record VisitorSketch(
+        long urlId,
+        LocalDate day,
+        HyperLogLog sketch
+) {
+}
@@ -0,0 +1,47 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.input.rest;
+
+import dev.ivanhernandez.urlshortener.application.dto.response.HotLinkResponse;
+import dev.ivanhernandez.urlshortener.application.port.input.GetHotLinksUseCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/hot-links")
+@Tag(name = "Hot Links", description = "Short codes currently receiving the most redirects")
+@SecurityRequirement(name = "bearerAuth")
+public class HotLinksController {
+
+    private final GetHotLinksUseCase getHotLinksUseCase;
+
+    public HotLinksController(GetHotLinksUseCase getHotLinksUseCase) {
+        this.getHotLinksUseCase = getHotLinksUseCase;
+    }
+
+    @Operation(summary = "List hot links",
+            description = "Returns the heaviest short codes across all tenants of the last completed window with "
+                    + "estimated request rates. Requires the ADMIN role")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Hot links retrieved successfully"),
+            @ApiResponse(responseCode = "401", description = "Not authenticated"),
+            @ApiResponse(responseCode = "403", description = "Caller is not an administrator")
+    })
+    @GetMapping
+    public ResponseEntity<List<HotLinkResponse>> getHotLinks(
+            @Parameter(description = "Maximum number of links to return")
+            @RequestParam(defaultValue = "20") @Min(1) @Max(256) int limit) {
+        return ResponseEntity.ok(getHotLinksUseCase.getHotLinks(limit));
+    }
+}
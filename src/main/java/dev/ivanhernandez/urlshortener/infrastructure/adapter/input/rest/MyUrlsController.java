@@ -1,7 +1,11 @@
 package dev.ivanhernandez.urlshortener.infrastructure.adapter.input.rest;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.ivanhernandez.urlshortener.application.dto.request.ClickSeriesQuery;
 import dev.ivanhernandez.urlshortener.application.dto.request.CreateUrlRequest;
+import dev.ivanhernandez.urlshortener.application.dto.response.BatchCreateResponse;
 import dev.ivanhernandez.urlshortener.application.dto.response.ErrorResponse;
+import dev.ivanhernandez.urlshortener.application.dto.response.ImportEventResponse;
 import dev.ivanhernandez.urlshortener.application.dto.response.ShortUrlResponse;
 import dev.ivanhernandez.urlshortener.application.dto.response.UrlStatsResponse;
 import dev.ivanhernandez.urlshortener.application.dto.response.ValidationErrorResponse;
@@ -9,6 +13,8 @@ import dev.ivanhernandez.urlshortener.application.port.input.CreateUserUrlUseCas
 import dev.ivanhernandez.urlshortener.application.port.input.DeleteUserUrlUseCase;
 import dev.ivanhernandez.urlshortener.application.port.input.GetUserUrlStatsUseCase;
 import dev.ivanhernandez.urlshortener.application.port.input.GetUserUrlsUseCase;
+import dev.ivanhernandez.urlshortener.application.port.input.ImportUrlsUseCase;
+import dev.ivanhernandez.urlshortener.domain.model.ClickGranularity;
 import dev.ivanhernandez.urlshortener.infrastructure.config.AuthenticatedUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -18,12 +24,21 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
 import java.util.List;
 
 @RestController
@@ -36,16 +51,22 @@ public class MyUrlsController {
     private final CreateUserUrlUseCase createUserUrlUseCase;
     private final DeleteUserUrlUseCase deleteUserUrlUseCase;
     private final GetUserUrlStatsUseCase getUserUrlStatsUseCase;
+    private final ImportUrlsUseCase importUrlsUseCase;
+    private final ObjectMapper objectMapper;
 
     public MyUrlsController(
             GetUserUrlsUseCase getUserUrlsUseCase,
             CreateUserUrlUseCase createUserUrlUseCase,
             DeleteUserUrlUseCase deleteUserUrlUseCase,
-            GetUserUrlStatsUseCase getUserUrlStatsUseCase) {
+            GetUserUrlStatsUseCase getUserUrlStatsUseCase,
+            ImportUrlsUseCase importUrlsUseCase,
+            ObjectMapper objectMapper) {
         this.getUserUrlsUseCase = getUserUrlsUseCase;
         this.createUserUrlUseCase = createUserUrlUseCase;
         this.deleteUserUrlUseCase = deleteUserUrlUseCase;
         this.getUserUrlStatsUseCase = getUserUrlStatsUseCase;
+        this.importUrlsUseCase = importUrlsUseCase;
+        this.objectMapper = objectMapper;
     }
 
     @Operation(summary = "List my URLs", description = "Returns all URLs created by the authenticated user")
@@ -77,6 +98,50 @@ public class MyUrlsController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @Operation(summary = "Create URLs in bulk",
+            description = "Creates up to app.batch.max-size URLs for your account and reports each item in input order")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch processed, see per-item results",
+                    content = @Content(schema = @Schema(implementation = BatchCreateResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Batch is empty or too large",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Not authenticated")
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<BatchCreateResponse> createMyUrls(
+            @RequestBody List<CreateUrlRequest> requests,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        BatchCreateResponse response = createUserUrlUseCase.createUserUrls(
+                requests, user.userId(), user.tenantId());
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Import URLs",
+            description = "Streams an NDJSON or CSV body into your account in bounded chunks and streams back "
+                    + "per-line errors, progress and a final summary as NDJSON")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import processed, see the streamed events",
+                    content = @Content(mediaType = "application/x-ndjson",
+                            schema = @Schema(implementation = ImportEventResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Not authenticated")
+    })
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "text/csv"},
+            produces = "application/x-ndjson")
+    public void importMyUrls(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            @AuthenticationPrincipal AuthenticatedUser user) throws IOException {
+        BufferedReader reader = request.getReader();
+        UrlImportReader records = MediaType.parseMediaType(request.getContentType())
+                .isCompatibleWith(MediaType.parseMediaType("text/csv"))
+                ? UrlImportReader.csv(reader)
+                : UrlImportReader.ndjson(reader, objectMapper);
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType("application/x-ndjson");
+        OutputStream out = response.getOutputStream();
+        importUrlsUseCase.importUrls(records, user.userId(), user.tenantId(), event -> write(out, event));
+    }
+
     @Operation(summary = "Delete my URL", description = "Deletes one of your shortened URLs")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "URL deleted"),
@@ -92,10 +157,13 @@ public class MyUrlsController {
         return ResponseEntity.noContent().build();
     }
 
-    @Operation(summary = "Get URL statistics", description = "Returns access statistics for one of your URLs")
+    @Operation(summary = "Get URL statistics",
+            description = "Returns access statistics for one of your URLs, optionally with a click time series")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Statistics retrieved",
                     content = @Content(schema = @Schema(implementation = UrlStatsResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid click series range",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "401", description = "Not authenticated"),
             @ApiResponse(responseCode = "404", description = "URL not found or not owned by you",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
@@ -103,8 +171,25 @@ public class MyUrlsController {
     @GetMapping("/{shortCode}/stats")
     public ResponseEntity<UrlStatsResponse> getMyUrlStats(
             @Parameter(description = "Short code of the URL") @PathVariable String shortCode,
+            @Parameter(description = "Bucket size of the click series (HOUR or DAY)")
+            @RequestParam(required = false) ClickGranularity granularity,
+            @Parameter(description = "Start of the click series (ISO-8601, inclusive)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @Parameter(description = "End of the click series (ISO-8601, exclusive)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
             @AuthenticationPrincipal AuthenticatedUser user) {
-        UrlStatsResponse response = getUserUrlStatsUseCase.getUserUrlStats(shortCode, user.userId());
+        UrlStatsResponse response = getUserUrlStatsUseCase.getUserUrlStats(
+                shortCode, user.userId(), new ClickSeriesQuery(granularity, from, to));
         return ResponseEntity.ok(response);
     }
+
+    private void write(OutputStream out, ImportEventResponse event) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(event));
+            out.write('\n');
+            out.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
 }
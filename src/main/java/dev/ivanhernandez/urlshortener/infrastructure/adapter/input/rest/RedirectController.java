@@ -1,7 +1,11 @@
 package dev.ivanhernandez.urlshortener.infrastructure.adapter.input.rest;
 
-import dev.ivanhernandez.urlshortener.application.dto.response.ErrorResponse;
+import dev.ivanhernandez.urlshortener.application.dto.response.RedirectErrorResponse;
 import dev.ivanhernandez.urlshortener.application.port.input.GetOriginalUrlUseCase;
+import dev.ivanhernandez.urlshortener.domain.model.ClickContext;
+import dev.ivanhernandez.urlshortener.domain.model.RedirectResult;
+import dev.ivanhernandez.urlshortener.domain.model.RedirectTarget;
+import dev.ivanhernandez.urlshortener.domain.model.RedirectType;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -9,41 +13,110 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.net.URI;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
 
 @RestController
 @Tag(name = "Redirect", description = "Short URL redirection")
 public class RedirectController {
 
+    private static final byte[] NOT_FOUND_BODY =
+            "{\"status\":404,\"message\":\"URL not found\"}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] EXPIRED_BODY =
+            "{\"status\":410,\"message\":\"URL has expired\"}".getBytes(StandardCharsets.UTF_8);
+
     private final GetOriginalUrlUseCase getOriginalUrlUseCase;
+    private final boolean cacheableRedirectsEnabled;
+    private final long cacheableMaxAgeSeconds;
+    private final long permanentMaxAgeSeconds;
+    private final String cacheableCacheControl;
+    private final String permanentCacheControl;
 
-    public RedirectController(GetOriginalUrlUseCase getOriginalUrlUseCase) {
+    public RedirectController(
+            GetOriginalUrlUseCase getOriginalUrlUseCase,
+            @Value("${app.redirect.cacheable-enabled:true}") boolean cacheableRedirectsEnabled,
+            @Value("${app.redirect.cacheable-max-age:1h}") Duration cacheableMaxAge,
+            @Value("${app.redirect.permanent-max-age:365d}") Duration permanentMaxAge) {
         this.getOriginalUrlUseCase = getOriginalUrlUseCase;
+        this.cacheableRedirectsEnabled = cacheableRedirectsEnabled;
+        this.cacheableMaxAgeSeconds = cacheableMaxAge.toSeconds();
+        this.permanentMaxAgeSeconds = permanentMaxAge.toSeconds();
+        this.cacheableCacheControl = cacheControl(cacheableMaxAgeSeconds);
+        this.permanentCacheControl = cacheControl(permanentMaxAgeSeconds);
     }
 
     @Operation(summary = "Redirect", description = "Redirects to the original URL")
     @ApiResponses(value = {
+            @ApiResponse(responseCode = "301", description = "Permanent redirect, cacheable by browsers and CDNs"),
             @ApiResponse(responseCode = "302", description = "Redirect successful"),
             @ApiResponse(responseCode = "404", description = "URL not found",
-                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    content = @Content(schema = @Schema(implementation = RedirectErrorResponse.class))),
             @ApiResponse(responseCode = "410", description = "URL expired",
-                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+                    content = @Content(schema = @Schema(implementation = RedirectErrorResponse.class)))
     })
     @GetMapping("/r/{shortCode}")
-    public ResponseEntity<Void> redirect(
-            @Parameter(description = "Short code of the URL") @PathVariable String shortCode) {
-        String originalUrl = getOriginalUrlUseCase.getOriginalUrl(shortCode);
+    public void redirect(
+            @Parameter(description = "Short code of the URL") @PathVariable String shortCode,
+            @RequestHeader(value = HttpHeaders.REFERER, required = false) String referrer,
+            @RequestHeader(value = HttpHeaders.USER_AGENT, required = false) String userAgent,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        ClickContext clickContext = new ClickContext(referrer, userAgent, request.getRemoteAddr());
+        switch (getOriginalUrlUseCase.resolveRedirect(shortCode, clickContext)) {
+            case RedirectResult.Found found -> writeRedirect(response, found.target());
+            case RedirectResult.NotFound notFound -> writeError(response, HttpServletResponse.SC_NOT_FOUND, NOT_FOUND_BODY);
+            case RedirectResult.Expired expired -> writeError(response, HttpServletResponse.SC_GONE, EXPIRED_BODY);
+        }
+    }
+
+    private void writeRedirect(HttpServletResponse response, RedirectTarget target) {
+        RedirectType redirectType = cacheableRedirectsEnabled ? target.redirectType() : RedirectType.TEMPORARY;
+        long maxAgeSeconds = switch (redirectType) {
+            case TEMPORARY -> 0;
+            case CACHEABLE -> cacheableMaxAgeSeconds;
+            case PERMANENT -> permanentMaxAgeSeconds;
+        };
+        String cacheControl = redirectType == RedirectType.PERMANENT ? permanentCacheControl : cacheableCacheControl;
+        if (maxAgeSeconds > 0 && target.expiresAt() != null) {
+            long secondsUntilExpiry = Duration.between(LocalDateTime.now(), target.expiresAt()).toSeconds();
+            if (secondsUntilExpiry < maxAgeSeconds) {
+                maxAgeSeconds = secondsUntilExpiry;
+                cacheControl = cacheControl(maxAgeSeconds);
+            }
+        }
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setLocation(URI.create(originalUrl));
+        if (maxAgeSeconds > 0) {
+            response.setStatus(redirectType == RedirectType.PERMANENT
+                    ? HttpServletResponse.SC_MOVED_PERMANENTLY
+                    : HttpServletResponse.SC_FOUND);
+            response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+            response.setDateHeader(HttpHeaders.EXPIRES, System.currentTimeMillis() + maxAgeSeconds * 1000);
+        } else {
+            response.setStatus(HttpServletResponse.SC_FOUND);
+        }
+        response.setHeader(HttpHeaders.LOCATION, target.location());
+    }
+
+    private static String cacheControl(long maxAgeSeconds) {
+        return "public, max-age=" + maxAgeSeconds;
+    }
 
-        return new ResponseEntity<>(headers, HttpStatus.FOUND);
+    private static void writeError(HttpServletResponse response, int status, byte[] body) throws IOException {
+        response.setStatus(status);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
     }
 }
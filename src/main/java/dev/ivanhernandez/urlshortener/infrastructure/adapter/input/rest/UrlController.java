@@ -1,9 +1,12 @@
 package dev.ivanhernandez.urlshortener.infrastructure.adapter.input.rest;
 
 import dev.ivanhernandez.urlshortener.application.dto.request.CreateUrlRequest;
+import dev.ivanhernandez.urlshortener.application.dto.response.AliasAvailabilityResponse;
+import dev.ivanhernandez.urlshortener.application.dto.response.BatchCreateResponse;
 import dev.ivanhernandez.urlshortener.application.dto.response.ErrorResponse;
 import dev.ivanhernandez.urlshortener.application.dto.response.ShortUrlResponse;
 import dev.ivanhernandez.urlshortener.application.dto.response.ValidationErrorResponse;
+import dev.ivanhernandez.urlshortener.application.port.input.CheckAliasAvailabilityUseCase;
 import dev.ivanhernandez.urlshortener.application.port.input.CreateShortUrlUseCase;
 import dev.ivanhernandez.urlshortener.application.port.input.DeleteUrlUseCase;
 import io.swagger.v3.oas.annotations.Operation;
@@ -14,36 +17,91 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Optional;
+
 @RestController
 @RequestMapping("/api/v1/urls")
 @Tag(name = "URL Shortener", description = "Public endpoint for creating shortened URLs")
 public class UrlController {
 
+    private static final String RESPOND_ASYNC = "respond-async";
+
     private final CreateShortUrlUseCase createShortUrlUseCase;
     private final DeleteUrlUseCase deleteUrlUseCase;
+    private final CheckAliasAvailabilityUseCase checkAliasAvailabilityUseCase;
 
-    public UrlController(CreateShortUrlUseCase createShortUrlUseCase, DeleteUrlUseCase deleteUrlUseCase) {
+    public UrlController(CreateShortUrlUseCase createShortUrlUseCase, DeleteUrlUseCase deleteUrlUseCase,
+                         CheckAliasAvailabilityUseCase checkAliasAvailabilityUseCase) {
         this.createShortUrlUseCase = createShortUrlUseCase;
         this.deleteUrlUseCase = deleteUrlUseCase;
+        this.checkAliasAvailabilityUseCase = checkAliasAvailabilityUseCase;
     }
 
-    @Operation(summary = "Create short URL", description = "Generates a short code for a long URL (anonymous)")
+    @Operation(summary = "Create short URL",
+            description = "Generates a short code for a long URL (anonymous). With Prefer: respond-async and "
+                    + "app.async-create.enabled, a generated code is returned before the row is persisted")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "URL created successfully",
                     content = @Content(schema = @Schema(implementation = ShortUrlResponse.class))),
+            @ApiResponse(responseCode = "202", description = "URL accepted and journaled, persisted asynchronously",
+                    content = @Content(schema = @Schema(implementation = ShortUrlResponse.class))),
             @ApiResponse(responseCode = "400", description = "Invalid URL or alias already exists",
                     content = @Content(schema = @Schema(implementation = ValidationErrorResponse.class)))
     })
     @PostMapping
-    public ResponseEntity<ShortUrlResponse> createShortUrl(@Valid @RequestBody CreateUrlRequest request) {
+    public ResponseEntity<ShortUrlResponse> createShortUrl(
+            @Valid @RequestBody CreateUrlRequest request,
+            @Parameter(description = "respond-async to accept the URL without waiting for the database")
+            @RequestHeader(value = "Prefer", required = false) String prefer) {
+        if (prefersAsync(prefer)) {
+            Optional<ShortUrlResponse> accepted = createShortUrlUseCase.acceptShortUrl(request);
+            if (accepted.isPresent()) {
+                return ResponseEntity.status(HttpStatus.ACCEPTED)
+                        .header("Preference-Applied", RESPOND_ASYNC)
+                        .body(accepted.get());
+            }
+        }
         ShortUrlResponse response = createShortUrlUseCase.createShortUrl(request);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @Operation(summary = "Create short URLs in bulk",
+            description = "Creates up to app.batch.max-size short URLs in one request and reports each item in input order")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch processed, see per-item results",
+                    content = @Content(schema = @Schema(implementation = BatchCreateResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Batch is empty or too large",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<BatchCreateResponse> createShortUrls(@RequestBody List<CreateUrlRequest> requests) {
+        BatchCreateResponse response = createShortUrlUseCase.createShortUrls(requests);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Check custom alias availability",
+            description = "Answers from the in-memory short code index and suggests nearby free aliases when taken")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Availability checked",
+                    content = @Content(schema = @Schema(implementation = AliasAvailabilityResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Alias is too long or suggestion count out of range",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/aliases/{alias}/availability")
+    public ResponseEntity<AliasAvailabilityResponse> checkAliasAvailability(
+            @Parameter(description = "Custom alias to check") @PathVariable String alias,
+            @Parameter(description = "Maximum number of free aliases to suggest when the alias is taken")
+            @RequestParam(defaultValue = "5") @Min(0) @Max(20) int suggestions) {
+        return ResponseEntity.ok(checkAliasAvailabilityUseCase.checkAvailability(alias, suggestions));
+    }
+
     @Operation(summary = "Delete anonymous URL", description = "Deletes a publicly created shortened URL")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "URL deleted"),
@@ -56,4 +114,16 @@ public class UrlController {
         deleteUrlUseCase.deleteUrl(shortCode);
         return ResponseEntity.noContent().build();
     }
+
+    private static boolean prefersAsync(String prefer) {
+        if (prefer == null) {
+            return false;
+        }
+        for (String preference : prefer.split("[,;]")) {
+            if (preference.trim().equalsIgnoreCase(RESPOND_ASYNC)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
@@ -0,0 +1,208 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.input.rest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.ivanhernandez.urlshortener.application.dto.request.ImportUrlRecord;
+import dev.ivanhernandez.urlshortener.domain.exception.InvalidUrlException;
+import dev.ivanhernandez.urlshortener.domain.model.RedirectType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+
+abstract class UrlImportReader implements Iterator<ImportUrlRecord> {
+
+    private final BufferedReader reader;
+    private long lineNumber;
+    private ImportUrlRecord next;
+
+    UrlImportReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    static UrlImportReader ndjson(BufferedReader reader, ObjectMapper objectMapper) {
+        return new NdjsonReader(reader, objectMapper);
+    }
+
+    static UrlImportReader csv(BufferedReader reader) {
+        return new CsvReader(reader);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next != null) {
+            return true;
+        }
+        String line;
+        while ((line = readLine()) != null) {
+            if (!line.isBlank()) {
+                next = parse(lineNumber, line);
+                if (next != null) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public ImportUrlRecord next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        ImportUrlRecord record = next;
+        next = null;
+        return record;
+    }
+
+    abstract ImportUrlRecord parse(long line, String text);
+
+    private String readLine() {
+        try {
+            String line = reader.readLine();
+            if (line != null) {
+                lineNumber++;
+            }
+            return line;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static ImportUrlRecord toRecord(long line, String originalUrl, String shortCode, String expiresAt,
+                                            String redirectType) {
+        LocalDateTime expiry;
+        try {
+            expiry = isBlank(expiresAt) ? null : LocalDateTime.parse(expiresAt.trim());
+        } catch (DateTimeParseException ex) {
+            return ImportUrlRecord.malformed(line, "expiresAt: Invalid date-time: " + expiresAt);
+        }
+        RedirectType type;
+        try {
+            type = isBlank(redirectType) ? null : RedirectType.valueOf(redirectType.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            return ImportUrlRecord.malformed(line, "redirectType: Unknown redirect type: " + redirectType);
+        }
+        return new ImportUrlRecord(line, originalUrl, isBlank(shortCode) ? null : shortCode.trim(), expiry, type);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static final class NdjsonReader extends UrlImportReader {
+
+        private final ObjectMapper objectMapper;
+
+        NdjsonReader(BufferedReader reader, ObjectMapper objectMapper) {
+            super(reader);
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        ImportUrlRecord parse(long line, String text) {
+            JsonNode node;
+            try {
+                node = objectMapper.readTree(text);
+            } catch (IOException ex) {
+                return ImportUrlRecord.malformed(line, "Malformed JSON");
+            }
+            if (!node.isObject()) {
+                return ImportUrlRecord.malformed(line, "Expected a JSON object");
+            }
+            return toRecord(line, text(node, "originalUrl"), text(node, "shortCode"), text(node, "expiresAt"),
+                    text(node, "redirectType"));
+        }
+
+        private static String text(JsonNode node, String field) {
+            JsonNode value = node.get(field);
+            return value == null || value.isNull() ? null : value.asText();
+        }
+    }
+
+    private static final class CsvReader extends UrlImportReader {
+
+        private int originalUrlColumn = -1;
+        private int shortCodeColumn = -1;
+        private int expiresAtColumn = -1;
+        private int redirectTypeColumn = -1;
+        private boolean headerRead;
+
+        CsvReader(BufferedReader reader) {
+            super(reader);
+        }
+
+        @Override
+        ImportUrlRecord parse(long line, String text) {
+            List<String> fields = split(text);
+            if (fields == null) {
+                return headerRead ? ImportUrlRecord.malformed(line, "Unterminated quoted field") : header(List.of());
+            }
+            if (!headerRead) {
+                return header(fields);
+            }
+            return toRecord(line, field(fields, originalUrlColumn), field(fields, shortCodeColumn),
+                    field(fields, expiresAtColumn), field(fields, redirectTypeColumn));
+        }
+
+        private ImportUrlRecord header(List<String> columns) {
+            for (int i = 0; i < columns.size(); i++) {
+                switch (columns.get(i).trim().toLowerCase(Locale.ROOT)) {
+                    case "originalurl" -> originalUrlColumn = i;
+                    case "shortcode" -> shortCodeColumn = i;
+                    case "expiresat" -> expiresAtColumn = i;
+                    case "redirecttype" -> redirectTypeColumn = i;
+                    default -> {
+                    }
+                }
+            }
+            if (originalUrlColumn < 0) {
+                throw new InvalidUrlException("CSV header must contain an originalUrl column");
+            }
+            headerRead = true;
+            return null;
+        }
+
+        private static String field(List<String> fields, int column) {
+            return column >= 0 && column < fields.size() ? fields.get(column) : null;
+        }
+
+        private static List<String> split(String text) {
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (quoted) {
+                    if (c == '"' && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        field.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+            if (quoted) {
+                return null;
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.alias;
+
+import dev.ivanhernandez.urlshortener.application.port.output.ShortCodeIndex;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "app.short-code-index.enabled", havingValue = "false")
+public class PassThroughShortCodeIndex implements ShortCodeIndex {
+
+    @Override
+    public boolean isLoaded() {
+        return false;
+    }
+
+    @Override
+    public boolean contains(String shortCode) {
+        return false;
+    }
+
+    @Override
+    public void add(String shortCode) {
+    }
+
+    @Override
+    public void remove(String shortCode) {
+    }
+}
@@ -0,0 +1,93 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.alias;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+final class SortedShortCodeArray {
+
+    static final SortedShortCodeArray EMPTY = new SortedShortCodeArray(new byte[0], new int[]{0});
+
+    private final byte[] bytes;
+    private final int[] offsets;
+
+    private SortedShortCodeArray(byte[] bytes, int[] offsets) {
+        this.bytes = bytes;
+        this.offsets = offsets;
+    }
+
+    static SortedShortCodeArray of(List<byte[]> codes) {
+        codes.sort(Arrays::compareUnsigned);
+        int totalBytes = 0;
+        int distinct = 0;
+        for (int i = 0; i < codes.size(); i++) {
+            if (i == 0 || !Arrays.equals(codes.get(i), codes.get(i - 1))) {
+                totalBytes += codes.get(i).length;
+                distinct++;
+            }
+        }
+        byte[] bytes = new byte[totalBytes];
+        int[] offsets = new int[distinct + 1];
+        int position = 0;
+        int index = 0;
+        for (int i = 0; i < codes.size(); i++) {
+            byte[] code = codes.get(i);
+            if (i == 0 || !Arrays.equals(code, codes.get(i - 1))) {
+                System.arraycopy(code, 0, bytes, position, code.length);
+                position += code.length;
+                offsets[++index] = position;
+            }
+        }
+        return new SortedShortCodeArray(bytes, offsets);
+    }
+
+    static byte[] encode(String shortCode) {
+        return shortCode.getBytes(StandardCharsets.UTF_8);
+    }
+
+    boolean contains(String shortCode) {
+        return indexOf(encode(shortCode)) >= 0;
+    }
+
+    int size() {
+        return offsets.length - 1;
+    }
+
+    long sizeInBytes() {
+        return bytes.length + (long) offsets.length * Integer.BYTES;
+    }
+
+    SortedShortCodeArray merge(Collection<String> added, Set<String> removed) {
+        List<byte[]> codes = new ArrayList<>(size() + added.size());
+        for (int i = 0; i < size(); i++) {
+            byte[] code = Arrays.copyOfRange(bytes, offsets[i], offsets[i + 1]);
+            if (removed.isEmpty() || !removed.contains(new String(code, StandardCharsets.UTF_8))) {
+                codes.add(code);
+            }
+        }
+        for (String shortCode : added) {
+            codes.add(encode(shortCode));
+        }
+        return of(codes);
+    }
+
+    private int indexOf(byte[] key) {
+        int low = 0;
+        int high = size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = Arrays.compareUnsigned(bytes, offsets[middle], offsets[middle + 1], key, 0, key.length);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+}
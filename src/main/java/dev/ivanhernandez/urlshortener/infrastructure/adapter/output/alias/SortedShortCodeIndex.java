@@ -0,0 +1,212 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.alias;
+
+import dev.ivanhernandez.urlshortener.application.port.output.InvalidationBus;
+import dev.ivanhernandez.urlshortener.application.port.output.ShortCodeIndex;
+import dev.ivanhernandez.urlshortener.application.port.output.UrlRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Component
+@ConditionalOnProperty(name = "app.short-code-index.enabled", havingValue = "true", matchIfMissing = true)
+public class SortedShortCodeIndex implements ShortCodeIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(SortedShortCodeIndex.class);
+
+    private final UrlRepository urlRepository;
+    private final Duration refreshInterval;
+    private final Duration refreshGrace;
+    private final int compactionThreshold;
+    private final Clock clock;
+    private final Set<String> added = ConcurrentHashMap.newKeySet();
+    private final Set<String> removed = ConcurrentHashMap.newKeySet();
+    private final Object overlayLock = new Object();
+    private final AtomicBoolean compactionRequested = new AtomicBoolean();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("short-code-index-refresher").daemon().factory());
+
+    private volatile SortedShortCodeArray codes;
+    private volatile boolean complete;
+    private LocalDateTime highestSeenInsertedAt;
+    private Instant completeAfter;
+
+    public SortedShortCodeIndex(
+            UrlRepository urlRepository,
+            InvalidationBus invalidationBus,
+            MeterRegistry meterRegistry,
+            @Value("${app.short-code-index.refresh-interval:30s}") Duration refreshInterval,
+            @Value("${app.short-code-index.refresh-grace:1m}") Duration refreshGrace,
+            @Value("${app.short-code-index.compaction-threshold:10000}") int compactionThreshold) {
+        this(urlRepository, invalidationBus, meterRegistry, refreshInterval, refreshGrace, compactionThreshold,
+                Clock.systemUTC());
+    }
+
+    SortedShortCodeIndex(UrlRepository urlRepository, InvalidationBus invalidationBus, MeterRegistry meterRegistry,
+                         Duration refreshInterval, Duration refreshGrace, int compactionThreshold, Clock clock) {
+        this.urlRepository = urlRepository;
+        this.refreshInterval = refreshInterval;
+        this.refreshGrace = refreshGrace;
+        this.compactionThreshold = compactionThreshold;
+        this.clock = clock;
+        invalidationBus.subscribe(this::remove);
+        Gauge.builder("short.code.index.codes", this, index -> {
+                    SortedShortCodeArray current = index.codes;
+                    return current != null ? current.size() + index.added.size() - index.removed.size() : 0;
+                })
+                .description("Approximate number of short codes in the in-memory index")
+                .register(meterRegistry);
+        Gauge.builder("short.code.index.memory", this, index -> {
+                    SortedShortCodeArray current = index.codes;
+                    return current != null ? current.sizeInBytes() : 0;
+                })
+                .baseUnit(BaseUnits.BYTES)
+                .description("Memory held by the packed sorted short code array")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        long intervalMillis = refreshInterval.toMillis();
+        scheduler.execute(this::refreshQuietly);
+        scheduler.scheduleWithFixedDelay(this::refreshQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        scheduler.shutdownNow();
+    }
+
+    @Override
+    public boolean isLoaded() {
+        return complete;
+    }
+
+    @Override
+    public boolean contains(String shortCode) {
+        if (added.contains(shortCode)) {
+            return true;
+        }
+        SortedShortCodeArray current = codes;
+        return current != null && !removed.contains(shortCode) && current.contains(shortCode);
+    }
+
+    @Override
+    public void add(String shortCode) {
+        synchronized (overlayLock) {
+            added.add(shortCode);
+            removed.remove(shortCode);
+        }
+        requestCompactionIfNeeded();
+    }
+
+    @Override
+    public void remove(String shortCode) {
+        synchronized (overlayLock) {
+            removed.add(shortCode);
+            added.remove(shortCode);
+        }
+        requestCompactionIfNeeded();
+    }
+
+    void refresh() {
+        if (codes == null) {
+            load();
+            return;
+        }
+        boolean coversLoad = !clock.instant().isBefore(completeAfter);
+        LocalDateTime insertedSince = highestSeenInsertedAt != null
+                ? highestSeenInsertedAt.minus(refreshGrace)
+                : null;
+        urlRepository.forEachShortCodeInsertedSince(insertedSince, (shortCode, insertedAt) -> {
+            synchronized (overlayLock) {
+                removed.remove(shortCode);
+                if (!contains(shortCode)) {
+                    added.add(shortCode);
+                }
+            }
+            highestSeenInsertedAt = latest(highestSeenInsertedAt, insertedAt);
+        });
+        if (coversLoad) {
+            complete = true;
+        }
+        if (compactionRequested.get() || added.size() + removed.size() >= compactionThreshold) {
+            compact();
+        }
+    }
+
+    void compact() {
+        compactionRequested.set(false);
+        SortedShortCodeArray current = codes;
+        List<String> addedSnapshot;
+        Set<String> removedSnapshot;
+        synchronized (overlayLock) {
+            if (current == null || added.isEmpty() && removed.isEmpty()) {
+                return;
+            }
+            addedSnapshot = new ArrayList<>(added);
+            removedSnapshot = new HashSet<>(removed);
+        }
+        SortedShortCodeArray merged = current.merge(addedSnapshot, removedSnapshot);
+        synchronized (overlayLock) {
+            codes = merged;
+            added.removeAll(addedSnapshot);
+            removed.removeAll(removedSnapshot);
+        }
+    }
+
+    private void load() {
+        Instant scanStartedAt = clock.instant();
+        List<byte[]> loaded = new ArrayList<>();
+        LocalDateTime[] highestInsertedAt = {null};
+        urlRepository.forEachShortCodeInsertedSince(null, (shortCode, insertedAt) -> {
+            loaded.add(SortedShortCodeArray.encode(shortCode));
+            highestInsertedAt[0] = latest(highestInsertedAt[0], insertedAt);
+        });
+        SortedShortCodeArray built = SortedShortCodeArray.of(loaded);
+        codes = built;
+        highestSeenInsertedAt = highestInsertedAt[0];
+        completeAfter = scanStartedAt.plus(refreshGrace);
+        log.info("Short code index loaded with {} codes ({} bytes)", built.size(), built.sizeInBytes());
+    }
+
+    private void requestCompactionIfNeeded() {
+        if (added.size() + removed.size() >= compactionThreshold
+                && compactionRequested.compareAndSet(false, true)
+                && !scheduler.isShutdown()) {
+            scheduler.execute(this::refreshQuietly);
+        }
+    }
+
+    private static LocalDateTime latest(LocalDateTime current, LocalDateTime candidate) {
+        return current == null || candidate.isAfter(current) ? candidate : current;
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (RuntimeException ex) {
+            log.warn("Failed to refresh short code index, retrying on next interval", ex);
+        }
+    }
+}
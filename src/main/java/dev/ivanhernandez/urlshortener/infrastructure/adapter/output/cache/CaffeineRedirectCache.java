@@ -0,0 +1,101 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import dev.ivanhernandez.urlshortener.application.port.output.RedirectCache;
+import dev.ivanhernandez.urlshortener.domain.model.RedirectTarget;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Component
+public class CaffeineRedirectCache implements RedirectCache {
+
+    private static final int ENTRY_OVERHEAD_BYTES = 128;
+
+    private final Cache<String, RedirectTarget> cache;
+
+    @Autowired
+    public CaffeineRedirectCache(
+            @Value("${app.cache.redirect.max-entries:100000}") long maxEntries,
+            @Value("${app.cache.redirect.max-bytes:0}") long maxBytes,
+            @Value("${app.cache.redirect.ttl:10m}") Duration ttl) {
+        this(maxEntries, maxBytes, ttl, Ticker.systemTicker());
+    }
+
+    CaffeineRedirectCache(long maxEntries, long maxBytes, Duration ttl, Ticker ticker) {
+        Caffeine<String, RedirectTarget> builder = Caffeine.newBuilder()
+                .expireAfter(new RedirectTargetExpiry(ttl))
+                .ticker(ticker);
+
+        if (maxBytes > 0) {
+            builder.maximumWeight(maxBytes).weigher(CaffeineRedirectCache::weigh);
+        } else {
+            builder.maximumSize(maxEntries);
+        }
+
+        this.cache = builder.build();
+    }
+
+    @Override
+    public Optional<RedirectTarget> get(String shortCode) {
+        return Optional.ofNullable(cache.getIfPresent(shortCode));
+    }
+
+    @Override
+    public void put(RedirectTarget target) {
+        cache.put(target.shortCode(), target);
+    }
+
+    @Override
+    public void evict(String shortCode) {
+        cache.invalidate(shortCode);
+    }
+
+    long estimatedSize() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    private static int weigh(String shortCode, RedirectTarget target) {
+        int locationLength = target.location() == target.originalUrl() ? 0 : target.location().length();
+        return ENTRY_OVERHEAD_BYTES + shortCode.length() + target.originalUrl().length() + locationLength;
+    }
+
+    private record RedirectTargetExpiry(Duration ttl) implements Expiry<String, RedirectTarget> {
+
+        @Override
+        public long expireAfterCreate(String shortCode, RedirectTarget target, long currentTime) {
+            return timeToLive(target);
+        }
+
+        @Override
+        public long expireAfterUpdate(String shortCode, RedirectTarget target,
+                                      long currentTime, long currentDuration) {
+            return timeToLive(target);
+        }
+
+        @Override
+        public long expireAfterRead(String shortCode, RedirectTarget target,
+                                    long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        private long timeToLive(RedirectTarget target) {
+            if (target.expiresAt() == null) {
+                return ttl.toNanos();
+            }
+            Duration untilExpiry = Duration.between(LocalDateTime.now(), target.expiresAt());
+            if (untilExpiry.isNegative()) {
+                return 0;
+            }
+            return untilExpiry.compareTo(ttl) < 0 ? untilExpiry.toNanos() : ttl.toNanos();
+        }
+    }
+}
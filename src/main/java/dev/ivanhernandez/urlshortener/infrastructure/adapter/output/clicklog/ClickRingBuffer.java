@@ -0,0 +1,87 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.clicklog;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+final class ClickRingBuffer {
+
+    private static final VarHandle PUBLISHED = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final int capacity;
+    private final int mask;
+    private final long[] published;
+    private final long[] urlIds;
+    private final long[] timestamps;
+    private final String[] referrers;
+    private final String[] userAgents;
+    private final AtomicLong head = new AtomicLong();
+    private volatile long tail;
+
+    ClickRingBuffer(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Click buffer capacity must be a power of two: " + capacity);
+        }
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.published = new long[capacity];
+        this.urlIds = new long[capacity];
+        this.timestamps = new long[capacity];
+        this.referrers = new String[capacity];
+        this.userAgents = new String[capacity];
+        Arrays.fill(published, -1);
+    }
+
+    boolean offer(long urlId, long timestamp, String referrer, String userAgent) {
+        long sequence;
+        do {
+            sequence = head.get();
+            if (sequence - tail >= capacity) {
+                return false;
+            }
+        } while (!head.compareAndSet(sequence, sequence + 1));
+
+        int slot = (int) sequence & mask;
+        urlIds[slot] = urlId;
+        timestamps[slot] = timestamp;
+        referrers[slot] = referrer;
+        userAgents[slot] = userAgent;
+        PUBLISHED.setRelease(published, slot, sequence);
+        return true;
+    }
+
+    int drain(ClickConsumer consumer) {
+        long sequence = tail;
+        int drained = 0;
+        while (true) {
+            int slot = (int) sequence & mask;
+            if ((long) PUBLISHED.getAcquire(published, slot) != sequence) {
+                return drained;
+            }
+            long urlId = urlIds[slot];
+            long timestamp = timestamps[slot];
+            String referrer = referrers[slot];
+            String userAgent = userAgents[slot];
+            referrers[slot] = null;
+            userAgents[slot] = null;
+            tail = ++sequence;
+            drained++;
+            consumer.accept(urlId, timestamp, referrer, userAgent);
+        }
+    }
+
+    int size() {
+        return (int) Math.max(0, head.get() - tail);
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    @FunctionalInterface
+    interface ClickConsumer {
+
+        void accept(long urlId, long timestamp, String referrer, String userAgent);
+    }
+}
@@ -0,0 +1,108 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.clicklog;
+
+import dev.ivanhernandez.urlshortener.domain.model.ClickEvent;
+import dev.ivanhernandez.urlshortener.domain.model.UserAgentClass;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+final class ClickSegment {
+
+    static final int MAGIC = 0x434C4B53;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 32;
+    static final int MAX_REFERRER_BYTES = 255;
+    static final int MAX_RECORD_BYTES = 1 + Integer.BYTES + 10 + 1 + MAX_REFERRER_BYTES;
+    static final byte[] NO_REFERRER = new byte[0];
+
+    static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    private static final UserAgentClass[] USER_AGENT_CLASSES = UserAgentClass.values();
+
+    private ClickSegment() {
+    }
+
+    static long read(Path path, Consumer<ClickEvent> consumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+             Arena arena = Arena.ofConfined()) {
+            MemorySegment file = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena);
+            if (file.byteSize() < HEADER_BYTES || file.get(INT, 0) != MAGIC || file.get(INT, 4) != VERSION) {
+                throw new IOException("Not a click log segment: " + path);
+            }
+            long baseMillis = file.get(LONG, 8);
+            long offset = HEADER_BYTES;
+            long count = 0;
+            while (offset < file.byteSize()) {
+                byte tag = file.get(ValueLayout.JAVA_BYTE, offset);
+                if (tag == 0) {
+                    break;
+                }
+                long timestamp = baseMillis + file.get(INT, offset + 1);
+                offset += 1 + Integer.BYTES;
+                long urlId = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = file.get(ValueLayout.JAVA_BYTE, offset++);
+                    urlId |= (long) (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+                int referrerLength = file.get(ValueLayout.JAVA_BYTE, offset++) & 0xFF;
+                String referrerHost = referrerLength == 0 ? null : new String(
+                        file.asSlice(offset, referrerLength).toArray(ValueLayout.JAVA_BYTE), StandardCharsets.UTF_8);
+                offset += referrerLength;
+                consumer.accept(new ClickEvent(urlId, Instant.ofEpochMilli(timestamp), referrerHost,
+                        USER_AGENT_CLASSES[tag - 1]));
+                count++;
+            }
+            return count;
+        }
+    }
+
+    static byte[] referrerHost(String referrer) {
+        if (referrer == null || referrer.isEmpty()) {
+            return NO_REFERRER;
+        }
+        int schemeEnd = referrer.indexOf("://");
+        int start = schemeEnd < 0 ? 0 : schemeEnd + 3;
+        int end = start;
+        int hostStart = start;
+        int portStart = -1;
+        boolean bracketed = false;
+        while (end < referrer.length()) {
+            char c = referrer.charAt(end);
+            if (c == '/' || c == '?' || c == '#') {
+                break;
+            }
+            if (c == '@') {
+                hostStart = end + 1;
+                portStart = -1;
+            } else if (c == '[') {
+                bracketed = true;
+            } else if (c == ']') {
+                bracketed = false;
+            } else if (c == ':' && !bracketed && portStart < 0) {
+                portStart = end;
+            }
+            end++;
+        }
+        int hostEnd = portStart >= 0 ? portStart : end;
+        if (hostEnd <= hostStart) {
+            return NO_REFERRER;
+        }
+        byte[] host = referrer.substring(hostStart, hostEnd).toLowerCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8);
+        return host.length <= MAX_REFERRER_BYTES ? host : Arrays.copyOf(host, MAX_REFERRER_BYTES);
+    }
+}
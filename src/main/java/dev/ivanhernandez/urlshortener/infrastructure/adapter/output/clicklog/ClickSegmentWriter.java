@@ -0,0 +1,100 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.clicklog;
+
+import dev.ivanhernandez.urlshortener.domain.model.UserAgentClass;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static dev.ivanhernandez.urlshortener.infrastructure.adapter.output.clicklog.ClickSegment.*;
+
+final class ClickSegmentWriter implements Closeable {
+
+    private final Path path;
+    private final FileChannel channel;
+    private final Arena arena;
+    private final MemorySegment file;
+    private final long baseMillis;
+    private long position = HEADER_BYTES;
+    private long recordCount;
+
+    ClickSegmentWriter(Path path, long capacityBytes, long baseMillis) throws IOException {
+        if (capacityBytes < HEADER_BYTES + MAX_RECORD_BYTES) {
+            throw new IllegalArgumentException("Click log segment too small: " + capacityBytes + " bytes");
+        }
+        this.path = path;
+        this.baseMillis = baseMillis;
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        this.arena = Arena.ofShared();
+        this.file = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacityBytes, arena);
+        file.set(INT, 0, MAGIC);
+        file.set(INT, 4, VERSION);
+        file.set(LONG, 8, baseMillis);
+    }
+
+    boolean append(long urlId, long timestamp, byte[] referrerHost, UserAgentClass userAgentClass) {
+        if (position + MAX_RECORD_BYTES > file.byteSize()) {
+            return false;
+        }
+        long offset = position + 1;
+        file.set(INT, offset, (int) Math.clamp(timestamp - baseMillis, 0, Integer.MAX_VALUE));
+        offset += Integer.BYTES;
+        long remaining = urlId;
+        while ((remaining & ~0x7FL) != 0) {
+            file.set(ValueLayout.JAVA_BYTE, offset++, (byte) (remaining & 0x7F | 0x80));
+            remaining >>>= 7;
+        }
+        file.set(ValueLayout.JAVA_BYTE, offset++, (byte) remaining);
+        file.set(ValueLayout.JAVA_BYTE, offset++, (byte) referrerHost.length);
+        MemorySegment.copy(referrerHost, 0, file, ValueLayout.JAVA_BYTE, offset, referrerHost.length);
+        offset += referrerHost.length;
+        file.set(ValueLayout.JAVA_BYTE, position, (byte) (userAgentClass.ordinal() + 1));
+        position = offset;
+        recordCount++;
+        return true;
+    }
+
+    Path path() {
+        return path;
+    }
+
+    long baseMillis() {
+        return baseMillis;
+    }
+
+    long recordCount() {
+        return recordCount;
+    }
+
+    long sizeInBytes() {
+        return position;
+    }
+
+    void force() {
+        file.force();
+    }
+
+    void finish() throws IOException {
+        file.set(LONG, 16, recordCount);
+        file.set(LONG, 24, position);
+        file.force();
+        arena.close();
+        channel.truncate(position);
+        channel.force(true);
+        channel.close();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (arena.scope().isAlive()) {
+            arena.close();
+        }
+        channel.close();
+    }
+}
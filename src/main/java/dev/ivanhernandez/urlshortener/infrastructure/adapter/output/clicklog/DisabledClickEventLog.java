@@ -0,0 +1,15 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.clicklog;
+
+import dev.ivanhernandez.urlshortener.application.port.output.ClickEventLog;
+import dev.ivanhernandez.urlshortener.domain.model.ClickContext;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "app.click-log.enabled", havingValue = "false", matchIfMissing = true)
+public class DisabledClickEventLog implements ClickEventLog {
+
+    @Override
+    public void recordClick(long urlId, ClickContext clickContext) {
+    }
+}
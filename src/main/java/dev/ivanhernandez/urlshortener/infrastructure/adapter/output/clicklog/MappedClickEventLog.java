@@ -0,0 +1,179 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.clicklog;
+
+import dev.ivanhernandez.urlshortener.application.port.output.ClickEventLog;
+import dev.ivanhernandez.urlshortener.domain.model.ClickContext;
+import dev.ivanhernandez.urlshortener.domain.model.UserAgentClass;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+@Component
+@ConditionalOnProperty(name = "app.click-log.enabled", havingValue = "true")
+public class MappedClickEventLog implements ClickEventLog {
+
+    private static final Logger log = LoggerFactory.getLogger(MappedClickEventLog.class);
+    private static final String SEGMENT_PREFIX = "clicks-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+
+    private final Path directory;
+    private final long segmentSizeBytes;
+    private final long rotationIntervalMillis;
+    private final Duration drainInterval;
+    private final ClickRingBuffer buffer;
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("click-log-writer").daemon().factory());
+
+    private ClickSegmentWriter segment;
+    private long nextSegmentNumber;
+
+    public MappedClickEventLog(
+            MeterRegistry meterRegistry,
+            @Value("${app.click-log.directory:./data/click-log}") Path directory,
+            @Value("${app.click-log.buffer-capacity:65536}") int bufferCapacity,
+            @Value("${app.click-log.segment-size:67108864}") long segmentSizeBytes,
+            @Value("${app.click-log.rotation-interval:1h}") Duration rotationInterval,
+            @Value("${app.click-log.drain-interval:10ms}") Duration drainInterval) {
+        this.directory = directory;
+        this.segmentSizeBytes = segmentSizeBytes;
+        this.rotationIntervalMillis = Math.min(rotationInterval.toMillis(), Integer.MAX_VALUE);
+        this.drainInterval = drainInterval;
+        this.buffer = new ClickRingBuffer(bufferCapacity);
+        FunctionCounter.builder("click.events.dropped", dropped, LongAdder::sum)
+                .description("Click events discarded because the ring buffer was full")
+                .register(meterRegistry);
+        FunctionCounter.builder("click.events.written", written, LongAdder::sum)
+                .description("Click events appended to the click log")
+                .register(meterRegistry);
+        Gauge.builder("click.events.buffered", buffer, ClickRingBuffer::size)
+                .description("Click events waiting in the ring buffer")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() throws IOException {
+        Files.createDirectories(directory);
+        try (Stream<Path> files = Files.list(directory)) {
+            nextSegmentNumber = files.map(MappedClickEventLog::segmentNumber)
+                    .max(Long::compare)
+                    .orElse(0L) + 1;
+        }
+        long intervalMillis = drainInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::drainQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        scheduler.shutdown();
+        scheduler.awaitTermination(drainInterval.toMillis() + 5_000, TimeUnit.MILLISECONDS);
+        drainQuietly();
+        try {
+            closeSegment();
+        } catch (IOException ex) {
+            log.warn("Failed to close click log segment", ex);
+        }
+    }
+
+    @Override
+    public void recordClick(long urlId, ClickContext clickContext) {
+        if (!buffer.offer(urlId, System.currentTimeMillis(), clickContext.referrer(), clickContext.userAgent())) {
+            dropped.increment();
+        }
+    }
+
+    void drain() throws IOException {
+        if (segment != null && System.currentTimeMillis() - segment.baseMillis() >= rotationIntervalMillis) {
+            closeSegment();
+        }
+        buffer.drain(this::append);
+    }
+
+    long droppedEvents() {
+        return dropped.sum();
+    }
+
+    private void append(long urlId, long timestamp, String referrer, String userAgent) {
+        byte[] referrerHost = ClickSegment.referrerHost(referrer);
+        UserAgentClass userAgentClass = UserAgentClass.classify(userAgent);
+        try {
+            if (segment == null || timestamp - segment.baseMillis() >= rotationIntervalMillis) {
+                openSegment(timestamp);
+            }
+            if (!segment.append(urlId, timestamp, referrerHost, userAgentClass)) {
+                openSegment(timestamp);
+                segment.append(urlId, timestamp, referrerHost, userAgentClass);
+            }
+            written.increment();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void openSegment(long baseMillis) throws IOException {
+        closeSegment();
+        Path path = directory.resolve("%s%019d%s".formatted(SEGMENT_PREFIX, nextSegmentNumber++, SEGMENT_SUFFIX));
+        segment = new ClickSegmentWriter(path, segmentSizeBytes, baseMillis);
+    }
+
+    private void closeSegment() throws IOException {
+        if (segment == null) {
+            return;
+        }
+        ClickSegmentWriter finished = segment;
+        segment = null;
+        finished.finish();
+        log.debug("Closed click log segment {} with {} events", finished.path(), finished.recordCount());
+    }
+
+    private void drainQuietly() {
+        try {
+            drain();
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Failed to write click events, continuing with a new segment", ex);
+            abandonSegment();
+        }
+    }
+
+    private void abandonSegment() {
+        ClickSegmentWriter broken = segment;
+        segment = null;
+        if (broken != null) {
+            try {
+                broken.close();
+            } catch (IOException ex) {
+                log.warn("Failed to close click log segment {}", broken.path(), ex);
+            }
+        }
+    }
+
+    private static long segmentNumber(Path path) {
+        String name = path.getFileName().toString();
+        if (!name.startsWith(SEGMENT_PREFIX) || !name.endsWith(SEGMENT_SUFFIX)) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+        } catch (NumberFormatException ex) {
+            return 0;
+        }
+    }
+}
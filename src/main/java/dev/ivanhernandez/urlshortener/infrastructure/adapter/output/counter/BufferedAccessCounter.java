@@ -0,0 +1,187 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.counter;
+
+import dev.ivanhernandez.urlshortener.application.port.output.AccessCounter;
+import dev.ivanhernandez.urlshortener.application.port.output.UrlRepository;
+import dev.ivanhernandez.urlshortener.domain.model.AccessCountDelta;
+import dev.ivanhernandez.urlshortener.domain.model.RedirectTarget;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+@ConditionalOnProperty(name = "app.access-count.mode", havingValue = "write-behind", matchIfMissing = true)
+public class BufferedAccessCounter implements AccessCounter {
+
+    private static final Logger log = LoggerFactory.getLogger(BufferedAccessCounter.class);
+
+    private final UrlRepository urlRepository;
+    private final Duration flushInterval;
+    private final int maxBufferedKeys;
+    private final ConcurrentHashMap<String, PendingAccesses> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean earlyFlushRequested = new AtomicBoolean();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("access-count-flusher").daemon().factory());
+
+    public BufferedAccessCounter(
+            UrlRepository urlRepository,
+            @Value("${app.access-count.flush-interval:1s}") Duration flushInterval,
+            @Value("${app.access-count.max-buffered-keys:10000}") int maxBufferedKeys) {
+        this.urlRepository = urlRepository;
+        this.flushInterval = flushInterval;
+        this.maxBufferedKeys = maxBufferedKeys;
+    }
+
+    @PostConstruct
+    void start() {
+        long intervalMillis = flushInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        scheduler.shutdown();
+        scheduler.awaitTermination(flushInterval.toMillis() + 5_000, TimeUnit.MILLISECONDS);
+        flush();
+    }
+
+    @Override
+    public void recordAccess(String shortCode) {
+        record(shortCode, 1, System.currentTimeMillis());
+    }
+
+    @Override
+    public Optional<RedirectTarget> resolveAndRecordAccess(String shortCode) {
+        Optional<RedirectTarget> target = urlRepository.findRedirectTarget(shortCode);
+        if (target.isPresent() && !target.get().isExpired()) {
+            recordAccess(shortCode);
+        }
+        return target;
+    }
+
+    void flush() {
+        flushLock.lock();
+        try {
+            earlyFlushRequested.set(false);
+            List<AccessCountDelta> deltas = drainPending();
+            if (deltas.isEmpty()) {
+                return;
+            }
+            try {
+                urlRepository.incrementAccessCounts(deltas);
+            } catch (RuntimeException ex) {
+                deltas.forEach(delta -> record(delta.shortCode(), delta.accesses(), toEpochMillis(delta.lastAccessedAt())));
+                throw ex;
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    int bufferedKeys() {
+        return pending.size();
+    }
+
+    private void record(String shortCode, long accesses, long accessedAtMillis) {
+        long remaining = accesses;
+        while (remaining > 0) {
+            PendingAccesses entry = pending.get(shortCode);
+            if (entry == null) {
+                entry = pending.computeIfAbsent(shortCode, key -> new PendingAccesses());
+                if (pending.size() >= maxBufferedKeys) {
+                    requestEarlyFlush();
+                }
+            }
+            entry.add(remaining, accessedAtMillis);
+            remaining = entry.isRetired() ? entry.drain() : 0;
+        }
+    }
+
+    private List<AccessCountDelta> drainPending() {
+        List<AccessCountDelta> deltas = new ArrayList<>();
+        for (Map.Entry<String, PendingAccesses> mapping : pending.entrySet()) {
+            PendingAccesses entry = mapping.getValue();
+            long accesses = entry.drain();
+            if (accesses == 0 && pending.remove(mapping.getKey(), entry)) {
+                entry.retire();
+                accesses = entry.drain();
+            }
+            if (accesses > 0) {
+                deltas.add(new AccessCountDelta(mapping.getKey(), accesses, toLocalDateTime(entry.lastAccessedAt())));
+            }
+        }
+        return deltas;
+    }
+
+    private void requestEarlyFlush() {
+        if (earlyFlushRequested.compareAndSet(false, true) && !scheduler.isShutdown()) {
+            scheduler.execute(this::flushQuietly);
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException ex) {
+            log.warn("Failed to flush buffered access counts, retrying on next interval", ex);
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static final class PendingAccesses {
+
+        private final LongAdder accesses = new LongAdder();
+        private volatile long lastAccessedAt;
+        private volatile boolean retired;
+
+        void add(long count, long accessedAtMillis) {
+            accesses.add(count);
+            if (accessedAtMillis > lastAccessedAt) {
+                lastAccessedAt = accessedAtMillis;
+            }
+        }
+
+        long drain() {
+            return accesses.sumThenReset();
+        }
+
+        void retire() {
+            retired = true;
+        }
+
+        boolean isRetired() {
+            return retired;
+        }
+
+        long lastAccessedAt() {
+            return lastAccessedAt;
+        }
+    }
+}
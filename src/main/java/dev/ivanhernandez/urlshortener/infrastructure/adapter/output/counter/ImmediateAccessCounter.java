@@ -0,0 +1,31 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.counter;
+
+import dev.ivanhernandez.urlshortener.application.port.output.AccessCounter;
+import dev.ivanhernandez.urlshortener.application.port.output.UrlRepository;
+import dev.ivanhernandez.urlshortener.domain.model.RedirectTarget;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Component
+@ConditionalOnProperty(name = "app.access-count.mode", havingValue = "immediate")
+public class ImmediateAccessCounter implements AccessCounter {
+
+    private final UrlRepository urlRepository;
+
+    public ImmediateAccessCounter(UrlRepository urlRepository) {
+        this.urlRepository = urlRepository;
+    }
+
+    @Override
+    public void recordAccess(String shortCode) {
+        urlRepository.incrementAccessCount(shortCode, LocalDateTime.now());
+    }
+
+    @Override
+    public Optional<RedirectTarget> resolveAndRecordAccess(String shortCode) {
+        return urlRepository.resolveAndIncrementAccessCount(shortCode, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,101 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.dedup;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.ivanhernandez.urlshortener.application.port.output.InvalidationBus;
+import dev.ivanhernandez.urlshortener.application.port.output.OriginalUrlIndex;
+import dev.ivanhernandez.urlshortener.application.port.output.UrlRepository;
+import dev.ivanhernandez.urlshortener.domain.model.Url;
+import dev.ivanhernandez.urlshortener.domain.model.UrlNormalizer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Optional;
+
+@Component
+@ConditionalOnProperty(name = "app.dedup.enabled", havingValue = "true")
+public class HashedOriginalUrlIndex implements OriginalUrlIndex {
+
+    static final int DIGEST_BYTES = 16;
+
+    private final UrlRepository urlRepository;
+    private final Cache<String, Url> recent;
+    private final Counter cacheHits;
+    private final Counter databaseHits;
+
+    public HashedOriginalUrlIndex(
+            UrlRepository urlRepository,
+            InvalidationBus invalidationBus,
+            MeterRegistry meterRegistry,
+            @Value("${app.dedup.cache.max-entries:10000}") long maxEntries,
+            @Value("${app.dedup.cache.ttl:10m}") Duration ttl) {
+        this.urlRepository = urlRepository;
+        this.recent = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttl)
+                .build();
+        this.cacheHits = Counter.builder("url.dedup.hits")
+                .tag("source", "cache")
+                .description("Anonymous creates answered with an existing short code")
+                .register(meterRegistry);
+        this.databaseHits = Counter.builder("url.dedup.hits")
+                .tag("source", "database")
+                .description("Anonymous creates answered with an existing short code")
+                .register(meterRegistry);
+        invalidationBus.subscribe(this::evict);
+    }
+
+    @Override
+    public byte[] digest(String originalUrl) {
+        try {
+            byte[] sha256 = MessageDigest.getInstance("SHA-256")
+                    .digest(UrlNormalizer.normalize(originalUrl).getBytes(StandardCharsets.UTF_8));
+            return Arrays.copyOf(sha256, DIGEST_BYTES);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    @Override
+    public Optional<Url> find(Url url) {
+        if (url.getOriginalUrlHash() == null) {
+            return Optional.empty();
+        }
+        String key = key(url);
+        Url cached = recent.getIfPresent(key);
+        if (cached != null) {
+            cacheHits.increment();
+            return Optional.of(cached);
+        }
+        Optional<Url> existing = urlRepository.findByOriginalUrlHash(url.getOriginalUrlHash(), url.getRedirectType());
+        existing.ifPresent(found -> {
+            databaseHits.increment();
+            recent.put(key, found);
+        });
+        return existing;
+    }
+
+    @Override
+    public void add(Url url) {
+        if (url.getOriginalUrlHash() != null) {
+            recent.put(key(url), url);
+        }
+    }
+
+    void evict(String shortCode) {
+        recent.asMap().values().removeIf(url -> shortCode.equals(url.getShortCode()));
+    }
+
+    private static String key(Url url) {
+        return HexFormat.of().formatHex(url.getOriginalUrlHash()) + '/' + url.getRedirectType();
+    }
+}
@@ -0,0 +1,27 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.dedup;
+
+import dev.ivanhernandez.urlshortener.application.port.output.OriginalUrlIndex;
+import dev.ivanhernandez.urlshortener.domain.model.Url;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+@Component
+@ConditionalOnProperty(name = "app.dedup.enabled", havingValue = "false", matchIfMissing = true)
+public class PassThroughOriginalUrlIndex implements OriginalUrlIndex {
+
+    @Override
+    public byte[] digest(String originalUrl) {
+        return null;
+    }
+
+    @Override
+    public Optional<Url> find(Url url) {
+        return Optional.empty();
+    }
+
+    @Override
+    public void add(Url url) {
+    }
+}
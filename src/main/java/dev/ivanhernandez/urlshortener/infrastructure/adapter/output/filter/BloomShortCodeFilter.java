@@ -0,0 +1,228 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.filter;
+
+import dev.ivanhernandez.urlshortener.application.port.output.CreationBus;
+import dev.ivanhernandez.urlshortener.application.port.output.ShortCodeFilter;
+import dev.ivanhernandez.urlshortener.application.port.output.UrlRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToDoubleFunction;
+
+@Component
+@ConditionalOnProperty(name = "app.short-code-filter.enabled", havingValue = "true", matchIfMissing = true)
+public class BloomShortCodeFilter implements ShortCodeFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(BloomShortCodeFilter.class);
+
+    private final UrlRepository urlRepository;
+    private final CreationBus creationBus;
+    private final long expectedInsertions;
+    private final double falsePositiveProbability;
+    private final Duration refreshInterval;
+    private final Duration refreshGrace;
+    private final double rebuildDeletionRatio;
+    private final Clock clock;
+    private final Counter rejections;
+    private final Object writeLock = new Object();
+    private final AtomicLong deletionsSinceRebuild = new AtomicLong();
+    private final AtomicBoolean rebuildRequested = new AtomicBoolean();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("short-code-filter-refresher").daemon().factory());
+
+    private volatile ScalableBloomFilter filter;
+    private volatile boolean complete;
+    private List<String> addedDuringRebuild = new ArrayList<>();
+    private LocalDateTime highestSeenInsertedAt;
+    private Instant completeAfter;
+
+    public BloomShortCodeFilter(
+            UrlRepository urlRepository,
+            CreationBus creationBus,
+            MeterRegistry meterRegistry,
+            @Value("${app.short-code-filter.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${app.short-code-filter.false-positive-probability:0.001}") double falsePositiveProbability,
+            @Value("${app.short-code-filter.refresh-interval:30s}") Duration refreshInterval,
+            @Value("${app.short-code-filter.refresh-grace:1m}") Duration refreshGrace,
+            @Value("${app.short-code-filter.rebuild-deletion-ratio:0.2}") double rebuildDeletionRatio) {
+        this(urlRepository, creationBus, meterRegistry, expectedInsertions, falsePositiveProbability, refreshInterval,
+                refreshGrace, rebuildDeletionRatio, Clock.systemUTC());
+    }
+
+    BloomShortCodeFilter(UrlRepository urlRepository, CreationBus creationBus, MeterRegistry meterRegistry,
+                         long expectedInsertions, double falsePositiveProbability, Duration refreshInterval,
+                         Duration refreshGrace, double rebuildDeletionRatio, Clock clock) {
+        this.urlRepository = urlRepository;
+        this.creationBus = creationBus;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.refreshInterval = refreshInterval;
+        this.refreshGrace = refreshGrace;
+        this.rebuildDeletionRatio = rebuildDeletionRatio;
+        this.clock = clock;
+        this.rejections = Counter.builder("short.code.filter.rejections")
+                .description("Redirect lookups answered as not found without querying the database")
+                .register(meterRegistry);
+        registerGauge(meterRegistry, "short.code.filter.false.positive.rate", null,
+                "Estimated probability that an unknown short code passes the filter",
+                ScalableBloomFilter::expectedFalsePositiveRate);
+        registerGauge(meterRegistry, "short.code.filter.memory", BaseUnits.BYTES,
+                "Memory held by the filter bit arrays",
+                current -> current.sizeInBytes());
+        registerGauge(meterRegistry, "short.code.filter.codes", null,
+                "Approximate number of short codes in the filter",
+                current -> current.approximateElementCount());
+        creationBus.subscribe(this::put);
+    }
+
+    @PostConstruct
+    void start() {
+        long intervalMillis = refreshInterval.toMillis();
+        scheduler.execute(this::refreshQuietly);
+        scheduler.scheduleWithFixedDelay(this::refreshQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        scheduler.shutdownNow();
+    }
+
+    @Override
+    public boolean mightContain(String shortCode) {
+        ScalableBloomFilter current = filter;
+        if (current == null || current.mightContain(shortCode) || !complete) {
+            return true;
+        }
+        rejections.increment();
+        return false;
+    }
+
+    @Override
+    public void add(String shortCode) {
+        put(shortCode);
+        creationBus.publish(shortCode);
+    }
+
+    @Override
+    public void remove(String shortCode) {
+        ScalableBloomFilter current = filter;
+        if (current == null) {
+            return;
+        }
+        long deletions = deletionsSinceRebuild.incrementAndGet();
+        if (deletions > rebuildDeletionRatio * Math.max(1, current.approximateElementCount())
+                && rebuildRequested.compareAndSet(false, true)
+                && !scheduler.isShutdown()) {
+            scheduler.execute(this::refreshQuietly);
+        }
+    }
+
+    void refresh() {
+        ScalableBloomFilter current = filter;
+        if (current == null || rebuildRequested.get()) {
+            rebuild();
+            return;
+        }
+        boolean coversRebuild = !clock.instant().isBefore(completeAfter);
+        LocalDateTime insertedSince = highestSeenInsertedAt != null
+                ? highestSeenInsertedAt.minus(refreshGrace)
+                : null;
+        urlRepository.forEachShortCodeInsertedSince(insertedSince, (shortCode, insertedAt) -> {
+            current.put(shortCode);
+            highestSeenInsertedAt = latest(highestSeenInsertedAt, insertedAt);
+        });
+        if (coversRebuild) {
+            complete = true;
+        }
+    }
+
+    boolean isLoaded() {
+        return filter != null;
+    }
+
+    boolean isComplete() {
+        return complete;
+    }
+
+    private void rebuild() {
+        synchronized (writeLock) {
+            if (addedDuringRebuild == null) {
+                addedDuringRebuild = new ArrayList<>();
+            }
+        }
+        rebuildRequested.set(false);
+        long deletionsBeforeScan = deletionsSinceRebuild.get();
+        Instant scanStartedAt = clock.instant();
+        ScalableBloomFilter rebuilt = new ScalableBloomFilter(expectedInsertions, falsePositiveProbability);
+        LocalDateTime[] highestInsertedAt = {null};
+        urlRepository.forEachShortCodeInsertedSince(null, (shortCode, insertedAt) -> {
+            rebuilt.put(shortCode);
+            highestInsertedAt[0] = latest(highestInsertedAt[0], insertedAt);
+        });
+        synchronized (writeLock) {
+            addedDuringRebuild.forEach(rebuilt::put);
+            addedDuringRebuild = null;
+            complete = false;
+            filter = rebuilt;
+        }
+        highestSeenInsertedAt = highestInsertedAt[0];
+        completeAfter = scanStartedAt.plus(refreshGrace);
+        deletionsSinceRebuild.addAndGet(-deletionsBeforeScan);
+        log.info("Short code filter rebuilt with {} codes ({} bytes)",
+                rebuilt.approximateElementCount(), rebuilt.sizeInBytes());
+    }
+
+    private void put(String shortCode) {
+        synchronized (writeLock) {
+            ScalableBloomFilter current = filter;
+            if (current != null) {
+                current.put(shortCode);
+            }
+            if (addedDuringRebuild != null) {
+                addedDuringRebuild.add(shortCode);
+            }
+        }
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (RuntimeException ex) {
+            log.warn("Failed to refresh short code filter, retrying on next interval", ex);
+        }
+    }
+
+    private static LocalDateTime latest(LocalDateTime current, LocalDateTime candidate) {
+        return current == null || candidate.isAfter(current) ? candidate : current;
+    }
+
+    private void registerGauge(MeterRegistry meterRegistry, String name, String baseUnit, String description,
+                               ToDoubleFunction<ScalableBloomFilter> value) {
+        Gauge.builder(name, this, self -> {
+                    ScalableBloomFilter current = self.filter;
+                    return current != null ? value.applyAsDouble(current) : 0.0;
+                })
+                .baseUnit(baseUnit)
+                .description(description)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,23 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.filter;
+
+import dev.ivanhernandez.urlshortener.application.port.output.ShortCodeFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "app.short-code-filter.enabled", havingValue = "false")
+public class PassThroughShortCodeFilter implements ShortCodeFilter {
+
+    @Override
+    public boolean mightContain(String shortCode) {
+        return true;
+    }
+
+    @Override
+    public void add(String shortCode) {
+    }
+
+    @Override
+    public void remove(String shortCode) {
+    }
+}
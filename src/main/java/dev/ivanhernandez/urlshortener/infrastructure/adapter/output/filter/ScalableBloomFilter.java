@@ -0,0 +1,155 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.filter;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+final class ScalableBloomFilter {
+
+    private static final double TIGHTENING_RATIO = 0.5;
+    private static final int GROWTH_FACTOR = 2;
+    private static final double LN2 = Math.log(2);
+
+    private volatile Stage[] stages;
+
+    ScalableBloomFilter(long initialCapacity, double falsePositiveProbability) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Initial capacity must be positive");
+        }
+        if (falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+            throw new IllegalArgumentException("False positive probability must be between 0 and 1");
+        }
+        this.stages = new Stage[]{new Stage(initialCapacity, falsePositiveProbability * (1 - TIGHTENING_RATIO))};
+    }
+
+    boolean mightContain(String value) {
+        long hash = hash(value);
+        long secondHash = secondHash(hash);
+        for (Stage stage : stages) {
+            if (stage.mightContain(hash, secondHash)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    synchronized void put(String value) {
+        long hash = hash(value);
+        long secondHash = secondHash(hash);
+        Stage[] current = stages;
+        for (Stage stage : current) {
+            if (stage.mightContain(hash, secondHash)) {
+                return;
+            }
+        }
+        Stage last = current[current.length - 1];
+        if (last.insertions() >= last.capacity) {
+            last = new Stage(last.capacity * GROWTH_FACTOR, last.falsePositiveProbability * TIGHTENING_RATIO);
+            Stage[] grown = new Stage[current.length + 1];
+            System.arraycopy(current, 0, grown, 0, current.length);
+            grown[current.length] = last;
+            stages = grown;
+        }
+        last.put(hash, secondHash);
+    }
+
+    long approximateElementCount() {
+        long count = 0;
+        for (Stage stage : stages) {
+            count += stage.insertions();
+        }
+        return count;
+    }
+
+    double expectedFalsePositiveRate() {
+        double allNegative = 1.0;
+        for (Stage stage : stages) {
+            allNegative *= 1.0 - stage.expectedFalsePositiveRate();
+        }
+        return 1.0 - allNegative;
+    }
+
+    long sizeInBytes() {
+        long bytes = 0;
+        for (Stage stage : stages) {
+            bytes += stage.sizeInBytes();
+        }
+        return bytes;
+    }
+
+    int stageCount() {
+        return stages.length;
+    }
+
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L ^ value.length();
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    private static long secondHash(long hash) {
+        return mix(hash ^ 0x9e3779b97f4a7c15L) | 1L;
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+        value = (value ^ (value >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return value ^ (value >>> 33);
+    }
+
+    private static final class Stage {
+
+        private final long capacity;
+        private final double falsePositiveProbability;
+        private final long bitCount;
+        private final int hashFunctions;
+        private final AtomicLongArray words;
+        private final AtomicLong insertions = new AtomicLong();
+
+        Stage(long capacity, double falsePositiveProbability) {
+            long requiredBits = (long) Math.ceil(-capacity * Math.log(falsePositiveProbability) / (LN2 * LN2));
+            int wordCount = Math.toIntExact(Math.max(1, (requiredBits + Long.SIZE - 1) / Long.SIZE));
+            this.capacity = capacity;
+            this.falsePositiveProbability = falsePositiveProbability;
+            this.bitCount = (long) wordCount * Long.SIZE;
+            this.hashFunctions = Math.max(1, (int) Math.round((double) bitCount / capacity * LN2));
+            this.words = new AtomicLongArray(wordCount);
+        }
+
+        boolean mightContain(long hash, long secondHash) {
+            long combined = hash;
+            for (int i = 0; i < hashFunctions; i++) {
+                long bit = Math.floorMod(combined, bitCount);
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+                combined += secondHash;
+            }
+            return true;
+        }
+
+        void put(long hash, long secondHash) {
+            long combined = hash;
+            for (int i = 0; i < hashFunctions; i++) {
+                long bit = Math.floorMod(combined, bitCount);
+                words.getAndAccumulate((int) (bit >>> 6), 1L << bit, (word, mask) -> word | mask);
+                combined += secondHash;
+            }
+            insertions.incrementAndGet();
+        }
+
+        long insertions() {
+            return insertions.get();
+        }
+
+        double expectedFalsePositiveRate() {
+            double unsetProbability = Math.exp(-(double) hashFunctions * insertions.get() / bitCount);
+            return Math.pow(1.0 - unsetProbability, hashFunctions);
+        }
+
+        long sizeInBytes() {
+            return (long) words.length() * Long.BYTES;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.hotlinks;
+
+import dev.ivanhernandez.urlshortener.application.port.output.RedirectCache;
+import dev.ivanhernandez.urlshortener.domain.model.HeavyHitter;
+import dev.ivanhernandez.urlshortener.domain.model.RedirectTarget;
+import dev.ivanhernandez.urlshortener.infrastructure.adapter.output.cache.CaffeineRedirectCache;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+@Primary
+public class PinnedRedirectCache implements RedirectCache {
+
+    private final CaffeineRedirectCache delegate;
+    private final ReentrantLock updateLock = new ReentrantLock();
+
+    private volatile Map<String, RedirectTarget> pinned = Map.of();
+
+    public PinnedRedirectCache(CaffeineRedirectCache delegate, SpaceSavingHeavyHitterTracker tracker,
+                               MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        tracker.subscribe(this::repin);
+        Gauge.builder("redirect.cache.pinned", this, PinnedRedirectCache::pinnedCount)
+                .description("Heavy-hitter redirect targets pinned outside the evictable cache")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Optional<RedirectTarget> get(String shortCode) {
+        RedirectTarget target = pinned.get(shortCode);
+        if (target != null) {
+            return Optional.of(target);
+        }
+        return delegate.get(shortCode);
+    }
+
+    @Override
+    public void put(RedirectTarget target) {
+        delegate.put(target);
+    }
+
+    @Override
+    public void evict(String shortCode) {
+        delegate.evict(shortCode);
+        updateLock.lock();
+        try {
+            Map<String, RedirectTarget> current = pinned;
+            if (current.containsKey(shortCode)) {
+                Map<String, RedirectTarget> next = new HashMap<>(current);
+                next.remove(shortCode);
+                pinned = Map.copyOf(next);
+            }
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    void repin(List<HeavyHitter> hitters) {
+        updateLock.lock();
+        try {
+            Map<String, RedirectTarget> current = pinned;
+            Map<String, RedirectTarget> next = new HashMap<>();
+            for (HeavyHitter hitter : hitters) {
+                if (!hitter.pinned()) {
+                    continue;
+                }
+                RedirectTarget target = delegate.get(hitter.shortCode()).orElse(current.get(hitter.shortCode()));
+                if (target != null && !target.isExpired()) {
+                    next.put(hitter.shortCode(), target);
+                }
+            }
+            pinned = Map.copyOf(next);
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    int pinnedCount() {
+        return pinned.size();
+    }
+}
@@ -0,0 +1,131 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.hotlinks;
+
+import dev.ivanhernandez.urlshortener.application.port.output.HeavyHitterTracker;
+import dev.ivanhernandez.urlshortener.domain.model.HeavyHitter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+@Component
+public class SpaceSavingHeavyHitterTracker implements HeavyHitterTracker {
+
+    private static final Logger log = LoggerFactory.getLogger(SpaceSavingHeavyHitterTracker.class);
+
+    private final SpaceSavingSketch sketch;
+    private final int capacity;
+    private final Duration window;
+    private final int pinnedSize;
+    private final double pinnedMinRate;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder totalSkipped = new LongAdder();
+    private final List<Consumer<List<HeavyHitter>>> listeners = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("heavy-hitter-rotator").daemon().factory());
+
+    private long recorded;
+    private volatile List<HeavyHitter> snapshot = List.of();
+
+    public SpaceSavingHeavyHitterTracker(
+            MeterRegistry meterRegistry,
+            @Value("${app.hot-links.capacity:256}") int capacity,
+            @Value("${app.hot-links.window:10s}") Duration window,
+            @Value("${app.hot-links.pinned-size:32}") int pinnedSize,
+            @Value("${app.hot-links.pinned-min-rate:50}") double pinnedMinRate) {
+        this.sketch = new SpaceSavingSketch(capacity);
+        this.capacity = capacity;
+        this.window = window;
+        this.pinnedSize = pinnedSize;
+        this.pinnedMinRate = pinnedMinRate;
+        FunctionCounter.builder("hot.links.samples.skipped", totalSkipped, LongAdder::sum)
+                .description("Hits not added to the heavy-hitter sketch because it was busy")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        long windowMillis = window.toMillis();
+        scheduler.scheduleAtFixedRate(this::rotateQuietly, windowMillis, windowMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        scheduler.shutdownNow();
+    }
+
+    @Override
+    public void recordHit(String shortCode) {
+        if (!lock.tryLock()) {
+            skipped.increment();
+            totalSkipped.increment();
+            return;
+        }
+        try {
+            sketch.add(shortCode);
+            recorded++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public List<HeavyHitter> topHitters(int limit) {
+        List<HeavyHitter> current = snapshot;
+        return current.size() > limit ? current.subList(0, limit) : current;
+    }
+
+    public void subscribe(Consumer<List<HeavyHitter>> listener) {
+        listeners.add(listener);
+    }
+
+    void rotate() {
+        List<SpaceSavingSketch.Counter> counters;
+        long sampled;
+        lock.lock();
+        try {
+            counters = List.copyOf(sketch.top(capacity));
+            sampled = recorded;
+            recorded = 0;
+            sketch.clear();
+        } finally {
+            lock.unlock();
+        }
+        long missed = skipped.sumThenReset();
+        double scale = sampled == 0 ? 1 : (double) (sampled + missed) / sampled;
+        double seconds = window.toNanos() / 1_000_000_000.0;
+
+        List<HeavyHitter> hitters = new ArrayList<>(counters.size());
+        for (SpaceSavingSketch.Counter counter : counters) {
+            double rate = counter.count() * scale / seconds;
+            boolean pinned = hitters.size() < pinnedSize && rate >= pinnedMinRate;
+            hitters.add(new HeavyHitter(counter.key(), counter.count(), counter.error(), rate, pinned));
+        }
+        List<HeavyHitter> published = List.copyOf(hitters);
+        snapshot = published;
+        listeners.forEach(listener -> listener.accept(published));
+    }
+
+    private void rotateQuietly() {
+        try {
+            rotate();
+        } catch (RuntimeException ex) {
+            log.warn("Failed to rotate heavy-hitter window", ex);
+        }
+    }
+}
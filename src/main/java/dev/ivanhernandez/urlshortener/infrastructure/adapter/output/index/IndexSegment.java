@@ -0,0 +1,158 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.index;
+
+import dev.ivanhernandez.urlshortener.domain.model.RedirectTarget;
+import dev.ivanhernandez.urlshortener.domain.model.RedirectType;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+final class IndexSegment {
+
+    static final int MAGIC = 0x53434958;
+    static final int VERSION = 2;
+    static final int HEADER_BYTES = 64;
+    static final int SLOT_BYTES = 16;
+    static final int RECORD_HEADER_BYTES = 27;
+    static final byte LIVE = 0;
+    static final byte TOMBSTONE = 1;
+    static final int REDIRECT_TYPE_SHIFT = 1;
+    static final long NO_EXPIRY = Long.MIN_VALUE;
+
+    static final ValueLayout.OfShort SHORT = ValueLayout.JAVA_SHORT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    private static final RedirectType[] REDIRECT_TYPES = RedirectType.values();
+
+    static final RedirectTarget DELETED = new RedirectTarget(null, "", "", null);
+
+    private final Path path;
+    private final MemorySegment file;
+    private final long entryCount;
+    private final long slotMask;
+    private final long slotsOffset;
+    private final long highestId;
+
+    private IndexSegment(Path path, MemorySegment file) {
+        this.path = path;
+        this.file = file;
+        this.entryCount = file.get(LONG, 8);
+        this.slotMask = file.get(LONG, 16) - 1;
+        this.slotsOffset = file.get(LONG, 24);
+        this.highestId = file.get(LONG, 32);
+    }
+
+    static IndexSegment open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MemorySegment file = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), Arena.ofAuto());
+            if (file.byteSize() < HEADER_BYTES || file.get(INT, 0) != MAGIC || file.get(INT, 4) != VERSION) {
+                throw new IOException("Not a redirect index segment: " + path);
+            }
+            return new IndexSegment(path, file);
+        }
+    }
+
+    RedirectTarget find(byte[] shortCode, long hash) {
+        long slot = hash & slotMask;
+        while (true) {
+            long slotAddress = slotsOffset + slot * SLOT_BYTES;
+            long recordOffset = file.get(LONG, slotAddress + 8);
+            if (recordOffset == 0) {
+                return null;
+            }
+            if (file.get(LONG, slotAddress) == hash && shortCodeEquals(recordOffset, shortCode)) {
+                return read(recordOffset);
+            }
+            slot = (slot + 1) & slotMask;
+        }
+    }
+
+    Path path() {
+        return path;
+    }
+
+    long entryCount() {
+        return entryCount;
+    }
+
+    long highestId() {
+        return highestId;
+    }
+
+    long sizeInBytes() {
+        return file.byteSize();
+    }
+
+    static long hash(byte[] bytes) {
+        long hash = 0xcbf29ce484222325L ^ bytes.length;
+        for (byte b : bytes) {
+            hash = (hash ^ (b & 0xFF)) * 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    static long hash(MemorySegment segment, long offset, int length) {
+        long hash = 0xcbf29ce484222325L ^ length;
+        for (int i = 0; i < length; i++) {
+            hash = (hash ^ (segment.get(ValueLayout.JAVA_BYTE, offset + i) & 0xFF)) * 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+        value = (value ^ (value >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return value ^ (value >>> 33);
+    }
+
+    private boolean shortCodeEquals(long recordOffset, byte[] shortCode) {
+        int length = file.get(SHORT, recordOffset + 1) & 0xFFFF;
+        if (length != shortCode.length) {
+            return false;
+        }
+        long start = recordOffset + RECORD_HEADER_BYTES;
+        for (int i = 0; i < length; i++) {
+            if (file.get(ValueLayout.JAVA_BYTE, start + i) != shortCode[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private RedirectTarget read(long recordOffset) {
+        byte flags = file.get(ValueLayout.JAVA_BYTE, recordOffset);
+        if ((flags & TOMBSTONE) != 0) {
+            return DELETED;
+        }
+        int codeLength = file.get(SHORT, recordOffset + 1) & 0xFFFF;
+        int urlLength = file.get(INT, recordOffset + 3);
+        long urlId = file.get(LONG, recordOffset + 7);
+        long expiresAtSeconds = file.get(LONG, recordOffset + 15);
+        int expiresAtNanos = file.get(INT, recordOffset + 23);
+        long codeStart = recordOffset + RECORD_HEADER_BYTES;
+
+        return new RedirectTarget(
+                urlId,
+                readString(codeStart, codeLength),
+                readString(codeStart + codeLength, urlLength),
+                expiresAtSeconds == NO_EXPIRY
+                        ? null
+                        : LocalDateTime.ofEpochSecond(expiresAtSeconds, expiresAtNanos, ZoneOffset.UTC),
+                REDIRECT_TYPES[flags >>> REDIRECT_TYPE_SHIFT]
+        );
+    }
+
+    private String readString(long offset, int length) {
+        byte[] bytes = file.asSlice(offset, length).toArray(ValueLayout.JAVA_BYTE);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
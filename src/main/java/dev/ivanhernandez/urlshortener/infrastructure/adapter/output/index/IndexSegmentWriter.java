@@ -0,0 +1,159 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.index;
+
+import dev.ivanhernandez.urlshortener.domain.model.RedirectTarget;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static dev.ivanhernandez.urlshortener.infrastructure.adapter.output.index.IndexSegment.*;
+
+final class IndexSegmentWriter implements Closeable {
+
+    private static final int BUFFER_BYTES = 64 * 1024;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+    private long position = HEADER_BYTES;
+    private long recordCount;
+    private long highestId;
+
+    IndexSegmentWriter(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.channel.position(HEADER_BYTES);
+    }
+
+    void put(RedirectTarget target) {
+        long urlId = target.urlId() != null ? target.urlId() : 0;
+        byte flags = (byte) (LIVE | target.redirectType().ordinal() << REDIRECT_TYPE_SHIFT);
+        write(flags, target.shortCode(), urlId, target.originalUrl(), target.expiresAt());
+        highestId = Math.max(highestId, urlId);
+    }
+
+    void putTombstone(String shortCode) {
+        write(TOMBSTONE, shortCode, 0, "", null);
+    }
+
+    long recordCount() {
+        return recordCount;
+    }
+
+    void finish() throws IOException {
+        flushBuffer();
+        long slotsOffset = (position + 7) & ~7L;
+        long slotCount = Long.highestOneBit(Math.max(2, recordCount * 2) - 1) << 1;
+        long fileSize = slotsOffset + slotCount * SLOT_BYTES;
+        channel.write(ByteBuffer.allocate(1), fileSize - 1);
+
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment file = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize, arena);
+            long entryCount = buildSlots(file, slotsOffset, slotCount - 1);
+            file.set(INT, 0, MAGIC);
+            file.set(INT, 4, VERSION);
+            file.set(LONG, 8, entryCount);
+            file.set(LONG, 16, slotCount);
+            file.set(LONG, 24, slotsOffset);
+            file.set(LONG, 32, highestId);
+            file.force();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private long buildSlots(MemorySegment file, long slotsOffset, long slotMask) {
+        long entryCount = 0;
+        long offset = HEADER_BYTES;
+        while (offset < position) {
+            int codeLength = file.get(SHORT, offset + 1) & 0xFFFF;
+            int urlLength = file.get(INT, offset + 3);
+            long codeStart = offset + RECORD_HEADER_BYTES;
+            long hash = IndexSegment.hash(file, codeStart, codeLength);
+
+            long slot = hash & slotMask;
+            while (true) {
+                long slotAddress = slotsOffset + slot * SLOT_BYTES;
+                long existing = file.get(LONG, slotAddress + 8);
+                if (existing == 0) {
+                    entryCount++;
+                    file.set(LONG, slotAddress, hash);
+                    file.set(LONG, slotAddress + 8, offset);
+                    break;
+                }
+                if (file.get(LONG, slotAddress) == hash && sameShortCode(file, existing, codeStart, codeLength)) {
+                    file.set(LONG, slotAddress + 8, offset);
+                    break;
+                }
+                slot = (slot + 1) & slotMask;
+            }
+            offset = codeStart + codeLength + urlLength;
+        }
+        return entryCount;
+    }
+
+    private static boolean sameShortCode(MemorySegment file, long recordOffset, long codeStart, int codeLength) {
+        if ((file.get(SHORT, recordOffset + 1) & 0xFFFF) != codeLength) {
+            return false;
+        }
+        return MemorySegment.mismatch(file, recordOffset + RECORD_HEADER_BYTES, recordOffset + RECORD_HEADER_BYTES + codeLength,
+                file, codeStart, codeStart + codeLength) == -1;
+    }
+
+    private void write(byte flags, String shortCode, long urlId, String originalUrl, LocalDateTime expiresAt) {
+        byte[] code = shortCode.getBytes(StandardCharsets.UTF_8);
+        byte[] url = originalUrl.getBytes(StandardCharsets.UTF_8);
+        if (code.length > 0xFFFF) {
+            throw new IllegalArgumentException("Short code too long for the redirect index: " + shortCode);
+        }
+        int size = RECORD_HEADER_BYTES + code.length + url.length;
+        try {
+            if (buffer.remaining() < size) {
+                flushBuffer();
+            }
+            ByteBuffer target = size <= buffer.capacity()
+                    ? buffer
+                    : ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+            target.put(flags)
+                    .putShort((short) code.length)
+                    .putInt(url.length)
+                    .putLong(urlId)
+                    .putLong(expiresAt != null ? expiresAt.toEpochSecond(ZoneOffset.UTC) : NO_EXPIRY)
+                    .putInt(expiresAt != null ? expiresAt.getNano() : 0)
+                    .put(code)
+                    .put(url);
+            if (target != buffer) {
+                target.flip();
+                writeFully(target);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        position += size;
+        recordCount++;
+    }
+
+    private void flushBuffer() throws IOException {
+        buffer.flip();
+        writeFully(buffer);
+        buffer.clear();
+    }
+
+    private void writeFully(ByteBuffer source) throws IOException {
+        while (source.hasRemaining()) {
+            channel.write(source);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.index;
+
+import dev.ivanhernandez.urlshortener.application.port.output.UrlRepository;
+import dev.ivanhernandez.urlshortener.domain.model.AccessCountDelta;
+import dev.ivanhernandez.urlshortener.domain.model.InsertResult;
+import dev.ivanhernandez.urlshortener.domain.model.RedirectTarget;
+import dev.ivanhernandez.urlshortener.domain.model.RedirectType;
+import dev.ivanhernandez.urlshortener.domain.model.Url;
+import dev.ivanhernandez.urlshortener.infrastructure.adapter.output.persistence.JpaUrlRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+@Component
+@Primary
+@ConditionalOnProperty(name = "app.redirect-index.enabled", havingValue = "true")
+public class MappedIndexUrlRepository implements UrlRepository {
+
+    private final JpaUrlRepository delegate;
+    private final MappedRedirectIndex index;
+    private final Counter hits;
+    private final Counter fallbacks;
+
+    public MappedIndexUrlRepository(JpaUrlRepository delegate, MappedRedirectIndex index, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.index = index;
+        this.hits = Counter.builder("redirect.index.lookups").tag("result", "hit").register(meterRegistry);
+        this.fallbacks = Counter.builder("redirect.index.lookups").tag("result", "fallback").register(meterRegistry);
+    }
+
+    @Override
+    public Url save(Url url) {
+        return delegate.save(url);
+    }
+
+    @Override
+    public InsertResult insert(Url url) {
+        return delegate.insert(url);
+    }
+
+    @Override
+    public List<InsertResult> insertAll(List<Url> urls) {
+        return delegate.insertAll(urls);
+    }
+
+    @Override
+    public Optional<Url> findByShortCode(String shortCode) {
+        return delegate.findByShortCode(shortCode);
+    }
+
+    @Override
+    public Optional<RedirectTarget> findRedirectTarget(String shortCode) {
+        RedirectTarget target = index.find(shortCode);
+        if (target != null) {
+            hits.increment();
+            return Optional.of(target);
+        }
+        fallbacks.increment();
+        return delegate.findRedirectTarget(shortCode);
+    }
+
+    @Override
+    public Optional<RedirectTarget> resolveAndIncrementAccessCount(String shortCode, LocalDateTime accessedAt) {
+        return delegate.resolveAndIncrementAccessCount(shortCode, accessedAt);
+    }
+
+    @Override
+    public boolean existsByShortCode(String shortCode) {
+        return delegate.existsByShortCode(shortCode);
+    }
+
+    @Override
+    public void incrementAccessCount(String shortCode, LocalDateTime accessedAt) {
+        delegate.incrementAccessCount(shortCode, accessedAt);
+    }
+
+    @Override
+    public void incrementAccessCounts(List<AccessCountDelta> deltas) {
+        delegate.incrementAccessCounts(deltas);
+    }
+
+    @Override
+    public void deleteByShortCode(String shortCode) {
+        delegate.deleteByShortCode(shortCode);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    index.markDeleted(shortCode);
+                }
+            });
+        } else {
+            index.markDeleted(shortCode);
+        }
+    }
+
+    @Override
+    public void forEachShortCodeInsertedSince(LocalDateTime insertedSince,
+                                              BiConsumer<String, LocalDateTime> consumer) {
+        delegate.forEachShortCodeInsertedSince(insertedSince, consumer);
+    }
+
+    @Override
+    public void forEachRedirectTarget(long afterId, Consumer<RedirectTarget> consumer) {
+        delegate.forEachRedirectTarget(afterId, consumer);
+    }
+
+    @Override
+    public List<Url> findByUserId(UUID userId) {
+        return delegate.findByUserId(userId);
+    }
+
+    @Override
+    public Optional<Url> findByShortCodeAndUserId(String shortCode, UUID userId) {
+        return delegate.findByShortCodeAndUserId(shortCode, userId);
+    }
+
+    @Override
+    public Optional<Url> findByOriginalUrlHash(byte[] originalUrlHash, RedirectType redirectType) {
+        return delegate.findByOriginalUrlHash(originalUrlHash, redirectType);
+    }
+}
@@ -0,0 +1,225 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.index;
+
+import dev.ivanhernandez.urlshortener.domain.model.RedirectTarget;
+import dev.ivanhernandez.urlshortener.infrastructure.adapter.output.persistence.JpaUrlRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@Component
+@ConditionalOnProperty(name = "app.redirect-index.enabled", havingValue = "true")
+public class MappedRedirectIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(MappedRedirectIndex.class);
+    private static final String SEGMENT_SUFFIX = ".idx";
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
+    private final JpaUrlRepository source;
+    private final Path directory;
+    private final Duration refreshInterval;
+    private final Duration compactionInterval;
+    private final int maxSegments;
+    private final long refreshLookbackIds;
+    private final Set<String> pendingDeletes = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("redirect-index-maintainer").daemon().factory());
+
+    private volatile List<IndexSegment> segments = List.of();
+    private long highestSeenId;
+    private long nextSegmentNumber;
+    private long lastCompactionNanos;
+
+    public MappedRedirectIndex(
+            JpaUrlRepository source,
+            MeterRegistry meterRegistry,
+            @Value("${app.redirect-index.directory:./data/redirect-index}") Path directory,
+            @Value("${app.redirect-index.refresh-interval:1m}") Duration refreshInterval,
+            @Value("${app.redirect-index.compaction-interval:1h}") Duration compactionInterval,
+            @Value("${app.redirect-index.max-segments:8}") int maxSegments,
+            @Value("${app.redirect-index.refresh-lookback-ids:1000}") long refreshLookbackIds) {
+        this.source = source;
+        this.directory = directory;
+        this.refreshInterval = refreshInterval;
+        this.compactionInterval = compactionInterval;
+        this.maxSegments = maxSegments;
+        this.refreshLookbackIds = refreshLookbackIds;
+        Gauge.builder("redirect.index.segments", this, index -> index.segments.size())
+                .description("Memory-mapped segments currently serving redirect lookups")
+                .register(meterRegistry);
+        Gauge.builder("redirect.index.mapped", this, MappedRedirectIndex::mappedBytes)
+                .baseUnit(BaseUnits.BYTES)
+                .description("Bytes of index files mapped into memory")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        long intervalMillis = refreshInterval.toMillis();
+        scheduler.execute(this::openQuietly);
+        scheduler.scheduleWithFixedDelay(this::refreshQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        scheduler.shutdownNow();
+    }
+
+    public RedirectTarget find(String shortCode) {
+        List<IndexSegment> current = segments;
+        if (current.isEmpty() || pendingDeletes.contains(shortCode)) {
+            return null;
+        }
+        byte[] key = shortCode.getBytes(StandardCharsets.UTF_8);
+        long hash = IndexSegment.hash(key);
+        for (IndexSegment segment : current) {
+            RedirectTarget target = segment.find(key, hash);
+            if (target != null) {
+                return target == IndexSegment.DELETED ? null : target;
+            }
+        }
+        return null;
+    }
+
+    public void markDeleted(String shortCode) {
+        pendingDeletes.add(shortCode);
+    }
+
+    void open() throws IOException {
+        Files.createDirectories(directory);
+        compact();
+    }
+
+    void refresh() throws IOException {
+        List<IndexSegment> current = segments;
+        if (current.isEmpty()) {
+            open();
+        } else if (current.size() > maxSegments || System.nanoTime() - lastCompactionNanos > compactionInterval.toNanos()) {
+            compact();
+        } else {
+            appendSegment(current);
+        }
+    }
+
+    void compact() throws IOException {
+        Set<String> deletes = new HashSet<>(pendingDeletes);
+        Path path = nextSegmentPath();
+        Path temporary = temporaryPath(path);
+        try (IndexSegmentWriter writer = new IndexSegmentWriter(temporary)) {
+            source.forEachRedirectTarget(0, writer::put);
+            writer.finish();
+        }
+        IndexSegment base = publish(temporary, path, List.of());
+        pendingDeletes.removeAll(deletes);
+        highestSeenId = base.highestId();
+        lastCompactionNanos = System.nanoTime();
+        log.info("Compacted redirect index to {} entries ({} bytes)", base.entryCount(), base.sizeInBytes());
+    }
+
+    int segmentCount() {
+        return segments.size();
+    }
+
+    private void appendSegment(List<IndexSegment> current) throws IOException {
+        Set<String> deletes = new HashSet<>(pendingDeletes);
+        Path path = nextSegmentPath();
+        Path temporary = temporaryPath(path);
+        long fromId = Math.max(0, highestSeenId - refreshLookbackIds);
+        try (IndexSegmentWriter writer = new IndexSegmentWriter(temporary)) {
+            source.forEachRedirectTarget(fromId, writer::put);
+            deletes.forEach(writer::putTombstone);
+            if (writer.recordCount() == 0) {
+                Files.deleteIfExists(temporary);
+                return;
+            }
+            writer.finish();
+        }
+        IndexSegment segment = publish(temporary, path, current);
+        pendingDeletes.removeAll(deletes);
+        highestSeenId = Math.max(highestSeenId, segment.highestId());
+    }
+
+    private IndexSegment publish(Path temporary, Path path, List<IndexSegment> older) throws IOException {
+        Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        IndexSegment segment = IndexSegment.open(path);
+        List<IndexSegment> published = new ArrayList<>(older.size() + 1);
+        published.add(segment);
+        published.addAll(older);
+        segments = List.copyOf(published);
+
+        deleteUnreferenced(published);
+        return segment;
+    }
+
+    private void deleteUnreferenced(List<IndexSegment> published) throws IOException {
+        Set<Path> referenced = new HashSet<>();
+        published.forEach(segment -> referenced.add(segment.path()));
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(file -> file.getFileName().toString().endsWith(SEGMENT_SUFFIX)
+                            || file.getFileName().toString().endsWith(TEMPORARY_SUFFIX))
+                    .filter(file -> !referenced.contains(file))
+                    .forEach(file -> {
+                        try {
+                            Files.deleteIfExists(file);
+                        } catch (IOException ex) {
+                            throw new UncheckedIOException(ex);
+                        }
+                    });
+        }
+    }
+
+    private Path nextSegmentPath() {
+        return directory.resolve("segment-%019d%s".formatted(nextSegmentNumber++, SEGMENT_SUFFIX));
+    }
+
+    private static Path temporaryPath(Path path) {
+        return path.resolveSibling(path.getFileName() + TEMPORARY_SUFFIX);
+    }
+
+    private double mappedBytes() {
+        long bytes = 0;
+        for (IndexSegment segment : segments) {
+            bytes += segment.sizeInBytes();
+        }
+        return bytes;
+    }
+
+    private void openQuietly() {
+        try {
+            open();
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Failed to build redirect index, retrying on next interval", ex);
+        }
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Failed to refresh redirect index, retrying on next interval", ex);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.invalidation;
+
+import dev.ivanhernandez.urlshortener.application.port.output.CreationBus;
+import dev.ivanhernandez.urlshortener.application.port.output.UrlRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+@Component
+@ConditionalOnProperty(name = "app.invalidation.mode", havingValue = "database")
+public class DatabaseCreationBus implements CreationBus {
+
+    private static final Logger log = LoggerFactory.getLogger(DatabaseCreationBus.class);
+
+    private final UrlRepository urlRepository;
+    private final Duration pollInterval;
+    private final Duration grace;
+    private final Clock clock;
+    private final Counter received;
+    private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("creation-poller").daemon().factory());
+
+    private LocalDateTime highestSeenInsertedAt;
+
+    public DatabaseCreationBus(
+            UrlRepository urlRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.invalidation.poll-interval:500ms}") Duration pollInterval,
+            @Value("${app.invalidation.creation-grace:2s}") Duration grace) {
+        this(urlRepository, meterRegistry, pollInterval, grace, Clock.systemDefaultZone());
+    }
+
+    DatabaseCreationBus(UrlRepository urlRepository, MeterRegistry meterRegistry, Duration pollInterval,
+                        Duration grace, Clock clock) {
+        this.urlRepository = urlRepository;
+        this.pollInterval = pollInterval;
+        this.grace = grace;
+        this.clock = clock;
+        this.received = Counter.builder("short.code.creations.received")
+                .description("Short codes read from the urls table and delivered to creation listeners")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        long pollMillis = pollInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::pollQuietly, 0, pollMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        scheduler.shutdownNow();
+    }
+
+    @Override
+    public void publish(String shortCode) {
+    }
+
+    @Override
+    public void subscribe(Consumer<String> listener) {
+        listeners.add(listener);
+    }
+
+    void poll() {
+        LocalDateTime insertedSince = highestSeenInsertedAt != null
+                ? highestSeenInsertedAt.minus(grace)
+                : LocalDateTime.now(clock).minus(grace);
+        urlRepository.forEachShortCodeInsertedSince(insertedSince, (shortCode, insertedAt) -> {
+            received.increment();
+            listeners.forEach(listener -> listener.accept(shortCode));
+            if (highestSeenInsertedAt == null || insertedAt.isAfter(highestSeenInsertedAt)) {
+                highestSeenInsertedAt = insertedAt;
+            }
+        });
+        if (highestSeenInsertedAt == null) {
+            highestSeenInsertedAt = insertedSince.plus(grace);
+        }
+    }
+
+    private void pollQuietly() {
+        try {
+            poll();
+        } catch (RuntimeException ex) {
+            log.warn("Failed to poll created short codes, retrying on next interval", ex);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.invalidation;
+
+import dev.ivanhernandez.urlshortener.application.port.output.InvalidationBus;
+import dev.ivanhernandez.urlshortener.infrastructure.adapter.output.persistence.SpringDataUrlInvalidationRepository;
+import dev.ivanhernandez.urlshortener.infrastructure.adapter.output.persistence.UrlInvalidationJpaEntity;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+@Component
+@ConditionalOnProperty(name = "app.invalidation.mode", havingValue = "database")
+public class DatabaseInvalidationBus implements InvalidationBus {
+
+    private static final Logger log = LoggerFactory.getLogger(DatabaseInvalidationBus.class);
+
+    private final SpringDataUrlInvalidationRepository repository;
+    private final Duration pollInterval;
+    private final int batchSize;
+    private final long lookbackIds;
+    private final Duration retention;
+    private final Timer lag;
+    private final Counter received;
+    private final Counter coalesced;
+    private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+    private final NavigableSet<Long> recentlyDelivered = new TreeSet<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("invalidation-poller").daemon().factory());
+
+    private long startId = -1;
+    private long cursor = -1;
+
+    public DatabaseInvalidationBus(
+            SpringDataUrlInvalidationRepository repository,
+            MeterRegistry meterRegistry,
+            @Value("${app.invalidation.poll-interval:500ms}") Duration pollInterval,
+            @Value("${app.invalidation.batch-size:500}") int batchSize,
+            @Value("${app.invalidation.lookback-ids:100}") long lookbackIds,
+            @Value("${app.invalidation.retention:1h}") Duration retention) {
+        this.repository = repository;
+        this.pollInterval = pollInterval;
+        this.batchSize = batchSize;
+        this.lookbackIds = lookbackIds;
+        this.retention = retention;
+        this.lag = Timer.builder("cache.invalidation.lag")
+                .description("Time from publishing an invalidation to delivering it on this node")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.received = Counter.builder("cache.invalidation.received")
+                .description("Invalidation rows read from the change table")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("cache.invalidation.coalesced")
+                .description("Invalidation rows folded into another one for the same short code")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        long pollMillis = pollInterval.toMillis();
+        long purgeMillis = retention.toMillis();
+        scheduler.scheduleWithFixedDelay(this::pollQuietly, 0, pollMillis, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::purgeQuietly, purgeMillis, purgeMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        scheduler.shutdownNow();
+    }
+
+    @Override
+    public void publish(String shortCode) {
+        repository.save(new UrlInvalidationJpaEntity(shortCode, LocalDateTime.now()));
+    }
+
+    @Override
+    public void subscribe(Consumer<String> listener) {
+        listeners.add(listener);
+    }
+
+    void poll() {
+        if (cursor < 0) {
+            startId = repository.findMaxId();
+            cursor = startId;
+            return;
+        }
+        int fresh;
+        do {
+            fresh = pollBatch();
+        } while (fresh >= batchSize);
+    }
+
+    void purge() {
+        int purged = repository.deleteCreatedBefore(LocalDateTime.now().minus(retention));
+        if (purged > 0) {
+            log.debug("Purged {} invalidations older than {}", purged, retention);
+        }
+    }
+
+    private int pollBatch() {
+        long from = Math.max(startId, cursor - lookbackIds);
+        List<UrlInvalidationJpaEntity> rows = repository.findByIdGreaterThanOrderByIdAsc(
+                from, Limit.of((int) (batchSize + lookbackIds)));
+
+        Map<String, LocalDateTime> pending = new LinkedHashMap<>();
+        int fresh = 0;
+        long highestId = cursor;
+        for (UrlInvalidationJpaEntity row : rows) {
+            long id = row.getId();
+            if (id <= cursor && recentlyDelivered.contains(id)) {
+                continue;
+            }
+            if (id > cursor) {
+                fresh++;
+            }
+            received.increment();
+            if (pending.putIfAbsent(row.getShortCode(), row.getCreatedAt()) != null) {
+                coalesced.increment();
+            }
+            recentlyDelivered.add(id);
+            highestId = Math.max(highestId, id);
+        }
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        pending.forEach((shortCode, createdAt) -> {
+            listeners.forEach(listener -> listener.accept(shortCode));
+            Duration delay = Duration.between(createdAt, now);
+            lag.record(delay.isNegative() ? Duration.ZERO : delay);
+        });
+        cursor = highestId;
+        recentlyDelivered.headSet(cursor - lookbackIds, true).clear();
+        return fresh;
+    }
+
+    private void pollQuietly() {
+        try {
+            poll();
+        } catch (RuntimeException ex) {
+            log.warn("Failed to poll cache invalidations, retrying on next interval", ex);
+        }
+    }
+
+    private void purgeQuietly() {
+        try {
+            purge();
+        } catch (RuntimeException ex) {
+            log.warn("Failed to purge old cache invalidations", ex);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.invalidation;
+
+import dev.ivanhernandez.urlshortener.application.port.output.CreationBus;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+@Component
+@ConditionalOnProperty(name = "app.invalidation.mode", havingValue = "in-memory", matchIfMissing = true)
+public class InMemoryCreationBus implements CreationBus {
+
+    private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(String shortCode) {
+        listeners.forEach(listener -> listener.accept(shortCode));
+    }
+
+    @Override
+    public void subscribe(Consumer<String> listener) {
+        listeners.add(listener);
+    }
+}
@@ -0,0 +1,41 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.invalidation;
+
+import dev.ivanhernandez.urlshortener.application.port.output.InvalidationBus;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+@Component
+@ConditionalOnProperty(name = "app.invalidation.mode", havingValue = "in-memory", matchIfMissing = true)
+public class InMemoryInvalidationBus implements InvalidationBus {
+
+    private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(String shortCode) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    deliver(shortCode);
+                }
+            });
+        } else {
+            deliver(shortCode);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<String> listener) {
+        listeners.add(listener);
+    }
+
+    private void deliver(String shortCode) {
+        listeners.forEach(listener -> listener.accept(shortCode));
+    }
+}
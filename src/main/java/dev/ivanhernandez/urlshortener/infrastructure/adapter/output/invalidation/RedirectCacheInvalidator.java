@@ -0,0 +1,26 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.invalidation;
+
+import dev.ivanhernandez.urlshortener.application.port.output.InvalidationBus;
+import dev.ivanhernandez.urlshortener.application.port.output.RedirectCache;
+import dev.ivanhernandez.urlshortener.infrastructure.adapter.output.index.MappedRedirectIndex;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RedirectCacheInvalidator {
+
+    private final RedirectCache redirectCache;
+    private final ObjectProvider<MappedRedirectIndex> redirectIndex;
+
+    public RedirectCacheInvalidator(InvalidationBus invalidationBus, RedirectCache redirectCache,
+                                    ObjectProvider<MappedRedirectIndex> redirectIndex) {
+        this.redirectCache = redirectCache;
+        this.redirectIndex = redirectIndex;
+        invalidationBus.subscribe(this::invalidate);
+    }
+
+    void invalidate(String shortCode) {
+        redirectCache.evict(shortCode);
+        redirectIndex.ifAvailable(index -> index.markDeleted(shortCode));
+    }
+}
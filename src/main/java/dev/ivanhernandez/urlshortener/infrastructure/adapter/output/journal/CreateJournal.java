@@ -0,0 +1,107 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+final class CreateJournal implements Closeable {
+
+    private static final String FILE_NAME = "pending-creates.journal";
+
+    private final Path directory;
+    private final Path path;
+    private volatile FileChannel channel;
+
+    CreateJournal(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        this.directory = directory;
+        this.path = directory.resolve(FILE_NAME);
+        this.channel = open(path);
+    }
+
+    List<String> readLines() throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+            if (!line.isBlank()) {
+                lines.add(line);
+            }
+        }
+        return lines;
+    }
+
+    synchronized void append(byte[] record) throws IOException {
+        write(channel, record);
+    }
+
+    void sync() throws IOException {
+        FileChannel current = channel;
+        try {
+            current.force(false);
+        } catch (ClosedChannelException ex) {
+            if (current == channel) {
+                throw ex;
+            }
+        }
+    }
+
+    synchronized void rewrite(List<byte[]> records) throws IOException {
+        Path rewritten = directory.resolve(FILE_NAME + ".tmp");
+        try (FileChannel target = FileChannel.open(rewritten, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            for (byte[] record : records) {
+                write(target, record);
+            }
+            target.force(false);
+        }
+        Files.move(rewritten, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        syncDirectory();
+        FileChannel previous = channel;
+        channel = open(path);
+        previous.close();
+    }
+
+    synchronized void truncate() throws IOException {
+        channel.truncate(0);
+        channel.position(0);
+        channel.force(false);
+    }
+
+    synchronized long size() throws IOException {
+        return channel.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void syncDirectory() throws IOException {
+        try (FileChannel directoryChannel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            directoryChannel.force(true);
+        }
+    }
+
+    private static FileChannel open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        channel.position(channel.size());
+        return channel;
+    }
+
+    private static void write(FileChannel channel, byte[] record) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(record.length + 1);
+        buffer.put(record).put((byte) '\n').flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
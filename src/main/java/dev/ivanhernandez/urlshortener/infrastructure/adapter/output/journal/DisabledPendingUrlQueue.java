@@ -0,0 +1,29 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.journal;
+
+import dev.ivanhernandez.urlshortener.application.port.output.PendingUrlQueue;
+import dev.ivanhernandez.urlshortener.domain.model.RedirectTarget;
+import dev.ivanhernandez.urlshortener.domain.model.Url;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+@Component
+@ConditionalOnProperty(name = "app.async-create.enabled", havingValue = "false", matchIfMissing = true)
+public class DisabledPendingUrlQueue implements PendingUrlQueue {
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+
+    @Override
+    public void enqueue(Url url) {
+        throw new UnsupportedOperationException("Asynchronous creation is disabled");
+    }
+
+    @Override
+    public Optional<RedirectTarget> find(String shortCode) {
+        return Optional.empty();
+    }
+}
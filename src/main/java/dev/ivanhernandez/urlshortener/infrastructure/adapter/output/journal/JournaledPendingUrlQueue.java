@@ -0,0 +1,227 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.journal;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.ivanhernandez.urlshortener.application.port.output.PendingUrlQueue;
+import dev.ivanhernandez.urlshortener.application.port.output.UrlRepository;
+import dev.ivanhernandez.urlshortener.domain.model.InsertResult;
+import dev.ivanhernandez.urlshortener.domain.model.RedirectTarget;
+import dev.ivanhernandez.urlshortener.domain.model.RedirectType;
+import dev.ivanhernandez.urlshortener.domain.model.Url;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+@ConditionalOnProperty(name = "app.async-create.enabled", havingValue = "true")
+public class JournaledPendingUrlQueue implements PendingUrlQueue {
+
+    private static final Logger log = LoggerFactory.getLogger(JournaledPendingUrlQueue.class);
+
+    private final UrlRepository urlRepository;
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+    private final Duration flushInterval;
+    private final int batchSize;
+    private final ConcurrentHashMap<String, Url> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Counter persisted;
+    private final Counter conflicts;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("async-create-writer").daemon().factory());
+
+    private CreateJournal journal;
+
+    public JournaledPendingUrlQueue(
+            UrlRepository urlRepository,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${app.async-create.directory:./data/create-journal}") Path directory,
+            @Value("${app.async-create.flush-interval:50ms}") Duration flushInterval,
+            @Value("${app.async-create.batch-size:500}") int batchSize) {
+        this.urlRepository = urlRepository;
+        this.objectMapper = objectMapper;
+        this.directory = directory;
+        this.flushInterval = flushInterval;
+        this.batchSize = batchSize;
+        this.persisted = Counter.builder("url.async.create.persisted").register(meterRegistry);
+        this.conflicts = Counter.builder("url.async.create.conflicts").register(meterRegistry);
+        Gauge.builder("url.async.create.pending", pending, ConcurrentHashMap::size)
+                .description("Accepted URLs waiting to be written to the database")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() throws IOException {
+        journal = new CreateJournal(directory);
+        replay();
+        long intervalMillis = flushInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException, IOException {
+        scheduler.shutdown();
+        scheduler.awaitTermination(flushInterval.toMillis() + 5_000, TimeUnit.MILLISECONDS);
+        flushQuietly();
+        journal.close();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public void enqueue(Url url) {
+        try {
+            byte[] record = objectMapper.writeValueAsBytes(JournalEntry.from(url));
+            appendLock.lock();
+            try {
+                journal.append(record);
+                pending.put(url.getShortCode(), url);
+            } finally {
+                appendLock.unlock();
+            }
+            journal.sync();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to journal accepted URL " + url.getShortCode(), ex);
+        }
+    }
+
+    @Override
+    public Optional<RedirectTarget> find(String shortCode) {
+        Url url = pending.get(shortCode);
+        return url != null ? Optional.of(RedirectTarget.from(url)) : Optional.empty();
+    }
+
+    void flush() throws IOException {
+        flushLock.lock();
+        try {
+            List<Url> batch;
+            boolean written = false;
+            do {
+                batch = pending.values().stream().limit(batchSize).toList();
+                if (!batch.isEmpty()) {
+                    write(batch);
+                    written = true;
+                }
+            } while (batch.size() == batchSize);
+            if (written) {
+                compact();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    int pendingCount() {
+        return pending.size();
+    }
+
+    private void replay() throws IOException {
+        int replayed = 0;
+        for (String line : journal.readLines()) {
+            try {
+                Url url = objectMapper.readValue(line, JournalEntry.class).toDomain();
+                if (pending.putIfAbsent(url.getShortCode(), url) == null) {
+                    replayed++;
+                }
+            } catch (JsonProcessingException ex) {
+                log.warn("Skipping unreadable entry in create journal {}", directory, ex);
+            }
+        }
+        if (replayed > 0) {
+            log.info("Replayed {} accepted URLs from create journal {}", replayed, directory);
+        }
+    }
+
+    private void write(List<Url> batch) {
+        List<InsertResult> results = urlRepository.insertAll(batch);
+        for (int i = 0; i < batch.size(); i++) {
+            Url url = batch.get(i);
+            if (results.get(i) instanceof InsertResult.ShortCodeTaken && !isAlreadyPersisted(url)) {
+                conflicts.increment();
+                log.warn("Short code {} accepted for {} was taken before it could be persisted",
+                        url.getShortCode(), url.getOriginalUrl());
+            } else {
+                persisted.increment();
+            }
+            pending.remove(url.getShortCode(), url);
+        }
+    }
+
+    private boolean isAlreadyPersisted(Url url) {
+        return urlRepository.findByShortCode(url.getShortCode())
+                .map(existing -> existing.getOriginalUrl().equals(url.getOriginalUrl()))
+                .orElse(false);
+    }
+
+    private void compact() throws IOException {
+        appendLock.lock();
+        try {
+            if (pending.isEmpty()) {
+                journal.truncate();
+                return;
+            }
+            List<byte[]> records = new ArrayList<>(pending.size());
+            for (Url url : pending.values()) {
+                records.add(objectMapper.writeValueAsBytes(JournalEntry.from(url)));
+            }
+            journal.rewrite(records);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Failed to persist accepted URLs, retrying on next interval", ex);
+        }
+    }
+
+    private record JournalEntry(
+            String shortCode,
+            String originalUrl,
+            LocalDateTime createdAt,
+            LocalDateTime expiresAt,
+            RedirectType redirectType,
+            byte[] originalUrlHash
+    ) {
+        static JournalEntry from(Url url) {
+            return new JournalEntry(url.getShortCode(), url.getOriginalUrl(), url.getCreatedAt(),
+                    url.getExpiresAt(), url.getRedirectType(), url.getOriginalUrlHash());
+        }
+
+        Url toDomain() {
+            Url url = new Url(null, originalUrl, shortCode, null, null, createdAt, expiresAt, 0L, null,
+                    redirectType);
+            url.setOriginalUrlHash(originalUrlHash);
+            return url;
+        }
+    }
+}
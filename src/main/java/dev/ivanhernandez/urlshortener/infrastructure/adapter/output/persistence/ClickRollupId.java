@@ -0,0 +1,50 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@Embeddable
+public class ClickRollupId implements Serializable {
+
+    @Column(nullable = false)
+    private Long urlId;
+
+    @Column(nullable = false)
+    private LocalDateTime bucketStart;
+
+    public ClickRollupId() {
+    }
+
+    public ClickRollupId(Long urlId, LocalDateTime bucketStart) {
+        this.urlId = urlId;
+        this.bucketStart = bucketStart;
+    }
+
+    public Long getUrlId() {
+        return urlId;
+    }
+
+    public LocalDateTime getBucketStart() {
+        return bucketStart;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof ClickRollupId that)) {
+            return false;
+        }
+        return Objects.equals(urlId, that.urlId) && Objects.equals(bucketStart, that.bucketStart);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(urlId, bucketStart);
+    }
+}
@@ -0,0 +1,50 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+@Embeddable
+public class DailyVisitorSketchId implements Serializable {
+
+    @Column(nullable = false)
+    private Long urlId;
+
+    @Column(nullable = false)
+    private LocalDate visitDate;
+
+    public DailyVisitorSketchId() {
+    }
+
+    public DailyVisitorSketchId(Long urlId, LocalDate visitDate) {
+        this.urlId = urlId;
+        this.visitDate = visitDate;
+    }
+
+    public Long getUrlId() {
+        return urlId;
+    }
+
+    public LocalDate getVisitDate() {
+        return visitDate;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof DailyVisitorSketchId that)) {
+            return false;
+        }
+        return Objects.equals(urlId, that.urlId) && Objects.equals(visitDate, that.visitDate);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(urlId, visitDate);
+    }
+}
@@ -0,0 +1,39 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.persistence;
+
+import dev.ivanhernandez.urlshortener.domain.model.HyperLogLog;
+import jakarta.persistence.*;
+
+@Entity
+@Table(name = "url_visitors_daily")
+public class DailyVisitorSketchJpaEntity {
+
+    @EmbeddedId
+    private DailyVisitorSketchId id;
+
+    @Column(nullable = false, length = HyperLogLog.MAX_SERIALIZED_BYTES)
+    private byte[] sketch;
+
+    public DailyVisitorSketchJpaEntity() {
+    }
+
+    public DailyVisitorSketchJpaEntity(DailyVisitorSketchId id, byte[] sketch) {
+        this.id = id;
+        this.sketch = sketch;
+    }
+
+    public DailyVisitorSketchId getId() {
+        return id;
+    }
+
+    public void setId(DailyVisitorSketchId id) {
+        this.id = id;
+    }
+
+    public byte[] getSketch() {
+        return sketch;
+    }
+
+    public void setSketch(byte[] sketch) {
+        this.sketch = sketch;
+    }
+}
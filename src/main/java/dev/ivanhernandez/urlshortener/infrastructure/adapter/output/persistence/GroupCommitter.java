@@ -0,0 +1,148 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.persistence;
+
+import dev.ivanhernandez.urlshortener.domain.model.InsertResult;
+import dev.ivanhernandez.urlshortener.domain.model.Url;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+final class GroupCommitter {
+
+    private static final Logger log = LoggerFactory.getLogger(GroupCommitter.class);
+
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final Function<List<Url>, List<InsertResult>> writer;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final BlockingQueue<PendingInsert> queue = new LinkedBlockingQueue<>();
+    private final DistributionSummary batchSizes;
+    private final ExecutorService flusher = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("url-group-commit").daemon().factory());
+
+    private volatile boolean running = true;
+
+    GroupCommitter(Function<List<Url>, List<InsertResult>> writer, Duration window, int maxBatchSize,
+                   MeterRegistry meterRegistry) {
+        if (maxBatchSize < 1 || window.isNegative()) {
+            throw new IllegalArgumentException("Group commit needs a positive batch size and a non-negative window");
+        }
+        this.writer = writer;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.batchSizes = DistributionSummary.builder("url.group.commit.batch.size")
+                .description("URLs written per group commit")
+                .register(meterRegistry);
+        flusher.execute(this::run);
+    }
+
+    InsertResult submit(Url url) {
+        if (!running) {
+            return writer.apply(List.of(url)).get(0);
+        }
+        PendingInsert pending = new PendingInsert(url, new CompletableFuture<>());
+        queue.add(pending);
+        if (!running && queue.remove(pending)) {
+            return writer.apply(List.of(url)).get(0);
+        }
+        try {
+            return pending.result().get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for group commit", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Group commit failed", ex.getCause());
+        }
+    }
+
+    void stop() throws InterruptedException {
+        running = false;
+        flusher.shutdown();
+        if (!flusher.awaitTermination(5, TimeUnit.SECONDS)) {
+            log.warn("Group commit flusher did not stop in time, {} inserts still queued", queue.size());
+        }
+    }
+
+    private void run() {
+        List<PendingInsert> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingInsert first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                collect(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                queue.drainTo(batch);
+                running = false;
+            }
+            flush(batch);
+            batch.clear();
+        }
+    }
+
+    private void collect(List<PendingInsert> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + windowNanos;
+        while (batch.size() < maxBatchSize) {
+            queue.drainTo(batch, maxBatchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= maxBatchSize || remaining <= 0) {
+                return;
+            }
+            PendingInsert next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<PendingInsert> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        batchSizes.record(batch.size());
+        try {
+            List<InsertResult> results = writer.apply(batch.stream().map(PendingInsert::url).toList());
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result().complete(results.get(i));
+            }
+        } catch (RuntimeException ex) {
+            if (batch.size() == 1) {
+                batch.get(0).result().completeExceptionally(ex);
+                return;
+            }
+            log.warn("Group commit of {} URLs failed, writing them one by one", batch.size(), ex);
+            batch.forEach(this::flushAlone);
+        }
+    }
+
+    private void flushAlone(PendingInsert pending) {
+        try {
+            pending.result().complete(writer.apply(List.of(pending.url())).get(0));
+        } catch (RuntimeException ex) {
+            pending.result().completeExceptionally(ex);
+        }
+    }
+
+    private record PendingInsert(Url url, CompletableFuture<InsertResult> result) {
+    }
+}
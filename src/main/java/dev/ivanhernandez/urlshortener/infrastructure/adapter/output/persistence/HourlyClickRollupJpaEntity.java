@@ -0,0 +1,38 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.persistence;
+
+import jakarta.persistence.*;
+
+@Entity
+@Table(name = "url_clicks_hourly")
+public class HourlyClickRollupJpaEntity {
+
+    @EmbeddedId
+    private ClickRollupId id;
+
+    @Column(nullable = false)
+    private Long clicks;
+
+    public HourlyClickRollupJpaEntity() {
+    }
+
+    public HourlyClickRollupJpaEntity(ClickRollupId id, Long clicks) {
+        this.id = id;
+        this.clicks = clicks;
+    }
+
+    public ClickRollupId getId() {
+        return id;
+    }
+
+    public void setId(ClickRollupId id) {
+        this.id = id;
+    }
+
+    public Long getClicks() {
+        return clicks;
+    }
+
+    public void setClicks(Long clicks) {
+        this.clicks = clicks;
+    }
+}
@@ -0,0 +1,90 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.persistence;
+
+import dev.ivanhernandez.urlshortener.application.port.output.ClickRollupRepository;
+import dev.ivanhernandez.urlshortener.domain.model.ClickCount;
+import dev.ivanhernandez.urlshortener.domain.model.ClickGranularity;
+import dev.ivanhernandez.urlshortener.domain.model.ClickRollup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+@Repository
+public class JpaClickRollupRepository implements ClickRollupRepository {
+
+    private static final String HOURLY_TABLE = "url_clicks_hourly";
+    private static final String DAILY_TABLE = "url_clicks_daily";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JpaClickRollupRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional
+    public void addClicks(List<ClickRollup> rollups) {
+        List<ClickRollup> hourly = new ArrayList<>();
+        List<ClickRollup> daily = new ArrayList<>();
+        for (ClickRollup rollup : rollups) {
+            (rollup.granularity() == ClickGranularity.HOUR ? hourly : daily).add(rollup);
+        }
+        upsert(HOURLY_TABLE, hourly);
+        upsert(DAILY_TABLE, daily);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ClickCount> findClicks(long urlId, ClickGranularity granularity, Instant from, Instant to) {
+        return jdbcTemplate.query(
+                "SELECT bucket_start, clicks FROM " + table(granularity)
+                        + " WHERE url_id = ? AND bucket_start >= ? AND bucket_start < ? ORDER BY bucket_start",
+                (resultSet, rowNum) -> new ClickCount(
+                        resultSet.getObject("bucket_start", LocalDateTime.class).toInstant(ZoneOffset.UTC),
+                        resultSet.getLong("clicks")),
+                urlId, toUtc(from), toUtc(to));
+    }
+
+    private void upsert(String table, List<ClickRollup> rollups) {
+        if (rollups.isEmpty()) {
+            return;
+        }
+        int[][] updated = jdbcTemplate.batchUpdate(
+                "UPDATE " + table + " SET clicks = clicks + ? WHERE url_id = ? AND bucket_start = ?",
+                rollups, rollups.size(), (statement, rollup) -> {
+                    statement.setLong(1, rollup.clicks());
+                    statement.setLong(2, rollup.urlId());
+                    statement.setObject(3, toUtc(rollup.bucketStart()));
+                });
+        List<ClickRollup> missing = new ArrayList<>();
+        for (int i = 0; i < rollups.size(); i++) {
+            if (updated[0][i] == 0) {
+                missing.add(rollups.get(i));
+            }
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO " + table + " (url_id, bucket_start, clicks)"
+                        + " SELECT id, CAST(? AS TIMESTAMP), CAST(? AS BIGINT) FROM urls WHERE id = ?",
+                missing, missing.size(), (statement, rollup) -> {
+                    statement.setObject(1, toUtc(rollup.bucketStart()));
+                    statement.setLong(2, rollup.clicks());
+                    statement.setLong(3, rollup.urlId());
+                });
+    }
+
+    private static String table(ClickGranularity granularity) {
+        return granularity == ClickGranularity.HOUR ? HOURLY_TABLE : DAILY_TABLE;
+    }
+
+    private static LocalDateTime toUtc(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,27 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.persistence;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+public class JpaShortCodeBlockLeaser {
+
+    private final SpringDataShortCodeCounterRepository counterRepository;
+
+    public JpaShortCodeBlockLeaser(SpringDataShortCodeCounterRepository counterRepository) {
+        this.counterRepository = counterRepository;
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public long leaseBlock(String counterName, int blockSize) {
+        ShortCodeCounterJpaEntity counter = counterRepository.findForUpdate(counterName).orElse(null);
+        if (counter == null) {
+            counterRepository.saveAndFlush(new ShortCodeCounterJpaEntity(counterName, (long) blockSize));
+            return 0;
+        }
+        long start = counter.getNextValue();
+        counter.setNextValue(start + blockSize);
+        return start;
+    }
+}
@@ -0,0 +1,135 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.persistence;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.DatabaseMetaData;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Repository
+public class JpaShortCodeReservationStore {
+
+    private static final String INSERT_RESERVATIONS_SQL =
+            "INSERT INTO short_code_reservations (short_code, reserved_at) VALUES ";
+
+    private static final String ON_CONFLICT_RETURNING_SQL =
+            " ON CONFLICT (short_code) DO NOTHING RETURNING short_code";
+
+    private static final String MERGE_RESERVATION_SQL =
+            "MERGE INTO short_code_reservations r "
+                    + "USING (SELECT CAST(? AS VARCHAR(20)) AS short_code, CAST(? AS TIMESTAMP) AS reserved_at) c "
+                    + "ON r.short_code = c.short_code "
+                    + "WHEN NOT MATCHED THEN INSERT (short_code, reserved_at) VALUES (c.short_code, c.reserved_at)";
+
+    private static final String DELETE_RESERVATION_SQL =
+            "DELETE FROM short_code_reservations WHERE short_code = ?";
+
+    private static final String PURGE_RESERVATIONS_SQL =
+            "DELETE FROM short_code_reservations r WHERE r.reserved_at < ? "
+                    + "OR EXISTS (SELECT 1 FROM urls u WHERE u.short_code = r.short_code)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Boolean onConflictSupported;
+
+    public JpaShortCodeReservationStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Transactional
+    public List<String> reserve(Collection<String> candidates, LocalDateTime reservedAt) {
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+        Set<String> used = new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT short_code FROM urls WHERE short_code IN ("
+                        + String.join(", ", Collections.nCopies(candidates.size(), "?")) + ")",
+                String.class, candidates.toArray()));
+
+        List<String> unused = new ArrayList<>(candidates.size());
+        for (String candidate : candidates) {
+            if (used.add(candidate)) {
+                unused.add(candidate);
+            }
+        }
+        if (unused.isEmpty()) {
+            return unused;
+        }
+        Timestamp timestamp = Timestamp.valueOf(reservedAt);
+        return onConflictSupported() ? insertReturning(unused, timestamp) : merge(unused, timestamp);
+    }
+
+    @Transactional
+    public void release(Collection<String> shortCodes) {
+        if (shortCodes.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(DELETE_RESERVATION_SQL, shortCodes, shortCodes.size(),
+                (statement, shortCode) -> statement.setString(1, shortCode));
+    }
+
+    @Transactional
+    public int purge(LocalDateTime reservedBefore) {
+        return jdbcTemplate.update(PURGE_RESERVATIONS_SQL, Timestamp.valueOf(reservedBefore));
+    }
+
+    private List<String> insertReturning(List<String> shortCodes, Timestamp reservedAt) {
+        List<Object> args = new ArrayList<>(shortCodes.size() * 2);
+        for (String shortCode : shortCodes) {
+            args.add(shortCode);
+            args.add(reservedAt);
+        }
+        String sql = INSERT_RESERVATIONS_SQL
+                + String.join(", ", Collections.nCopies(shortCodes.size(), "(?, ?)"))
+                + ON_CONFLICT_RETURNING_SQL;
+        Set<String> inserted = new HashSet<>(jdbcTemplate.queryForList(sql, String.class, args.toArray()));
+        return shortCodes.stream().filter(inserted::contains).toList();
+    }
+
+    private List<String> merge(List<String> shortCodes, Timestamp reservedAt) {
+        int[][] counts = jdbcTemplate.batchUpdate(MERGE_RESERVATION_SQL, shortCodes, shortCodes.size(),
+                (statement, shortCode) -> {
+                    statement.setString(1, shortCode);
+                    statement.setTimestamp(2, reservedAt);
+                });
+        List<String> inserted = new ArrayList<>(shortCodes.size());
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count > 0) {
+                    inserted.add(shortCodes.get(index));
+                }
+                index++;
+            }
+        }
+        return inserted;
+    }
+
+    private boolean onConflictSupported() {
+        Boolean supported = onConflictSupported;
+        if (supported == null) {
+            supported = "PostgreSQL".equals(databaseProductName());
+            onConflictSupported = supported;
+        }
+        return supported;
+    }
+
+    private String databaseProductName() {
+        try {
+            String productName = JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(),
+                    DatabaseMetaData::getDatabaseProductName);
+            return productName != null ? productName : "";
+        } catch (MetaDataAccessException ex) {
+            return "";
+        }
+    }
+}
@@ -1,20 +1,121 @@
 package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.persistence;
 
 import dev.ivanhernandez.urlshortener.application.port.output.UrlRepository;
+import dev.ivanhernandez.urlshortener.domain.model.AccessCountDelta;
+import dev.ivanhernandez.urlshortener.domain.model.InsertResult;
+import dev.ivanhernandez.urlshortener.domain.model.RedirectTarget;
+import dev.ivanhernandez.urlshortener.domain.model.RedirectType;
 import dev.ivanhernandez.urlshortener.domain.model.Url;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 @Repository
 public class JpaUrlRepository implements UrlRepository {
 
+    private static final String INCREMENT_ACCESS_COUNT_SQL =
+            "UPDATE urls SET access_count = access_count + ?, last_accessed_at = ? WHERE short_code = ?";
+
+    private static final String RESOLVE_AND_COUNT_SQL =
+            "UPDATE urls SET "
+                    + "access_count = access_count + CASE WHEN expires_at IS NULL OR expires_at > ? THEN 1 ELSE 0 END, "
+                    + "last_accessed_at = CASE WHEN expires_at IS NULL OR expires_at > ? THEN ? ELSE last_accessed_at END "
+                    + "WHERE short_code = ?";
+
+    private static final String RESOLVE_AND_COUNT_RETURNING_SQL =
+            RESOLVE_AND_COUNT_SQL + " RETURNING id, short_code, original_url, expires_at, redirect_type";
+
+    private static final String RESOLVE_AND_COUNT_FINAL_TABLE_SQL =
+            "SELECT id, short_code, original_url, expires_at, redirect_type FROM FINAL TABLE (" + RESOLVE_AND_COUNT_SQL + ")";
+
+    private static final String SHORT_CODES_SQL =
+            "SELECT short_code, inserted_at FROM urls";
+
+    private static final String SHORT_CODES_INSERTED_SINCE_SQL =
+            SHORT_CODES_SQL + " WHERE inserted_at >= ?";
+
+    private static final String REDIRECT_TARGETS_AFTER_ID_SQL =
+            "SELECT id, short_code, original_url, expires_at, redirect_type FROM urls WHERE id > ? ORDER BY id";
+
+    private static final int SCAN_FETCH_SIZE = 1000;
+
+    private static final List<String> SHORT_CODE_CONSTRAINTS = List.of("uk_short_code", "urls_short_code_key");
+
+    private static final RowMapper<RedirectTarget> REDIRECT_TARGET_ROW_MAPPER = (resultSet, rowNum) -> {
+        Timestamp expiresAt = resultSet.getTimestamp("expires_at");
+        return new RedirectTarget(
+                resultSet.getLong("id"),
+                resultSet.getString("short_code"),
+                resultSet.getString("original_url"),
+                expiresAt != null ? expiresAt.toLocalDateTime() : null,
+                RedirectType.valueOf(resultSet.getString("redirect_type"))
+        );
+    };
+
     private final SpringDataUrlRepository springDataUrlRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final Counter collisions;
+    private final GroupCommitter groupCommitter;
+    private volatile ResolveStrategy resolveStrategy;
 
-    public JpaUrlRepository(SpringDataUrlRepository springDataUrlRepository) {
+    @Autowired
+    public JpaUrlRepository(
+            SpringDataUrlRepository springDataUrlRepository,
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${app.group-commit.enabled:false}") boolean groupCommitEnabled,
+            @Value("${app.group-commit.window:2ms}") Duration groupCommitWindow,
+            @Value("${app.group-commit.max-batch-size:50}") int groupCommitMaxBatchSize) {
         this.springDataUrlRepository = springDataUrlRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.collisions = Counter.builder("url.insert.collisions")
+                .tag("outcome", "rejected")
+                .description("Inserts rejected because the short code was already taken")
+                .register(meterRegistry);
+        this.groupCommitter = groupCommitEnabled
+                ? new GroupCommitter(this::insertAll, groupCommitWindow, groupCommitMaxBatchSize, meterRegistry)
+                : null;
+    }
+
+    JpaUrlRepository(SpringDataUrlRepository springDataUrlRepository, JdbcTemplate jdbcTemplate,
+                     MeterRegistry meterRegistry) {
+        this(springDataUrlRepository, jdbcTemplate, meterRegistry, false, Duration.ZERO, 1);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (groupCommitter != null) {
+            groupCommitter.stop();
+        }
     }
 
     @Override
@@ -24,22 +125,140 @@ public class JpaUrlRepository implements UrlRepository {
         return savedEntity.toDomain();
     }
 
+    @Override
+    public InsertResult insert(Url url) {
+        if (groupCommitter != null && !TransactionSynchronizationManager.isActualTransactionActive()) {
+            return groupCommitter.submit(url);
+        }
+        try {
+            return InsertResult.inserted(save(url));
+        } catch (DataIntegrityViolationException ex) {
+            if (!isShortCodeViolation(ex)) {
+                throw ex;
+            }
+            collisions.increment();
+            return InsertResult.shortCodeTaken(url.getShortCode());
+        }
+    }
+
+    @Override
+    public List<InsertResult> insertAll(List<Url> urls) {
+        if (urls.isEmpty()) {
+            return List.of();
+        }
+        Set<String> taken = new HashSet<>(springDataUrlRepository.findExistingShortCodes(
+                urls.stream().map(Url::getShortCode).toList()));
+        List<UrlJpaEntity> entities = new ArrayList<>(urls.size());
+        for (Url url : urls) {
+            if (!taken.contains(url.getShortCode())) {
+                entities.add(UrlJpaEntity.fromDomain(url));
+            }
+        }
+        collisions.increment(urls.size() - entities.size());
+
+        Map<String, Url> saved = new HashMap<>();
+        try {
+            springDataUrlRepository.saveAll(entities)
+                    .forEach(entity -> saved.put(entity.getShortCode(), entity.toDomain()));
+        } catch (DataIntegrityViolationException ex) {
+            if (!isShortCodeViolation(ex)) {
+                throw ex;
+            }
+            return insertOneByOne(urls, taken);
+        }
+
+        List<InsertResult> results = new ArrayList<>(urls.size());
+        for (Url url : urls) {
+            Url savedUrl = taken.contains(url.getShortCode()) ? null : saved.get(url.getShortCode());
+            results.add(savedUrl != null
+                    ? InsertResult.inserted(savedUrl)
+                    : InsertResult.shortCodeTaken(url.getShortCode()));
+        }
+        return results;
+    }
+
     @Override
     public Optional<Url> findByShortCode(String shortCode) {
         return springDataUrlRepository.findByShortCode(shortCode)
                 .map(UrlJpaEntity::toDomain);
     }
 
+    @Override
+    public Optional<RedirectTarget> findRedirectTarget(String shortCode) {
+        return springDataUrlRepository.findRedirectTargetByShortCode(shortCode);
+    }
+
+    @Override
+    @Transactional
+    public Optional<RedirectTarget> resolveAndIncrementAccessCount(String shortCode, LocalDateTime accessedAt) {
+        Timestamp now = Timestamp.valueOf(accessedAt);
+        return switch (resolveStrategy()) {
+            case RETURNING -> jdbcTemplate.query(RESOLVE_AND_COUNT_RETURNING_SQL,
+                    REDIRECT_TARGET_ROW_MAPPER, now, now, now, shortCode).stream().findFirst();
+            case FINAL_TABLE -> jdbcTemplate.query(RESOLVE_AND_COUNT_FINAL_TABLE_SQL,
+                    REDIRECT_TARGET_ROW_MAPPER, now, now, now, shortCode).stream().findFirst();
+            case UPDATE_THEN_SELECT -> {
+                jdbcTemplate.update(RESOLVE_AND_COUNT_SQL, now, now, now, shortCode);
+                yield springDataUrlRepository.findRedirectTargetByShortCode(shortCode);
+            }
+        };
+    }
+
     @Override
     public boolean existsByShortCode(String shortCode) {
         return springDataUrlRepository.existsByShortCode(shortCode);
     }
 
+    @Override
+    public void incrementAccessCount(String shortCode, LocalDateTime accessedAt) {
+        springDataUrlRepository.incrementAccessCount(shortCode, accessedAt);
+    }
+
+    @Override
+    @Transactional
+    public void incrementAccessCounts(List<AccessCountDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INCREMENT_ACCESS_COUNT_SQL, deltas, deltas.size(), (statement, delta) -> {
+            statement.setLong(1, delta.accesses());
+            statement.setTimestamp(2, Timestamp.valueOf(delta.lastAccessedAt()));
+            statement.setString(3, delta.shortCode());
+        });
+    }
+
     @Override
     public void deleteByShortCode(String shortCode) {
         springDataUrlRepository.deleteByShortCode(shortCode);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachShortCodeInsertedSince(LocalDateTime insertedSince,
+                                              BiConsumer<String, LocalDateTime> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    insertedSince != null ? SHORT_CODES_INSERTED_SINCE_SQL : SHORT_CODES_SQL);
+            statement.setFetchSize(SCAN_FETCH_SIZE);
+            if (insertedSince != null) {
+                statement.setTimestamp(1, Timestamp.valueOf(insertedSince));
+            }
+            return statement;
+        }, (RowCallbackHandler) resultSet -> consumer.accept(resultSet.getString("short_code"),
+                resultSet.getTimestamp("inserted_at").toLocalDateTime()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachRedirectTarget(long afterId, Consumer<RedirectTarget> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(REDIRECT_TARGETS_AFTER_ID_SQL);
+            statement.setFetchSize(SCAN_FETCH_SIZE);
+            statement.setLong(1, afterId);
+            return statement;
+        }, (RowCallbackHandler) resultSet -> consumer.accept(REDIRECT_TARGET_ROW_MAPPER.mapRow(resultSet, 0)));
+    }
+
     @Override
     public List<Url> findByUserId(UUID userId) {
         return springDataUrlRepository.findByUserId(userId).stream()
@@ -52,4 +271,69 @@ public class JpaUrlRepository implements UrlRepository {
         return springDataUrlRepository.findByShortCodeAndUserId(shortCode, userId)
                 .map(UrlJpaEntity::toDomain);
     }
+
+    @Override
+    public Optional<Url> findByOriginalUrlHash(byte[] originalUrlHash, RedirectType redirectType) {
+        return springDataUrlRepository.findFirstByOriginalUrlHashAndRedirectTypeOrderByIdAsc(
+                        originalUrlHash, redirectType)
+                .map(UrlJpaEntity::toDomain);
+    }
+
+    private List<InsertResult> insertOneByOne(List<Url> urls, Set<String> taken) {
+        List<InsertResult> results = new ArrayList<>(urls.size());
+        for (Url url : urls) {
+            results.add(taken.contains(url.getShortCode())
+                    ? InsertResult.shortCodeTaken(url.getShortCode())
+                    : insert(url));
+        }
+        return results;
+    }
+
+    private static boolean isShortCodeViolation(DataIntegrityViolationException ex) {
+        String constraintName = null;
+        for (Throwable cause = ex; cause != null && constraintName == null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                constraintName = violation.getConstraintName();
+            }
+        }
+        String detail = constraintName != null ? constraintName : ex.getMostSpecificCause().getMessage();
+        if (detail == null) {
+            return false;
+        }
+        String normalized = detail.toLowerCase(Locale.ROOT);
+        return SHORT_CODE_CONSTRAINTS.stream().anyMatch(normalized::contains);
+    }
+
+    private ResolveStrategy resolveStrategy() {
+        ResolveStrategy strategy = resolveStrategy;
+        if (strategy == null) {
+            strategy = ResolveStrategy.forDatabase(databaseProductName());
+            resolveStrategy = strategy;
+        }
+        return strategy;
+    }
+
+    private String databaseProductName() {
+        try {
+            String productName = JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(),
+                    DatabaseMetaData::getDatabaseProductName);
+            return productName != null ? productName : "";
+        } catch (MetaDataAccessException ex) {
+            return "";
+        }
+    }
+
+    private enum ResolveStrategy {
+        RETURNING,
+        FINAL_TABLE,
+        UPDATE_THEN_SELECT;
+
+        static ResolveStrategy forDatabase(String productName) {
+            return switch (productName) {
+                case "PostgreSQL" -> RETURNING;
+                case "H2" -> FINAL_TABLE;
+                default -> UPDATE_THEN_SELECT;
+            };
+        }
+    }
 }
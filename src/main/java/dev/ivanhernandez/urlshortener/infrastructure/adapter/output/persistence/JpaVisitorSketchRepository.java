@@ -0,0 +1,144 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.persistence;
+
+import dev.ivanhernandez.urlshortener.application.port.output.VisitorSketchRepository;
+import dev.ivanhernandez.urlshortener.domain.model.HyperLogLog;
+import dev.ivanhernandez.urlshortener.domain.model.VisitorSketch;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+@Repository
+public class JpaVisitorSketchRepository implements VisitorSketchRepository {
+
+    private static final RowMapper<HyperLogLog> SKETCH_MAPPER =
+            (resultSet, rowNum) -> HyperLogLog.fromBytes(resultSet.getBytes("sketch"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JpaVisitorSketchRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional
+    public void mergeSketches(List<VisitorSketch> sketches) {
+        if (sketches.isEmpty()) {
+            return;
+        }
+        Map<LocalDate, Map<Long, HyperLogLog>> daily = new TreeMap<>();
+        Map<Long, HyperLogLog> totals = new TreeMap<>();
+        for (VisitorSketch sketch : sketches) {
+            daily.computeIfAbsent(sketch.day(), day -> new TreeMap<>())
+                    .computeIfAbsent(sketch.urlId(), urlId -> new HyperLogLog())
+                    .merge(sketch.sketch());
+            totals.computeIfAbsent(sketch.urlId(), urlId -> new HyperLogLog()).merge(sketch.sketch());
+        }
+        for (Map.Entry<LocalDate, Map<Long, HyperLogLog>> day : daily.entrySet()) {
+            mergeDaily(day.getKey(), day.getValue());
+        }
+        mergeTotals(totals);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<HyperLogLog> findTotalSketch(long urlId) {
+        return jdbcTemplate.query("SELECT sketch FROM url_visitors WHERE url_id = ?", SKETCH_MAPPER, urlId)
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<HyperLogLog> findDailySketches(long urlId, LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(
+                "SELECT sketch FROM url_visitors_daily WHERE url_id = ? AND visit_date >= ? AND visit_date < ?",
+                SKETCH_MAPPER, urlId, from, to);
+    }
+
+    private void mergeDaily(LocalDate day, Map<Long, HyperLogLog> sketches) {
+        List<Object> args = new ArrayList<>(sketches.size() + 1);
+        args.add(day);
+        args.addAll(sketches.keySet());
+        Set<Long> stored = mergeStored("SELECT url_id, sketch FROM url_visitors_daily"
+                + " WHERE visit_date = ? AND url_id IN (" + placeholders(sketches.size()) + ")"
+                + " ORDER BY url_id FOR UPDATE", args, sketches);
+
+        List<Map.Entry<Long, HyperLogLog>> updates = new ArrayList<>();
+        List<Map.Entry<Long, HyperLogLog>> inserts = new ArrayList<>();
+        split(sketches, stored, updates, inserts);
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate("UPDATE url_visitors_daily SET sketch = ? WHERE url_id = ? AND visit_date = ?",
+                    updates, updates.size(), (statement, entry) -> {
+                        statement.setBytes(1, entry.getValue().toBytes());
+                        statement.setLong(2, entry.getKey());
+                        statement.setObject(3, day);
+                    });
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO url_visitors_daily (url_id, visit_date, sketch)"
+                            + " SELECT id, CAST(? AS DATE), ? FROM urls WHERE id = ?",
+                    inserts, inserts.size(), (statement, entry) -> {
+                        statement.setObject(1, day);
+                        statement.setBytes(2, entry.getValue().toBytes());
+                        statement.setLong(3, entry.getKey());
+                    });
+        }
+    }
+
+    private void mergeTotals(Map<Long, HyperLogLog> sketches) {
+        Set<Long> stored = mergeStored("SELECT url_id, sketch FROM url_visitors WHERE url_id IN ("
+                + placeholders(sketches.size()) + ") ORDER BY url_id FOR UPDATE",
+                new ArrayList<>(sketches.keySet()), sketches);
+
+        List<Map.Entry<Long, HyperLogLog>> updates = new ArrayList<>();
+        List<Map.Entry<Long, HyperLogLog>> inserts = new ArrayList<>();
+        split(sketches, stored, updates, inserts);
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate("UPDATE url_visitors SET sketch = ? WHERE url_id = ?",
+                    updates, updates.size(), (statement, entry) -> {
+                        statement.setBytes(1, entry.getValue().toBytes());
+                        statement.setLong(2, entry.getKey());
+                    });
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO url_visitors (url_id, sketch) SELECT id, ? FROM urls WHERE id = ?",
+                    inserts, inserts.size(), (statement, entry) -> {
+                        statement.setBytes(1, entry.getValue().toBytes());
+                        statement.setLong(2, entry.getKey());
+                    });
+        }
+    }
+
+    private Set<Long> mergeStored(String sql, List<Object> args, Map<Long, HyperLogLog> sketches) {
+        Set<Long> stored = new HashSet<>();
+        jdbcTemplate.query(sql, resultSet -> {
+            long urlId = resultSet.getLong("url_id");
+            sketches.get(urlId).merge(HyperLogLog.fromBytes(resultSet.getBytes("sketch")));
+            stored.add(urlId);
+        }, args.toArray());
+        return stored;
+    }
+
+    private static void split(Map<Long, HyperLogLog> sketches, Set<Long> stored,
+                              List<Map.Entry<Long, HyperLogLog>> updates,
+                              List<Map.Entry<Long, HyperLogLog>> inserts) {
+        for (Map.Entry<Long, HyperLogLog> entry : sketches.entrySet()) {
+            (stored.contains(entry.getKey()) ? updates : inserts).add(entry);
+        }
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
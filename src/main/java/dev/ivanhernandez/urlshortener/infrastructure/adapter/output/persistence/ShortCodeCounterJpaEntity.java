@@ -0,0 +1,39 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.persistence;
+
+import jakarta.persistence.*;
+
+@Entity
+@Table(name = "short_code_counters")
+public class ShortCodeCounterJpaEntity {
+
+    @Id
+    @Column(length = 32)
+    private String name;
+
+    @Column(nullable = false)
+    private Long nextValue;
+
+    public ShortCodeCounterJpaEntity() {
+    }
+
+    public ShortCodeCounterJpaEntity(String name, Long nextValue) {
+        this.name = name;
+        this.nextValue = nextValue;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Long getNextValue() {
+        return nextValue;
+    }
+
+    public void setNextValue(Long nextValue) {
+        this.nextValue = nextValue;
+    }
+}
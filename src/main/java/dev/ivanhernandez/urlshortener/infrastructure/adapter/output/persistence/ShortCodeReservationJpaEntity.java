@@ -0,0 +1,43 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.persistence;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "short_code_reservations", indexes = {
+        @Index(name = "idx_short_code_reservations_reserved_at", columnList = "reservedAt")
+})
+public class ShortCodeReservationJpaEntity {
+
+    @Id
+    @Column(length = 20)
+    private String shortCode;
+
+    @Column(nullable = false)
+    private LocalDateTime reservedAt;
+
+    public ShortCodeReservationJpaEntity() {
+    }
+
+    public ShortCodeReservationJpaEntity(String shortCode, LocalDateTime reservedAt) {
+        this.shortCode = shortCode;
+        this.reservedAt = reservedAt;
+    }
+
+    public String getShortCode() {
+        return shortCode;
+    }
+
+    public void setShortCode(String shortCode) {
+        this.shortCode = shortCode;
+    }
+
+    public LocalDateTime getReservedAt() {
+        return reservedAt;
+    }
+
+    public void setReservedAt(LocalDateTime reservedAt) {
+        this.reservedAt = reservedAt;
+    }
+}
@@ -0,0 +1,16 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.persistence;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface SpringDataShortCodeCounterRepository extends JpaRepository<ShortCodeCounterJpaEntity, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM ShortCodeCounterJpaEntity c WHERE c.name = :name")
+    Optional<ShortCodeCounterJpaEntity> findForUpdate(@Param("name") String name);
+}
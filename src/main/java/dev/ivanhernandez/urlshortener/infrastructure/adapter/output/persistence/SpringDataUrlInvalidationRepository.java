@@ -0,0 +1,24 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.persistence;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface SpringDataUrlInvalidationRepository extends JpaRepository<UrlInvalidationJpaEntity, Long> {
+
+    List<UrlInvalidationJpaEntity> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    @Query("SELECT COALESCE(MAX(i.id), 0) FROM UrlInvalidationJpaEntity i")
+    long findMaxId();
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM UrlInvalidationJpaEntity i WHERE i.createdAt < :createdBefore")
+    int deleteCreatedBefore(@Param("createdBefore") LocalDateTime createdBefore);
+}
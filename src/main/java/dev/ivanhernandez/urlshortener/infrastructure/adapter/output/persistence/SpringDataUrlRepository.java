@@ -1,7 +1,15 @@
 package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.persistence;
 
+import dev.ivanhernandez.urlshortener.domain.model.RedirectTarget;
+import dev.ivanhernandez.urlshortener.domain.model.RedirectType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -10,8 +18,24 @@ public interface SpringDataUrlRepository extends JpaRepository<UrlJpaEntity, Lon
 
     Optional<UrlJpaEntity> findByShortCode(String shortCode);
 
+    @Query("SELECT new dev.ivanhernandez.urlshortener.domain.model.RedirectTarget("
+            + "u.id, u.shortCode, u.originalUrl, u.expiresAt, u.redirectType) FROM UrlJpaEntity u WHERE u.shortCode = :shortCode")
+    Optional<RedirectTarget> findRedirectTargetByShortCode(@Param("shortCode") String shortCode);
+
     boolean existsByShortCode(String shortCode);
 
+    @Query("SELECT u.shortCode FROM UrlJpaEntity u WHERE u.shortCode IN :shortCodes")
+    List<String> findExistingShortCodes(@Param("shortCodes") Collection<String> shortCodes);
+
+    Optional<UrlJpaEntity> findFirstByOriginalUrlHashAndRedirectTypeOrderByIdAsc(
+            byte[] originalUrlHash, RedirectType redirectType);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE UrlJpaEntity u SET u.accessCount = u.accessCount + 1, u.lastAccessedAt = :accessedAt "
+            + "WHERE u.shortCode = :shortCode")
+    int incrementAccessCount(@Param("shortCode") String shortCode, @Param("accessedAt") LocalDateTime accessedAt);
+
     void deleteByShortCode(String shortCode);
 
     List<UrlJpaEntity> findByUserId(UUID userId);
@@ -0,0 +1,54 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.persistence;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "url_invalidations", indexes = {
+        @Index(name = "idx_url_invalidations_created_at", columnList = "createdAt")
+})
+public class UrlInvalidationJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 20)
+    private String shortCode;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    public UrlInvalidationJpaEntity() {
+    }
+
+    public UrlInvalidationJpaEntity(String shortCode, LocalDateTime createdAt) {
+        this.shortCode = shortCode;
+        this.createdAt = createdAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getShortCode() {
+        return shortCode;
+    }
+
+    public void setShortCode(String shortCode) {
+        this.shortCode = shortCode;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
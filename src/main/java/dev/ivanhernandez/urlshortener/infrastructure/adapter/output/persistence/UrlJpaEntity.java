@@ -1,25 +1,32 @@
 package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.persistence;
 
+import dev.ivanhernandez.urlshortener.domain.model.RedirectType;
 import dev.ivanhernandez.urlshortener.domain.model.Url;
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "urls", indexes = {
-        @Index(name = "idx_user_id", columnList = "userId")
+@Table(name = "urls", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_short_code", columnNames = "shortCode")
+}, indexes = {
+        @Index(name = "idx_user_id", columnList = "userId"),
+        @Index(name = "idx_original_url_hash", columnList = "originalUrlHash"),
+        @Index(name = "idx_inserted_at", columnList = "insertedAt")
 })
 public class UrlJpaEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "urls_seq")
+    @SequenceGenerator(name = "urls_seq", sequenceName = "urls_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 2048)
     private String originalUrl;
 
-    @Column(nullable = false, unique = true, length = 20)
+    @Column(nullable = false, length = 20)
     private String shortCode;
 
     @Column
@@ -38,6 +45,17 @@ public class UrlJpaEntity {
 
     private LocalDateTime lastAccessedAt;
 
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private RedirectType redirectType = RedirectType.TEMPORARY;
+
+    @Column(length = 16)
+    private byte[] originalUrlHash;
+
+    @ColumnDefault("CURRENT_TIMESTAMP")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private LocalDateTime insertedAt;
+
     public UrlJpaEntity() {
     }
 
@@ -113,6 +131,30 @@ public class UrlJpaEntity {
         this.lastAccessedAt = lastAccessedAt;
     }
 
+    public RedirectType getRedirectType() {
+        return redirectType;
+    }
+
+    public void setRedirectType(RedirectType redirectType) {
+        this.redirectType = redirectType;
+    }
+
+    public byte[] getOriginalUrlHash() {
+        return originalUrlHash;
+    }
+
+    public void setOriginalUrlHash(byte[] originalUrlHash) {
+        this.originalUrlHash = originalUrlHash;
+    }
+
+    public LocalDateTime getInsertedAt() {
+        return insertedAt;
+    }
+
+    public void setInsertedAt(LocalDateTime insertedAt) {
+        this.insertedAt = insertedAt;
+    }
+
     public static UrlJpaEntity fromDomain(Url url) {
         UrlJpaEntity entity = new UrlJpaEntity();
         entity.setId(url.getId());
@@ -124,11 +166,13 @@ public class UrlJpaEntity {
         entity.setExpiresAt(url.getExpiresAt());
         entity.setAccessCount(url.getAccessCount());
         entity.setLastAccessedAt(url.getLastAccessedAt());
+        entity.setRedirectType(url.getRedirectType());
+        entity.setOriginalUrlHash(url.getOriginalUrlHash());
         return entity;
     }
 
     public Url toDomain() {
-        return new Url(
+        Url url = new Url(
                 this.id,
                 this.originalUrl,
                 this.shortCode,
@@ -137,7 +181,10 @@ public class UrlJpaEntity {
                 this.createdAt,
                 this.expiresAt,
                 this.accessCount,
-                this.lastAccessedAt
+                this.lastAccessedAt,
+                this.redirectType
         );
+        url.setOriginalUrlHash(this.originalUrlHash);
+        return url;
     }
 }
@@ -0,0 +1,39 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.persistence;
+
+import dev.ivanhernandez.urlshortener.domain.model.HyperLogLog;
+import jakarta.persistence.*;
+
+@Entity
+@Table(name = "url_visitors")
+public class VisitorSketchJpaEntity {
+
+    @Id
+    private Long urlId;
+
+    @Column(nullable = false, length = HyperLogLog.MAX_SERIALIZED_BYTES)
+    private byte[] sketch;
+
+    public VisitorSketchJpaEntity() {
+    }
+
+    public VisitorSketchJpaEntity(Long urlId, byte[] sketch) {
+        this.urlId = urlId;
+        this.sketch = sketch;
+    }
+
+    public Long getUrlId() {
+        return urlId;
+    }
+
+    public void setUrlId(Long urlId) {
+        this.urlId = urlId;
+    }
+
+    public byte[] getSketch() {
+        return sketch;
+    }
+
+    public void setSketch(byte[] sketch) {
+        this.sketch = sketch;
+    }
+}
@@ -0,0 +1,14 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.rollup;
+
+import dev.ivanhernandez.urlshortener.application.port.output.ClickRollupRecorder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "app.click-rollup.enabled", havingValue = "false")
+public class DisabledClickRollupRecorder implements ClickRollupRecorder {
+
+    @Override
+    public void recordClick(long urlId) {
+    }
+}
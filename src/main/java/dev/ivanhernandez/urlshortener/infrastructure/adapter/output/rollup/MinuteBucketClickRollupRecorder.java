@@ -0,0 +1,158 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.rollup;
+
+import dev.ivanhernandez.urlshortener.application.port.output.ClickRollupRecorder;
+import dev.ivanhernandez.urlshortener.application.port.output.ClickRollupRepository;
+import dev.ivanhernandez.urlshortener.domain.model.ClickGranularity;
+import dev.ivanhernandez.urlshortener.domain.model.ClickRollup;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+@ConditionalOnProperty(name = "app.click-rollup.enabled", havingValue = "true", matchIfMissing = true)
+public class MinuteBucketClickRollupRecorder implements ClickRollupRecorder {
+
+    private static final Logger log = LoggerFactory.getLogger(MinuteBucketClickRollupRecorder.class);
+    private static final long MINUTE_MILLIS = 60_000;
+    private static final long LATE_CLICK_GRACE_MILLIS = 5_000;
+
+    private final ClickRollupRepository clickRollupRepository;
+    private final Duration flushInterval;
+    private final int batchSize;
+    private final Clock clock;
+    private final ConcurrentSkipListMap<Long, ConcurrentHashMap<Long, LongAdder>> minutes =
+            new ConcurrentSkipListMap<>();
+    private final Map<RollupKey, Long> unwritten = new HashMap<>();
+    private final LongAdder flushedRows = new LongAdder();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("click-rollup-flusher").daemon().factory());
+
+    public MinuteBucketClickRollupRecorder(
+            ClickRollupRepository clickRollupRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.click-rollup.flush-interval:15s}") Duration flushInterval,
+            @Value("${app.click-rollup.batch-size:500}") int batchSize) {
+        this(clickRollupRepository, meterRegistry, flushInterval, batchSize, Clock.systemUTC());
+    }
+
+    MinuteBucketClickRollupRecorder(ClickRollupRepository clickRollupRepository, MeterRegistry meterRegistry,
+                                    Duration flushInterval, int batchSize, Clock clock) {
+        this.clickRollupRepository = clickRollupRepository;
+        this.flushInterval = flushInterval;
+        this.batchSize = batchSize;
+        this.clock = clock;
+        Gauge.builder("click.rollup.pending.buckets", this, MinuteBucketClickRollupRecorder::pendingBuckets)
+                .description("Per-minute click buckets kept in memory until they are rolled up")
+                .register(meterRegistry);
+        FunctionCounter.builder("click.rollup.rows.flushed", flushedRows, LongAdder::sum)
+                .description("Hourly and daily rollup rows written")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        long intervalMillis = flushInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        scheduler.shutdown();
+        scheduler.awaitTermination(flushInterval.toMillis() + 5_000, TimeUnit.MILLISECONDS);
+        flush(true);
+    }
+
+    @Override
+    public void recordClick(long urlId) {
+        long minute = clock.millis() / MINUTE_MILLIS;
+        ConcurrentHashMap<Long, LongAdder> clicks = minutes.get(minute);
+        if (clicks == null) {
+            clicks = minutes.computeIfAbsent(minute, key -> new ConcurrentHashMap<>());
+        }
+        LongAdder counter = clicks.get(urlId);
+        if (counter == null) {
+            counter = clicks.computeIfAbsent(urlId, key -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    void flush(boolean includeOpenMinutes) {
+        flushLock.lock();
+        try {
+            long closedBefore = includeOpenMinutes
+                    ? Long.MAX_VALUE
+                    : (clock.millis() - LATE_CLICK_GRACE_MILLIS) / MINUTE_MILLIS;
+            Map<Long, ConcurrentHashMap<Long, LongAdder>> closedMinutes = minutes.headMap(closedBefore);
+            for (Map.Entry<Long, ConcurrentHashMap<Long, LongAdder>> minute : closedMinutes.entrySet()) {
+                minutes.remove(minute.getKey());
+                Instant minuteStart = Instant.ofEpochMilli(minute.getKey() * MINUTE_MILLIS);
+                for (Map.Entry<Long, LongAdder> clicks : minute.getValue().entrySet()) {
+                    long count = clicks.getValue().sum();
+                    for (ClickGranularity granularity : ClickGranularity.values()) {
+                        Instant bucketStart = granularity.bucketStart(minuteStart);
+                        unwritten.merge(new RollupKey(clicks.getKey(), granularity, bucketStart), count, Long::sum);
+                    }
+                }
+            }
+            writeUnwritten();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    int pendingBuckets() {
+        int buckets = 0;
+        for (ConcurrentHashMap<Long, LongAdder> clicks : minutes.values()) {
+            buckets += clicks.size();
+        }
+        return buckets;
+    }
+
+    private void writeUnwritten() {
+        List<RollupKey> keys = new ArrayList<>(unwritten.keySet());
+        for (int start = 0; start < keys.size(); start += batchSize) {
+            List<RollupKey> chunk = keys.subList(start, Math.min(keys.size(), start + batchSize));
+            List<ClickRollup> batch = new ArrayList<>(chunk.size());
+            for (RollupKey key : chunk) {
+                batch.add(new ClickRollup(key.urlId(), key.granularity(), key.bucketStart(), unwritten.get(key)));
+            }
+            clickRollupRepository.addClicks(batch);
+            chunk.forEach(unwritten::remove);
+            flushedRows.add(batch.size());
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush(false);
+        } catch (RuntimeException ex) {
+            log.warn("Failed to flush click rollups, retrying on next interval", ex);
+        }
+    }
+
+    private record RollupKey(long urlId, ClickGranularity granularity, Instant bucketStart) {
+    }
+}
@@ -0,0 +1,129 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.shortcode;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+public class AdaptiveShortCodeLength {
+
+    private static final Logger log = LoggerFactory.getLogger(AdaptiveShortCodeLength.class);
+
+    private final int maxLength;
+    private final double collisionThreshold;
+    private final double occupancyThreshold;
+    private final long window;
+    private final LongAdder issued = new LongAdder();
+    private final LongAdder collisions = new LongAdder();
+    private final Counter increases;
+
+    private volatile int length;
+    private volatile double collisionRate;
+    private volatile double occupancy;
+    private long windowIssued;
+    private long windowCollisions;
+
+    public AdaptiveShortCodeLength(
+            MeterRegistry meterRegistry,
+            @Value("${app.short-code.length}") int length,
+            @Value("${app.short-code.adaptive.max-length:10}") int maxLength,
+            @Value("${app.short-code.adaptive.collision-threshold:0.01}") double collisionThreshold,
+            @Value("${app.short-code.adaptive.occupancy-threshold:0.5}") double occupancyThreshold,
+            @Value("${app.short-code.adaptive.window:1000}") long window) {
+        Base62.capacity(length);
+        Base62.capacity(maxLength);
+        if (maxLength < length || window < 1 || collisionThreshold <= 0 || occupancyThreshold <= 0) {
+            throw new IllegalArgumentException(
+                    "Adaptive short code length needs max-length >= length, a positive window and positive thresholds");
+        }
+        this.length = length;
+        this.maxLength = maxLength;
+        this.collisionThreshold = collisionThreshold;
+        this.occupancyThreshold = occupancyThreshold;
+        this.window = window;
+        Gauge.builder("short.code.length", this, AdaptiveShortCodeLength::current)
+                .description("Length of newly generated short codes")
+                .register(meterRegistry);
+        Gauge.builder("short.code.collision.rate", this, AdaptiveShortCodeLength::collisionRate)
+                .description("Share of generated short codes already taken, over the last completed window")
+                .register(meterRegistry);
+        Gauge.builder("short.code.keyspace.occupancy", this, AdaptiveShortCodeLength::occupancy)
+                .description("Estimated share of the keyspace at the current length already in use")
+                .register(meterRegistry);
+        FunctionCounter.builder("short.code.issued", issued, LongAdder::sum)
+                .description("Short codes generated by this instance")
+                .register(meterRegistry);
+        FunctionCounter.builder("short.code.collisions", collisions, LongAdder::sum)
+                .description("Generated short codes found already taken")
+                .register(meterRegistry);
+        this.increases = Counter.builder("short.code.length.increases")
+                .description("Times this instance moved to a longer short code length")
+                .register(meterRegistry);
+    }
+
+    public int current() {
+        return length;
+    }
+
+    public int maxLength() {
+        return maxLength;
+    }
+
+    public double collisionRate() {
+        return collisionRate;
+    }
+
+    public double occupancy() {
+        return Math.max(occupancy, collisionRate);
+    }
+
+    public synchronized void record(int codeLength, long issuedCodes, long collidedCodes) {
+        issued.add(issuedCodes);
+        collisions.add(collidedCodes);
+        if (codeLength != length) {
+            return;
+        }
+        windowIssued += issuedCodes;
+        windowCollisions += collidedCodes;
+        if (windowIssued < window) {
+            return;
+        }
+        collisionRate = (double) windowCollisions / windowIssued;
+        windowIssued = 0;
+        windowCollisions = 0;
+        if (collisionRate >= collisionThreshold) {
+            grow(codeLength);
+        }
+    }
+
+    public synchronized void recordOccupancy(int codeLength, double observed) {
+        if (codeLength != length) {
+            return;
+        }
+        occupancy = observed;
+        if (observed >= occupancyThreshold) {
+            grow(codeLength);
+        }
+    }
+
+    private void grow(int from) {
+        if (from >= maxLength) {
+            return;
+        }
+        length = from + 1;
+        windowIssued = 0;
+        windowCollisions = 0;
+        increases.increment();
+        log.info("Short code length raised from {} to {} (collision rate {}, keyspace occupancy {})",
+                from, from + 1, String.format("%.4f", collisionRate), String.format("%.4f", occupancy()));
+        collisionRate = 0;
+        occupancy = 0;
+    }
+}
@@ -0,0 +1,32 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.shortcode;
+
+final class Base62 {
+
+    static final String ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
+    static final int RADIX = ALPHABET.length();
+    static final int MAX_LENGTH = 10;
+
+    private Base62() {
+    }
+
+    static long capacity(int length) {
+        if (length < 1 || length > MAX_LENGTH) {
+            throw new IllegalArgumentException("Short code length must be between 1 and " + MAX_LENGTH + ": " + length);
+        }
+        long capacity = 1;
+        for (int i = 0; i < length; i++) {
+            capacity *= RADIX;
+        }
+        return capacity;
+    }
+
+    static String encode(long value, int length) {
+        char[] chars = new char[length];
+        long remaining = value;
+        for (int i = length - 1; i >= 0; i--) {
+            chars[i] = ALPHABET.charAt((int) (remaining % RADIX));
+            remaining /= RADIX;
+        }
+        return new String(chars);
+    }
+}
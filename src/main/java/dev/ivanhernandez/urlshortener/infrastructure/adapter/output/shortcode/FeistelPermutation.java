@@ -0,0 +1,58 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.shortcode;
+
+final class FeistelPermutation {
+
+    private static final int ROUNDS = 8;
+
+    private final long domainSize;
+    private final int halfBits;
+    private final long halfMask;
+    private final long[] roundKeys = new long[ROUNDS];
+
+    FeistelPermutation(long domainSize, long key) {
+        if (domainSize < 1) {
+            throw new IllegalArgumentException("Domain size must be positive: " + domainSize);
+        }
+        int bits = 64 - Long.numberOfLeadingZeros(domainSize - 1);
+        this.domainSize = domainSize;
+        this.halfBits = (bits + 1) / 2;
+        this.halfMask = (1L << halfBits) - 1;
+        long state = key;
+        for (int i = 0; i < ROUNDS; i++) {
+            state += 0x9E3779B97F4A7C15L;
+            roundKeys[i] = mix(state);
+        }
+    }
+
+    long permute(long value) {
+        if (value < 0 || value >= domainSize) {
+            throw new IllegalArgumentException("Value outside the permutation domain: " + value);
+        }
+        long result = value;
+        do {
+            result = encrypt(result);
+        } while (result >= domainSize);
+        return result;
+    }
+
+    long domainSize() {
+        return domainSize;
+    }
+
+    private long encrypt(long value) {
+        long left = value >>> halfBits;
+        long right = value & halfMask;
+        for (long roundKey : roundKeys) {
+            long next = left ^ (mix(right ^ roundKey) & halfMask);
+            left = right;
+            right = next;
+        }
+        return (left << halfBits) | right;
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+}
@@ -0,0 +1,221 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.shortcode;
+
+import dev.ivanhernandez.urlshortener.application.port.output.ShortCodeGenerator;
+import dev.ivanhernandez.urlshortener.infrastructure.adapter.output.persistence.JpaShortCodeReservationStore;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+@ConditionalOnProperty(name = "app.short-code.generator.mode", havingValue = "pool")
+public class PooledShortCodeGenerator implements ShortCodeGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(PooledShortCodeGenerator.class);
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final JpaShortCodeReservationStore reservationStore;
+    private final AdaptiveShortCodeLength codeLength;
+    private final int depth;
+    private final int lowWatermark;
+    private final int refillBatchSize;
+    private final Duration refillInterval;
+    private final Duration purgeInterval;
+    private final Duration reservationTtl;
+    private final ConcurrentLinkedQueue<Reservation> pool = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicBoolean refillRequested = new AtomicBoolean();
+    private final LongAdder reserved = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder expired = new LongAdder();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("short-code-pool-refiller").daemon().factory());
+
+    public PooledShortCodeGenerator(
+            JpaShortCodeReservationStore reservationStore,
+            MeterRegistry meterRegistry,
+            AdaptiveShortCodeLength codeLength,
+            @Value("${app.short-code.pool.depth:10000}") int depth,
+            @Value("${app.short-code.pool.low-watermark:2000}") int lowWatermark,
+            @Value("${app.short-code.pool.refill-batch-size:500}") int refillBatchSize,
+            @Value("${app.short-code.pool.refill-interval:1s}") Duration refillInterval,
+            @Value("${app.short-code.pool.purge-interval:10m}") Duration purgeInterval,
+            @Value("${app.short-code.pool.reservation-ttl:1d}") Duration reservationTtl) {
+        if (refillBatchSize < 1 || lowWatermark < 0 || lowWatermark >= depth) {
+            throw new IllegalArgumentException(
+                    "Short code pool needs 0 <= low-watermark < depth and a positive refill batch size");
+        }
+        this.reservationStore = reservationStore;
+        this.codeLength = codeLength;
+        this.depth = depth;
+        this.lowWatermark = lowWatermark;
+        this.refillBatchSize = refillBatchSize;
+        this.refillInterval = refillInterval;
+        this.purgeInterval = purgeInterval;
+        this.reservationTtl = reservationTtl;
+        Gauge.builder("short.code.pool.size", size, AtomicInteger::get)
+                .description("Reserved short codes waiting in the pool")
+                .register(meterRegistry);
+        Gauge.builder("short.code.pool.depth", () -> depth)
+                .description("Number of reserved short codes the pool is refilled up to")
+                .register(meterRegistry);
+        Gauge.builder("short.code.pool.low.watermark", () -> lowWatermark)
+                .description("Pool size below which a refill is triggered")
+                .register(meterRegistry);
+        Gauge.builder("short.code.pool.refill.batch.size", () -> refillBatchSize)
+                .description("Short codes reserved per database round trip")
+                .register(meterRegistry);
+        FunctionCounter.builder("short.code.pool.reserved", reserved, LongAdder::sum)
+                .description("Short codes reserved by this instance")
+                .register(meterRegistry);
+        FunctionCounter.builder("short.code.pool.misses", misses, LongAdder::sum)
+                .description("Creates that found the pool empty and reserved codes inline")
+                .register(meterRegistry);
+        FunctionCounter.builder("short.code.pool.expired", expired, LongAdder::sum)
+                .description("Pooled short codes dropped because their reservation was about to expire")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        scheduler.scheduleWithFixedDelay(this::refillQuietly, 0, refillInterval.toMillis(), TimeUnit.MILLISECONDS);
+        long purgeMillis = purgeInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::purgeQuietly, purgeMillis, purgeMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        scheduler.shutdownNow();
+        scheduler.awaitTermination(5, TimeUnit.SECONDS);
+        List<String> unused = new ArrayList<>();
+        Reservation reservation;
+        while ((reservation = pool.poll()) != null) {
+            size.decrementAndGet();
+            unused.add(reservation.shortCode());
+        }
+        try {
+            reservationStore.release(unused);
+        } catch (RuntimeException ex) {
+            log.warn("Failed to release {} unused short code reservations", unused.size(), ex);
+        }
+    }
+
+    @Override
+    public String nextShortCode() {
+        while (true) {
+            Reservation reservation = pool.poll();
+            if (reservation == null) {
+                misses.increment();
+                reserveBatch(Math.min(refillBatchSize, Math.max(1, depth - size.get())));
+                continue;
+            }
+            if (size.decrementAndGet() < lowWatermark) {
+                requestRefill();
+            }
+            if (System.currentTimeMillis() - reservation.reservedAtMillis() > reservationTtl.toMillis() / 2) {
+                expired.increment();
+                continue;
+            }
+            return reservation.shortCode();
+        }
+    }
+
+    @Override
+    public void recordCollision(String shortCode) {
+        codeLength.record(shortCode.length(), 0, 1);
+    }
+
+    @Override
+    public boolean reservesCodes() {
+        return true;
+    }
+
+    void refill() {
+        refillRequested.set(false);
+        int missing;
+        while ((missing = depth - size.get()) > 0) {
+            if (reserveBatch(Math.min(refillBatchSize, missing)) == 0) {
+                return;
+            }
+        }
+    }
+
+    void purge() {
+        reservationStore.purge(LocalDateTime.now().minus(reservationTtl));
+    }
+
+    int size() {
+        return size.get();
+    }
+
+    private int reserveBatch(int count) {
+        int length = codeLength.current();
+        Set<String> candidates = new LinkedHashSet<>();
+        while (candidates.size() < count) {
+            candidates.add(randomCode(length));
+        }
+        long reservedAtMillis = System.currentTimeMillis();
+        List<String> shortCodes = reservationStore.reserve(candidates, LocalDateTime.now());
+        for (String shortCode : shortCodes) {
+            pool.offer(new Reservation(shortCode, reservedAtMillis));
+        }
+        size.addAndGet(shortCodes.size());
+        reserved.add(shortCodes.size());
+        codeLength.record(length, candidates.size(), candidates.size() - shortCodes.size());
+        return shortCodes.size();
+    }
+
+    private String randomCode(int length) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = Base62.ALPHABET.charAt(RANDOM.nextInt(Base62.RADIX));
+        }
+        return new String(chars);
+    }
+
+    private void requestRefill() {
+        if (refillRequested.compareAndSet(false, true) && !scheduler.isShutdown()) {
+            scheduler.execute(this::refillQuietly);
+        }
+    }
+
+    private void refillQuietly() {
+        try {
+            refill();
+        } catch (RuntimeException ex) {
+            log.warn("Failed to refill the short code pool, retrying on next interval", ex);
+        }
+    }
+
+    private void purgeQuietly() {
+        try {
+            purge();
+        } catch (RuntimeException ex) {
+            log.warn("Failed to purge short code reservations, retrying on next interval", ex);
+        }
+    }
+
+    private record Reservation(String shortCode, long reservedAtMillis) {
+    }
+}
@@ -0,0 +1,41 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.shortcode;
+
+import dev.ivanhernandez.urlshortener.application.port.output.ShortCodeGenerator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+
+@Component
+@ConditionalOnProperty(name = "app.short-code.generator.mode", havingValue = "random")
+public class RandomShortCodeGenerator implements ShortCodeGenerator {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final AdaptiveShortCodeLength codeLength;
+
+    public RandomShortCodeGenerator(AdaptiveShortCodeLength codeLength) {
+        this.codeLength = codeLength;
+    }
+
+    @Override
+    public String nextShortCode() {
+        int length = codeLength.current();
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(Base62.ALPHABET.charAt(RANDOM.nextInt(Base62.RADIX)));
+        }
+        codeLength.record(length, 1, 0);
+        return sb.toString();
+    }
+
+    @Override
+    public void recordCollision(String shortCode) {
+        codeLength.record(shortCode.length(), 0, 1);
+    }
+
+    @Override
+    public boolean reservesCodes() {
+        return false;
+    }
+}
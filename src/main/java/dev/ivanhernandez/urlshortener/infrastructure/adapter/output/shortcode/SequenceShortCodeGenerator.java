@@ -0,0 +1,112 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.shortcode;
+
+import dev.ivanhernandez.urlshortener.application.port.output.ShortCodeGenerator;
+import dev.ivanhernandez.urlshortener.infrastructure.adapter.output.persistence.JpaShortCodeBlockLeaser;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+@ConditionalOnProperty(name = "app.short-code.generator.mode", havingValue = "sequence", matchIfMissing = true)
+public class SequenceShortCodeGenerator implements ShortCodeGenerator {
+
+    private final JpaShortCodeBlockLeaser blockLeaser;
+    private final AdaptiveShortCodeLength codeLength;
+    private final int blockSize;
+    private final long key;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private int length;
+    private FeistelPermutation permutation;
+    private long next;
+    private long limit;
+
+    public SequenceShortCodeGenerator(
+            JpaShortCodeBlockLeaser blockLeaser,
+            AdaptiveShortCodeLength codeLength,
+            @Value("${app.short-code.generator.block-size:1000}") int blockSize,
+            @Value("${app.short-code.generator.key:}") String key) {
+        this(blockLeaser, codeLength, blockSize, parseKey(key));
+    }
+
+    SequenceShortCodeGenerator(JpaShortCodeBlockLeaser blockLeaser, AdaptiveShortCodeLength codeLength,
+                               int blockSize, long key) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Block size must be positive: " + blockSize);
+        }
+        this.blockLeaser = blockLeaser;
+        this.codeLength = codeLength;
+        this.blockSize = blockSize;
+        this.key = key;
+    }
+
+    @Override
+    public String nextShortCode() {
+        lock.lock();
+        try {
+            while (true) {
+                if (length != codeLength.current()) {
+                    switchTo(codeLength.current());
+                }
+                if (next >= limit) {
+                    next = leaseBlock();
+                    limit = next + blockSize;
+                    codeLength.recordOccupancy(length, Math.min(1.0, (double) limit / permutation.domainSize()));
+                }
+                long id = next++;
+                if (id < permutation.domainSize()) {
+                    codeLength.record(length, 1, 0);
+                    return Base62.encode(permutation.permute(id), length);
+                }
+                if (length >= codeLength.maxLength()) {
+                    throw new IllegalStateException("All short codes of length " + length + " have been issued");
+                }
+                codeLength.recordOccupancy(length, 1.0);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void recordCollision(String shortCode) {
+        codeLength.record(shortCode.length(), 0, 1);
+    }
+
+    @Override
+    public boolean reservesCodes() {
+        return true;
+    }
+
+    static long parseKey(String key) {
+        if (key == null || key.isBlank()) {
+            throw new IllegalStateException(
+                    "app.short-code.generator.key (APP_SHORT_CODE_KEY) must be set to a secret 64-bit integer");
+        }
+        try {
+            return Long.parseLong(key.strip());
+        } catch (NumberFormatException ex) {
+            throw new IllegalStateException(
+                    "app.short-code.generator.key (APP_SHORT_CODE_KEY) must be a 64-bit integer", ex);
+        }
+    }
+
+    private void switchTo(int newLength) {
+        length = newLength;
+        permutation = new FeistelPermutation(Base62.capacity(newLength), key);
+        next = 0;
+        limit = 0;
+    }
+
+    private long leaseBlock() {
+        String counterName = "short-code-length-" + length;
+        try {
+            return blockLeaser.leaseBlock(counterName, blockSize);
+        } catch (DataIntegrityViolationException ex) {
+            return blockLeaser.leaseBlock(counterName, blockSize);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.visitors;
+
+import dev.ivanhernandez.urlshortener.application.port.output.UniqueVisitorRecorder;
+import dev.ivanhernandez.urlshortener.domain.model.ClickContext;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "app.unique-visitors.enabled", havingValue = "false")
+public class DisabledUniqueVisitorRecorder implements UniqueVisitorRecorder {
+
+    @Override
+    public void recordVisit(long urlId, ClickContext clickContext) {
+    }
+}
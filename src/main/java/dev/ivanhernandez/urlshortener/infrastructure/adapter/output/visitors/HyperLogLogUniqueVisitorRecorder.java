@@ -0,0 +1,202 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.visitors;
+
+import dev.ivanhernandez.urlshortener.application.port.output.UniqueVisitorRecorder;
+import dev.ivanhernandez.urlshortener.application.port.output.VisitorSketchRepository;
+import dev.ivanhernandez.urlshortener.domain.model.ClickContext;
+import dev.ivanhernandez.urlshortener.domain.model.HyperLogLog;
+import dev.ivanhernandez.urlshortener.domain.model.VisitorSketch;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+@ConditionalOnProperty(name = "app.unique-visitors.enabled", havingValue = "true", matchIfMissing = true)
+public class HyperLogLogUniqueVisitorRecorder implements UniqueVisitorRecorder {
+
+    private static final Logger log = LoggerFactory.getLogger(HyperLogLogUniqueVisitorRecorder.class);
+    private static final long DAY_MILLIS = 86_400_000;
+
+    private final VisitorSketchRepository visitorSketchRepository;
+    private final Duration flushInterval;
+    private final int batchSize;
+    private final int maxPendingKeys;
+    private final Clock clock;
+    private final ConcurrentHashMap<SketchKey, HyperLogLog> pending = new ConcurrentHashMap<>();
+    private final Map<SketchKey, HyperLogLog> unwritten = new HashMap<>();
+    private final LongAdder flushedSketches = new LongAdder();
+    private final LongAdder droppedSketches = new LongAdder();
+    private final AtomicBoolean earlyFlushRequested = new AtomicBoolean();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("unique-visitor-flusher").daemon().factory());
+
+    public HyperLogLogUniqueVisitorRecorder(
+            VisitorSketchRepository visitorSketchRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.unique-visitors.flush-interval:30s}") Duration flushInterval,
+            @Value("${app.unique-visitors.batch-size:200}") int batchSize,
+            @Value("${app.unique-visitors.max-pending-keys:50000}") int maxPendingKeys) {
+        this(visitorSketchRepository, meterRegistry, flushInterval, batchSize, maxPendingKeys, Clock.systemUTC());
+    }
+
+    HyperLogLogUniqueVisitorRecorder(VisitorSketchRepository visitorSketchRepository, MeterRegistry meterRegistry,
+                                     Duration flushInterval, int batchSize, int maxPendingKeys, Clock clock) {
+        this.visitorSketchRepository = visitorSketchRepository;
+        this.flushInterval = flushInterval;
+        this.batchSize = batchSize;
+        this.maxPendingKeys = maxPendingKeys;
+        this.clock = clock;
+        Gauge.builder("unique.visitors.pending.sketches", pending, Map::size)
+                .description("Per-link daily visitor sketches kept in memory until they are merged")
+                .register(meterRegistry);
+        FunctionCounter.builder("unique.visitors.sketches.flushed", flushedSketches, LongAdder::sum)
+                .description("Visitor sketches merged into the database")
+                .register(meterRegistry);
+        FunctionCounter.builder("unique.visitors.sketches.dropped", droppedSketches, LongAdder::sum)
+                .description("Visitor sketches discarded because too many were waiting to be merged")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        long intervalMillis = flushInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        scheduler.shutdown();
+        scheduler.awaitTermination(flushInterval.toMillis() + 5_000, TimeUnit.MILLISECONDS);
+        flush();
+    }
+
+    @Override
+    public void recordVisit(long urlId, ClickContext clickContext) {
+        if (clickContext.clientAddress() == null && clickContext.userAgent() == null) {
+            return;
+        }
+        long fingerprint = fingerprint(clickContext.clientAddress(), clickContext.userAgent());
+        SketchKey key = new SketchKey(urlId, Math.floorDiv(clock.millis(), DAY_MILLIS));
+        HyperLogLog sketch = pending.get(key);
+        if (sketch == null) {
+            sketch = pending.computeIfAbsent(key, ignored -> new HyperLogLog());
+            if (pending.size() >= maxPendingKeys) {
+                requestEarlyFlush();
+            }
+        }
+        if (sketch.add(fingerprint) && pending.get(key) != sketch) {
+            pending.merge(key, sketch, HyperLogLogUniqueVisitorRecorder::union);
+        }
+    }
+
+    void flush() {
+        flushLock.lock();
+        try {
+            earlyFlushRequested.set(false);
+            int dropped = 0;
+            for (SketchKey key : pending.keySet()) {
+                HyperLogLog sketch = pending.remove(key);
+                if (sketch == null) {
+                    continue;
+                }
+                if (unwritten.size() >= maxPendingKeys && !unwritten.containsKey(key)) {
+                    dropped++;
+                } else {
+                    unwritten.merge(key, sketch, HyperLogLogUniqueVisitorRecorder::union);
+                }
+            }
+            if (dropped > 0) {
+                droppedSketches.add(dropped);
+                log.warn("Dropped {} visitor sketches, {} are still waiting to be merged", dropped, unwritten.size());
+            }
+            writeUnwritten();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    int pendingSketches() {
+        return pending.size() + unwritten.size();
+    }
+
+    static long fingerprint(String clientAddress, String userAgent) {
+        long hash = fnv(0xcbf29ce484222325L, clientAddress);
+        hash = (hash ^ '\n') * 0x100000001b3L;
+        return mix(fnv(hash, userAgent));
+    }
+
+    private void writeUnwritten() {
+        List<SketchKey> keys = new ArrayList<>(unwritten.keySet());
+        for (int start = 0; start < keys.size(); start += batchSize) {
+            List<SketchKey> chunk = keys.subList(start, Math.min(keys.size(), start + batchSize));
+            List<VisitorSketch> batch = new ArrayList<>(chunk.size());
+            for (SketchKey key : chunk) {
+                batch.add(new VisitorSketch(key.urlId(), LocalDate.ofEpochDay(key.epochDay()), unwritten.get(key)));
+            }
+            visitorSketchRepository.mergeSketches(batch);
+            chunk.forEach(unwritten::remove);
+            flushedSketches.add(batch.size());
+        }
+    }
+
+    private void requestEarlyFlush() {
+        if (earlyFlushRequested.compareAndSet(false, true) && !scheduler.isShutdown()) {
+            scheduler.execute(this::flushQuietly);
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException ex) {
+            log.warn("Failed to merge visitor sketches, retrying on next interval", ex);
+        }
+    }
+
+    private static HyperLogLog union(HyperLogLog existing, HyperLogLog other) {
+        if (existing != other) {
+            existing.merge(other);
+        }
+        return existing;
+    }
+
+    private static long fnv(long hash, String value) {
+        if (value != null) {
+            for (int i = 0; i < value.length(); i++) {
+                hash = (hash ^ value.charAt(i)) * 0x100000001b3L;
+            }
+        }
+        return hash;
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+        value = (value ^ (value >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return value ^ (value >>> 33);
+    }
+
+    private record SketchKey(long urlId, long epochDay) {
+    }
+}
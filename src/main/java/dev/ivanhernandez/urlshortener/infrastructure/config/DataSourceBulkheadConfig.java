@@ -0,0 +1,74 @@
+package dev.ivanhernandez.urlshortener.infrastructure.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import dev.ivanhernandez.urlshortener.infrastructure.adapter.output.persistence.BulkheadDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.bulkhead.enabled", havingValue = "true", matchIfMissing = true)
+public class DataSourceBulkheadConfig {
+
+    private static final int DEFAULT_POOL_SIZE = 10;
+
+    @Bean
+    static BeanPostProcessor dataSourceBulkheadPostProcessor(
+            @Value("${app.datasource.bulkhead.max-concurrent:0}") int maxConcurrent,
+            @Value("${app.datasource.bulkhead.acquire-timeout:2s}") Duration acquireTimeout) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof BulkheadDataSource)) {
+                    int permits = maxConcurrent > 0 ? maxConcurrent : poolSizeOf(dataSource);
+                    return new BulkheadDataSource(dataSource, permits, acquireTimeout);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    MeterBinder dataSourceBulkheadMetrics(DataSource dataSource) {
+        return registry -> {
+            BulkheadDataSource bulkhead = unwrapBulkhead(dataSource);
+            if (bulkhead == null) {
+                return;
+            }
+            Gauge.builder("datasource.bulkhead.permits.available", bulkhead, BulkheadDataSource::availablePermits)
+                    .description("Database connection permits not currently held")
+                    .register(registry);
+            Gauge.builder("datasource.bulkhead.permits.max", bulkhead, BulkheadDataSource::maxConcurrent)
+                    .description("Maximum concurrent database connections allowed by the bulkhead")
+                    .register(registry);
+            Gauge.builder("datasource.bulkhead.waiting", bulkhead, BulkheadDataSource::waitingThreads)
+                    .description("Threads waiting for a database connection permit")
+                    .register(registry);
+        };
+    }
+
+    private static int poolSizeOf(DataSource dataSource) {
+        if (dataSource instanceof HikariDataSource hikari && hikari.getMaximumPoolSize() > 0) {
+            return hikari.getMaximumPoolSize();
+        }
+        return DEFAULT_POOL_SIZE;
+    }
+
+    private static BulkheadDataSource unwrapBulkhead(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(BulkheadDataSource.class)
+                    ? dataSource.unwrap(BulkheadDataSource.class)
+                    : null;
+        } catch (SQLException ex) {
+            return null;
+        }
+    }
+}
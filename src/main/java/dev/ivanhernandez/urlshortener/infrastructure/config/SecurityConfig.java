@@ -28,6 +28,8 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         // Public endpoints - URL creation, deletion and redirect
                         .requestMatchers(HttpMethod.POST, "/api/v1/urls").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/api/v1/urls/batch").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/v1/urls/aliases/*/availability").permitAll()
                         .requestMatchers(HttpMethod.DELETE, "/api/v1/urls/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/r/**").permitAll()
                         // Public - API docs
@@ -37,8 +39,12 @@ public class SecurityConfig {
                                 "/v3/api-docs/**",
                                 "/h2-console/**"
                         ).permitAll()
+                        // Public - health probe
+                        .requestMatchers(HttpMethod.GET, "/actuator/health").permitAll()
                         // Protected - user's own URLs
                         .requestMatchers("/api/v1/my-urls/**").authenticated()
+                        // Admin only - traffic across all tenants
+                        .requestMatchers("/api/v1/hot-links/**").hasRole("ADMIN")
                         // Everything else requires auth
                         .anyRequest().authenticated()
                 )
@@ -1,5 +1,7 @@
+CREATE SEQUENCE IF NOT EXISTS urls_seq INCREMENT BY 50;
+
 CREATE TABLE IF NOT EXISTS urls (
-    id               BIGSERIAL PRIMARY KEY,
+    id               BIGINT PRIMARY KEY DEFAULT nextval('urls_seq'),
     original_url     VARCHAR(2048) NOT NULL,
     short_code       VARCHAR(20) NOT NULL UNIQUE,
     user_id          UUID,
@@ -8,6 +10,9 @@ CREATE TABLE IF NOT EXISTS urls (
     expires_at       TIMESTAMP,
     access_count     BIGINT NOT NULL DEFAULT 0,
     last_accessed_at TIMESTAMP,
+    redirect_type    VARCHAR(16) NOT NULL DEFAULT 'TEMPORARY',
+    original_url_hash BYTEA,
+    inserted_at      TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     
     CONSTRAINT uk_short_code UNIQUE (short_code)
 );
@@ -15,3 +20,59 @@ CREATE TABLE IF NOT EXISTS urls (
 CREATE INDEX IF NOT EXISTS idx_short_code ON urls(short_code);
 CREATE INDEX IF NOT EXISTS idx_expires_at ON urls(expires_at);
 CREATE INDEX IF NOT EXISTS idx_user_id ON urls(user_id);
+
+ALTER TABLE urls ADD COLUMN IF NOT EXISTS redirect_type VARCHAR(16) NOT NULL DEFAULT 'TEMPORARY';
+
+ALTER TABLE urls ADD COLUMN IF NOT EXISTS original_url_hash BYTEA;
+CREATE INDEX IF NOT EXISTS idx_original_url_hash ON urls(original_url_hash) WHERE original_url_hash IS NOT NULL;
+
+ALTER TABLE urls ADD COLUMN IF NOT EXISTS inserted_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+CREATE INDEX IF NOT EXISTS idx_inserted_at ON urls(inserted_at);
+
+SELECT setval('urls_seq', GREATEST((SELECT last_value FROM urls_seq), (SELECT COALESCE(MAX(id), 0) + 50 FROM urls)));
+
+CREATE TABLE IF NOT EXISTS url_invalidations (
+    id         BIGSERIAL PRIMARY KEY,
+    short_code VARCHAR(20) NOT NULL,
+    created_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_url_invalidations_created_at ON url_invalidations(created_at);
+
+CREATE TABLE IF NOT EXISTS short_code_counters (
+    name       VARCHAR(32) PRIMARY KEY,
+    next_value BIGINT NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS short_code_reservations (
+    short_code  VARCHAR(20) PRIMARY KEY,
+    reserved_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_short_code_reservations_reserved_at ON short_code_reservations(reserved_at);
+
+CREATE TABLE IF NOT EXISTS url_clicks_hourly (
+    url_id       BIGINT NOT NULL REFERENCES urls(id) ON DELETE CASCADE,
+    bucket_start TIMESTAMP NOT NULL,
+    clicks       BIGINT NOT NULL,
+    PRIMARY KEY (url_id, bucket_start)
+);
+
+CREATE TABLE IF NOT EXISTS url_clicks_daily (
+    url_id       BIGINT NOT NULL REFERENCES urls(id) ON DELETE CASCADE,
+    bucket_start TIMESTAMP NOT NULL,
+    clicks       BIGINT NOT NULL,
+    PRIMARY KEY (url_id, bucket_start)
+);
+
+CREATE TABLE IF NOT EXISTS url_visitors (
+    url_id BIGINT PRIMARY KEY REFERENCES urls(id) ON DELETE CASCADE,
+    sketch BYTEA NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS url_visitors_daily (
+    url_id     BIGINT NOT NULL REFERENCES urls(id) ON DELETE CASCADE,
+    visit_date DATE NOT NULL,
+    sketch     BYTEA NOT NULL,
+    PRIMARY KEY (url_id, visit_date)
+);
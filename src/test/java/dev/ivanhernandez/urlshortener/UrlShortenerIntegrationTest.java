@@ -16,6 +16,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -103,6 +104,32 @@ class UrlShortenerIntegrationTest {
                 .andExpect(jsonPath("$.message").value("Custom alias already exists: duplicate"));
     }
 
+    @Test
+    @DisplayName("createShortUrls should persist valid items and report failures in input order")
+    void createShortUrls_shouldPersistValidItems() throws Exception {
+        createTestUrl("taken", "https://example.com/taken", null);
+        List<CreateUrlRequest> requests = List.of(
+                new CreateUrlRequest("https://example.com/a", null, null),
+                new CreateUrlRequest("not-a-valid-url", null, null),
+                new CreateUrlRequest("https://example.com/b", "taken", null),
+                new CreateUrlRequest("https://example.com/c", "bulkalias", null)
+        );
+
+        mockMvc.perform(post("/api/v1/urls/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.failed").value(2))
+                .andExpect(jsonPath("$.items[0].created").value(true))
+                .andExpect(jsonPath("$.items[1].created").value(false))
+                .andExpect(jsonPath("$.items[2].error").value("Custom alias already exists: taken"))
+                .andExpect(jsonPath("$.items[3].url.shortCode").value("bulkalias"));
+
+        assertEquals(3, urlRepository.count());
+        assertTrue(urlRepository.existsByShortCode("bulkalias"));
+    }
+
     @Test
     @DisplayName("createShortUrl should reject invalid URL format")
     void createShortUrl_shouldRejectInvalidUrl() throws Exception {
@@ -159,6 +186,18 @@ class UrlShortenerIntegrationTest {
         assertNotNull(entity.getLastAccessedAt());
     }
 
+    @Test
+    @DisplayName("redirect should not count accesses to expired URLs")
+    void redirect_shouldNotCountExpiredAccesses() throws Exception {
+        createTestUrl("expired2", "https://example.com", LocalDateTime.now().minusDays(1));
+
+        mockMvc.perform(get("/r/expired2")).andExpect(status().isGone());
+
+        UrlJpaEntity entity = urlRepository.findByShortCode("expired2").orElseThrow();
+        assertEquals(0L, entity.getAccessCount());
+        assertNull(entity.getLastAccessedAt());
+    }
+
     @Test
     @DisplayName("redirect should return 404 for non-existent short code")
     void redirect_shouldReturn404_whenNotFound() throws Exception {
@@ -89,6 +89,16 @@ class CreateUrlRequestValidationTest {
         assertTrue(violations.isEmpty());
     }
 
+    @Test
+    @DisplayName("URL longer than 2048 characters once percent-encoded should produce violation")
+    void urlTooLongOnceEncoded_shouldProduceViolation() {
+        CreateUrlRequest request = new CreateUrlRequest("https://example.com/" + "ñ".repeat(400), null, null);
+
+        Set<ConstraintViolation<CreateUrlRequest>> violations = validator.validate(request);
+
+        assertFalse(violations.isEmpty());
+    }
+
     @Test
     @DisplayName("null customAlias should be valid")
     void nullCustomAlias_shouldBeValid() {
@@ -0,0 +1,94 @@
+package dev.ivanhernandez.urlshortener.application.usecase;
+
+import dev.ivanhernandez.urlshortener.application.dto.response.AliasAvailabilityResponse;
+import dev.ivanhernandez.urlshortener.application.port.output.ShortCodeIndex;
+import dev.ivanhernandez.urlshortener.application.port.output.UrlRepository;
+import dev.ivanhernandez.urlshortener.domain.exception.InvalidUrlException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CheckAliasAvailabilityUseCaseImpl")
+class CheckAliasAvailabilityUseCaseImplTest {
+
+    @Mock
+    private ShortCodeIndex shortCodeIndex;
+
+    @Mock
+    private UrlRepository urlRepository;
+
+    private CheckAliasAvailabilityUseCaseImpl useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new CheckAliasAvailabilityUseCaseImpl(shortCodeIndex, urlRepository);
+    }
+
+    @Test
+    @DisplayName("checkAvailability should report a free alias without suggestions")
+    void checkAvailability_shouldReturnAvailable_whenAliasIsFree() {
+        when(shortCodeIndex.isLoaded()).thenReturn(true);
+        when(shortCodeIndex.contains("my-link")).thenReturn(false);
+
+        AliasAvailabilityResponse response = useCase.checkAvailability("my-link", 5);
+
+        assertTrue(response.available());
+        assertTrue(response.suggestions().isEmpty());
+        verifyNoInteractions(urlRepository);
+    }
+
+    @Test
+    @DisplayName("checkAvailability should suggest free aliases when the alias is taken")
+    void checkAvailability_shouldSuggestFreeAliases_whenAliasIsTaken() {
+        Set<String> taken = Set.of("my-link", "my-link1", "my-link-2");
+        when(shortCodeIndex.isLoaded()).thenReturn(true);
+        when(shortCodeIndex.contains(anyString())).thenAnswer(invocation -> taken.contains(invocation.getArgument(0)));
+
+        AliasAvailabilityResponse response = useCase.checkAvailability("my-link", 3);
+
+        assertFalse(response.available());
+        assertEquals(List.of("my-link-1", "my-link2", "my-link3"), response.suggestions());
+    }
+
+    @Test
+    @DisplayName("checkAvailability should keep suggestions within the maximum alias length")
+    void checkAvailability_shouldTruncateAlias_whenSuggestionWouldBeTooLong() {
+        String alias = "a".repeat(20);
+        when(shortCodeIndex.isLoaded()).thenReturn(true);
+        when(shortCodeIndex.contains(anyString())).thenAnswer(invocation -> alias.equals(invocation.getArgument(0)));
+
+        AliasAvailabilityResponse response = useCase.checkAvailability(alias, 2);
+
+        assertEquals(List.of("a".repeat(19) + "1", "a".repeat(18) + "-1"), response.suggestions());
+    }
+
+    @Test
+    @DisplayName("checkAvailability should fall back to the database until the index is loaded")
+    void checkAvailability_shouldQueryDatabase_whenIndexNotLoaded() {
+        when(shortCodeIndex.isLoaded()).thenReturn(false);
+        when(urlRepository.existsByShortCode("my-link")).thenReturn(true);
+
+        AliasAvailabilityResponse response = useCase.checkAvailability("my-link", 0);
+
+        assertFalse(response.available());
+        assertTrue(response.suggestions().isEmpty());
+        verify(shortCodeIndex, never()).contains(anyString());
+    }
+
+    @Test
+    @DisplayName("checkAvailability should reject aliases longer than 20 characters")
+    void checkAvailability_shouldThrow_whenAliasTooLong() {
+        assertThrows(InvalidUrlException.class, () -> useCase.checkAvailability("a".repeat(21), 5));
+    }
+}
@@ -0,0 +1,120 @@
+package dev.ivanhernandez.urlshortener.application.usecase;
+
+import dev.ivanhernandez.urlshortener.application.dto.request.CreateUrlRequest;
+import dev.ivanhernandez.urlshortener.application.dto.response.ShortUrlResponse;
+import dev.ivanhernandez.urlshortener.application.port.output.ShortCodeGenerator;
+import dev.ivanhernandez.urlshortener.domain.exception.InvalidUrlException;
+import dev.ivanhernandez.urlshortener.infrastructure.adapter.output.persistence.SpringDataUrlRepository;
+import dev.ivanhernandez.urlshortener.infrastructure.adapter.output.persistence.UrlJpaEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("CreateShortUrlUseCaseImpl - Concurrency")
+class CreateShortUrlUseCaseImplConcurrencyTest {
+
+    private static final int THREADS = 16;
+
+    @MockitoBean
+    private ShortCodeGenerator shortCodeGenerator;
+
+    @Autowired
+    private CreateShortUrlUseCaseImpl useCase;
+
+    @Autowired
+    private SpringDataUrlRepository urlRepository;
+
+    @BeforeEach
+    void setUp() {
+        urlRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("concurrent creates with the same custom alias should store exactly one URL")
+    void createShortUrl_shouldAcceptOneAlias_whenCreatedConcurrently() throws Exception {
+        CreateUrlRequest request = new CreateUrlRequest("https://example.com", "racing", null);
+
+        List<Future<ShortUrlResponse>> results = runConcurrently(() -> useCase.createShortUrl(request));
+
+        int created = 0;
+        int rejected = 0;
+        for (Future<ShortUrlResponse> result : results) {
+            try {
+                assertEquals("racing", result.get().shortCode());
+                created++;
+            } catch (ExecutionException ex) {
+                assertInstanceOf(InvalidUrlException.class, ex.getCause());
+                rejected++;
+            }
+        }
+        assertEquals(1, created);
+        assertEquals(THREADS - 1, rejected);
+        assertEquals(1, urlRepository.count());
+    }
+
+    @Test
+    @DisplayName("concurrent creates with colliding generated codes should all be stored under distinct codes")
+    void createShortUrl_shouldLoseNoCreates_whenGeneratedCodesCollide() throws Exception {
+        AtomicInteger sequence = new AtomicInteger();
+        when(shortCodeGenerator.nextShortCode()).thenAnswer(invocation -> "dup" + sequence.getAndIncrement() / 2);
+        CreateUrlRequest request = new CreateUrlRequest("https://example.com", null, null);
+
+        List<Future<ShortUrlResponse>> results = runConcurrently(() -> useCase.createShortUrl(request));
+
+        List<String> shortCodes = new ArrayList<>();
+        for (Future<ShortUrlResponse> result : results) {
+            shortCodes.add(result.get().shortCode());
+        }
+        Set<String> stored = urlRepository.findAll().stream()
+                .map(UrlJpaEntity::getShortCode)
+                .collect(Collectors.toSet());
+        assertEquals(THREADS, Set.copyOf(shortCodes).size());
+        assertEquals(THREADS, urlRepository.count());
+        assertEquals(Set.copyOf(shortCodes), stored);
+        verify(shortCodeGenerator, atLeast(THREADS - 1)).recordCollision(startsWith("dup"));
+    }
+
+    private <T> List<Future<T>> runConcurrently(Callable<T> task) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<T>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+        } finally {
+            executor.shutdown();
+        }
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+        return results;
+    }
+}
@@ -3,6 +3,7 @@ package dev.ivanhernandez.urlshortener.application.usecase;
 import dev.ivanhernandez.urlshortener.application.dto.request.CreateUrlRequest;
 import dev.ivanhernandez.urlshortener.application.dto.response.ShortUrlResponse;
 import dev.ivanhernandez.urlshortener.application.port.output.UrlRepository;
+import dev.ivanhernandez.urlshortener.domain.model.InsertResult;
 import dev.ivanhernandez.urlshortener.domain.model.Url;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,7 +19,6 @@ import java.time.LocalDateTime;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
 
 @SpringBootTest
@@ -40,11 +40,10 @@ class CreateShortUrlUseCaseImplEdgeCasesTest {
     @ValueSource(strings = {"", "   ", "\t", "\n"})
     void createShortUrl_shouldTreatBlankAliasAsNull(String blankAlias) {
         CreateUrlRequest request = new CreateUrlRequest("https://example.com", blankAlias, null);
-        when(urlRepository.existsByShortCode(anyString())).thenReturn(false);
-        when(urlRepository.save(any(Url.class))).thenAnswer(invocation -> {
+        when(urlRepository.insert(any(Url.class))).thenAnswer(invocation -> {
             Url url = invocation.getArgument(0);
             url.setId(1L);
-            return url;
+            return InsertResult.inserted(url);
         });
 
         ShortUrlResponse response = useCase.createShortUrl(request);
@@ -58,11 +57,10 @@ class CreateShortUrlUseCaseImplEdgeCasesTest {
     void createShortUrl_shouldHandleVeryLongUrls() {
         String longUrl = "https://example.com/" + "a".repeat(2000);
         CreateUrlRequest request = new CreateUrlRequest(longUrl, null, null);
-        when(urlRepository.existsByShortCode(anyString())).thenReturn(false);
-        when(urlRepository.save(any(Url.class))).thenAnswer(invocation -> {
+        when(urlRepository.insert(any(Url.class))).thenAnswer(invocation -> {
             Url url = invocation.getArgument(0);
             url.setId(1L);
-            return url;
+            return InsertResult.inserted(url);
         });
 
         ShortUrlResponse response = useCase.createShortUrl(request);
@@ -76,11 +74,10 @@ class CreateShortUrlUseCaseImplEdgeCasesTest {
     void createShortUrl_shouldHandleUrlsWithSpecialCharacters() {
         String urlWithSpecialChars = "https://example.com/path?param=value&other=test#anchor";
         CreateUrlRequest request = new CreateUrlRequest(urlWithSpecialChars, null, null);
-        when(urlRepository.existsByShortCode(anyString())).thenReturn(false);
-        when(urlRepository.save(any(Url.class))).thenAnswer(invocation -> {
+        when(urlRepository.insert(any(Url.class))).thenAnswer(invocation -> {
             Url url = invocation.getArgument(0);
             url.setId(1L);
-            return url;
+            return InsertResult.inserted(url);
         });
 
         ShortUrlResponse response = useCase.createShortUrl(request);
@@ -93,11 +90,10 @@ class CreateShortUrlUseCaseImplEdgeCasesTest {
     void createShortUrl_shouldSetCreatedAtToCurrentTime() {
         CreateUrlRequest request = new CreateUrlRequest("https://example.com", null, null);
         LocalDateTime beforeCreate = LocalDateTime.now();
-        when(urlRepository.existsByShortCode(anyString())).thenReturn(false);
-        when(urlRepository.save(any(Url.class))).thenAnswer(invocation -> {
+        when(urlRepository.insert(any(Url.class))).thenAnswer(invocation -> {
             Url url = invocation.getArgument(0);
             url.setId(1L);
-            return url;
+            return InsertResult.inserted(url);
         });
 
         ShortUrlResponse response = useCase.createShortUrl(request);
@@ -111,11 +107,10 @@ class CreateShortUrlUseCaseImplEdgeCasesTest {
     @DisplayName("generated codes should only contain alphanumeric characters")
     void createShortUrl_generatedCodes_shouldBeAlphanumeric() {
         CreateUrlRequest request = new CreateUrlRequest("https://example.com", null, null);
-        when(urlRepository.existsByShortCode(anyString())).thenReturn(false);
-        when(urlRepository.save(any(Url.class))).thenAnswer(invocation -> {
+        when(urlRepository.insert(any(Url.class))).thenAnswer(invocation -> {
             Url url = invocation.getArgument(0);
             url.setId(1L);
-            return url;
+            return InsertResult.inserted(url);
         });
 
         ShortUrlResponse response = useCase.createShortUrl(request);
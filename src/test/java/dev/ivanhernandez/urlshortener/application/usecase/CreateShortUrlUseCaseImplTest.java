@@ -1,13 +1,28 @@
 package dev.ivanhernandez.urlshortener.application.usecase;
 
 import dev.ivanhernandez.urlshortener.application.dto.request.CreateUrlRequest;
+import dev.ivanhernandez.urlshortener.application.dto.response.BatchCreateResponse;
+import dev.ivanhernandez.urlshortener.application.dto.response.BatchItemResponse;
 import dev.ivanhernandez.urlshortener.application.dto.response.ShortUrlResponse;
+import dev.ivanhernandez.urlshortener.application.port.output.OriginalUrlIndex;
+import dev.ivanhernandez.urlshortener.application.port.output.PendingUrlQueue;
+import dev.ivanhernandez.urlshortener.application.port.output.ShortCodeFilter;
+import dev.ivanhernandez.urlshortener.application.port.output.ShortCodeGenerator;
+import dev.ivanhernandez.urlshortener.application.port.output.ShortCodeIndex;
 import dev.ivanhernandez.urlshortener.application.port.output.UrlRepository;
 import dev.ivanhernandez.urlshortener.domain.exception.InvalidUrlException;
+import dev.ivanhernandez.urlshortener.domain.exception.ShortCodeExhaustedException;
+import dev.ivanhernandez.urlshortener.domain.model.InsertResult;
+import dev.ivanhernandez.urlshortener.domain.model.RedirectTarget;
+import dev.ivanhernandez.urlshortener.domain.model.RedirectType;
 import dev.ivanhernandez.urlshortener.domain.model.Url;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -15,9 +30,14 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -29,9 +49,24 @@ class CreateShortUrlUseCaseImplTest {
     @MockitoBean
     private UrlRepository urlRepository;
 
+    @MockitoBean
+    private ShortCodeFilter shortCodeFilter;
+
+    @MockitoBean
+    private OriginalUrlIndex originalUrlIndex;
+
+    @MockitoBean
+    private PendingUrlQueue pendingUrlQueue;
+
+    @MockitoBean
+    private ShortCodeIndex shortCodeIndex;
+
     @Autowired
     private CreateShortUrlUseCaseImpl useCase;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @Value("${app.base-url}")
     private String baseUrl;
 
@@ -42,11 +77,10 @@ class CreateShortUrlUseCaseImplTest {
     @DisplayName("createShortUrl should create URL with generated code when no custom alias")
     void createShortUrl_shouldCreateWithGeneratedCode_whenNoCustomAlias() {
         CreateUrlRequest request = new CreateUrlRequest("https://example.com", null, null);
-        when(urlRepository.existsByShortCode(anyString())).thenReturn(false);
-        when(urlRepository.save(any(Url.class))).thenAnswer(invocation -> {
+        when(urlRepository.insert(any(Url.class))).thenAnswer(invocation -> {
             Url url = invocation.getArgument(0);
             url.setId(1L);
-            return url;
+            return InsertResult.inserted(url);
         });
 
         ShortUrlResponse response = useCase.createShortUrl(request);
@@ -55,18 +89,17 @@ class CreateShortUrlUseCaseImplTest {
         assertEquals("https://example.com", response.originalUrl());
         assertEquals(shortCodeLength, response.shortCode().length());
         assertTrue(response.shortUrl().startsWith(baseUrl + "/r/"));
-        verify(urlRepository).save(any(Url.class));
+        verify(urlRepository).insert(any(Url.class));
     }
 
     @Test
     @DisplayName("createShortUrl should create URL with custom alias")
     void createShortUrl_shouldCreateWithCustomAlias() {
         CreateUrlRequest request = new CreateUrlRequest("https://example.com", "myalias", null);
-        when(urlRepository.existsByShortCode("myalias")).thenReturn(false);
-        when(urlRepository.save(any(Url.class))).thenAnswer(invocation -> {
+        when(urlRepository.insert(any(Url.class))).thenAnswer(invocation -> {
             Url url = invocation.getArgument(0);
             url.setId(1L);
-            return url;
+            return InsertResult.inserted(url);
         });
 
         ShortUrlResponse response = useCase.createShortUrl(request);
@@ -76,14 +109,40 @@ class CreateShortUrlUseCaseImplTest {
         assertEquals(baseUrl + "/r/myalias", response.shortUrl());
     }
 
+    @Test
+    @DisplayName("createShortUrl should register short code in the filter before inserting")
+    void createShortUrl_shouldAddShortCodeToFilter_beforeInserting() {
+        CreateUrlRequest request = new CreateUrlRequest("https://example.com", "filtered", null);
+        when(urlRepository.insert(any(Url.class))).thenAnswer(invocation -> InsertResult.inserted(invocation.getArgument(0)));
+
+        useCase.createShortUrl(request);
+
+        InOrder inOrder = inOrder(shortCodeFilter, urlRepository);
+        inOrder.verify(shortCodeFilter).add("filtered");
+        inOrder.verify(urlRepository).insert(any(Url.class));
+    }
+
+    @Test
+    @DisplayName("createShortUrl should add the short code to the alias index once inserted")
+    void createShortUrl_shouldAddShortCodeToIndex_whenInserted() {
+        CreateUrlRequest request = new CreateUrlRequest("https://example.com", "indexed", null);
+        when(urlRepository.insert(any(Url.class))).thenAnswer(invocation -> InsertResult.inserted(invocation.getArgument(0)));
+
+        useCase.createShortUrl(request);
+
+        verify(shortCodeIndex).add("indexed");
+    }
+
     @Test
     @DisplayName("createShortUrl should throw InvalidUrlException when custom alias already exists")
     void createShortUrl_shouldThrowInvalidUrlException_whenCustomAliasExists() {
         CreateUrlRequest request = new CreateUrlRequest("https://example.com", "existing", null);
-        when(urlRepository.existsByShortCode("existing")).thenReturn(true);
+        when(urlRepository.insert(any(Url.class))).thenReturn(InsertResult.shortCodeTaken("existing"));
 
         assertThrows(InvalidUrlException.class, () -> useCase.createShortUrl(request));
-        verify(urlRepository, never()).save(any());
+        verify(urlRepository, times(1)).insert(any(Url.class));
+        verify(urlRepository, never()).existsByShortCode(anyString());
+        verify(shortCodeIndex, never()).add(anyString());
     }
 
     @Test
@@ -91,11 +150,10 @@ class CreateShortUrlUseCaseImplTest {
     void createShortUrl_shouldSetExpirationDate_whenProvided() {
         LocalDateTime expiresAt = LocalDateTime.now().plusDays(30);
         CreateUrlRequest request = new CreateUrlRequest("https://example.com", null, expiresAt);
-        when(urlRepository.existsByShortCode(anyString())).thenReturn(false);
-        when(urlRepository.save(any(Url.class))).thenAnswer(invocation -> {
+        when(urlRepository.insert(any(Url.class))).thenAnswer(invocation -> {
             Url url = invocation.getArgument(0);
             url.setId(1L);
-            return url;
+            return InsertResult.inserted(url);
         });
 
         ShortUrlResponse response = useCase.createShortUrl(request);
@@ -103,16 +161,39 @@ class CreateShortUrlUseCaseImplTest {
         assertEquals(expiresAt, response.expiresAt());
     }
 
+    @Test
+    @DisplayName("createShortUrl should store the requested redirect type")
+    void createShortUrl_shouldSetRedirectType_whenProvided() {
+        CreateUrlRequest request = new CreateUrlRequest("https://example.com", null, null, RedirectType.PERMANENT);
+        ArgumentCaptor<Url> urlCaptor = ArgumentCaptor.forClass(Url.class);
+        when(urlRepository.insert(urlCaptor.capture())).thenAnswer(invocation -> InsertResult.inserted(invocation.getArgument(0)));
+
+        useCase.createShortUrl(request);
+
+        assertEquals(RedirectType.PERMANENT, urlCaptor.getValue().getRedirectType());
+    }
+
+    @Test
+    @DisplayName("createShortUrl should default to a temporary redirect")
+    void createShortUrl_shouldDefaultToTemporaryRedirect_whenNotProvided() {
+        CreateUrlRequest request = new CreateUrlRequest("https://example.com", null, null);
+        ArgumentCaptor<Url> urlCaptor = ArgumentCaptor.forClass(Url.class);
+        when(urlRepository.insert(urlCaptor.capture())).thenAnswer(invocation -> InsertResult.inserted(invocation.getArgument(0)));
+
+        useCase.createShortUrl(request);
+
+        assertEquals(RedirectType.TEMPORARY, urlCaptor.getValue().getRedirectType());
+    }
+
     @Test
     @DisplayName("createShortUrl should initialize access count to zero")
     void createShortUrl_shouldInitializeAccessCountToZero() {
         CreateUrlRequest request = new CreateUrlRequest("https://example.com", null, null);
-        when(urlRepository.existsByShortCode(anyString())).thenReturn(false);
         ArgumentCaptor<Url> urlCaptor = ArgumentCaptor.forClass(Url.class);
-        when(urlRepository.save(urlCaptor.capture())).thenAnswer(invocation -> {
+        when(urlRepository.insert(urlCaptor.capture())).thenAnswer(invocation -> {
             Url url = invocation.getArgument(0);
             url.setId(1L);
-            return url;
+            return InsertResult.inserted(url);
         });
 
         useCase.createShortUrl(request);
@@ -121,22 +202,247 @@ class CreateShortUrlUseCaseImplTest {
     }
 
     @Test
-    @DisplayName("createShortUrl should regenerate code if collision occurs")
+    @DisplayName("createShortUrl should retry with a new code when the generated code is taken")
     void createShortUrl_shouldRegenerateCode_whenCollisionOccurs() {
         CreateUrlRequest request = new CreateUrlRequest("https://example.com", null, null);
-        when(urlRepository.existsByShortCode(anyString()))
-                .thenReturn(true)
-                .thenReturn(true)
-                .thenReturn(false);
-        when(urlRepository.save(any(Url.class))).thenAnswer(invocation -> {
+        List<String> attemptedCodes = new ArrayList<>();
+        when(urlRepository.insert(any(Url.class))).thenAnswer(invocation -> {
             Url url = invocation.getArgument(0);
-            url.setId(1L);
-            return url;
+            attemptedCodes.add(url.getShortCode());
+            return attemptedCodes.size() < 3
+                    ? InsertResult.shortCodeTaken(url.getShortCode())
+                    : InsertResult.inserted(url);
         });
 
         ShortUrlResponse response = useCase.createShortUrl(request);
 
-        assertNotNull(response);
-        verify(urlRepository, atLeast(3)).existsByShortCode(anyString());
+        assertEquals(3, attemptedCodes.size());
+        assertEquals(3, Set.copyOf(attemptedCodes).size());
+        assertEquals(attemptedCodes.get(2), response.shortCode());
+        verify(urlRepository, never()).existsByShortCode(anyString());
+    }
+
+    @Test
+    @DisplayName("createShortUrl should give up after a bounded number of taken codes")
+    void createShortUrl_shouldThrowShortCodeExhausted_whenEveryAttemptCollides() {
+        CreateUrlRequest request = new CreateUrlRequest("https://example.com", null, null);
+        when(urlRepository.insert(any(Url.class)))
+                .thenAnswer(invocation -> InsertResult.shortCodeTaken(invocation.<Url>getArgument(0).getShortCode()));
+
+        double exhaustedBefore = exhaustedInserts();
+
+        assertThrows(ShortCodeExhaustedException.class, () -> useCase.createShortUrl(request));
+
+        verify(urlRepository, times(UrlInserter.MAX_ATTEMPTS)).insert(any(Url.class));
+        assertEquals(exhaustedBefore + 1, exhaustedInserts());
+    }
+
+    @Test
+    @DisplayName("createShortUrls should report per-item results in input order")
+    @SuppressWarnings("unchecked")
+    void createShortUrls_shouldReportItemsInInputOrder() {
+        List<CreateUrlRequest> requests = List.of(
+                new CreateUrlRequest("https://example.com/a", null, null),
+                new CreateUrlRequest("not-a-url", null, null),
+                new CreateUrlRequest("https://example.com/b", "dupe", null),
+                new CreateUrlRequest("https://example.com/c", "dupe", null)
+        );
+        when(urlRepository.insertAll(anyList())).thenAnswer(invocation -> invocation.<List<Url>>getArgument(0).stream()
+                .map(InsertResult::inserted)
+                .toList());
+
+        BatchCreateResponse response = useCase.createShortUrls(requests);
+
+        assertEquals(2, response.created());
+        assertEquals(2, response.failed());
+        assertEquals(List.of(0, 1, 2, 3), response.items().stream().map(BatchItemResponse::index).toList());
+        assertEquals(shortCodeLength, response.items().get(0).url().shortCode().length());
+        assertTrue(response.items().get(1).error().startsWith("originalUrl"));
+        assertEquals("dupe", response.items().get(2).url().shortCode());
+        assertTrue(response.items().get(3).error().contains("more than once"));
+        ArgumentCaptor<List<Url>> batchCaptor = ArgumentCaptor.forClass(List.class);
+        verify(urlRepository, times(1)).insertAll(batchCaptor.capture());
+        assertEquals(2, batchCaptor.getValue().size());
+    }
+
+    @Test
+    @DisplayName("createShortUrls should reject taken aliases and retry taken generated codes")
+    void createShortUrls_shouldRetryGeneratedCodes_andRejectTakenAliases() {
+        List<CreateUrlRequest> requests = List.of(
+                new CreateUrlRequest("https://example.com/a", "existing", null),
+                new CreateUrlRequest("https://example.com/b", null, null)
+        );
+        List<Integer> batchSizes = new ArrayList<>();
+        when(urlRepository.insertAll(anyList())).thenAnswer(invocation -> {
+            List<Url> urls = invocation.getArgument(0);
+            batchSizes.add(urls.size());
+            return urls.stream()
+                    .map(url -> batchSizes.size() == 1
+                            ? InsertResult.shortCodeTaken(url.getShortCode())
+                            : InsertResult.inserted(url))
+                    .toList();
+        });
+
+        BatchCreateResponse response = useCase.createShortUrls(requests);
+
+        assertEquals(List.of(2, 1), batchSizes);
+        assertEquals("Custom alias already exists: existing", response.items().get(0).error());
+        assertTrue(response.items().get(1).created());
+    }
+
+    @Test
+    @DisplayName("createShortUrls should reject an empty batch")
+    void createShortUrls_shouldThrowInvalidUrlException_whenBatchEmpty() {
+        assertThrows(InvalidUrlException.class, () -> useCase.createShortUrls(List.of()));
+        verify(urlRepository, never()).insertAll(anyList());
+    }
+
+    @Test
+    @DisplayName("createShortUrl should return the existing URL without inserting when the index finds a match")
+    void createShortUrl_shouldReuseExistingUrl_whenIndexMatches() {
+        byte[] hash = new byte[16];
+        Url existing = new Url(7L, "https://example.com", "exist12", null, null,
+                LocalDateTime.now(), null, 3L, null);
+        when(originalUrlIndex.digest("https://example.com")).thenReturn(hash);
+        when(originalUrlIndex.find(any(Url.class))).thenReturn(Optional.of(existing));
+
+        ShortUrlResponse response = useCase.createShortUrl(new CreateUrlRequest("https://example.com", null, null));
+
+        assertEquals("exist12", response.shortCode());
+        verify(urlRepository, never()).insert(any(Url.class));
+        verify(originalUrlIndex, never()).add(any(Url.class));
+    }
+
+    @Test
+    @DisplayName("createShortUrl should store the hash and remember the new URL when the index has no match")
+    void createShortUrl_shouldStoreHash_whenIndexMisses() {
+        byte[] hash = new byte[16];
+        when(originalUrlIndex.digest("https://example.com")).thenReturn(hash);
+        when(originalUrlIndex.find(any(Url.class))).thenReturn(Optional.empty());
+        when(urlRepository.insert(any(Url.class))).thenAnswer(invocation -> InsertResult.inserted(invocation.getArgument(0)));
+
+        useCase.createShortUrl(new CreateUrlRequest("https://example.com", null, null));
+
+        ArgumentCaptor<Url> captor = ArgumentCaptor.forClass(Url.class);
+        verify(originalUrlIndex).add(captor.capture());
+        assertSame(hash, captor.getValue().getOriginalUrlHash());
+    }
+
+    @Test
+    @DisplayName("createShortUrl should not deduplicate links with a custom alias or an expiry")
+    void createShortUrl_shouldSkipDeduplication_whenAliasOrExpirySet() {
+        when(urlRepository.insert(any(Url.class))).thenAnswer(invocation -> InsertResult.inserted(invocation.getArgument(0)));
+
+        useCase.createShortUrl(new CreateUrlRequest("https://example.com", "alias1", null));
+        useCase.createShortUrl(new CreateUrlRequest("https://example.com", null, LocalDateTime.now().plusDays(1)));
+
+        verify(originalUrlIndex, never()).digest(anyString());
+        verify(originalUrlIndex, never()).find(any(Url.class));
+    }
+
+    @Test
+    @DisplayName("acceptShortUrl should return empty when asynchronous creation is disabled")
+    void acceptShortUrl_shouldReturnEmpty_whenDisabled() {
+        when(pendingUrlQueue.isEnabled()).thenReturn(false);
+
+        Optional<ShortUrlResponse> response = useCase.acceptShortUrl(new CreateUrlRequest("https://example.com", null, null));
+
+        assertTrue(response.isEmpty());
+        verify(pendingUrlQueue, never()).enqueue(any(Url.class));
+    }
+
+    @Test
+    @DisplayName("acceptShortUrl should return empty when a custom alias is requested")
+    void acceptShortUrl_shouldReturnEmpty_whenCustomAlias() {
+        when(pendingUrlQueue.isEnabled()).thenReturn(true);
+
+        Optional<ShortUrlResponse> response = useCase.acceptShortUrl(new CreateUrlRequest("https://example.com", "alias1", null));
+
+        assertTrue(response.isEmpty());
+        verify(pendingUrlQueue, never()).enqueue(any(Url.class));
+    }
+
+    @Test
+    @DisplayName("acceptShortUrl should enqueue the URL with a generated code without touching the database")
+    void acceptShortUrl_shouldEnqueueWithGeneratedCode_whenEnabled() {
+        when(pendingUrlQueue.isEnabled()).thenReturn(true);
+
+        Optional<ShortUrlResponse> response = useCase.acceptShortUrl(new CreateUrlRequest("https://example.com", null, null));
+
+        assertTrue(response.isPresent());
+        assertEquals(shortCodeLength, response.get().shortCode().length());
+        assertEquals(baseUrl + "/r/" + response.get().shortCode(), response.get().shortUrl());
+        ArgumentCaptor<Url> captor = ArgumentCaptor.forClass(Url.class);
+        verify(pendingUrlQueue).enqueue(captor.capture());
+        assertEquals(response.get().shortCode(), captor.getValue().getShortCode());
+        verify(shortCodeFilter).add(response.get().shortCode());
+        verify(urlRepository, never()).insert(any(Url.class));
+    }
+
+    @Test
+    @DisplayName("createShortUrl should reject a custom alias that was already accepted and is waiting to be written")
+    void createShortUrl_shouldThrowInvalidUrlException_whenAliasIsPendingAcceptedCode() {
+        when(pendingUrlQueue.isEnabled()).thenReturn(true);
+        ShortUrlResponse accepted = useCase.acceptShortUrl(new CreateUrlRequest("https://example.com/a", null, null))
+                .orElseThrow();
+        ArgumentCaptor<Url> captor = ArgumentCaptor.forClass(Url.class);
+        verify(pendingUrlQueue).enqueue(captor.capture());
+        when(pendingUrlQueue.find(accepted.shortCode())).thenReturn(Optional.of(RedirectTarget.from(captor.getValue())));
+
+        InvalidUrlException ex = assertThrows(InvalidUrlException.class, () -> useCase.createShortUrl(
+                new CreateUrlRequest("https://example.com/b", accepted.shortCode(), null)));
+        assertEquals("Custom alias already exists: " + accepted.shortCode(), ex.getMessage());
+        verify(urlRepository, never()).insert(any(Url.class));
+    }
+
+    @Test
+    @DisplayName("createShortUrls should reject custom aliases that are waiting to be written")
+    void createShortUrls_shouldRejectAlias_whenAliasIsPendingAcceptedCode() {
+        Url accepted = new Url();
+        accepted.setShortCode("queued");
+        accepted.setOriginalUrl("https://example.com/a");
+        when(pendingUrlQueue.find("queued")).thenReturn(Optional.of(RedirectTarget.from(accepted)));
+        when(urlRepository.insertAll(anyList())).thenAnswer(invocation -> invocation.<List<Url>>getArgument(0).stream()
+                .map(InsertResult::inserted)
+                .toList());
+
+        BatchCreateResponse response = useCase.createShortUrls(List.of(
+                new CreateUrlRequest("https://example.com/b", "queued", null),
+                new CreateUrlRequest("https://example.com/c", null, null)
+        ));
+
+        assertEquals("Custom alias already exists: queued", response.items().get(0).error());
+        assertTrue(response.items().get(1).created());
+        ArgumentCaptor<List<Url>> batchCaptor = ArgumentCaptor.forClass(List.class);
+        verify(urlRepository).insertAll(batchCaptor.capture());
+        assertEquals(1, batchCaptor.getValue().size());
+    }
+
+    @Test
+    @DisplayName("constructor should fail when asynchronous creation is enabled with a non-reserving generator")
+    void constructor_shouldThrow_whenAsyncCreateEnabledWithRandomCodes() {
+        PendingUrlQueue enabledQueue = mock(PendingUrlQueue.class);
+        ShortCodeGenerator randomGenerator = mock(ShortCodeGenerator.class);
+        when(enabledQueue.isEnabled()).thenReturn(true);
+        when(randomGenerator.reservesCodes()).thenReturn(false);
+
+        assertThrows(IllegalStateException.class, () -> new CreateShortUrlUseCaseImpl(urlRepository, shortCodeFilter,
+                randomGenerator, shortCodeIndex, originalUrlIndex, enabledQueue, new SimpleMeterRegistry(), mock(Validator.class),
+                baseUrl, 1000));
+    }
+
+    @Test
+    @DisplayName("createShortUrl should store the normalized, redirect-ready URL")
+    void createShortUrl_shouldStoreNormalizedUrl() {
+        when(urlRepository.insert(any(Url.class))).thenAnswer(invocation -> InsertResult.inserted(invocation.getArgument(0)));
+
+        ShortUrlResponse response = useCase.createShortUrl(
+                new CreateUrlRequest("HTTPS://Example.com:443/a b", null, null));
+
+        assertEquals("https://example.com/a%20b", response.originalUrl());
+    }
+
+    private double exhaustedInserts() {
+        return meterRegistry.get("url.insert.collisions").tag("outcome", "exhausted").counter().count();
     }
 }
@@ -1,5 +1,8 @@
 package dev.ivanhernandez.urlshortener.application.usecase;
 
+import dev.ivanhernandez.urlshortener.application.port.output.InvalidationBus;
+import dev.ivanhernandez.urlshortener.application.port.output.RedirectCache;
+import dev.ivanhernandez.urlshortener.application.port.output.ShortCodeFilter;
 import dev.ivanhernandez.urlshortener.application.port.output.UrlRepository;
 import dev.ivanhernandez.urlshortener.domain.exception.UrlNotFoundException;
 import dev.ivanhernandez.urlshortener.domain.exception.UrlOwnershipException;
@@ -24,11 +27,20 @@ class DeleteUrlUseCaseImplTest {
     @Mock
     private UrlRepository urlRepository;
 
+    @Mock
+    private RedirectCache redirectCache;
+
+    @Mock
+    private ShortCodeFilter shortCodeFilter;
+
+    @Mock
+    private InvalidationBus invalidationBus;
+
     private DeleteUrlUseCaseImpl useCase;
 
     @BeforeEach
     void setUp() {
-        useCase = new DeleteUrlUseCaseImpl(urlRepository);
+        useCase = new DeleteUrlUseCaseImpl(urlRepository, redirectCache, shortCodeFilter, invalidationBus);
     }
 
     @Test
@@ -43,6 +55,9 @@ class DeleteUrlUseCaseImplTest {
         assertDoesNotThrow(() -> useCase.deleteUrl("abc123"));
 
         verify(urlRepository).deleteByShortCode("abc123");
+        verify(redirectCache).evict("abc123");
+        verify(shortCodeFilter).remove("abc123");
+        verify(invalidationBus).publish("abc123");
     }
 
     @Test
@@ -75,5 +90,7 @@ class DeleteUrlUseCaseImplTest {
 
         assertTrue(exception.getMessage().contains("owned123"));
         verify(urlRepository, never()).deleteByShortCode(anyString());
+        verify(redirectCache, never()).evict(anyString());
+        verify(invalidationBus, never()).publish(anyString());
     }
 }
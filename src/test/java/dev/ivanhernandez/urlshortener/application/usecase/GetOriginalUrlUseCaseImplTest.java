@@ -1,9 +1,18 @@
 package dev.ivanhernandez.urlshortener.application.usecase;
 
-import dev.ivanhernandez.urlshortener.application.port.output.UrlRepository;
+import dev.ivanhernandez.urlshortener.application.port.output.AccessCounter;
+import dev.ivanhernandez.urlshortener.application.port.output.ClickEventLog;
+import dev.ivanhernandez.urlshortener.application.port.output.ClickRollupRecorder;
+import dev.ivanhernandez.urlshortener.application.port.output.HeavyHitterTracker;
+import dev.ivanhernandez.urlshortener.application.port.output.PendingUrlQueue;
+import dev.ivanhernandez.urlshortener.application.port.output.RedirectCache;
+import dev.ivanhernandez.urlshortener.application.port.output.ShortCodeFilter;
+import dev.ivanhernandez.urlshortener.application.port.output.UniqueVisitorRecorder;
 import dev.ivanhernandez.urlshortener.domain.exception.ExpiredUrlException;
 import dev.ivanhernandez.urlshortener.domain.exception.UrlNotFoundException;
-import dev.ivanhernandez.urlshortener.domain.model.Url;
+import dev.ivanhernandez.urlshortener.domain.model.ClickContext;
+import dev.ivanhernandez.urlshortener.domain.model.RedirectResult;
+import dev.ivanhernandez.urlshortener.domain.model.RedirectTarget;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,6 +25,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -23,21 +33,44 @@ import static org.mockito.Mockito.*;
 class GetOriginalUrlUseCaseImplTest {
 
     @Mock
-    private UrlRepository urlRepository;
+    private RedirectCache redirectCache;
+
+    @Mock
+    private AccessCounter accessCounter;
+
+    @Mock
+    private ShortCodeFilter shortCodeFilter;
+
+    @Mock
+    private HeavyHitterTracker heavyHitterTracker;
+
+    @Mock
+    private PendingUrlQueue pendingUrlQueue;
+
+    @Mock
+    private ClickEventLog clickEventLog;
+
+    @Mock
+    private ClickRollupRecorder clickRollupRecorder;
+
+    @Mock
+    private UniqueVisitorRecorder uniqueVisitorRecorder;
 
     private GetOriginalUrlUseCaseImpl useCase;
 
     @BeforeEach
     void setUp() {
-        useCase = new GetOriginalUrlUseCaseImpl(urlRepository);
+        useCase = new GetOriginalUrlUseCaseImpl(
+                redirectCache, accessCounter, shortCodeFilter, heavyHitterTracker, pendingUrlQueue, clickEventLog,
+                clickRollupRecorder, uniqueVisitorRecorder);
     }
 
     @Test
     @DisplayName("getOriginalUrl should return original URL when short code exists and is not expired")
     void getOriginalUrl_shouldReturnOriginalUrl_whenExistsAndNotExpired() {
-        Url url = createValidUrl();
-        when(urlRepository.findByShortCode("abc123")).thenReturn(Optional.of(url));
-        when(urlRepository.save(any(Url.class))).thenReturn(url);
+        RedirectTarget target = createValidTarget();
+        when(shortCodeFilter.mightContain("abc123")).thenReturn(true);
+        when(accessCounter.resolveAndRecordAccess("abc123")).thenReturn(Optional.of(target));
 
         String result = useCase.getOriginalUrl("abc123");
 
@@ -45,23 +78,83 @@ class GetOriginalUrlUseCaseImplTest {
     }
 
     @Test
-    @DisplayName("getOriginalUrl should increment access count")
-    void getOriginalUrl_shouldIncrementAccessCount() {
-        Url url = createValidUrl();
-        url.setAccessCount(5L);
-        when(urlRepository.findByShortCode("abc123")).thenReturn(Optional.of(url));
-        when(urlRepository.save(any(Url.class))).thenReturn(url);
+    @DisplayName("resolveRedirect should return Found with the cached target")
+    void resolveRedirect_shouldReturnFound_whenCached() {
+        RedirectTarget target = createValidTarget();
+        when(redirectCache.get("abc123")).thenReturn(Optional.of(target));
+
+        RedirectResult result = useCase.resolveRedirect("abc123");
+
+        assertEquals(RedirectResult.found(target), result);
+    }
+
+    @Test
+    @DisplayName("resolveRedirect should return NotFound without throwing when short code does not exist")
+    void resolveRedirect_shouldReturnNotFound_whenNotFound() {
+        when(shortCodeFilter.mightContain("notfound")).thenReturn(true);
+        when(accessCounter.resolveAndRecordAccess("notfound")).thenReturn(Optional.empty());
+
+        RedirectResult result = useCase.resolveRedirect("notfound");
+
+        assertSame(RedirectResult.NOT_FOUND, result);
+    }
+
+    @Test
+    @DisplayName("resolveRedirect should return Expired without throwing when URL is expired")
+    void resolveRedirect_shouldReturnExpired_whenExpired() {
+        when(shortCodeFilter.mightContain("expired")).thenReturn(true);
+        when(accessCounter.resolveAndRecordAccess("expired")).thenReturn(Optional.of(createExpiredTarget()));
+
+        RedirectResult result = useCase.resolveRedirect("expired");
+
+        assertSame(RedirectResult.EXPIRED, result);
+    }
+
+    @Test
+    @DisplayName("getOriginalUrl should resolve and count the access in one step on a cache miss")
+    void getOriginalUrl_shouldResolveAndCount_whenNotCached() {
+        RedirectTarget target = createValidTarget();
+        when(shortCodeFilter.mightContain("abc123")).thenReturn(true);
+        when(accessCounter.resolveAndRecordAccess("abc123")).thenReturn(Optional.of(target));
+
+        useCase.getOriginalUrl("abc123");
+
+        verify(accessCounter).resolveAndRecordAccess("abc123");
+        verify(accessCounter, never()).recordAccess(anyString());
+        verify(heavyHitterTracker).recordHit("abc123");
+    }
+
+    @Test
+    @DisplayName("getOriginalUrl should cache the resolved target")
+    void getOriginalUrl_shouldCacheTarget_whenResolved() {
+        RedirectTarget target = createValidTarget();
+        when(shortCodeFilter.mightContain("abc123")).thenReturn(true);
+        when(accessCounter.resolveAndRecordAccess("abc123")).thenReturn(Optional.of(target));
 
         useCase.getOriginalUrl("abc123");
 
-        assertEquals(6L, url.getAccessCount());
-        verify(urlRepository).save(url);
+        verify(redirectCache).put(target);
+    }
+
+    @Test
+    @DisplayName("getOriginalUrl should serve cached target and only record the access")
+    void getOriginalUrl_shouldServeFromCache_whenCached() {
+        RedirectTarget target = createValidTarget();
+        when(redirectCache.get("abc123")).thenReturn(Optional.of(target));
+
+        String result = useCase.getOriginalUrl("abc123");
+
+        assertEquals("https://example.com", result);
+        verify(accessCounter).recordAccess("abc123");
+        verify(accessCounter, never()).resolveAndRecordAccess(anyString());
+        verify(heavyHitterTracker).recordHit("abc123");
     }
 
     @Test
     @DisplayName("getOriginalUrl should throw UrlNotFoundException when short code does not exist")
     void getOriginalUrl_shouldThrowUrlNotFoundException_whenNotFound() {
-        when(urlRepository.findByShortCode("notfound")).thenReturn(Optional.empty());
+        when(shortCodeFilter.mightContain("notfound")).thenReturn(true);
+        when(accessCounter.resolveAndRecordAccess("notfound")).thenReturn(Optional.empty());
 
         UrlNotFoundException exception = assertThrows(
                 UrlNotFoundException.class,
@@ -69,14 +162,26 @@ class GetOriginalUrlUseCaseImplTest {
         );
 
         assertTrue(exception.getMessage().contains("notfound"));
-        verify(urlRepository, never()).save(any());
+        verify(redirectCache, never()).put(any());
+    }
+
+    @Test
+    @DisplayName("getOriginalUrl should reject unknown short code without querying the repository")
+    void getOriginalUrl_shouldThrowUrlNotFoundException_whenFilterRejects() {
+        when(shortCodeFilter.mightContain("random1")).thenReturn(false);
+
+        assertThrows(UrlNotFoundException.class, () -> useCase.getOriginalUrl("random1"));
+
+        verify(accessCounter, never()).resolveAndRecordAccess(anyString());
+        verify(redirectCache, never()).put(any());
     }
 
     @Test
     @DisplayName("getOriginalUrl should throw ExpiredUrlException when URL is expired")
     void getOriginalUrl_shouldThrowExpiredUrlException_whenExpired() {
-        Url url = createExpiredUrl();
-        when(urlRepository.findByShortCode("expired")).thenReturn(Optional.of(url));
+        RedirectTarget target = createExpiredTarget();
+        when(shortCodeFilter.mightContain("expired")).thenReturn(true);
+        when(accessCounter.resolveAndRecordAccess("expired")).thenReturn(Optional.of(target));
 
         ExpiredUrlException exception = assertThrows(
                 ExpiredUrlException.class,
@@ -84,51 +189,75 @@ class GetOriginalUrlUseCaseImplTest {
         );
 
         assertTrue(exception.getMessage().contains("expired"));
-        verify(urlRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("getOriginalUrl should not record access when cached URL is expired")
+    void getOriginalUrl_shouldNotRecordAccess_whenCachedUrlExpired() {
+        when(redirectCache.get("expired")).thenReturn(Optional.of(createExpiredTarget()));
+
+        assertThrows(ExpiredUrlException.class, () -> useCase.getOriginalUrl("expired"));
+
+        verify(accessCounter, never()).recordAccess(anyString());
+        verify(heavyHitterTracker, never()).recordHit(anyString());
     }
 
     @Test
     @DisplayName("getOriginalUrl should work when URL has no expiration date")
     void getOriginalUrl_shouldWork_whenNoExpirationDate() {
-        Url url = createUrlWithoutExpiration();
-        when(urlRepository.findByShortCode("noexpiry")).thenReturn(Optional.of(url));
-        when(urlRepository.save(any(Url.class))).thenReturn(url);
+        RedirectTarget target = new RedirectTarget(1L, "noexpiry", "https://example.com", null);
+        when(shortCodeFilter.mightContain("noexpiry")).thenReturn(true);
+        when(accessCounter.resolveAndRecordAccess("noexpiry")).thenReturn(Optional.of(target));
 
         String result = useCase.getOriginalUrl("noexpiry");
 
         assertEquals("https://example.com", result);
     }
 
-    private Url createValidUrl() {
-        Url url = new Url();
-        url.setId(1L);
-        url.setOriginalUrl("https://example.com");
-        url.setShortCode("abc123");
-        url.setCreatedAt(LocalDateTime.now());
-        url.setExpiresAt(LocalDateTime.now().plusDays(30));
-        url.setAccessCount(0L);
-        return url;
-    }
-
-    private Url createExpiredUrl() {
-        Url url = new Url();
-        url.setId(1L);
-        url.setOriginalUrl("https://example.com");
-        url.setShortCode("expired");
-        url.setCreatedAt(LocalDateTime.now().minusDays(60));
-        url.setExpiresAt(LocalDateTime.now().minusDays(30));
-        url.setAccessCount(0L);
-        return url;
-    }
-
-    private Url createUrlWithoutExpiration() {
-        Url url = new Url();
-        url.setId(1L);
-        url.setOriginalUrl("https://example.com");
-        url.setShortCode("noexpiry");
-        url.setCreatedAt(LocalDateTime.now());
-        url.setExpiresAt(null);
-        url.setAccessCount(0L);
-        return url;
+    @Test
+    @DisplayName("resolveRedirect should serve an accepted URL that is not persisted yet")
+    void resolveRedirect_shouldReturnFound_whenPending() {
+        RedirectTarget target = createValidTarget();
+        when(pendingUrlQueue.find("abc123")).thenReturn(Optional.of(target));
+
+        RedirectResult result = useCase.resolveRedirect("abc123");
+
+        assertEquals(RedirectResult.found(target), result);
+        verify(shortCodeFilter, never()).mightContain(anyString());
+        verify(accessCounter, never()).resolveAndRecordAccess(anyString());
+        verify(redirectCache, never()).put(any());
+    }
+
+    @Test
+    @DisplayName("resolveRedirect should record a click with its context when the target is found")
+    void resolveRedirect_shouldRecordClick_whenFound() {
+        RedirectTarget target = createValidTarget();
+        ClickContext clickContext = new ClickContext("https://news.example.org/", "Mozilla/5.0", "203.0.113.7");
+        when(redirectCache.get("abc123")).thenReturn(Optional.of(target));
+
+        useCase.resolveRedirect("abc123", clickContext);
+
+        verify(clickEventLog).recordClick(1L, clickContext);
+        verify(clickRollupRecorder).recordClick(1L);
+        verify(uniqueVisitorRecorder).recordVisit(1L, clickContext);
+    }
+
+    @Test
+    @DisplayName("resolveRedirect should not record a click when the URL is expired")
+    void resolveRedirect_shouldNotRecordClick_whenExpired() {
+        when(shortCodeFilter.mightContain("expired")).thenReturn(true);
+        when(accessCounter.resolveAndRecordAccess("expired")).thenReturn(Optional.of(createExpiredTarget()));
+
+        useCase.resolveRedirect("expired", ClickContext.NONE);
+
+        verifyNoInteractions(clickEventLog, clickRollupRecorder, uniqueVisitorRecorder);
+    }
+
+    private RedirectTarget createValidTarget() {
+        return new RedirectTarget(1L, "abc123", "https://example.com", LocalDateTime.now().plusDays(30));
+    }
+
+    private RedirectTarget createExpiredTarget() {
+        return new RedirectTarget(1L, "expired", "https://example.com", LocalDateTime.now().minusDays(30));
     }
 }
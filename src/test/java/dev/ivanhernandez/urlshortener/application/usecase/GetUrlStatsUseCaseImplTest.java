@@ -1,8 +1,16 @@
 package dev.ivanhernandez.urlshortener.application.usecase;
 
+import dev.ivanhernandez.urlshortener.application.dto.request.ClickSeriesQuery;
+import dev.ivanhernandez.urlshortener.application.dto.response.ClickSeriesResponse;
 import dev.ivanhernandez.urlshortener.application.dto.response.UrlStatsResponse;
+import dev.ivanhernandez.urlshortener.application.port.output.ClickRollupRepository;
 import dev.ivanhernandez.urlshortener.application.port.output.UrlRepository;
+import dev.ivanhernandez.urlshortener.application.port.output.VisitorSketchRepository;
+import dev.ivanhernandez.urlshortener.domain.exception.InvalidUrlException;
 import dev.ivanhernandez.urlshortener.domain.exception.UrlNotFoundException;
+import dev.ivanhernandez.urlshortener.domain.model.ClickCount;
+import dev.ivanhernandez.urlshortener.domain.model.ClickGranularity;
+import dev.ivanhernandez.urlshortener.domain.model.HyperLogLog;
 import dev.ivanhernandez.urlshortener.domain.model.Url;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -11,10 +19,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.SplittableRandom;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -24,11 +40,17 @@ class GetUrlStatsUseCaseImplTest {
     @Mock
     private UrlRepository urlRepository;
 
+    @Mock
+    private ClickRollupRepository clickRollupRepository;
+
+    @Mock
+    private VisitorSketchRepository visitorSketchRepository;
+
     private GetUrlStatsUseCaseImpl useCase;
 
     @BeforeEach
     void setUp() {
-        useCase = new GetUrlStatsUseCaseImpl(urlRepository);
+        useCase = new GetUrlStatsUseCaseImpl(urlRepository, clickRollupRepository, visitorSketchRepository);
     }
 
     @Test
@@ -47,6 +69,26 @@ class GetUrlStatsUseCaseImplTest {
         assertEquals(42L, response.accessCount());
         assertEquals(createdAt, response.createdAt());
         assertEquals(lastAccessedAt, response.lastAccessedAt());
+        assertNull(response.clicks());
+        assertEquals(0L, response.uniqueVisitors());
+        verifyNoInteractions(clickRollupRepository);
+    }
+
+    @Test
+    @DisplayName("getUrlStats should estimate unique visitors from the stored sketch")
+    void getUrlStats_shouldEstimateUniqueVisitors_whenSketchStored() {
+        Url url = createUrl("abc123", 5_000L, LocalDateTime.now(), null);
+        when(urlRepository.findByShortCode("abc123")).thenReturn(Optional.of(url));
+        HyperLogLog sketch = new HyperLogLog();
+        SplittableRandom random = new SplittableRandom(7);
+        for (int i = 0; i < 2_000; i++) {
+            sketch.add(random.nextLong());
+        }
+        when(visitorSketchRepository.findTotalSketch(1L)).thenReturn(Optional.of(sketch));
+
+        UrlStatsResponse response = useCase.getUrlStats("abc123");
+
+        assertEquals(2_000, response.uniqueVisitors(), 2_000 * 4 * HyperLogLog.STANDARD_ERROR);
     }
 
     @Test
@@ -74,6 +116,83 @@ class GetUrlStatsUseCaseImplTest {
         assertNull(response.lastAccessedAt());
     }
 
+    @Test
+    @DisplayName("getUrlStats should fill missing hourly buckets with zero clicks")
+    void getUrlStats_shouldZeroFillMissingBuckets_whenSeriesRequested() {
+        Url url = createUrl("abc123", 7L, LocalDateTime.now(), null);
+        when(urlRepository.findByShortCode("abc123")).thenReturn(Optional.of(url));
+        Instant from = Instant.parse("2026-03-01T10:00:00Z");
+        Instant to = Instant.parse("2026-03-01T14:00:00Z");
+        when(clickRollupRepository.findClicks(1L, ClickGranularity.HOUR, from, to)).thenReturn(List.of(
+                new ClickCount(Instant.parse("2026-03-01T11:00:00Z"), 5),
+                new ClickCount(Instant.parse("2026-03-01T13:00:00Z"), 2)));
+
+        UrlStatsResponse response = useCase.getUrlStats("abc123",
+                new ClickSeriesQuery(ClickGranularity.HOUR, from, to));
+
+        ClickSeriesResponse clicks = response.clicks();
+        assertEquals(7L, clicks.totalClicks());
+        assertEquals(List.of(
+                new ClickCount(Instant.parse("2026-03-01T10:00:00Z"), 0),
+                new ClickCount(Instant.parse("2026-03-01T11:00:00Z"), 5),
+                new ClickCount(Instant.parse("2026-03-01T12:00:00Z"), 0),
+                new ClickCount(Instant.parse("2026-03-01T13:00:00Z"), 2)), clicks.points());
+        assertNull(clicks.uniqueVisitors());
+        verify(visitorSketchRepository, never()).findDailySketches(anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("getUrlStats should align the range to whole day buckets")
+    void getUrlStats_shouldAlignRangeToBuckets_whenBoundsAreMidBucket() {
+        Url url = createUrl("abc123", 0L, LocalDateTime.now(), null);
+        when(urlRepository.findByShortCode("abc123")).thenReturn(Optional.of(url));
+        when(clickRollupRepository.findClicks(anyLong(), any(), any(), any())).thenReturn(List.of());
+
+        UrlStatsResponse response = useCase.getUrlStats("abc123", new ClickSeriesQuery(ClickGranularity.DAY,
+                Instant.parse("2026-03-01T10:15:00Z"), Instant.parse("2026-03-03T08:00:00Z")));
+
+        assertEquals(Instant.parse("2026-03-01T00:00:00Z"), response.clicks().from());
+        assertEquals(Instant.parse("2026-03-04T00:00:00Z"), response.clicks().to());
+        assertEquals(3, response.clicks().points().size());
+    }
+
+    @Test
+    @DisplayName("getUrlStats should default to the last 24 hourly buckets")
+    void getUrlStats_shouldUseDefaultRange_whenBoundsMissing() {
+        Url url = createUrl("abc123", 0L, LocalDateTime.now(), null);
+        when(urlRepository.findByShortCode("abc123")).thenReturn(Optional.of(url));
+        when(clickRollupRepository.findClicks(anyLong(), any(), any(), any())).thenReturn(List.of());
+
+        UrlStatsResponse response = useCase.getUrlStats("abc123",
+                new ClickSeriesQuery(ClickGranularity.HOUR, null, null));
+
+        assertEquals(24, response.clicks().points().size());
+        assertEquals(0L, response.clicks().totalClicks());
+    }
+
+    @Test
+    @DisplayName("getUrlStats should reject ranges with too many buckets")
+    void getUrlStats_shouldThrowInvalidUrlException_whenRangeTooLarge() {
+        Url url = createUrl("abc123", 0L, LocalDateTime.now(), null);
+        when(urlRepository.findByShortCode("abc123")).thenReturn(Optional.of(url));
+        ClickSeriesQuery query = new ClickSeriesQuery(ClickGranularity.HOUR,
+                Instant.parse("2026-01-01T00:00:00Z"), Instant.parse("2026-03-01T00:00:00Z"));
+
+        assertThrows(InvalidUrlException.class, () -> useCase.getUrlStats("abc123", query));
+        verify(clickRollupRepository, never()).findClicks(anyLong(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("getUrlStats should reject ranges that end before they start")
+    void getUrlStats_shouldThrowInvalidUrlException_whenRangeReversed() {
+        Url url = createUrl("abc123", 0L, LocalDateTime.now(), null);
+        when(urlRepository.findByShortCode("abc123")).thenReturn(Optional.of(url));
+        ClickSeriesQuery query = new ClickSeriesQuery(ClickGranularity.DAY,
+                Instant.parse("2026-03-05T00:00:00Z"), Instant.parse("2026-03-01T00:00:00Z"));
+
+        assertThrows(InvalidUrlException.class, () -> useCase.getUrlStats("abc123", query));
+    }
+
     private Url createUrl(String shortCode, Long accessCount, LocalDateTime createdAt, LocalDateTime lastAccessedAt) {
         Url url = new Url();
         url.setId(1L);
@@ -1,8 +1,14 @@
 package dev.ivanhernandez.urlshortener.application.usecase;
 
+import dev.ivanhernandez.urlshortener.application.dto.request.ClickSeriesQuery;
 import dev.ivanhernandez.urlshortener.application.dto.response.UrlStatsResponse;
+import dev.ivanhernandez.urlshortener.application.port.output.ClickRollupRepository;
 import dev.ivanhernandez.urlshortener.application.port.output.UrlRepository;
+import dev.ivanhernandez.urlshortener.application.port.output.VisitorSketchRepository;
 import dev.ivanhernandez.urlshortener.domain.exception.UrlNotFoundException;
+import dev.ivanhernandez.urlshortener.domain.model.ClickCount;
+import dev.ivanhernandez.urlshortener.domain.model.ClickGranularity;
+import dev.ivanhernandez.urlshortener.domain.model.HyperLogLog;
 import dev.ivanhernandez.urlshortener.domain.model.Url;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -11,8 +17,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.SplittableRandom;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -25,11 +35,17 @@ class GetUserUrlStatsUseCaseImplTest {
     @Mock
     private UrlRepository urlRepository;
 
+    @Mock
+    private ClickRollupRepository clickRollupRepository;
+
+    @Mock
+    private VisitorSketchRepository visitorSketchRepository;
+
     private GetUserUrlStatsUseCaseImpl useCase;
 
     @BeforeEach
     void setUp() {
-        useCase = new GetUserUrlStatsUseCaseImpl(urlRepository);
+        useCase = new GetUserUrlStatsUseCaseImpl(urlRepository, clickRollupRepository, visitorSketchRepository);
     }
 
     @Test
@@ -89,4 +105,45 @@ class GetUserUrlStatsUseCaseImplTest {
                 () -> useCase.getUserUrlStats(shortCode, userId)
         );
     }
+
+    @Test
+    @DisplayName("getUserUrlStats should include the daily click series and merged unique visitors when requested")
+    void getUserUrlStats_shouldIncludeClickSeries_whenGranularityGiven() {
+        UUID userId = UUID.randomUUID();
+        Url url = new Url();
+        url.setId(9L);
+        url.setShortCode("abc123");
+        url.setOriginalUrl("https://example.com");
+        url.setUserId(userId);
+        url.setAccessCount(3L);
+        url.setCreatedAt(LocalDateTime.now());
+        when(urlRepository.findByShortCodeAndUserId("abc123", userId)).thenReturn(Optional.of(url));
+        Instant from = Instant.parse("2026-03-01T00:00:00Z");
+        Instant to = Instant.parse("2026-03-03T00:00:00Z");
+        when(clickRollupRepository.findClicks(9L, ClickGranularity.DAY, from, to))
+                .thenReturn(List.of(new ClickCount(from, 3)));
+        HyperLogLog firstDay = new HyperLogLog();
+        HyperLogLog secondDay = new HyperLogLog();
+        SplittableRandom random = new SplittableRandom(11);
+        for (int i = 0; i < 3_000; i++) {
+            long visitor = random.nextLong();
+            if (i < 2_000) {
+                firstDay.add(visitor);
+            }
+            if (i >= 1_000) {
+                secondDay.add(visitor);
+            }
+        }
+        when(visitorSketchRepository.findDailySketches(9L, LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 3)))
+                .thenReturn(List.of(firstDay, secondDay));
+
+        UrlStatsResponse response = useCase.getUserUrlStats("abc123", userId,
+                new ClickSeriesQuery(ClickGranularity.DAY, from, to));
+
+        assertEquals(ClickGranularity.DAY, response.clicks().granularity());
+        assertEquals(3L, response.clicks().totalClicks());
+        assertEquals(3_000, response.clicks().uniqueVisitors(), 3_000 * 4 * HyperLogLog.STANDARD_ERROR);
+        assertEquals(List.of(new ClickCount(from, 3), new ClickCount(Instant.parse("2026-03-02T00:00:00Z"), 0)),
+                response.clicks().points());
+    }
 }
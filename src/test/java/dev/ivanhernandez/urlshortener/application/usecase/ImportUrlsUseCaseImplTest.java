@@ -0,0 +1,227 @@
+package dev.ivanhernandez.urlshortener.application.usecase;
+
+import dev.ivanhernandez.urlshortener.application.dto.request.ImportUrlRecord;
+import dev.ivanhernandez.urlshortener.application.dto.response.ImportEventResponse;
+import dev.ivanhernandez.urlshortener.application.port.output.PendingUrlQueue;
+import dev.ivanhernandez.urlshortener.application.port.output.ShortCodeFilter;
+import dev.ivanhernandez.urlshortener.application.port.output.ShortCodeGenerator;
+import dev.ivanhernandez.urlshortener.application.port.output.ShortCodeIndex;
+import dev.ivanhernandez.urlshortener.application.port.output.UrlRepository;
+import dev.ivanhernandez.urlshortener.domain.exception.InvalidUrlException;
+import dev.ivanhernandez.urlshortener.domain.model.InsertResult;
+import dev.ivanhernandez.urlshortener.domain.model.RedirectType;
+import dev.ivanhernandez.urlshortener.domain.model.Url;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ImportUrlsUseCaseImpl")
+class ImportUrlsUseCaseImplTest {
+
+    private static final UUID USER_ID = UUID.randomUUID();
+    private static final UUID TENANT_ID = UUID.randomUUID();
+
+    @Mock
+    private UrlRepository urlRepository;
+
+    @Mock
+    private ShortCodeFilter shortCodeFilter;
+
+    @Mock
+    private ShortCodeGenerator shortCodeGenerator;
+
+    @Mock
+    private ShortCodeIndex shortCodeIndex;
+
+    @Mock
+    private PendingUrlQueue pendingUrlQueue;
+
+    private ValidatorFactory validatorFactory;
+    private ImportUrlsUseCaseImpl useCase;
+    private final List<ImportEventResponse> events = new ArrayList<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        useCase = new ImportUrlsUseCaseImpl(urlRepository, shortCodeFilter, shortCodeGenerator, shortCodeIndex,
+                pendingUrlQueue, meterRegistry, validatorFactory.getValidator(), "http://localhost:8081", 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    @DisplayName("importUrls should insert records in chunks and report progress after each chunk")
+    void importUrls_shouldInsertInChunks_andReportProgress() {
+        AtomicInteger codes = new AtomicInteger();
+        when(shortCodeGenerator.nextShortCode()).thenAnswer(invocation -> "gen" + codes.incrementAndGet());
+        List<Integer> batchSizes = new ArrayList<>();
+        when(urlRepository.insertAll(anyList())).thenAnswer(invocation -> {
+            List<Url> urls = invocation.getArgument(0);
+            batchSizes.add(urls.size());
+            return urls.stream().map(InsertResult::inserted).toList();
+        });
+
+        ImportEventResponse result = useCase.importUrls(records(
+                new ImportUrlRecord(1, "https://example.com/a", null, null, null),
+                new ImportUrlRecord(2, "https://example.com/b", "kept", null, RedirectType.PERMANENT),
+                new ImportUrlRecord(3, "https://example.com/c", null, null, null)
+        ), USER_ID, TENANT_ID, events::add);
+
+        assertEquals(List.of(2, 1), batchSizes);
+        assertEquals(List.of("progress", "progress", "completed"), events.stream().map(ImportEventResponse::type).toList());
+        assertEquals("completed", result.type());
+        assertEquals(3L, result.processed());
+        assertEquals(3L, result.imported());
+        assertEquals(0L, result.failed());
+        verify(shortCodeGenerator, times(2)).nextShortCode();
+    }
+
+    @Test
+    @DisplayName("importUrls should preserve short codes and assign owner and tenant")
+    void importUrls_shouldPreserveShortCodes() {
+        List<Url> inserted = new ArrayList<>();
+        when(urlRepository.insertAll(anyList())).thenAnswer(invocation -> {
+            List<Url> urls = invocation.getArgument(0);
+            inserted.addAll(urls);
+            return urls.stream().map(InsertResult::inserted).toList();
+        });
+
+        useCase.importUrls(records(
+                new ImportUrlRecord(1, "https://example.com/a", "legacy1", null, RedirectType.CACHEABLE)
+        ), USER_ID, TENANT_ID, events::add);
+
+        Url url = inserted.get(0);
+        assertEquals("legacy1", url.getShortCode());
+        assertEquals(RedirectType.CACHEABLE, url.getRedirectType());
+        assertEquals(USER_ID, url.getUserId());
+        assertEquals(TENANT_ID, url.getTenantId());
+        verifyNoInteractions(shortCodeGenerator);
+    }
+
+    @Test
+    @DisplayName("importUrls should report invalid, malformed, duplicate and taken records with their line numbers")
+    void importUrls_shouldReportLineErrors() {
+        when(urlRepository.insertAll(anyList())).thenAnswer(invocation -> invocation.<List<Url>>getArgument(0).stream()
+                .map(url -> "taken".equals(url.getShortCode())
+                        ? InsertResult.shortCodeTaken(url.getShortCode())
+                        : InsertResult.inserted(url))
+                .toList());
+
+        ImportEventResponse result = useCase.importUrls(records(
+                new ImportUrlRecord(1, "not-a-url", null, null, null),
+                ImportUrlRecord.malformed(2, "Malformed JSON"),
+                new ImportUrlRecord(3, "https://example.com/a", "dupe", null, null),
+                new ImportUrlRecord(4, "https://example.com/b", "dupe", null, null),
+                new ImportUrlRecord(5, "https://example.com/c", "taken", null, null)
+        ), USER_ID, TENANT_ID, events::add);
+
+        List<ImportEventResponse> errors = events.stream().filter(event -> "error".equals(event.type())).toList();
+        assertEquals(List.of(1L, 2L, 4L, 5L), errors.stream().map(ImportEventResponse::line).toList());
+        assertTrue(errors.get(0).error().startsWith("originalUrl"));
+        assertEquals("Malformed JSON", errors.get(1).error());
+        assertEquals("Short code already exists: dupe", errors.get(2).error());
+        assertEquals("Short code already exists: taken", errors.get(3).error());
+        assertEquals(5L, result.processed());
+        assertEquals(1L, result.imported());
+        assertEquals(4L, result.failed());
+    }
+
+    @Test
+    @DisplayName("importUrls should fail a record after a bounded number of taken generated codes")
+    void importUrls_shouldFailRecord_whenGeneratedCodesKeepColliding() {
+        AtomicInteger codes = new AtomicInteger();
+        when(shortCodeGenerator.nextShortCode()).thenAnswer(invocation -> "gen" + codes.incrementAndGet());
+        when(urlRepository.insertAll(anyList())).thenAnswer(invocation -> invocation.<List<Url>>getArgument(0).stream()
+                .map(url -> url.getShortCode().startsWith("gen")
+                        ? InsertResult.shortCodeTaken(url.getShortCode())
+                        : InsertResult.inserted(url))
+                .toList());
+
+        ImportEventResponse result = useCase.importUrls(records(
+                new ImportUrlRecord(1, "https://example.com/a", null, null, null),
+                new ImportUrlRecord(2, "https://example.com/b", "kept", null, null)
+        ), USER_ID, TENANT_ID, events::add);
+
+        ImportEventResponse error = events.stream().filter(event -> "error".equals(event.type())).findFirst().orElseThrow();
+        assertEquals(1L, error.line());
+        assertEquals(UrlBatchCreator.EXHAUSTED_MESSAGE, error.error());
+        assertEquals(1L, result.imported());
+        assertEquals(1L, result.failed());
+        verify(urlRepository, times(UrlInserter.MAX_ATTEMPTS)).insertAll(anyList());
+        verify(shortCodeGenerator, times(UrlInserter.MAX_ATTEMPTS)).recordCollision(anyString());
+        assertEquals(1.0, meterRegistry.get("url.insert.collisions").tag("outcome", "exhausted").counter().count());
+    }
+
+    @Test
+    @DisplayName("importUrls should finish with a generic aborted event and keep earlier chunks when reading fails")
+    void importUrls_shouldAbort_whenReadingFails() {
+        when(urlRepository.insertAll(anyList())).thenAnswer(invocation -> invocation.<List<Url>>getArgument(0).stream()
+                .map(InsertResult::inserted)
+                .toList());
+        Iterator<ImportUrlRecord> records = new Iterator<>() {
+            private int line;
+
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public ImportUrlRecord next() {
+                if (++line > 2) {
+                    throw new IllegalStateException("Connection reset");
+                }
+                return new ImportUrlRecord(line, "https://example.com/" + line, "code" + line, null, null);
+            }
+        };
+
+        ImportEventResponse result = useCase.importUrls(records, USER_ID, TENANT_ID, events::add);
+
+        assertEquals("aborted", result.type());
+        assertEquals("Import aborted", result.error());
+        assertEquals(2L, result.imported());
+        assertEquals(result, events.get(events.size() - 1));
+        verify(urlRepository, times(1)).insertAll(anyList());
+    }
+
+    @Test
+    @DisplayName("importUrls should keep the message of a domain exception in the aborted event")
+    void importUrls_shouldReportDomainMessage_whenAbortedByInvalidUrl() {
+        when(urlRepository.insertAll(anyList())).thenThrow(new InvalidUrlException("Short code is reserved: api"));
+
+        ImportEventResponse result = useCase.importUrls(records(
+                new ImportUrlRecord(1, "https://example.com/a", "api", null, null)
+        ), USER_ID, TENANT_ID, events::add);
+
+        assertEquals("aborted", result.type());
+        assertEquals("Short code is reserved: api", result.error());
+        assertEquals(0L, result.imported());
+    }
+
+    private static Iterator<ImportUrlRecord> records(ImportUrlRecord... records) {
+        return List.of(records).iterator();
+    }
+}
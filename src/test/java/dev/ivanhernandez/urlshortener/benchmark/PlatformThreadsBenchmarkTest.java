@@ -0,0 +1,14 @@
+package dev.ivanhernandez.urlshortener.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = "spring.threads.virtual.enabled=false")
+@DisplayName("Benchmark - platform threads")
+class PlatformThreadsBenchmarkTest extends ThreadingModelBenchmark {
+
+    @Override
+    String threadingModel() {
+        return "platform";
+    }
+}
@@ -0,0 +1,123 @@
+package dev.ivanhernandez.urlshortener.benchmark;
+
+import dev.ivanhernandez.urlshortener.application.port.input.GetOriginalUrlUseCase;
+import dev.ivanhernandez.urlshortener.domain.model.ClickContext;
+import dev.ivanhernandez.urlshortener.domain.model.RedirectResult;
+import dev.ivanhernandez.urlshortener.domain.model.RedirectTarget;
+import dev.ivanhernandez.urlshortener.infrastructure.adapter.input.rest.RedirectController;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("benchmark")
+@DisplayName("Benchmark - redirect allocation")
+class RedirectAllocationBenchmarkTest {
+
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 1_000_000);
+    private static final String ORIGINAL_URL =
+            "https://example.com/articles/2024/performance?utm_source=newsletter&utm_medium=email";
+
+    private static volatile Object sink;
+
+    @Test
+    @DisplayName("redirect should allocate far less per request than building a ResponseEntity")
+    void redirect_shouldAllocateLessThanResponseEntity() {
+        RedirectTarget target = new RedirectTarget(1L, "abc123", ORIGINAL_URL, null);
+        RedirectController controller = new RedirectController(new FixedTargetUseCase(target), true,
+                Duration.ofHours(1), Duration.ofDays(365));
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        CapturingResponse response = new CapturingResponse();
+
+        double responseEntityBytes = bytesPerOperation(() -> sink = responseEntityRedirect(ORIGINAL_URL));
+        double leanBytes = bytesPerOperation(() -> {
+            try {
+                controller.redirect("abc123", null, null, request, response);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            sink = response.location;
+        });
+
+        System.out.printf("redirect allocation: response-entity=%.1f B/op lean=%.1f B/op%n",
+                responseEntityBytes, leanBytes);
+        assertTrue(leanBytes * 4 <= responseEntityBytes,
+                "expected at least a 4x reduction, got " + leanBytes + " vs " + responseEntityBytes);
+    }
+
+    private static ResponseEntity<Void> responseEntityRedirect(String originalUrl) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setLocation(URI.create(originalUrl));
+        return new ResponseEntity<>(headers, HttpStatus.FOUND);
+    }
+
+    private static double bytesPerOperation(Runnable operation) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < ITERATIONS; i++) {
+            operation.run();
+        }
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < ITERATIONS; i++) {
+            operation.run();
+        }
+        return (double) (threads.getCurrentThreadAllocatedBytes() - before) / ITERATIONS;
+    }
+
+    private record FixedTargetUseCase(RedirectTarget target) implements GetOriginalUrlUseCase {
+
+        @Override
+        public String getOriginalUrl(String shortCode) {
+            return target.originalUrl();
+        }
+
+        @Override
+        public RedirectResult resolveRedirect(String shortCode) {
+            return RedirectResult.found(target);
+        }
+
+        @Override
+        public RedirectResult resolveRedirect(String shortCode, ClickContext clickContext) {
+            return RedirectResult.found(target);
+        }
+    }
+
+    private static final class CapturingResponse extends HttpServletResponseWrapper {
+
+        private int status;
+        private String location;
+
+        CapturingResponse() {
+            super((HttpServletResponse) Proxy.newProxyInstance(
+                    HttpServletResponse.class.getClassLoader(),
+                    new Class<?>[]{HttpServletResponse.class},
+                    (proxy, method, args) -> {
+                        throw new UnsupportedOperationException(method.getName());
+                    }));
+        }
+
+        @Override
+        public void setStatus(int status) {
+            this.status = status;
+        }
+
+        @Override
+        public void setHeader(String name, String value) {
+            this.location = value;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package dev.ivanhernandez.urlshortener.benchmark;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+abstract class ThreadingModelBenchmark {
+
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 400);
+    private static final int REQUESTS = Integer.getInteger("benchmark.requests", 20_000);
+    private static final int WARMUP_REQUESTS = Integer.getInteger("benchmark.warmup-requests", 2_000);
+    private static final int SHORT_CODES = 100;
+
+    @LocalServerPort
+    private int port;
+
+    private HttpClient client;
+
+    @BeforeEach
+    void setUp() {
+        client = HttpClient.newBuilder()
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    abstract String threadingModel();
+
+    @Test
+    @DisplayName("redirect throughput and latency")
+    void redirect() throws Exception {
+        List<String> shortCodes = new ArrayList<>();
+        for (int i = 0; i < SHORT_CODES; i++) {
+            String shortCode = "bench" + threadingModel().charAt(0) + i;
+            HttpResponse<Void> response = client.send(createRequest(shortCode), HttpResponse.BodyHandlers.discarding());
+            assertEquals(201, response.statusCode());
+            shortCodes.add(shortCode);
+        }
+
+        IntFunction<HttpRequest> redirect = i -> HttpRequest.newBuilder(uri("/r/" + shortCodes.get(i % SHORT_CODES)))
+                .GET()
+                .build();
+        run("redirect", redirect, 302);
+    }
+
+    @Test
+    @DisplayName("create throughput and latency")
+    void create() throws Exception {
+        run("create", i -> createRequest(null), 201);
+    }
+
+    private void run(String endpoint, IntFunction<HttpRequest> requests, int expectedStatus) throws Exception {
+        execute(requests, WARMUP_REQUESTS, expectedStatus);
+        long started = System.nanoTime();
+        long[] latencies = execute(requests, REQUESTS, expectedStatus);
+        double elapsedSeconds = (System.nanoTime() - started) / 1e9;
+
+        Arrays.sort(latencies);
+        System.out.printf("%-8s %-8s concurrency=%d requests=%d throughput=%.0f req/s p50=%.2fms p99=%.2fms max=%.2fms%n",
+                threadingModel(), endpoint, CONCURRENCY, REQUESTS, REQUESTS / elapsedSeconds,
+                percentile(latencies, 0.50), percentile(latencies, 0.99), latencies[latencies.length - 1] / 1e6);
+    }
+
+    private long[] execute(IntFunction<HttpRequest> requests, int total, int expectedStatus) throws Exception {
+        long[] latencies = new long[total];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger unexpected = new AtomicInteger();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int worker = 0; worker < CONCURRENCY; worker++) {
+                futures.add(workers.submit(() -> {
+                    for (int i = next.getAndIncrement(); i < total; i = next.getAndIncrement()) {
+                        long started = System.nanoTime();
+                        HttpResponse<Void> response = client.send(requests.apply(i), HttpResponse.BodyHandlers.discarding());
+                        latencies[i] = System.nanoTime() - started;
+                        if (response.statusCode() != expectedStatus) {
+                            unexpected.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        assertEquals(0, unexpected.get(), "responses with unexpected status");
+        return latencies;
+    }
+
+    private HttpRequest createRequest(String customAlias) {
+        String body = customAlias == null
+                ? "{\"originalUrl\":\"https://example.com/benchmark\"}"
+                : "{\"originalUrl\":\"https://example.com/benchmark\",\"customAlias\":\"" + customAlias + "\"}";
+        return HttpRequest.newBuilder(uri("/api/v1/urls"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static double percentile(long[] sortedLatencies, double percentile) {
+        int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(0, index)] / 1e6;
+    }
+}
@@ -0,0 +1,93 @@
+package dev.ivanhernandez.urlshortener.benchmark;
+
+import dev.ivanhernandez.urlshortener.application.dto.request.CreateUrlRequest;
+import dev.ivanhernandez.urlshortener.domain.model.UrlNormalizer;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.hibernate.validator.constraints.URL;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("benchmark")
+@DisplayName("Benchmark - URL validation")
+class UrlValidationBenchmarkTest {
+
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 1_000_000);
+    private static final int CORPUS_SIZE = 1_000;
+
+    private static volatile Object sink;
+
+    @Test
+    @DisplayName("@ValidUrl with normalization should be cheaper than @URL followed by URI.create")
+    void validUrl_shouldBeCheaperThanUrlConstraintAndUriCreate() {
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        List<String> corpus = corpus();
+
+        Measurement legacy = measure(corpus, url -> {
+            if (validator.validateValue(LegacyRequest.class, "originalUrl", url).isEmpty()) {
+                sink = URI.create(url);
+            }
+        });
+        Measurement current = measure(corpus, url -> {
+            if (validator.validateValue(CreateUrlRequest.class, "originalUrl", url).isEmpty()) {
+                sink = UrlNormalizer.normalize(url);
+            }
+        });
+
+        System.out.printf("url validation: @URL+URI.create=%.1f ns/op %.1f B/op @ValidUrl+normalize=%.1f ns/op %.1f B/op%n",
+                legacy.nanos(), legacy.bytes(), current.nanos(), current.bytes());
+        assertTrue(current.nanos() <= legacy.nanos(),
+                "expected @ValidUrl to be at least as fast, got " + current.nanos() + " vs " + legacy.nanos());
+    }
+
+    private static List<String> corpus() {
+        Random random = new Random(42);
+        String[] hosts = {"example.com", "www.github.com", "news.ycombinator.com", "docs.spring.io", "shop.example.co.uk"};
+        List<String> corpus = new ArrayList<>(CORPUS_SIZE);
+        for (int i = 0; i < CORPUS_SIZE; i++) {
+            String host = hosts[random.nextInt(hosts.length)];
+            corpus.add(switch (i % 5) {
+                case 0 -> "https://" + host;
+                case 1 -> "https://" + host + "/articles/2024/" + i + "/performance-tuning-in-practice";
+                case 2 -> "https://" + host + "/search?q=spring+boot+" + i + "&utm_source=newsletter&utm_medium=email"
+                        + "&utm_campaign=spring-" + random.nextInt(1000);
+                case 3 -> "https://" + host + "/track?" + "session=" + Long.toHexString(random.nextLong())
+                        + "&redirect=https%3A%2F%2Fexample.com%2F".repeat(20) + "&id=" + i;
+                default -> "https://" + host + "/wiki/Ca%C3%B1%C3%B3n_" + i + "?lang=es#section-" + random.nextInt(10);
+            });
+        }
+        return corpus;
+    }
+
+    private static Measurement measure(List<String> corpus, Consumer<String> operation) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < ITERATIONS; i++) {
+            operation.accept(corpus.get(i % corpus.size()));
+        }
+        long bytesBefore = threads.getCurrentThreadAllocatedBytes();
+        long nanosBefore = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            operation.accept(corpus.get(i % corpus.size()));
+        }
+        long nanos = System.nanoTime() - nanosBefore;
+        long bytes = threads.getCurrentThreadAllocatedBytes() - bytesBefore;
+        return new Measurement((double) nanos / ITERATIONS, (double) bytes / ITERATIONS);
+    }
+
+    private record Measurement(double nanos, double bytes) {
+    }
+
+    private record LegacyRequest(@URL String originalUrl) {
+    }
+}
@@ -0,0 +1,14 @@
+package dev.ivanhernandez.urlshortener.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+@DisplayName("Benchmark - virtual threads")
+class VirtualThreadsBenchmarkTest extends ThreadingModelBenchmark {
+
+    @Override
+    String threadingModel() {
+        return "virtual";
+    }
+}
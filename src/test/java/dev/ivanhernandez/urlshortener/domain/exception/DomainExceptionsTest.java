@@ -63,4 +63,11 @@ class DomainExceptionsTest {
         assertInstanceOf(RuntimeException.class, new InvalidUrlException("test"));
         assertInstanceOf(RuntimeException.class, new UrlOwnershipException("test"));
     }
+
+    @Test
+    @DisplayName("UrlNotFoundException and ExpiredUrlException should not capture stack traces")
+    void redirectExceptions_shouldBeStackless() {
+        assertEquals(0, new UrlNotFoundException("abc123").getStackTrace().length);
+        assertEquals(0, new ExpiredUrlException("abc123").getStackTrace().length);
+    }
 }
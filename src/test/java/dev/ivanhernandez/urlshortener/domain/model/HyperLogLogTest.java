@@ -0,0 +1,137 @@
+package dev.ivanhernandez.urlshortener.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("HyperLogLog")
+class HyperLogLogTest {
+
+    @Test
+    @DisplayName("estimate should be zero for an empty sketch")
+    void estimate_shouldBeZero_whenEmpty() {
+        assertEquals(0, new HyperLogLog().estimate());
+    }
+
+    @ParameterizedTest(name = "{0} distinct values")
+    @ValueSource(ints = {10, 1_000, 10_000, 100_000, 1_000_000})
+    @DisplayName("estimate should stay within the documented error")
+    void estimate_shouldStayWithinDocumentedError(int distinct) {
+        HyperLogLog sketch = new HyperLogLog();
+        SplittableRandom random = new SplittableRandom(distinct);
+        for (int i = 0; i < distinct; i++) {
+            sketch.add(random.nextLong());
+        }
+
+        assertEquals(distinct, sketch.estimate(), Math.max(1, distinct * 4 * HyperLogLog.STANDARD_ERROR));
+    }
+
+    @Test
+    @DisplayName("add should ignore repeated values")
+    void add_shouldIgnoreRepeatedValues() {
+        HyperLogLog sketch = new HyperLogLog();
+        SplittableRandom random = new SplittableRandom(1);
+        long[] values = new long[500];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextLong();
+            sketch.add(values[i]);
+        }
+        long estimate = sketch.estimate();
+
+        for (long value : values) {
+            assertFalse(sketch.add(value));
+        }
+        assertEquals(estimate, sketch.estimate());
+    }
+
+    @Test
+    @DisplayName("merge should estimate the union of both sketches")
+    void merge_shouldEstimateUnion() {
+        HyperLogLog first = new HyperLogLog();
+        HyperLogLog second = new HyperLogLog();
+        HyperLogLog union = new HyperLogLog();
+        SplittableRandom random = new SplittableRandom(3);
+        for (int i = 0; i < 30_000; i++) {
+            long value = random.nextLong();
+            if (i < 20_000) {
+                first.add(value);
+            }
+            if (i >= 10_000) {
+                second.add(value);
+            }
+            union.add(value);
+        }
+
+        first.merge(second);
+        first.merge(second);
+
+        assertEquals(union.estimate(), first.estimate());
+    }
+
+    @Test
+    @DisplayName("add should keep small sketches sparse and switch to dense registers once they fill up")
+    void add_shouldSwitchToDense_whenSparseLimitReached() {
+        HyperLogLog sketch = new HyperLogLog();
+        HyperLogLog subset = new HyperLogLog();
+        SplittableRandom random = new SplittableRandom(11);
+        for (int i = 0; i < 100; i++) {
+            long value = random.nextLong();
+            sketch.add(value);
+            subset.add(value);
+        }
+        assertTrue(sketch.isSparse());
+
+        for (int i = 0; i < 1_000; i++) {
+            sketch.add(random.nextLong());
+        }
+        subset.merge(sketch);
+
+        assertFalse(sketch.isSparse());
+        assertFalse(subset.isSparse());
+        assertArrayEquals(sketch.toBytes(), subset.toBytes());
+    }
+
+    @Test
+    @DisplayName("toBytes should use a sparse encoding for small sketches")
+    void toBytes_shouldEncodeSparse_whenFewRegistersSet() {
+        HyperLogLog sketch = new HyperLogLog();
+        SplittableRandom random = new SplittableRandom(5);
+        for (int i = 0; i < 50; i++) {
+            sketch.add(random.nextLong());
+        }
+
+        byte[] bytes = sketch.toBytes();
+
+        assertTrue(bytes.length <= 2 + 50 * 3);
+        assertEquals(sketch.estimate(), HyperLogLog.fromBytes(bytes).estimate());
+    }
+
+    @Test
+    @DisplayName("toBytes should use at most one byte per register for large sketches")
+    void toBytes_shouldEncodeDense_whenManyRegistersSet() {
+        HyperLogLog sketch = new HyperLogLog();
+        SplittableRandom random = new SplittableRandom(9);
+        for (int i = 0; i < 100_000; i++) {
+            sketch.add(random.nextLong());
+        }
+
+        byte[] bytes = sketch.toBytes();
+
+        assertEquals(HyperLogLog.MAX_SERIALIZED_BYTES, bytes.length);
+        assertEquals(sketch.estimate(), HyperLogLog.fromBytes(bytes).estimate());
+    }
+
+    @Test
+    @DisplayName("fromBytes should reject corrupt sketches")
+    void fromBytes_shouldRejectCorruptSketches() {
+        assertThrows(IllegalArgumentException.class, () -> HyperLogLog.fromBytes(new byte[0]));
+        assertThrows(IllegalArgumentException.class, () -> HyperLogLog.fromBytes(new byte[]{8, 0}));
+        assertThrows(IllegalArgumentException.class, () -> HyperLogLog.fromBytes(new byte[]{12, 1, 0, 1}));
+        assertThrows(IllegalArgumentException.class, () -> HyperLogLog.fromBytes(new byte[]{12, 1, 0, 1, 99}));
+    }
+}
@@ -0,0 +1,83 @@
+package dev.ivanhernandez.urlshortener.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RedirectTarget Domain Model")
+class RedirectTargetTest {
+
+    @Test
+    @DisplayName("location should reuse the original URL when it needs no encoding")
+    void location_shouldReuseOriginalUrl_whenAlreadyEncoded() {
+        String originalUrl = "https://example.com/path?query=1&other=a%20b#fragment";
+
+        RedirectTarget target = new RedirectTarget(1L, "abc123", originalUrl, null);
+
+        assertSame(originalUrl, target.location());
+    }
+
+    @Test
+    @DisplayName("location should percent-encode spaces and unsafe characters")
+    void location_shouldEncodeUnsafeCharacters() {
+        RedirectTarget target = new RedirectTarget(1L, "abc123", "https://example.com/a b|c\"d", null);
+
+        assertEquals("https://example.com/a%20b%7Cc%22d", target.location());
+    }
+
+    @Test
+    @DisplayName("location should percent-encode non-ASCII characters as UTF-8")
+    void location_shouldEncodeNonAsciiAsUtf8() {
+        RedirectTarget target = new RedirectTarget(1L, "abc123", "https://example.com/año/€", null);
+
+        assertEquals("https://example.com/a%C3%B1o/%E2%82%AC", target.location());
+    }
+
+    @Test
+    @DisplayName("location should neutralize header injection attempts")
+    void location_shouldEncodeLineBreaks() {
+        RedirectTarget target = new RedirectTarget(1L, "abc123", "https://example.com/\r\nSet-Cookie: x=1", null);
+
+        assertFalse(target.location().contains("\r"));
+        assertFalse(target.location().contains("\n"));
+        assertEquals("https://example.com/%0D%0ASet-Cookie:%20x=1", target.location());
+    }
+
+    @Test
+    @DisplayName("isExpired should return true when expiresAt is in the past")
+    void isExpired_shouldReturnTrue_whenExpiresAtIsInPast() {
+        RedirectTarget target = new RedirectTarget(1L, "abc123", "https://example.com", LocalDateTime.now().minusDays(1));
+
+        assertTrue(target.isExpired());
+    }
+
+    @Test
+    @DisplayName("isExpired should return false when expiresAt is null")
+    void isExpired_shouldReturnFalse_whenExpiresAtIsNull() {
+        RedirectTarget target = new RedirectTarget(1L, "abc123", "https://example.com", null);
+
+        assertFalse(target.isExpired());
+    }
+
+    @Test
+    @DisplayName("from should carry the redirect type of the URL")
+    void from_shouldCopyRedirectType() {
+        Url url = new Url(1L, "https://example.com", "abc123", null, null,
+                LocalDateTime.now(), null, 0L, null, RedirectType.CACHEABLE);
+
+        RedirectTarget target = RedirectTarget.from(url);
+
+        assertEquals(RedirectType.CACHEABLE, target.redirectType());
+    }
+
+    @Test
+    @DisplayName("constructor should default to a temporary redirect when no type is given")
+    void constructor_shouldDefaultToTemporary() {
+        RedirectTarget target = new RedirectTarget(1L, "abc123", "https://example.com", null);
+
+        assertEquals(RedirectType.TEMPORARY, target.redirectType());
+    }
+}
@@ -0,0 +1,33 @@
+package dev.ivanhernandez.urlshortener.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("UserAgentClass")
+class UserAgentClassTest {
+
+    @ParameterizedTest(name = "{0} -> {1}")
+    @CsvSource(delimiter = '|', value = {
+            "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 Chrome/126.0 Safari/537.36 | BROWSER",
+            "Mozilla/5.0 (iPhone; CPU iPhone OS 17_5 like Mac OS X) AppleWebKit/605.1.15 Mobile/15E148 | MOBILE",
+            "Mozilla/5.0 (Linux; Android 14; Pixel 8) AppleWebKit/537.36 Chrome/126.0 Mobile Safari/537.36 | MOBILE",
+            "Mozilla/5.0 (compatible; Googlebot/2.1; +http://www.google.com/bot.html) | BOT",
+            "facebookexternalhit/1.1 | BOT",
+            "curl/8.5.0 | OTHER"
+    })
+    @DisplayName("classify should map common user agents to their class")
+    void classify_shouldMapUserAgents(String userAgent, UserAgentClass expected) {
+        assertEquals(expected, UserAgentClass.classify(userAgent));
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @DisplayName("classify should return UNKNOWN when the header is missing")
+    void classify_shouldReturnUnknown_whenMissing(String userAgent) {
+        assertEquals(UserAgentClass.UNKNOWN, UserAgentClass.classify(userAgent));
+    }
+}
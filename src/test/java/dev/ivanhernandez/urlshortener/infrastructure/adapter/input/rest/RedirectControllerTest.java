@@ -1,19 +1,26 @@
 package dev.ivanhernandez.urlshortener.infrastructure.adapter.input.rest;
 
 import dev.ivanhernandez.urlshortener.application.port.input.GetOriginalUrlUseCase;
-import dev.ivanhernandez.urlshortener.domain.exception.ExpiredUrlException;
-import dev.ivanhernandez.urlshortener.domain.exception.UrlNotFoundException;
+import dev.ivanhernandez.urlshortener.domain.model.ClickContext;
+import dev.ivanhernandez.urlshortener.domain.model.RedirectResult;
+import dev.ivanhernandez.urlshortener.domain.model.RedirectTarget;
+import dev.ivanhernandez.urlshortener.domain.model.RedirectType;
 import dev.ivanhernandez.urlshortener.infrastructure.exception.GlobalExceptionHandler;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -26,50 +33,143 @@ class RedirectControllerTest {
     @Mock
     private GetOriginalUrlUseCase getOriginalUrlUseCase;
 
-    @InjectMocks
-    private RedirectController redirectController;
-
     private MockMvc mockMvc;
 
     @BeforeEach
     void setUp() {
-        mockMvc = MockMvcBuilders.standaloneSetup(redirectController)
-                .setControllerAdvice(new GlobalExceptionHandler())
-                .build();
+        mockMvc = mockMvc(true);
     }
 
     @Test
     @DisplayName("GET /r/{shortCode} should return 302 Found with Location header")
     void redirect_shouldReturn302WithLocation() throws Exception {
-        when(getOriginalUrlUseCase.getOriginalUrl("abc123"))
-                .thenReturn("https://example.com");
+        when(getOriginalUrlUseCase.resolveRedirect(eq("abc123"), any()))
+                .thenReturn(RedirectResult.found(new RedirectTarget(1L, "abc123", "https://example.com", null)));
 
         mockMvc.perform(get("/r/abc123"))
                 .andExpect(status().isFound())
-                .andExpect(header().string("Location", "https://example.com"));
+                .andExpect(header().string("Location", "https://example.com"))
+                .andExpect(header().doesNotExist("Cache-Control"));
+
+        verify(getOriginalUrlUseCase).resolveRedirect(eq("abc123"), any());
+    }
+
+    @Test
+    @DisplayName("GET /r/{shortCode} should return 301 with a long max-age for permanent links")
+    void redirect_shouldReturn301WithMaxAge_whenPermanent() throws Exception {
+        when(getOriginalUrlUseCase.resolveRedirect(eq("perm"), any()))
+                .thenReturn(RedirectResult.found(target("perm", null, RedirectType.PERMANENT)));
+
+        mockMvc.perform(get("/r/perm"))
+                .andExpect(status().isMovedPermanently())
+                .andExpect(header().string("Location", "https://example.com"))
+                .andExpect(header().string("Cache-Control", "public, max-age=31536000"))
+                .andExpect(header().exists("Expires"));
+    }
+
+    @Test
+    @DisplayName("GET /r/{shortCode} should return a cacheable 302 for cacheable links")
+    void redirect_shouldReturnCacheable302_whenCacheable() throws Exception {
+        when(getOriginalUrlUseCase.resolveRedirect(eq("cached"), any()))
+                .thenReturn(RedirectResult.found(target("cached", null, RedirectType.CACHEABLE)));
+
+        mockMvc.perform(get("/r/cached"))
+                .andExpect(status().isFound())
+                .andExpect(header().string("Cache-Control", "public, max-age=3600"))
+                .andExpect(header().exists("Expires"));
+    }
+
+    @Test
+    @DisplayName("GET /r/{shortCode} should cap max-age at the time left before the link expires")
+    void redirect_shouldCapMaxAgeAtExpiry() throws Exception {
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(10);
+        when(getOriginalUrlUseCase.resolveRedirect(eq("soon"), any()))
+                .thenReturn(RedirectResult.found(target("soon", expiresAt, RedirectType.PERMANENT)));
+
+        mockMvc.perform(get("/r/soon"))
+                .andExpect(status().isMovedPermanently())
+                .andExpect(header().string("Cache-Control", matchesPattern(
+                        "public, max-age=(59\\d|600)")));
+    }
+
+    @Test
+    @DisplayName("GET /r/{shortCode} should fall back to an uncached 302 when cacheable redirects are disabled")
+    void redirect_shouldReturnPlain302_whenCacheableRedirectsDisabled() throws Exception {
+        mockMvc = mockMvc(false);
+        when(getOriginalUrlUseCase.resolveRedirect(eq("perm"), any()))
+                .thenReturn(RedirectResult.found(target("perm", null, RedirectType.PERMANENT)));
+
+        mockMvc.perform(get("/r/perm"))
+                .andExpect(status().isFound())
+                .andExpect(header().doesNotExist("Cache-Control"))
+                .andExpect(header().doesNotExist("Expires"));
+    }
 
-        verify(getOriginalUrlUseCase).getOriginalUrl("abc123");
+    @Test
+    @DisplayName("GET /r/{shortCode} should write the encoded Location without a body")
+    void redirect_shouldWritePreEncodedLocation() throws Exception {
+        when(getOriginalUrlUseCase.resolveRedirect(eq("spaced"), any()))
+                .thenReturn(RedirectResult.found(new RedirectTarget(1L, "spaced", "https://example.com/a b?q=ñ", null)));
+
+        mockMvc.perform(get("/r/spaced"))
+                .andExpect(status().isFound())
+                .andExpect(header().string("Location", "https://example.com/a%20b?q=%C3%B1"))
+                .andExpect(content().string(""));
     }
 
     @Test
     @DisplayName("GET /r/{shortCode} should return 404 Not Found when URL does not exist")
     void redirect_shouldReturn404_whenNotFound() throws Exception {
-        when(getOriginalUrlUseCase.getOriginalUrl("notfound"))
-                .thenThrow(new UrlNotFoundException("notfound"));
+        when(getOriginalUrlUseCase.resolveRedirect(eq("notfound"), any()))
+                .thenReturn(RedirectResult.NOT_FOUND);
 
         mockMvc.perform(get("/r/notfound"))
                 .andExpect(status().isNotFound())
-                .andExpect(jsonPath("$.status").value(404));
+                .andExpect(content().contentType("application/json"))
+                .andExpect(jsonPath("$.status").value(404))
+                .andExpect(jsonPath("$.message").value("URL not found"));
     }
 
     @Test
     @DisplayName("GET /r/{shortCode} should return 410 Gone when URL is expired")
     void redirect_shouldReturn410_whenExpired() throws Exception {
-        when(getOriginalUrlUseCase.getOriginalUrl("expired"))
-                .thenThrow(new ExpiredUrlException("expired"));
+        when(getOriginalUrlUseCase.resolveRedirect(eq("expired"), any()))
+                .thenReturn(RedirectResult.EXPIRED);
 
         mockMvc.perform(get("/r/expired"))
                 .andExpect(status().isGone())
-                .andExpect(jsonPath("$.status").value(410));
+                .andExpect(jsonPath("$.status").value(410))
+                .andExpect(jsonPath("$.message").value("URL has expired"));
+    }
+
+    @Test
+    @DisplayName("GET /r/{shortCode} should pass the referrer, user agent and client address as click context")
+    void redirect_shouldPassClickContext() throws Exception {
+        when(getOriginalUrlUseCase.resolveRedirect(eq("abc123"), any()))
+                .thenReturn(RedirectResult.found(new RedirectTarget(1L, "abc123", "https://example.com", null)));
+
+        mockMvc.perform(get("/r/abc123")
+                        .header("Referer", "https://news.example.org/post/1")
+                        .header("User-Agent", "Mozilla/5.0 (X11; Linux x86_64)")
+                        .with(request -> {
+                            request.setRemoteAddr("203.0.113.7");
+                            return request;
+                        }))
+                .andExpect(status().isFound());
+
+        verify(getOriginalUrlUseCase).resolveRedirect("abc123",
+                new ClickContext("https://news.example.org/post/1", "Mozilla/5.0 (X11; Linux x86_64)", "203.0.113.7"));
+    }
+
+    private MockMvc mockMvc(boolean cacheableRedirectsEnabled) {
+        RedirectController redirectController = new RedirectController(getOriginalUrlUseCase,
+                cacheableRedirectsEnabled, Duration.ofHours(1), Duration.ofDays(365));
+        return MockMvcBuilders.standaloneSetup(redirectController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    private static RedirectTarget target(String shortCode, LocalDateTime expiresAt, RedirectType redirectType) {
+        return new RedirectTarget(1L, shortCode, "https://example.com", expiresAt, redirectType);
     }
 }
@@ -2,8 +2,12 @@ package dev.ivanhernandez.urlshortener.infrastructure.adapter.input.rest;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.ivanhernandez.urlshortener.application.dto.request.CreateUrlRequest;
+import dev.ivanhernandez.urlshortener.application.dto.response.AliasAvailabilityResponse;
+import dev.ivanhernandez.urlshortener.application.dto.response.BatchCreateResponse;
+import dev.ivanhernandez.urlshortener.application.dto.response.BatchItemResponse;
 import dev.ivanhernandez.urlshortener.application.dto.response.ShortUrlResponse;
 import dev.ivanhernandez.urlshortener.application.dto.response.UrlStatsResponse;
+import dev.ivanhernandez.urlshortener.application.port.input.CheckAliasAvailabilityUseCase;
 import dev.ivanhernandez.urlshortener.application.port.input.CreateShortUrlUseCase;
 import dev.ivanhernandez.urlshortener.application.port.input.DeleteUrlUseCase;
 import dev.ivanhernandez.urlshortener.application.port.input.GetUrlStatsUseCase;
@@ -22,10 +26,14 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -42,6 +50,9 @@ class UrlControllerTest {
     @Mock
     private DeleteUrlUseCase deleteUrlUseCase;
 
+    @Mock
+    private CheckAliasAvailabilityUseCase checkAliasAvailabilityUseCase;
+
     @InjectMocks
     private UrlController urlController;
 
@@ -80,6 +91,42 @@ class UrlControllerTest {
         verify(createShortUrlUseCase).createShortUrl(any());
     }
 
+    @Test
+    @DisplayName("POST /api/v1/urls should return 202 Accepted when respond-async is preferred and accepted")
+    void createShortUrl_shouldReturn202_whenRespondAsyncAccepted() throws Exception {
+        CreateUrlRequest request = new CreateUrlRequest("https://example.com", null, null);
+        ShortUrlResponse response = new ShortUrlResponse(
+                "http://localhost:8081/r/abc123", "abc123", "https://example.com", LocalDateTime.now(), null);
+        when(createShortUrlUseCase.acceptShortUrl(any())).thenReturn(Optional.of(response));
+
+        mockMvc.perform(post("/api/v1/urls")
+                        .header("Prefer", "wait=1, respond-async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Preference-Applied", "respond-async"))
+                .andExpect(jsonPath("$.shortUrl").value("http://localhost:8081/r/abc123"));
+
+        verify(createShortUrlUseCase, never()).createShortUrl(any());
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/urls should fall back to 201 Created when respond-async cannot be applied")
+    void createShortUrl_shouldReturn201_whenRespondAsyncNotApplied() throws Exception {
+        CreateUrlRequest request = new CreateUrlRequest("https://example.com", "alias1", null);
+        ShortUrlResponse response = new ShortUrlResponse(
+                "http://localhost:8081/r/alias1", "alias1", "https://example.com", LocalDateTime.now(), null);
+        when(createShortUrlUseCase.acceptShortUrl(any())).thenReturn(Optional.empty());
+        when(createShortUrlUseCase.createShortUrl(any())).thenReturn(response);
+
+        mockMvc.perform(post("/api/v1/urls")
+                        .header("Prefer", "respond-async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist("Preference-Applied"));
+    }
+
     @Test
     @DisplayName("POST /api/v1/urls should return 400 Bad Request when URL is blank")
     void createShortUrl_shouldReturn400_whenUrlBlank() throws Exception {
@@ -122,6 +169,43 @@ class UrlControllerTest {
                 .andExpect(jsonPath("$.message").value("Custom alias already exists: existing"));
     }
 
+    @Test
+    @DisplayName("POST /api/v1/urls/batch should return 200 OK with per-item results in input order")
+    void createShortUrls_shouldReturn200WithItemResults() throws Exception {
+        List<CreateUrlRequest> requests = List.of(
+                new CreateUrlRequest("https://example.com", null, null),
+                new CreateUrlRequest("not-a-url", null, null)
+        );
+        ShortUrlResponse created = new ShortUrlResponse(
+                "http://localhost:8081/r/abc123", "abc123", "https://example.com", LocalDateTime.now(), null);
+        when(createShortUrlUseCase.createShortUrls(anyList())).thenReturn(BatchCreateResponse.of(List.of(
+                BatchItemResponse.created(0, created),
+                BatchItemResponse.failed(1, "originalUrl: Invalid URL format")
+        )));
+
+        mockMvc.perform(post("/api/v1/urls/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.items[0].url.shortCode").value("abc123"))
+                .andExpect(jsonPath("$.items[1].error").value("originalUrl: Invalid URL format"));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/urls/batch should return 400 Bad Request when the batch is rejected")
+    void createShortUrls_shouldReturn400_whenBatchRejected() throws Exception {
+        when(createShortUrlUseCase.createShortUrls(anyList()))
+                .thenThrow(new InvalidUrlException("A batch must contain between 1 and 1000 URLs"));
+
+        mockMvc.perform(post("/api/v1/urls/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("A batch must contain between 1 and 1000 URLs"));
+    }
+
     @Test
     @DisplayName("GET /api/v1/urls/{shortCode}/stats should return 200 OK with stats")
     void getStats_shouldReturn200WithStats() throws Exception {
@@ -173,4 +257,29 @@ class UrlControllerTest {
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.status").value(404));
     }
+
+    @Test
+    @DisplayName("GET /api/v1/urls/aliases/{alias}/availability should return suggestions when alias is taken")
+    void checkAliasAvailability_shouldReturnSuggestions_whenAliasTaken() throws Exception {
+        when(checkAliasAvailabilityUseCase.checkAvailability("my-link", 2))
+                .thenReturn(new AliasAvailabilityResponse("my-link", false, List.of("my-link1", "my-link-1")));
+
+        mockMvc.perform(get("/api/v1/urls/aliases/my-link/availability").param("suggestions", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.alias").value("my-link"))
+                .andExpect(jsonPath("$.available").value(false))
+                .andExpect(jsonPath("$.suggestions[0]").value("my-link1"))
+                .andExpect(jsonPath("$.suggestions[1]").value("my-link-1"));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/urls/aliases/{alias}/availability should ask for five suggestions by default")
+    void checkAliasAvailability_shouldDefaultToFiveSuggestions() throws Exception {
+        when(checkAliasAvailabilityUseCase.checkAvailability("free", 5))
+                .thenReturn(new AliasAvailabilityResponse("free", true, List.of()));
+
+        mockMvc.perform(get("/api/v1/urls/aliases/free/availability"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.available").value(true));
+    }
 }
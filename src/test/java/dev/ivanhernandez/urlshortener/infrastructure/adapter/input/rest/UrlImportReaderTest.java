@@ -0,0 +1,110 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.input.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.ivanhernandez.urlshortener.application.dto.request.ImportUrlRecord;
+import dev.ivanhernandez.urlshortener.domain.exception.InvalidUrlException;
+import dev.ivanhernandez.urlshortener.domain.model.RedirectType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("UrlImportReader")
+class UrlImportReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("ndjson should read one record per line and skip blank lines")
+    void ndjson_shouldReadRecords() {
+        List<ImportUrlRecord> records = readAll(UrlImportReader.ndjson(reader("""
+                {"originalUrl":"https://example.com/a","shortCode":"a1","redirectType":"permanent"}
+
+                {"originalUrl":"https://example.com/b","expiresAt":"2026-12-31T23:59:59"}
+                """), objectMapper));
+
+        assertEquals(2, records.size());
+        assertEquals(1L, records.get(0).line());
+        assertEquals("a1", records.get(0).shortCode());
+        assertEquals(RedirectType.PERMANENT, records.get(0).redirectType());
+        assertEquals(3L, records.get(1).line());
+        assertNull(records.get(1).shortCode());
+        assertEquals(LocalDateTime.of(2026, 12, 31, 23, 59, 59), records.get(1).expiresAt());
+        assertEquals(RedirectType.TEMPORARY, records.get(1).redirectType());
+    }
+
+    @Test
+    @DisplayName("ndjson should turn unreadable lines into malformed records and keep going")
+    void ndjson_shouldReportMalformedLines() {
+        List<ImportUrlRecord> records = readAll(UrlImportReader.ndjson(reader("""
+                {"originalUrl":
+                ["https://example.com"]
+                {"originalUrl":"https://example.com","expiresAt":"tomorrow"}
+                {"originalUrl":"https://example.com","redirectType":"SOMETIMES"}
+                {"originalUrl":"https://example.com/ok"}
+                """), objectMapper));
+
+        assertEquals("Malformed JSON", records.get(0).parseError());
+        assertEquals("Expected a JSON object", records.get(1).parseError());
+        assertTrue(records.get(2).parseError().startsWith("expiresAt"));
+        assertTrue(records.get(3).parseError().startsWith("redirectType"));
+        assertNull(records.get(4).parseError());
+        assertEquals(5L, records.get(4).line());
+    }
+
+    @Test
+    @DisplayName("csv should map columns by header and unquote fields")
+    void csv_shouldReadRecordsByHeader() {
+        List<ImportUrlRecord> records = readAll(UrlImportReader.csv(reader("""
+                shortCode,originalUrl,redirectType
+                gh,https://github.com,CACHEABLE
+                ,"https://example.com/?q=a,b&t=""x""",
+                """)));
+
+        assertEquals(2, records.size());
+        assertEquals(2L, records.get(0).line());
+        assertEquals("gh", records.get(0).shortCode());
+        assertEquals("https://github.com", records.get(0).originalUrl());
+        assertEquals(RedirectType.CACHEABLE, records.get(0).redirectType());
+        assertNull(records.get(1).shortCode());
+        assertEquals("https://example.com/?q=a,b&t=\"x\"", records.get(1).originalUrl());
+    }
+
+    @Test
+    @DisplayName("csv should report unterminated quotes as malformed records")
+    void csv_shouldReportUnterminatedQuotes() {
+        List<ImportUrlRecord> records = readAll(UrlImportReader.csv(reader("""
+                originalUrl
+                "https://example.com
+                """)));
+
+        assertEquals("Unterminated quoted field", records.get(0).parseError());
+    }
+
+    @Test
+    @DisplayName("csv should reject a header without an originalUrl column")
+    void csv_shouldRejectHeaderWithoutOriginalUrl() {
+        UrlImportReader records = UrlImportReader.csv(reader("""
+                url,shortCode
+                https://example.com,a
+                """));
+
+        assertThrows(InvalidUrlException.class, records::hasNext);
+    }
+
+    private static BufferedReader reader(String content) {
+        return new BufferedReader(new StringReader(content));
+    }
+
+    private static List<ImportUrlRecord> readAll(UrlImportReader reader) {
+        List<ImportUrlRecord> records = new ArrayList<>();
+        reader.forEachRemaining(records::add);
+        return records;
+    }
+}
@@ -0,0 +1,75 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.alias;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SortedShortCodeArray")
+class SortedShortCodeArrayTest {
+
+    @Test
+    @DisplayName("of should sort and deduplicate short codes")
+    void of_shouldSortAndDeduplicate() {
+        SortedShortCodeArray array = build("zeta", "alpha", "mid", "alpha");
+
+        assertEquals(3, array.size());
+        assertTrue(array.contains("alpha"));
+        assertTrue(array.contains("mid"));
+        assertTrue(array.contains("zeta"));
+        assertFalse(array.contains("alph"));
+        assertFalse(array.contains("alphaa"));
+    }
+
+    @Test
+    @DisplayName("contains should return false for an empty array")
+    void contains_shouldReturnFalse_whenEmpty() {
+        assertFalse(SortedShortCodeArray.EMPTY.contains("abc123"));
+        assertEquals(0, SortedShortCodeArray.EMPTY.size());
+    }
+
+    @Test
+    @DisplayName("contains should compare non-ASCII aliases by their UTF-8 bytes")
+    void contains_shouldFindNonAsciiAliases() {
+        SortedShortCodeArray array = build("café", "cafe", "caff");
+
+        assertTrue(array.contains("café"));
+        assertTrue(array.contains("cafe"));
+        assertFalse(array.contains("cafè"));
+    }
+
+    @Test
+    @DisplayName("merge should add new codes and drop removed ones")
+    void merge_shouldApplyAddedAndRemoved() {
+        SortedShortCodeArray array = build("abc123", "def456", "ghi789");
+
+        SortedShortCodeArray merged = array.merge(List.of("new0001", "abc123"), Set.of("def456", "abc123"));
+
+        assertTrue(merged.contains("abc123"));
+        assertFalse(merged.contains("def456"));
+        assertTrue(merged.contains("ghi789"));
+        assertTrue(merged.contains("new0001"));
+        assertEquals(3, merged.size());
+        assertTrue(array.contains("def456"));
+    }
+
+    @Test
+    @DisplayName("sizeInBytes should count packed bytes and offsets")
+    void sizeInBytes_shouldCountPackedBytesAndOffsets() {
+        SortedShortCodeArray array = build("abc", "defg");
+
+        assertEquals(7 + 3 * Integer.BYTES, array.sizeInBytes());
+    }
+
+    private static SortedShortCodeArray build(String... shortCodes) {
+        List<byte[]> encoded = new ArrayList<>();
+        for (String shortCode : shortCodes) {
+            encoded.add(SortedShortCodeArray.encode(shortCode));
+        }
+        return SortedShortCodeArray.of(encoded);
+    }
+}
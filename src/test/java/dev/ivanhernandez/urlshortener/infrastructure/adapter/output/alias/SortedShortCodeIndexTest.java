@@ -0,0 +1,229 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.alias;
+
+import dev.ivanhernandez.urlshortener.application.port.output.InvalidationBus;
+import dev.ivanhernandez.urlshortener.application.port.output.UrlRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SortedShortCodeIndex")
+class SortedShortCodeIndexTest {
+
+    private static final Duration GRACE = Duration.ofMinutes(1);
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    @Mock
+    private UrlRepository urlRepository;
+
+    @Mock
+    private InvalidationBus invalidationBus;
+
+    private final Map<String, LocalDateTime> rows = new ConcurrentHashMap<>();
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T12:00:00Z"));
+    private SimpleMeterRegistry meterRegistry;
+    private SortedShortCodeIndex index;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        index = new SortedShortCodeIndex(urlRepository, invalidationBus, meterRegistry,
+                Duration.ofHours(1), GRACE, 1_000, clock);
+        lenient().doAnswer(invocation -> {
+            LocalDateTime insertedSince = invocation.getArgument(0);
+            BiConsumer<String, LocalDateTime> consumer = invocation.getArgument(1);
+            rows.forEach((shortCode, insertedAt) -> {
+                if (insertedSince == null || !insertedAt.isBefore(insertedSince)) {
+                    consumer.accept(shortCode, insertedAt);
+                }
+            });
+            return null;
+        }).when(urlRepository).forEachShortCodeInsertedSince(any(), any());
+    }
+
+    @Test
+    @DisplayName("isLoaded should be false until the first refresh")
+    void isLoaded_shouldReturnFalse_whenNotRefreshed() {
+        assertFalse(index.isLoaded());
+        assertFalse(index.contains("abc123"));
+    }
+
+    @Test
+    @DisplayName("isLoaded should stay false until a refresh covers the load grace period")
+    void isLoaded_shouldReturnFalse_whenLoadedButNotComplete() {
+        rows.put("abc123", BASE);
+        index.refresh();
+
+        assertFalse(index.isLoaded());
+
+        clock.advance(GRACE);
+        index.refresh();
+
+        assertTrue(index.isLoaded());
+    }
+
+    @Test
+    @DisplayName("refresh should load every existing short code")
+    void refresh_shouldLoadExistingShortCodes() {
+        rows.put("abc123", BASE);
+        rows.put("my-alias", BASE.plusSeconds(1));
+
+        loadComplete();
+
+        assertTrue(index.isLoaded());
+        assertTrue(index.contains("abc123"));
+        assertTrue(index.contains("my-alias"));
+        assertFalse(index.contains("my-alias2"));
+        assertEquals(2.0, meterRegistry.get("short.code.index.codes").gauge().value());
+        assertTrue(meterRegistry.get("short.code.index.memory").gauge().value() > 0);
+    }
+
+    @Test
+    @DisplayName("refresh should pick up short codes created on other instances")
+    void refresh_shouldPickUpNewRows_whenAlreadyLoaded() {
+        rows.put("abc123", BASE);
+        loadComplete();
+
+        rows.put("remote1", BASE.plusSeconds(1));
+        index.refresh();
+
+        assertTrue(index.contains("remote1"));
+    }
+
+    @Test
+    @DisplayName("refresh should pick up rows committed late with an earlier insert time")
+    void refresh_shouldPickUpLateRows_whenWithinGrace() {
+        rows.put("abc123", BASE.plusSeconds(30));
+        loadComplete();
+
+        rows.put("late001", BASE.plusSeconds(5));
+        index.refresh();
+
+        assertTrue(index.contains("late001"));
+    }
+
+    @Test
+    @DisplayName("refresh should report a short code as taken again after it was deleted and re-created")
+    void refresh_shouldClearRemoval_whenShortCodeRecreated() {
+        rows.put("abc123", BASE);
+        loadComplete();
+        rows.remove("abc123");
+        index.remove("abc123");
+
+        rows.put("abc123", BASE.plusSeconds(10));
+        index.refresh();
+
+        assertTrue(index.contains("abc123"));
+    }
+
+    @Test
+    @DisplayName("add and remove should be visible immediately")
+    void addAndRemove_shouldBeVisibleImmediately() {
+        rows.put("abc123", BASE);
+        loadComplete();
+
+        index.add("new0001");
+        index.remove("abc123");
+
+        assertTrue(index.contains("new0001"));
+        assertFalse(index.contains("abc123"));
+    }
+
+    @Test
+    @DisplayName("refresh should not resurrect a short code removed after it was loaded")
+    void refresh_shouldNotResurrectRemovedShortCode() {
+        rows.put("abc123", BASE);
+        loadComplete();
+        rows.remove("abc123");
+        index.remove("abc123");
+
+        index.refresh();
+
+        assertFalse(index.contains("abc123"));
+    }
+
+    @Test
+    @DisplayName("remove should be triggered by invalidations published for deleted short codes")
+    @SuppressWarnings("unchecked")
+    void remove_shouldBeTriggered_whenInvalidationIsDelivered() {
+        ArgumentCaptor<Consumer<String>> listener = ArgumentCaptor.forClass(Consumer.class);
+        verify(invalidationBus).subscribe(listener.capture());
+        rows.put("abc123", BASE);
+        loadComplete();
+
+        listener.getValue().accept("abc123");
+
+        assertFalse(index.contains("abc123"));
+    }
+
+    @Test
+    @DisplayName("compact should fold the overlay into the sorted array")
+    void compact_shouldFoldOverlayIntoArray() {
+        rows.put("abc123", BASE);
+        rows.put("def456", BASE.plusSeconds(1));
+        loadComplete();
+        index.add("new0001");
+        index.remove("def456");
+
+        index.compact();
+
+        assertTrue(index.contains("abc123"));
+        assertTrue(index.contains("new0001"));
+        assertFalse(index.contains("def456"));
+        assertEquals(2.0, meterRegistry.get("short.code.index.codes").gauge().value());
+    }
+
+    private void loadComplete() {
+        index.refresh();
+        clock.advance(GRACE);
+        index.refresh();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        private void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.cache;
+
+import dev.ivanhernandez.urlshortener.domain.model.RedirectTarget;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CaffeineRedirectCache")
+class CaffeineRedirectCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    @Test
+    @DisplayName("get should return cached target after put")
+    void get_shouldReturnTarget_afterPut() {
+        CaffeineRedirectCache cache = createCache(100, 0, Duration.ofMinutes(10));
+        RedirectTarget target = createTarget("abc123", null);
+
+        cache.put(target);
+
+        assertEquals(Optional.of(target), cache.get("abc123"));
+    }
+
+    @Test
+    @DisplayName("get should return empty after evict")
+    void get_shouldReturnEmpty_afterEvict() {
+        CaffeineRedirectCache cache = createCache(100, 0, Duration.ofMinutes(10));
+        cache.put(createTarget("abc123", null));
+
+        cache.evict("abc123");
+
+        assertTrue(cache.get("abc123").isEmpty());
+    }
+
+    @Test
+    @DisplayName("entries should expire after the configured ttl")
+    void get_shouldReturnEmpty_afterTtl() {
+        CaffeineRedirectCache cache = createCache(100, 0, Duration.ofMinutes(10));
+        cache.put(createTarget("abc123", null));
+
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(11));
+
+        assertTrue(cache.get("abc123").isEmpty());
+    }
+
+    @Test
+    @DisplayName("entries should never outlive the URL expiration")
+    void get_shouldReturnEmpty_whenUrlExpiresBeforeTtl() {
+        CaffeineRedirectCache cache = createCache(100, 0, Duration.ofHours(1));
+        cache.put(createTarget("abc123", LocalDateTime.now().plusMinutes(5)));
+
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(6));
+
+        assertTrue(cache.get("abc123").isEmpty());
+    }
+
+    @Test
+    @DisplayName("already expired URLs should not be retained")
+    void put_shouldNotRetain_whenUrlAlreadyExpired() {
+        CaffeineRedirectCache cache = createCache(100, 0, Duration.ofMinutes(10));
+
+        cache.put(createTarget("expired", LocalDateTime.now().minusDays(1)));
+
+        assertTrue(cache.get("expired").isEmpty());
+    }
+
+    @Test
+    @DisplayName("cache should be bounded by max entries")
+    void put_shouldBeBoundedByMaxEntries() {
+        CaffeineRedirectCache cache = createCache(10, 0, Duration.ofMinutes(10));
+
+        for (int i = 0; i < 100; i++) {
+            cache.put(createTarget("code" + i, null));
+        }
+
+        assertTrue(cache.estimatedSize() <= 10);
+    }
+
+    @Test
+    @DisplayName("cache should be bounded by max bytes when configured")
+    void put_shouldBeBoundedByMaxBytes() {
+        CaffeineRedirectCache cache = createCache(100_000, 2_000, Duration.ofMinutes(10));
+
+        for (int i = 0; i < 100; i++) {
+            cache.put(createTarget("code" + i, null));
+        }
+
+        assertTrue(cache.estimatedSize() < 20);
+    }
+
+    private CaffeineRedirectCache createCache(long maxEntries, long maxBytes, Duration ttl) {
+        return new CaffeineRedirectCache(maxEntries, maxBytes, ttl, nanos::get);
+    }
+
+    private RedirectTarget createTarget(String shortCode, LocalDateTime expiresAt) {
+        return new RedirectTarget(1L, shortCode, "https://example.com/" + shortCode, expiresAt);
+    }
+}
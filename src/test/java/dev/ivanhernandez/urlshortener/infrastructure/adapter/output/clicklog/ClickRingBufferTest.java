@@ -0,0 +1,85 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.clicklog;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ClickRingBuffer")
+class ClickRingBufferTest {
+
+    @Test
+    @DisplayName("drain should hand over published events in order and free their slots")
+    void drain_shouldReturnEventsInOrder() {
+        ClickRingBuffer buffer = new ClickRingBuffer(4);
+        buffer.offer(1, 100, "https://a.example", "ua-1");
+        buffer.offer(2, 200, null, null);
+        List<Long> urlIds = new ArrayList<>();
+
+        int drained = buffer.drain((urlId, timestamp, referrer, userAgent) -> urlIds.add(urlId));
+
+        assertEquals(2, drained);
+        assertEquals(List.of(1L, 2L), urlIds);
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    @DisplayName("offer should reject events instead of blocking when the buffer is full")
+    void offer_shouldReturnFalse_whenFull() {
+        ClickRingBuffer buffer = new ClickRingBuffer(2);
+
+        assertTrue(buffer.offer(1, 0, null, null));
+        assertTrue(buffer.offer(2, 0, null, null));
+        assertFalse(buffer.offer(3, 0, null, null));
+
+        buffer.drain((urlId, timestamp, referrer, userAgent) -> { });
+        assertTrue(buffer.offer(4, 0, null, null));
+    }
+
+    @Test
+    @DisplayName("constructor should reject capacities that are not a power of two")
+    void constructor_shouldThrow_whenCapacityNotPowerOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> new ClickRingBuffer(1000));
+    }
+
+    @Test
+    @DisplayName("offer should account for every event from concurrent producers as drained or rejected")
+    void offer_shouldNotLoseEvents_whenProducersRace() throws Exception {
+        ClickRingBuffer buffer = new ClickRingBuffer(1024);
+        int producers = 4;
+        int perProducer = 20_000;
+        AtomicInteger rejected = new AtomicInteger();
+        Set<Long> drained = new HashSet<>();
+        CountDownLatch done = new CountDownLatch(producers);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        for (int p = 0; p < producers; p++) {
+            long base = (long) p * perProducer;
+            executor.execute(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    if (!buffer.offer(base + i, i, null, null)) {
+                        rejected.incrementAndGet();
+                    }
+                }
+                done.countDown();
+            });
+        }
+        while (done.getCount() > 0) {
+            buffer.drain((urlId, timestamp, referrer, userAgent) -> assertTrue(drained.add(urlId)));
+        }
+        buffer.drain((urlId, timestamp, referrer, userAgent) -> assertTrue(drained.add(urlId)));
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+        assertEquals(producers * perProducer, drained.size() + rejected.get());
+    }
+}
@@ -0,0 +1,139 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.clicklog;
+
+import dev.ivanhernandez.urlshortener.domain.model.ClickContext;
+import dev.ivanhernandez.urlshortener.domain.model.ClickEvent;
+import dev.ivanhernandez.urlshortener.domain.model.UserAgentClass;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MappedClickEventLog")
+class MappedClickEventLogTest {
+
+    @TempDir
+    Path directory;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("drain should append click events to a segment that can be read back")
+    void drain_shouldWriteReadableSegment() throws Exception {
+        MappedClickEventLog clickLog = newLog(1024, 1 << 20);
+        clickLog.start();
+        long before = System.currentTimeMillis();
+
+        clickLog.recordClick(42, new ClickContext("https://User:pw@News.Example.org:8443/post?id=1",
+                "Mozilla/5.0 (compatible; Googlebot/2.1)", "203.0.113.7"));
+        clickLog.recordClick(300_000_000_000L, ClickContext.NONE);
+        clickLog.drain();
+        clickLog.stop();
+
+        List<ClickEvent> events = readAll();
+        assertEquals(2, events.size());
+        ClickEvent first = events.get(0);
+        assertEquals(42, first.urlId());
+        assertEquals("news.example.org", first.referrerHost());
+        assertEquals(UserAgentClass.BOT, first.userAgentClass());
+        assertTrue(first.occurredAt().toEpochMilli() >= before);
+        ClickEvent second = events.get(1);
+        assertEquals(300_000_000_000L, second.urlId());
+        assertNull(second.referrerHost());
+        assertEquals(UserAgentClass.UNKNOWN, second.userAgentClass());
+        assertEquals(2.0, meterRegistry.get("click.events.written").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("recordClick should drop and count events instead of blocking when the buffer is full")
+    void recordClick_shouldDropAndCount_whenBufferFull() throws Exception {
+        MappedClickEventLog clickLog = newLog(2, 1 << 20);
+        clickLog.start();
+
+        for (int i = 0; i < 5; i++) {
+            clickLog.recordClick(i, ClickContext.NONE);
+        }
+        clickLog.stop();
+
+        assertEquals(3, clickLog.droppedEvents());
+        assertEquals(3.0, meterRegistry.get("click.events.dropped").functionCounter().count());
+        assertEquals(2, readAll().size());
+    }
+
+    @Test
+    @DisplayName("drain should rotate to a new segment when the current one is full")
+    void drain_shouldRotate_whenSegmentFull() throws Exception {
+        MappedClickEventLog clickLog = newLog(1024, ClickSegment.HEADER_BYTES + 2L * ClickSegment.MAX_RECORD_BYTES);
+        clickLog.start();
+
+        for (int i = 0; i < 100; i++) {
+            clickLog.recordClick(i, new ClickContext("https://example.com/", "curl/8.5.0", null));
+        }
+        clickLog.drain();
+        clickLog.stop();
+
+        assertTrue(segments().size() > 1);
+        List<ClickEvent> events = readAll();
+        assertEquals(100, events.size());
+        for (int i = 0; i < events.size(); i++) {
+            assertEquals(i, events.get(i).urlId());
+        }
+    }
+
+    @Test
+    @DisplayName("segments should be truncated to the written records once closed")
+    void stop_shouldTruncateSegment() throws Exception {
+        MappedClickEventLog clickLog = newLog(1024, 1 << 20);
+        clickLog.start();
+        clickLog.recordClick(1, ClickContext.NONE);
+        clickLog.drain();
+        clickLog.stop();
+
+        assertTrue(Files.size(segments().get(0)) < 64);
+    }
+
+    @Test
+    @DisplayName("start should continue segment numbering after existing segments")
+    void start_shouldContinueNumbering_whenSegmentsExist() throws Exception {
+        Files.writeString(directory.resolve("clicks-0000000000000000007.seg"), "", StandardCharsets.UTF_8);
+        MappedClickEventLog clickLog = newLog(1024, 1 << 20);
+        clickLog.start();
+        clickLog.recordClick(1, ClickContext.NONE);
+        clickLog.drain();
+        clickLog.stop();
+
+        assertTrue(Files.exists(directory.resolve("clicks-0000000000000000008.seg")));
+    }
+
+    private MappedClickEventLog newLog(int bufferCapacity, long segmentSize) {
+        return new MappedClickEventLog(meterRegistry, directory, bufferCapacity, segmentSize,
+                Duration.ofHours(1), Duration.ofHours(1));
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".seg"))
+                    .filter(file -> file.toFile().length() > 0)
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private List<ClickEvent> readAll() throws IOException {
+        List<ClickEvent> events = new ArrayList<>();
+        for (Path segment : segments()) {
+            ClickSegment.read(segment, events::add);
+        }
+        return events;
+    }
+}
@@ -0,0 +1,168 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.counter;
+
+import dev.ivanhernandez.urlshortener.application.port.output.UrlRepository;
+import dev.ivanhernandez.urlshortener.domain.model.AccessCountDelta;
+import dev.ivanhernandez.urlshortener.domain.model.RedirectTarget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BufferedAccessCounter")
+class BufferedAccessCounterTest {
+
+    @Mock
+    private UrlRepository urlRepository;
+
+    @Captor
+    private ArgumentCaptor<List<AccessCountDelta>> deltasCaptor;
+
+    private BufferedAccessCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        counter = new BufferedAccessCounter(urlRepository, Duration.ofHours(1), 10_000);
+    }
+
+    @Test
+    @DisplayName("flush should aggregate accesses per short code into a single batch")
+    void flush_shouldAggregateAccessesPerShortCode() {
+        counter.recordAccess("abc123");
+        counter.recordAccess("abc123");
+        counter.recordAccess("abc123");
+        counter.recordAccess("def456");
+
+        counter.flush();
+
+        assertEquals(Map.of("abc123", 3L, "def456", 1L), captureFlushedDeltas());
+    }
+
+    @Test
+    @DisplayName("flush should not touch the repository when nothing was recorded")
+    void flush_shouldDoNothing_whenNoAccesses() {
+        counter.flush();
+
+        verifyNoInteractions(urlRepository);
+    }
+
+    @Test
+    @DisplayName("flush should drop idle short codes from the buffer")
+    void flush_shouldDropIdleShortCodes() {
+        counter.recordAccess("abc123");
+        counter.flush();
+
+        counter.flush();
+
+        assertEquals(0, counter.bufferedKeys());
+        verify(urlRepository, times(1)).incrementAccessCounts(anyList());
+    }
+
+    @Test
+    @DisplayName("flush should keep deltas buffered when the repository fails")
+    void flush_shouldKeepDeltas_whenRepositoryFails() {
+        counter.recordAccess("abc123");
+        counter.recordAccess("abc123");
+        doThrow(new IllegalStateException("database down"))
+                .doNothing()
+                .when(urlRepository).incrementAccessCounts(anyList());
+
+        assertThrows(IllegalStateException.class, () -> counter.flush());
+        counter.flush();
+
+        verify(urlRepository, times(2)).incrementAccessCounts(deltasCaptor.capture());
+        assertEquals(2L, deltasCaptor.getAllValues().get(1).getFirst().accesses());
+    }
+
+    @Test
+    @DisplayName("concurrent accesses should never be lost")
+    void recordAccess_shouldNotLoseConcurrentAccesses() throws Exception {
+        List<Long> flushed = new ArrayList<>();
+        doAnswer(invocation -> {
+            List<AccessCountDelta> deltas = invocation.getArgument(0);
+            deltas.forEach(delta -> flushed.add(delta.accesses()));
+            return null;
+        }).when(urlRepository).incrementAccessCounts(anyList());
+
+        int threads = 8;
+        int accessesPerThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                for (int j = 0; j < accessesPerThread; j++) {
+                    counter.recordAccess("hot");
+                    if (j % 1_000 == 0) {
+                        counter.flush();
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        counter.flush();
+
+        assertEquals((long) threads * accessesPerThread, flushed.stream().mapToLong(Long::longValue).sum());
+    }
+
+    @Test
+    @DisplayName("resolveAndRecordAccess should buffer the access for a live URL")
+    void resolveAndRecordAccess_shouldBufferAccess_whenUrlIsLive() {
+        RedirectTarget target = new RedirectTarget(1L, "abc123", "https://example.com", null);
+        when(urlRepository.findRedirectTarget("abc123")).thenReturn(Optional.of(target));
+
+        Optional<RedirectTarget> result = counter.resolveAndRecordAccess("abc123");
+        counter.flush();
+
+        assertEquals(Optional.of(target), result);
+        assertEquals(Map.of("abc123", 1L), captureFlushedDeltas());
+    }
+
+    @Test
+    @DisplayName("resolveAndRecordAccess should not count accesses to expired URLs")
+    void resolveAndRecordAccess_shouldNotCount_whenUrlExpired() {
+        RedirectTarget target = new RedirectTarget(1L, "old", "https://example.com", LocalDateTime.now().minusDays(1));
+        when(urlRepository.findRedirectTarget("old")).thenReturn(Optional.of(target));
+
+        counter.resolveAndRecordAccess("old");
+
+        assertEquals(0, counter.bufferedKeys());
+    }
+
+    @Test
+    @DisplayName("stop should drain pending accesses")
+    void stop_shouldDrainPendingAccesses() throws Exception {
+        counter.recordAccess("abc123");
+
+        counter.stop();
+
+        assertEquals(Map.of("abc123", 1L), captureFlushedDeltas());
+    }
+
+    private Map<String, Long> captureFlushedDeltas() {
+        verify(urlRepository).incrementAccessCounts(deltasCaptor.capture());
+        return deltasCaptor.getValue().stream()
+                .collect(Collectors.toMap(AccessCountDelta::shortCode, AccessCountDelta::accesses));
+    }
+}
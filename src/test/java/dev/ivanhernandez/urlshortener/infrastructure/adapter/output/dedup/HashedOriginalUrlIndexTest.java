@@ -0,0 +1,115 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.dedup;
+
+import dev.ivanhernandez.urlshortener.application.port.output.UrlRepository;
+import dev.ivanhernandez.urlshortener.domain.model.RedirectType;
+import dev.ivanhernandez.urlshortener.domain.model.Url;
+import dev.ivanhernandez.urlshortener.infrastructure.adapter.output.invalidation.InMemoryInvalidationBus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HashedOriginalUrlIndex")
+class HashedOriginalUrlIndexTest {
+
+    @Mock
+    private UrlRepository urlRepository;
+
+    private InMemoryInvalidationBus invalidationBus;
+    private HashedOriginalUrlIndex index;
+
+    @BeforeEach
+    void setUp() {
+        invalidationBus = new InMemoryInvalidationBus();
+        index = new HashedOriginalUrlIndex(urlRepository, invalidationBus, new SimpleMeterRegistry(),
+                100, Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("digest should be fixed-width and equal for equivalent URLs")
+    void digest_shouldMatchEquivalentUrls() {
+        byte[] digest = index.digest("https://Example.com");
+
+        assertEquals(HashedOriginalUrlIndex.DIGEST_BYTES, digest.length);
+        assertArrayEquals(digest, index.digest(" HTTPS://example.COM:443 "));
+        assertFalse(Arrays.equals(digest, index.digest("https://example.com/other")));
+    }
+
+    @Test
+    @DisplayName("find should serve recently added URLs without querying the repository")
+    void find_shouldUseRecentCache_whenAdded() {
+        Url saved = createUrl("abc123", "https://example.com");
+        index.add(saved);
+
+        Optional<Url> found = index.find(createUrl(null, "https://EXAMPLE.com"));
+
+        assertEquals("abc123", found.orElseThrow().getShortCode());
+        verifyNoInteractions(urlRepository);
+    }
+
+    @Test
+    @DisplayName("find should query the repository once and cache the match")
+    void find_shouldQueryRepositoryOnce_whenNotCached() {
+        Url stored = createUrl("abc123", "https://example.com");
+        when(urlRepository.findByOriginalUrlHash(any(), eq(RedirectType.TEMPORARY))).thenReturn(Optional.of(stored));
+
+        index.find(createUrl(null, "https://example.com"));
+        Optional<Url> found = index.find(createUrl(null, "https://example.com"));
+
+        assertEquals("abc123", found.orElseThrow().getShortCode());
+        verify(urlRepository, times(1)).findByOriginalUrlHash(any(), eq(RedirectType.TEMPORARY));
+    }
+
+    @Test
+    @DisplayName("find should not match a URL with a different redirect type")
+    void find_shouldSeparateRedirectTypes() {
+        index.add(createUrl("abc123", "https://example.com"));
+        Url permanent = createUrl(null, "https://example.com");
+        permanent.setRedirectType(RedirectType.PERMANENT);
+
+        assertTrue(index.find(permanent).isEmpty());
+    }
+
+    @Test
+    @DisplayName("find should query the repository again after the short code is invalidated")
+    void find_shouldForgetDeletedShortCodes() {
+        index.add(createUrl("gone1", "https://example.com"));
+
+        invalidationBus.publish("gone1");
+
+        assertTrue(index.find(createUrl(null, "https://example.com")).isEmpty());
+        verify(urlRepository).findByOriginalUrlHash(any(), eq(RedirectType.TEMPORARY));
+    }
+
+    @Test
+    @DisplayName("find and add should ignore URLs without a hash")
+    void find_shouldIgnoreUnhashedUrls() {
+        Url url = createUrl("abc123", "https://example.com");
+        url.setOriginalUrlHash(null);
+
+        index.add(url);
+
+        assertTrue(index.find(url).isEmpty());
+        verifyNoInteractions(urlRepository);
+    }
+
+    private Url createUrl(String shortCode, String originalUrl) {
+        Url url = new Url();
+        url.setShortCode(shortCode);
+        url.setOriginalUrl(originalUrl);
+        url.setOriginalUrlHash(index.digest(originalUrl));
+        return url;
+    }
+}
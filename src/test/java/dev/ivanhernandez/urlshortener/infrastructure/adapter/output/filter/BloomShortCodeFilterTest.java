@@ -0,0 +1,224 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.filter;
+
+import dev.ivanhernandez.urlshortener.application.port.output.UrlRepository;
+import dev.ivanhernandez.urlshortener.infrastructure.adapter.output.invalidation.InMemoryCreationBus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BloomShortCodeFilter")
+class BloomShortCodeFilterTest {
+
+    private static final Duration GRACE = Duration.ofMinutes(1);
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    @Mock
+    private UrlRepository urlRepository;
+
+    private final Map<String, LocalDateTime> rows = new ConcurrentHashMap<>();
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T12:00:00Z"));
+    private final InMemoryCreationBus creationBus = new InMemoryCreationBus();
+    private SimpleMeterRegistry meterRegistry;
+    private BloomShortCodeFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = newFilter(meterRegistry);
+        lenient().doAnswer(invocation -> {
+            LocalDateTime insertedSince = invocation.getArgument(0);
+            BiConsumer<String, LocalDateTime> consumer = invocation.getArgument(1);
+            rows.forEach((shortCode, insertedAt) -> {
+                if (insertedSince == null || !insertedAt.isBefore(insertedSince)) {
+                    consumer.accept(shortCode, insertedAt);
+                }
+            });
+            return null;
+        }).when(urlRepository).forEachShortCodeInsertedSince(any(), any());
+    }
+
+    @Test
+    @DisplayName("mightContain should let every lookup through until the filter is loaded")
+    void mightContain_shouldReturnTrue_whenNotLoaded() {
+        assertFalse(filter.isLoaded());
+        assertTrue(filter.mightContain("anything"));
+    }
+
+    @Test
+    @DisplayName("mightContain should let misses through until a refresh covers the rebuild grace period")
+    void mightContain_shouldReturnTrue_whenLoadedButNotComplete() {
+        rows.put("abc123", BASE);
+        filter.refresh();
+
+        assertTrue(filter.isLoaded());
+        assertFalse(filter.isComplete());
+        assertTrue(filter.mightContain("zzz999"));
+
+        clock.advance(GRACE);
+        filter.refresh();
+
+        assertTrue(filter.isComplete());
+        assertFalse(filter.mightContain("zzz999"));
+    }
+
+    @Test
+    @DisplayName("refresh should load existing short codes and reject unknown ones")
+    void refresh_shouldLoadExistingShortCodes() {
+        rows.put("abc123", BASE);
+        rows.put("def456", BASE.plusSeconds(1));
+
+        loadComplete();
+
+        assertTrue(filter.mightContain("abc123"));
+        assertTrue(filter.mightContain("def456"));
+        assertFalse(filter.mightContain("zzz999"));
+        assertEquals(1.0, meterRegistry.get("short.code.filter.rejections").counter().count());
+    }
+
+    @Test
+    @DisplayName("add should make a new short code visible immediately")
+    void add_shouldMakeShortCodeVisible() {
+        loadComplete();
+
+        filter.add("new1234");
+
+        assertTrue(filter.mightContain("new1234"));
+    }
+
+    @Test
+    @DisplayName("add should make a short code created on another node visible before the next refresh")
+    void add_shouldReachOtherFilters_throughCreationBus() {
+        BloomShortCodeFilter other = newFilter(new SimpleMeterRegistry());
+        loadComplete();
+        other.refresh();
+        clock.advance(GRACE);
+        other.refresh();
+        assertFalse(other.mightContain("remote1"));
+
+        filter.add("remote1");
+
+        assertTrue(other.mightContain("remote1"));
+    }
+
+    @Test
+    @DisplayName("add should keep short codes created while the filter is being rebuilt")
+    void add_shouldKeepShortCodes_whenAddedDuringRebuild() {
+        doAnswer(invocation -> {
+            filter.add("racing1");
+            return null;
+        }).when(urlRepository).forEachShortCodeInsertedSince(any(), any());
+
+        filter.refresh();
+
+        assertTrue(filter.mightContain("racing1"));
+    }
+
+    @Test
+    @DisplayName("refresh should pick up rows committed late with an insert time behind the watermark")
+    void refresh_shouldLoadLateRows_fromInsertedAtWatermarkWithGrace() {
+        rows.put("abc123", BASE);
+        rows.put("def456", BASE.plusSeconds(30));
+        loadComplete();
+        rows.put("late001", BASE.plusSeconds(5));
+        rows.put("other01", BASE.plusSeconds(40));
+
+        filter.refresh();
+
+        assertTrue(filter.mightContain("late001"));
+        assertTrue(filter.mightContain("other01"));
+        verify(urlRepository, atLeastOnce())
+                .forEachShortCodeInsertedSince(eq(BASE.plusSeconds(30).minus(GRACE)), any());
+    }
+
+    @Test
+    @DisplayName("remove should trigger a rebuild once deletions pass the configured ratio")
+    void remove_shouldRequestRebuild_whenDeletionRatioExceeded() {
+        rows.put("abc123", BASE);
+        rows.put("def456", BASE.plusSeconds(1));
+        loadComplete();
+        filter.stop();
+        rows.remove("abc123");
+
+        filter.remove("abc123");
+        filter.remove("abc123");
+        filter.refresh();
+        clock.advance(GRACE);
+        filter.refresh();
+
+        assertFalse(filter.mightContain("abc123"));
+        verify(urlRepository, times(2)).forEachShortCodeInsertedSince(isNull(), any());
+    }
+
+    @Test
+    @DisplayName("gauges should expose false positive rate and memory size")
+    void gauges_shouldExposeFilterStatistics() {
+        rows.put("abc123", BASE);
+        filter.refresh();
+
+        double falsePositiveRate = meterRegistry.get("short.code.filter.false.positive.rate").gauge().value();
+        double memory = meterRegistry.get("short.code.filter.memory").gauge().value();
+
+        assertTrue(falsePositiveRate > 0 && falsePositiveRate < 0.001);
+        assertTrue(memory > 0);
+        assertEquals(1.0, meterRegistry.get("short.code.filter.codes").gauge().value());
+    }
+
+    private BloomShortCodeFilter newFilter(SimpleMeterRegistry registry) {
+        return new BloomShortCodeFilter(urlRepository, creationBus, registry, 1_000, 0.001, Duration.ofHours(1),
+                GRACE, 0.5, clock);
+    }
+
+    private void loadComplete() {
+        filter.refresh();
+        clock.advance(GRACE);
+        filter.refresh();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        private void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
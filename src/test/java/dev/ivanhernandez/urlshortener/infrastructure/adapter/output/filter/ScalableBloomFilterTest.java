@@ -0,0 +1,76 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ScalableBloomFilter")
+class ScalableBloomFilterTest {
+
+    @Test
+    @DisplayName("mightContain should never return false for inserted values")
+    void mightContain_shouldReturnTrue_forInsertedValues() {
+        ScalableBloomFilter filter = new ScalableBloomFilter(1_000, 0.01);
+
+        for (int i = 0; i < 1_000; i++) {
+            filter.put("code" + i);
+        }
+
+        for (int i = 0; i < 1_000; i++) {
+            assertTrue(filter.mightContain("code" + i));
+        }
+    }
+
+    @Test
+    @DisplayName("mightContain should reject most unknown values")
+    void mightContain_shouldRejectMostUnknownValues() {
+        ScalableBloomFilter filter = new ScalableBloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("code" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain("unknown" + i)) {
+                falsePositives++;
+            }
+        }
+
+        assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+    }
+
+    @Test
+    @DisplayName("put should add stages when capacity is exceeded and keep the error bound")
+    void put_shouldGrow_whenCapacityExceeded() {
+        ScalableBloomFilter filter = new ScalableBloomFilter(100, 0.01);
+
+        for (int i = 0; i < 1_000; i++) {
+            filter.put("code" + i);
+        }
+
+        assertTrue(filter.stageCount() > 1);
+        assertTrue(filter.expectedFalsePositiveRate() < 0.01);
+        for (int i = 0; i < 1_000; i++) {
+            assertTrue(filter.mightContain("code" + i));
+        }
+    }
+
+    @Test
+    @DisplayName("put should not count a value twice")
+    void put_shouldIgnoreDuplicates() {
+        ScalableBloomFilter filter = new ScalableBloomFilter(100, 0.01);
+
+        filter.put("abc123");
+        filter.put("abc123");
+
+        assertEquals(1, filter.approximateElementCount());
+    }
+
+    @Test
+    @DisplayName("constructor should reject invalid false positive probability")
+    void constructor_shouldThrow_whenProbabilityInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> new ScalableBloomFilter(100, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> new ScalableBloomFilter(100, 0.0));
+    }
+}
@@ -0,0 +1,91 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.hotlinks;
+
+import dev.ivanhernandez.urlshortener.domain.model.HeavyHitter;
+import dev.ivanhernandez.urlshortener.domain.model.RedirectTarget;
+import dev.ivanhernandez.urlshortener.infrastructure.adapter.output.cache.CaffeineRedirectCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PinnedRedirectCache")
+class PinnedRedirectCacheTest {
+
+    private CaffeineRedirectCache delegate;
+    private SpaceSavingHeavyHitterTracker tracker;
+    private PinnedRedirectCache cache;
+
+    @BeforeEach
+    void setUp() {
+        delegate = new CaffeineRedirectCache(100, 0, Duration.ofMinutes(10));
+        tracker = new SpaceSavingHeavyHitterTracker(new SimpleMeterRegistry(), 16, Duration.ofSeconds(10), 4, 0);
+        cache = new PinnedRedirectCache(delegate, tracker, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        tracker.stop();
+    }
+
+    @Test
+    @DisplayName("repin should keep a pinned target after it is evicted from the regular cache")
+    void repin_shouldKeepTargetResident_whenDelegateLosesIt() {
+        RedirectTarget target = target("hot", null);
+        cache.put(target);
+
+        cache.repin(List.of(hitter("hot", true)));
+        delegate.evict("hot");
+
+        assertEquals(Optional.of(target), cache.get("hot"));
+        assertEquals(1, cache.pinnedCount());
+    }
+
+    @Test
+    @DisplayName("repin should ignore hitters that are not marked as pinned or not cached")
+    void repin_shouldSkipUnpinnedAndUncachedHitters() {
+        cache.put(target("warm", null));
+
+        cache.repin(List.of(hitter("warm", false), hitter("unknown", true)));
+
+        assertEquals(0, cache.pinnedCount());
+    }
+
+    @Test
+    @DisplayName("evict should remove the short code from the pinned tier and the regular cache")
+    void evict_shouldRemovePinnedTarget() {
+        cache.put(target("hot", null));
+        cache.repin(List.of(hitter("hot", true)));
+
+        cache.evict("hot");
+
+        assertTrue(cache.get("hot").isEmpty());
+        assertEquals(0, cache.pinnedCount());
+    }
+
+    @Test
+    @DisplayName("tracker windows should pin the current heavy hitters")
+    void trackerRotation_shouldRepin() {
+        cache.put(target("hot", null));
+        tracker.recordHit("hot");
+
+        tracker.rotate();
+
+        assertEquals(1, cache.pinnedCount());
+    }
+
+    private static RedirectTarget target(String shortCode, LocalDateTime expiresAt) {
+        return new RedirectTarget(1L, shortCode, "https://example.com/" + shortCode, expiresAt);
+    }
+
+    private static HeavyHitter hitter(String shortCode, boolean pinned) {
+        return new HeavyHitter(shortCode, 100, 0, 10.0, pinned);
+    }
+}
@@ -0,0 +1,92 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.hotlinks;
+
+import dev.ivanhernandez.urlshortener.domain.model.HeavyHitter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SpaceSavingHeavyHitterTracker")
+class SpaceSavingHeavyHitterTrackerTest {
+
+    private SpaceSavingHeavyHitterTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new SpaceSavingHeavyHitterTracker(new SimpleMeterRegistry(), 16, Duration.ofSeconds(10), 1, 5);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tracker.stop();
+    }
+
+    @Test
+    @DisplayName("topHitters should be empty until the first window completes")
+    void topHitters_shouldBeEmpty_beforeFirstWindow() {
+        tracker.recordHit("abc123");
+
+        assertTrue(tracker.topHitters(10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("rotate should publish hitters ordered by estimated rate")
+    void rotate_shouldPublishRankedHitters() {
+        record("hot", 100);
+        record("warm", 30);
+        record("cold", 1);
+
+        tracker.rotate();
+
+        List<HeavyHitter> top = tracker.topHitters(2);
+        assertEquals(2, top.size());
+        assertEquals("hot", top.get(0).shortCode());
+        assertEquals(100, top.get(0).estimatedHits());
+        assertEquals(10.0, top.get(0).requestsPerSecond(), 0.001);
+        assertEquals("warm", top.get(1).shortCode());
+    }
+
+    @Test
+    @DisplayName("rotate should pin only the top codes above the minimum rate")
+    void rotate_shouldMarkPinnedHitters() {
+        record("hot", 100);
+        record("warm", 80);
+        record("cold", 10);
+
+        tracker.rotate();
+
+        List<HeavyHitter> top = tracker.topHitters(3);
+        assertTrue(top.get(0).pinned());
+        assertFalse(top.get(1).pinned());
+        assertFalse(top.get(2).pinned());
+    }
+
+    @Test
+    @DisplayName("rotate should start a new window and notify subscribers")
+    void rotate_shouldResetWindowAndNotify() {
+        List<List<HeavyHitter>> published = new ArrayList<>();
+        tracker.subscribe(published::add);
+        record("hot", 100);
+
+        tracker.rotate();
+        tracker.rotate();
+
+        assertEquals(2, published.size());
+        assertEquals(1, published.get(0).size());
+        assertTrue(published.get(1).isEmpty());
+        assertTrue(tracker.topHitters(10).isEmpty());
+    }
+
+    private void record(String shortCode, int hits) {
+        for (int i = 0; i < hits; i++) {
+            tracker.recordHit(shortCode);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.hotlinks;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SpaceSavingSketch")
+class SpaceSavingSketchTest {
+
+    @Test
+    @DisplayName("top should return exact counts while there are fewer keys than counters")
+    void top_shouldReturnExactCounts_whenUnderCapacity() {
+        SpaceSavingSketch sketch = new SpaceSavingSketch(4);
+        add(sketch, "a", 5);
+        add(sketch, "b", 3);
+        add(sketch, "c", 1);
+
+        List<SpaceSavingSketch.Counter> top = sketch.top(2);
+
+        assertEquals(List.of(
+                new SpaceSavingSketch.Counter("a", 5, 0),
+                new SpaceSavingSketch.Counter("b", 3, 0)), top);
+    }
+
+    @Test
+    @DisplayName("top should keep heavy hitters when the key space exceeds the counters")
+    void top_shouldFindHeavyHitters_whenManyColdKeys() {
+        SpaceSavingSketch sketch = new SpaceSavingSketch(16);
+        Random random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            int roll = random.nextInt(100);
+            if (roll < 30) {
+                sketch.add("hot-1");
+            } else if (roll < 50) {
+                sketch.add("hot-2");
+            } else {
+                sketch.add("cold-" + random.nextInt(10_000));
+            }
+        }
+
+        List<SpaceSavingSketch.Counter> top = sketch.top(2);
+
+        assertEquals("hot-1", top.get(0).key());
+        assertEquals("hot-2", top.get(1).key());
+        assertTrue(top.get(0).count() - top.get(0).error() <= 6_500);
+        assertTrue(top.get(0).count() >= 5_500);
+        assertEquals(16, sketch.size());
+    }
+
+    @Test
+    @DisplayName("replacing the minimum counter should record its count as the error bound")
+    void add_shouldInheritMinimumCountAsError_whenFull() {
+        SpaceSavingSketch sketch = new SpaceSavingSketch(2);
+        add(sketch, "a", 3);
+        add(sketch, "b", 2);
+
+        sketch.add("c");
+
+        List<SpaceSavingSketch.Counter> top = sketch.top(2);
+        assertEquals(new SpaceSavingSketch.Counter("a", 3, 0), top.get(0));
+        assertEquals(new SpaceSavingSketch.Counter("c", 3, 2), top.get(1));
+    }
+
+    @Test
+    @DisplayName("clear should forget every counter")
+    void clear_shouldRemoveAllCounters() {
+        SpaceSavingSketch sketch = new SpaceSavingSketch(4);
+        add(sketch, "a", 2);
+
+        sketch.clear();
+
+        assertEquals(0, sketch.size());
+        assertTrue(sketch.top(4).isEmpty());
+    }
+
+    private static void add(SpaceSavingSketch sketch, String key, int times) {
+        for (int i = 0; i < times; i++) {
+            sketch.add(key);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.index;
+
+import dev.ivanhernandez.urlshortener.domain.model.RedirectTarget;
+import dev.ivanhernandez.urlshortener.domain.model.RedirectType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("IndexSegment")
+class IndexSegmentTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("find should return every target written to the segment")
+    void find_shouldReturnWrittenTargets() throws IOException {
+        LocalDateTime expiresAt = LocalDateTime.of(2030, 1, 2, 3, 4, 5, 600_000_000);
+        IndexSegment segment = write(
+                new RedirectTarget(1L, "abc123", "https://example.com/one", expiresAt),
+                new RedirectTarget(2L, "def456", "https://example.com/two", null));
+
+        RedirectTarget first = find(segment, "abc123");
+        RedirectTarget second = find(segment, "def456");
+
+        assertEquals(new RedirectTarget(1L, "abc123", "https://example.com/one", expiresAt), first);
+        assertEquals(new RedirectTarget(2L, "def456", "https://example.com/two", null), second);
+        assertEquals(2, segment.entryCount());
+        assertEquals(2, segment.highestId());
+    }
+
+    @Test
+    @DisplayName("find should return null when the short code is not in the segment")
+    void find_shouldReturnNull_whenShortCodeIsAbsent() throws IOException {
+        IndexSegment segment = write(new RedirectTarget(1L, "abc123", "https://example.com", null));
+
+        assertNull(find(segment, "zzz999"));
+    }
+
+    @Test
+    @DisplayName("find should return the deleted marker for a tombstone")
+    void find_shouldReturnDeleted_whenTombstoned() throws IOException {
+        Path path = directory.resolve("segment.idx");
+        try (IndexSegmentWriter writer = new IndexSegmentWriter(path)) {
+            writer.putTombstone("abc123");
+            writer.finish();
+        }
+
+        assertSame(IndexSegment.DELETED, find(IndexSegment.open(path), "abc123"));
+    }
+
+    @Test
+    @DisplayName("find should return the last record written for a repeated short code")
+    void find_shouldReturnLatestRecord_whenShortCodeRepeats() throws IOException {
+        IndexSegment segment = write(
+                new RedirectTarget(1L, "abc123", "https://example.com/old", null),
+                new RedirectTarget(1L, "abc123", "https://example.com/new", null));
+
+        assertEquals("https://example.com/new", find(segment, "abc123").originalUrl());
+        assertEquals(1, segment.entryCount());
+    }
+
+    @Test
+    @DisplayName("find should preserve non-ASCII URLs and their encoded location")
+    void find_shouldPreserveNonAsciiUrls() throws IOException {
+        IndexSegment segment = write(new RedirectTarget(1L, "abc123", "https://example.com/café", null));
+
+        RedirectTarget target = find(segment, "abc123");
+
+        assertEquals("https://example.com/café", target.originalUrl());
+        assertEquals("https://example.com/caf%C3%A9", target.location());
+    }
+
+    @Test
+    @DisplayName("find should preserve the redirect type of each target")
+    void find_shouldPreserveRedirectType() throws IOException {
+        IndexSegment segment = write(
+                new RedirectTarget(1L, "perm", "https://example.com", null, RedirectType.PERMANENT),
+                new RedirectTarget(2L, "cached", "https://example.com", null, RedirectType.CACHEABLE));
+
+        assertEquals(RedirectType.PERMANENT, find(segment, "perm").redirectType());
+        assertEquals(RedirectType.CACHEABLE, find(segment, "cached").redirectType());
+    }
+
+    private IndexSegment write(RedirectTarget... targets) throws IOException {
+        Path path = directory.resolve("segment.idx");
+        try (IndexSegmentWriter writer = new IndexSegmentWriter(path)) {
+            for (RedirectTarget target : targets) {
+                writer.put(target);
+            }
+            writer.finish();
+        }
+        return IndexSegment.open(path);
+    }
+
+    private static RedirectTarget find(IndexSegment segment, String shortCode) {
+        byte[] key = shortCode.getBytes(StandardCharsets.UTF_8);
+        return segment.find(key, IndexSegment.hash(key));
+    }
+}
@@ -0,0 +1,70 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.index;
+
+import dev.ivanhernandez.urlshortener.domain.model.RedirectTarget;
+import dev.ivanhernandez.urlshortener.infrastructure.adapter.output.persistence.JpaUrlRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MappedIndexUrlRepository")
+class MappedIndexUrlRepositoryTest {
+
+    @Mock
+    private JpaUrlRepository delegate;
+
+    @Mock
+    private MappedRedirectIndex index;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MappedIndexUrlRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        repository = new MappedIndexUrlRepository(delegate, index, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("findRedirectTarget should serve from the index without touching the database")
+    void findRedirectTarget_shouldUseIndex_whenIndexed() {
+        RedirectTarget target = new RedirectTarget(1L, "abc123", "https://example.com", null);
+        when(index.find("abc123")).thenReturn(target);
+
+        Optional<RedirectTarget> result = repository.findRedirectTarget("abc123");
+
+        assertEquals(Optional.of(target), result);
+        verifyNoInteractions(delegate);
+        assertEquals(1.0, meterRegistry.get("redirect.index.lookups").tag("result", "hit").counter().count());
+    }
+
+    @Test
+    @DisplayName("findRedirectTarget should fall back to the database when the index has no entry")
+    void findRedirectTarget_shouldFallBack_whenNotIndexed() {
+        RedirectTarget target = new RedirectTarget(1L, "abc123", "https://example.com", null);
+        when(delegate.findRedirectTarget("abc123")).thenReturn(Optional.of(target));
+
+        Optional<RedirectTarget> result = repository.findRedirectTarget("abc123");
+
+        assertEquals(Optional.of(target), result);
+        assertEquals(1.0, meterRegistry.get("redirect.index.lookups").tag("result", "fallback").counter().count());
+    }
+
+    @Test
+    @DisplayName("deleteByShortCode should delete from the database and hide the code from the index")
+    void deleteByShortCode_shouldMarkIndexEntryDeleted() {
+        repository.deleteByShortCode("abc123");
+
+        verify(delegate).deleteByShortCode("abc123");
+        verify(index).markDeleted("abc123");
+    }
+}
@@ -0,0 +1,154 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.index;
+
+import dev.ivanhernandez.urlshortener.domain.model.RedirectTarget;
+import dev.ivanhernandez.urlshortener.infrastructure.adapter.output.persistence.JpaUrlRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MappedRedirectIndex")
+class MappedRedirectIndexTest {
+
+    @Mock
+    private JpaUrlRepository source;
+
+    @TempDir
+    Path directory;
+
+    private final ConcurrentSkipListMap<Long, RedirectTarget> rows = new ConcurrentSkipListMap<>();
+    private MappedRedirectIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = newIndex(Duration.ofHours(1));
+        lenient().doAnswer(invocation -> {
+            long afterId = invocation.getArgument(0);
+            Consumer<RedirectTarget> consumer = invocation.getArgument(1);
+            rows.tailMap(afterId, false).values().forEach(consumer);
+            return null;
+        }).when(source).forEachRedirectTarget(anyLong(), any());
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.stop();
+    }
+
+    @Test
+    @DisplayName("find should return null before the index has been built")
+    void find_shouldReturnNull_whenNotOpened() {
+        assertNull(index.find("abc123"));
+        verifyNoInteractions(source);
+    }
+
+    @Test
+    @DisplayName("open should build a base segment from every stored URL")
+    void open_shouldBuildBaseSegment() throws IOException {
+        addRow(1L, "abc123");
+        addRow(2L, "def456");
+
+        index.open();
+
+        assertEquals(1, index.segmentCount());
+        assertEquals("https://example.com/abc123", index.find("abc123").originalUrl());
+        assertEquals("https://example.com/def456", index.find("def456").originalUrl());
+        assertNull(index.find("zzz999"));
+    }
+
+    @Test
+    @DisplayName("refresh should append a segment with URLs created since the last build")
+    void refresh_shouldAppendSegment_whenNewUrlsExist() throws IOException {
+        addRow(1L, "abc123");
+        index.open();
+        addRow(2L, "def456");
+
+        index.refresh();
+
+        assertEquals(2, index.segmentCount());
+        assertNotNull(index.find("abc123"));
+        assertNotNull(index.find("def456"));
+    }
+
+    @Test
+    @DisplayName("markDeleted should hide the short code immediately and tombstone it on refresh")
+    void markDeleted_shouldHideShortCode() throws IOException {
+        addRow(1L, "abc123");
+        index.open();
+        rows.remove(1L);
+
+        index.markDeleted("abc123");
+
+        assertNull(index.find("abc123"));
+        index.refresh();
+        assertEquals(2, index.segmentCount());
+        assertNull(index.find("abc123"));
+    }
+
+    @Test
+    @DisplayName("refresh should compact into a single segment once the segment limit is exceeded")
+    void refresh_shouldCompact_whenTooManySegments() throws IOException {
+        index.stop();
+        index = newIndex(Duration.ofHours(1), 1);
+        addRow(1L, "abc123");
+        index.open();
+        addRow(2L, "def456");
+        index.refresh();
+        assertEquals(2, index.segmentCount());
+
+        index.refresh();
+
+        assertEquals(1, index.segmentCount());
+        assertNotNull(index.find("abc123"));
+        assertNotNull(index.find("def456"));
+    }
+
+    @Test
+    @DisplayName("open should rebuild from the database so URLs deleted while the node was down are not served")
+    void open_shouldForgetDeletedRows_whenRestarted() throws IOException {
+        addRow(1L, "abc123");
+        addRow(2L, "def456");
+        index.open();
+        index.stop();
+        rows.remove(1L);
+
+        index = newIndex(Duration.ofHours(1));
+        index.open();
+
+        assertNull(index.find("abc123"));
+        assertEquals("https://example.com/def456", index.find("def456").originalUrl());
+        assertEquals(1, index.segmentCount());
+        verify(source, times(2)).forEachRedirectTarget(eq(0L), any());
+    }
+
+    private void addRow(long id, String shortCode) {
+        rows.put(id, new RedirectTarget(id, shortCode, "https://example.com/" + shortCode, null));
+    }
+
+    private MappedRedirectIndex newIndex(Duration compactionInterval) {
+        return newIndex(compactionInterval, 8);
+    }
+
+    private MappedRedirectIndex newIndex(Duration compactionInterval, int maxSegments) {
+        return new MappedRedirectIndex(source, new SimpleMeterRegistry(), directory,
+                Duration.ofHours(1), compactionInterval, maxSegments, 10);
+    }
+}
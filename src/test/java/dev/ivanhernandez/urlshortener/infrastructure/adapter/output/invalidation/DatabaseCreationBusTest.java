@@ -0,0 +1,103 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.invalidation;
+
+import dev.ivanhernandez.urlshortener.application.port.output.UrlRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DatabaseCreationBus")
+class DatabaseCreationBusTest {
+
+    private static final Duration GRACE = Duration.ofSeconds(2);
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    @Mock
+    private UrlRepository urlRepository;
+
+    private final Map<String, LocalDateTime> rows = new ConcurrentHashMap<>();
+    private final List<String> received = new ArrayList<>();
+    private SimpleMeterRegistry meterRegistry;
+    private DatabaseCreationBus bus;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        Clock clock = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        bus = new DatabaseCreationBus(urlRepository, meterRegistry, Duration.ofHours(1), GRACE, clock);
+        bus.subscribe(received::add);
+        lenient().doAnswer(invocation -> {
+            LocalDateTime insertedSince = invocation.getArgument(0);
+            BiConsumer<String, LocalDateTime> consumer = invocation.getArgument(1);
+            rows.forEach((shortCode, insertedAt) -> {
+                if (!insertedAt.isBefore(insertedSince)) {
+                    consumer.accept(shortCode, insertedAt);
+                }
+            });
+            return null;
+        }).when(urlRepository).forEachShortCodeInsertedSince(any(), any());
+    }
+
+    @AfterEach
+    void tearDown() {
+        bus.stop();
+    }
+
+    @Test
+    @DisplayName("publish should not write anything because the inserted row is the message")
+    void publish_shouldNotTouchRepository() {
+        bus.publish("abc123");
+
+        verifyNoInteractions(urlRepository);
+        assertTrue(received.isEmpty());
+    }
+
+    @Test
+    @DisplayName("poll should start just before the time the node started")
+    void poll_shouldSkipOldRows_whenFirstPolled() {
+        rows.put("old", NOW.minusMinutes(5));
+        rows.put("recent", NOW.minusSeconds(1));
+
+        bus.poll();
+
+        assertEquals(List.of("recent"), received);
+        verify(urlRepository).forEachShortCodeInsertedSince(eq(NOW.minus(GRACE)), any());
+    }
+
+    @Test
+    @DisplayName("poll should deliver new rows and re-read the grace window for late commits")
+    void poll_shouldDeliverLateRows_withinGrace() {
+        bus.poll();
+        rows.put("first", NOW.plusSeconds(10));
+        bus.poll();
+        rows.put("late", NOW.plusSeconds(9));
+        received.clear();
+
+        bus.poll();
+
+        assertTrue(received.contains("late"));
+        verify(urlRepository).forEachShortCodeInsertedSince(eq(NOW.plusSeconds(10).minus(GRACE)), any());
+        assertEquals(3.0, meterRegistry.get("short.code.creations.received").counter().count());
+    }
+}
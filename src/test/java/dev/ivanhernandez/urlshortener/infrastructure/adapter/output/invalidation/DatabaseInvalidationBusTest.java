@@ -0,0 +1,122 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.invalidation;
+
+import dev.ivanhernandez.urlshortener.infrastructure.adapter.output.persistence.SpringDataUrlInvalidationRepository;
+import dev.ivanhernandez.urlshortener.infrastructure.adapter.output.persistence.UrlInvalidationJpaEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DatabaseInvalidationBus")
+class DatabaseInvalidationBusTest {
+
+    @Mock
+    private SpringDataUrlInvalidationRepository repository;
+
+    private final ConcurrentSkipListMap<Long, UrlInvalidationJpaEntity> rows = new ConcurrentSkipListMap<>();
+    private final List<String> received = new ArrayList<>();
+    private SimpleMeterRegistry meterRegistry;
+    private DatabaseInvalidationBus bus;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        bus = new DatabaseInvalidationBus(repository, meterRegistry, Duration.ofHours(1), 2, 10, Duration.ofHours(1));
+        bus.subscribe(received::add);
+        lenient().when(repository.findMaxId()).thenAnswer(invocation -> rows.isEmpty() ? 0L : rows.lastKey());
+        lenient().when(repository.findByIdGreaterThanOrderByIdAsc(anyLong(), any(Limit.class))).thenAnswer(invocation -> {
+            long afterId = invocation.getArgument(0);
+            Limit limit = invocation.getArgument(1);
+            return rows.tailMap(afterId, false).values().stream().limit(limit.max()).toList();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        bus.stop();
+    }
+
+    @Test
+    @DisplayName("publish should insert a row into the change table")
+    void publish_shouldInsertRow() {
+        ArgumentCaptor<UrlInvalidationJpaEntity> captor = ArgumentCaptor.forClass(UrlInvalidationJpaEntity.class);
+
+        bus.publish("abc123");
+
+        verify(repository).save(captor.capture());
+        assertEquals("abc123", captor.getValue().getShortCode());
+        assertNotNull(captor.getValue().getCreatedAt());
+    }
+
+    @Test
+    @DisplayName("poll should start after the rows that existed when the node started")
+    void poll_shouldSkipExistingRows_whenFirstPolled() {
+        addRow(1L, "old");
+
+        bus.poll();
+        bus.poll();
+
+        assertTrue(received.isEmpty());
+    }
+
+    @Test
+    @DisplayName("poll should deliver new rows across several batches and coalesce repeated short codes")
+    void poll_shouldDeliverAndCoalesce() {
+        bus.poll();
+        addRow(1L, "abc123");
+        addRow(2L, "abc123");
+        addRow(3L, "def456");
+
+        bus.poll();
+
+        assertEquals(List.of("abc123", "def456"), received);
+        assertEquals(3.0, meterRegistry.get("cache.invalidation.received").counter().count());
+        assertEquals(1.0, meterRegistry.get("cache.invalidation.coalesced").counter().count());
+        assertEquals(2, meterRegistry.get("cache.invalidation.lag").timer().count());
+    }
+
+    @Test
+    @DisplayName("poll should deliver a row that committed after a higher id had already been read")
+    void poll_shouldDeliverLateCommittedRow() {
+        bus.poll();
+        addRow(2L, "abc123");
+        bus.poll();
+
+        addRow(1L, "def456");
+        bus.poll();
+
+        assertEquals(List.of("abc123", "def456"), received);
+    }
+
+    @Test
+    @DisplayName("purge should delete rows older than the retention period")
+    void purge_shouldDeleteOldRows() {
+        bus.purge();
+
+        verify(repository).deleteCreatedBefore(any(LocalDateTime.class));
+    }
+
+    private void addRow(long id, String shortCode) {
+        UrlInvalidationJpaEntity row = new UrlInvalidationJpaEntity(shortCode, LocalDateTime.now());
+        row.setId(id);
+        rows.put(id, row);
+    }
+}
@@ -0,0 +1,52 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.invalidation;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("InMemoryInvalidationBus")
+class InMemoryInvalidationBusTest {
+
+    private final InMemoryInvalidationBus bus = new InMemoryInvalidationBus();
+    private final List<String> received = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("publish should deliver to every subscriber immediately outside a transaction")
+    void publish_shouldDeliverImmediately_whenNoTransaction() {
+        List<String> other = new ArrayList<>();
+        bus.subscribe(received::add);
+        bus.subscribe(other::add);
+
+        bus.publish("abc123");
+
+        assertEquals(List.of("abc123"), received);
+        assertEquals(List.of("abc123"), other);
+    }
+
+    @Test
+    @DisplayName("publish should defer delivery until the surrounding transaction commits")
+    void publish_shouldDeferDelivery_whenTransactionActive() {
+        bus.subscribe(received::add);
+        TransactionSynchronizationManager.initSynchronization();
+
+        bus.publish("abc123");
+
+        assertTrue(received.isEmpty());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(List.of("abc123"), received);
+    }
+}
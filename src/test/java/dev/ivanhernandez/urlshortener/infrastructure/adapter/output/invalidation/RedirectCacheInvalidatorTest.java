@@ -0,0 +1,37 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.invalidation;
+
+import dev.ivanhernandez.urlshortener.application.port.output.RedirectCache;
+import dev.ivanhernandez.urlshortener.infrastructure.adapter.output.index.MappedRedirectIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.function.Consumer;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedirectCacheInvalidator")
+class RedirectCacheInvalidatorTest {
+
+    @Mock
+    private RedirectCache redirectCache;
+
+    @Mock
+    private ObjectProvider<MappedRedirectIndex> redirectIndex;
+
+    @Test
+    @DisplayName("invalidations from the bus should evict the short code from the local redirect cache")
+    void subscribe_shouldEvictRedirectCache_whenInvalidationReceived() {
+        InMemoryInvalidationBus bus = new InMemoryInvalidationBus();
+        new RedirectCacheInvalidator(bus, redirectCache, redirectIndex);
+
+        bus.publish("abc123");
+
+        verify(redirectCache).evict("abc123");
+        verify(redirectIndex).ifAvailable(any(Consumer.class));
+    }
+}
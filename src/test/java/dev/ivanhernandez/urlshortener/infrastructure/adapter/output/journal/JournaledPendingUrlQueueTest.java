@@ -0,0 +1,177 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.journal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.ivanhernandez.urlshortener.application.port.output.UrlRepository;
+import dev.ivanhernandez.urlshortener.domain.model.InsertResult;
+import dev.ivanhernandez.urlshortener.domain.model.RedirectTarget;
+import dev.ivanhernandez.urlshortener.domain.model.RedirectType;
+import dev.ivanhernandez.urlshortener.domain.model.Url;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JournaledPendingUrlQueue")
+class JournaledPendingUrlQueueTest {
+
+    @Mock
+    private UrlRepository urlRepository;
+
+    @TempDir
+    Path directory;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private JournaledPendingUrlQueue queue;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        queue = newQueue();
+        queue.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        queue.stop();
+    }
+
+    @Test
+    @DisplayName("enqueue should serve the URL from memory and journal it before it is persisted")
+    void enqueue_shouldServeAndJournalUrl() throws IOException {
+        queue.enqueue(createUrl("abc123", "https://example.com"));
+
+        Optional<RedirectTarget> target = queue.find("abc123");
+        assertTrue(target.isPresent());
+        assertEquals("https://example.com", target.get().originalUrl());
+        assertEquals(RedirectType.CACHEABLE, target.get().redirectType());
+        assertTrue(Files.readString(journalFile()).contains("abc123"));
+        verifyNoInteractions(urlRepository);
+    }
+
+    @Test
+    @DisplayName("flush should persist pending URLs in one batch and truncate the journal")
+    @SuppressWarnings("unchecked")
+    void flush_shouldPersistAndTruncateJournal() throws IOException {
+        when(urlRepository.insertAll(anyList())).thenAnswer(invocation -> ((List<Url>) invocation.getArgument(0))
+                .stream().map(InsertResult::inserted).toList());
+        queue.enqueue(createUrl("abc123", "https://example.com"));
+        queue.enqueue(createUrl("def456", "https://example.org"));
+
+        queue.flush();
+
+        ArgumentCaptor<List<Url>> batch = ArgumentCaptor.forClass(List.class);
+        verify(urlRepository).insertAll(batch.capture());
+        assertEquals(2, batch.getValue().size());
+        assertEquals(0, queue.pendingCount());
+        assertTrue(queue.find("abc123").isEmpty());
+        assertEquals(0, Files.size(journalFile()));
+        assertEquals(2.0, meterRegistry.get("url.async.create.persisted").counter().count());
+    }
+
+    @Test
+    @DisplayName("flush should rewrite the journal down to the URLs still pending")
+    @SuppressWarnings("unchecked")
+    void flush_shouldRewriteJournal_whenUrlsRemainPending() throws IOException {
+        when(urlRepository.insertAll(anyList())).thenAnswer(invocation -> {
+            queue.enqueue(createUrl("late01", "https://example.net"));
+            return ((List<Url>) invocation.getArgument(0)).stream().map(InsertResult::inserted).toList();
+        });
+        queue.enqueue(createUrl("abc123", "https://example.com"));
+
+        queue.flush();
+
+        String journal = Files.readString(journalFile());
+        assertEquals(1, queue.pendingCount());
+        assertTrue(journal.contains("late01"));
+        assertFalse(journal.contains("abc123"));
+
+        queue.enqueue(createUrl("def456", "https://example.org"));
+
+        assertTrue(Files.readString(journalFile()).contains("def456"));
+    }
+
+    @Test
+    @DisplayName("flush should keep URLs pending when the database write fails")
+    void flush_shouldKeepPending_whenWriteFails() {
+        when(urlRepository.insertAll(anyList())).thenThrow(new IllegalStateException("database down"));
+        queue.enqueue(createUrl("abc123", "https://example.com"));
+
+        assertThrows(IllegalStateException.class, queue::flush);
+
+        assertEquals(1, queue.pendingCount());
+        assertTrue(queue.find("abc123").isPresent());
+    }
+
+    @Test
+    @DisplayName("start should replay journaled URLs that were never persisted")
+    void start_shouldReplayJournal() throws Exception {
+        queue.enqueue(createUrl("abc123", "https://example.com"));
+        Files.writeString(journalFile(), "{\"shortCode\":\"torn", StandardOpenOption.APPEND);
+
+        JournaledPendingUrlQueue restarted = newQueue();
+        restarted.start();
+        try {
+            assertEquals(1, restarted.pendingCount());
+            assertEquals("https://example.com", restarted.find("abc123").orElseThrow().originalUrl());
+        } finally {
+            restarted.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("flush should count a conflict when the short code was taken by another URL")
+    @SuppressWarnings("unchecked")
+    void flush_shouldCountConflict_whenShortCodeTakenByAnotherUrl() throws IOException {
+        when(urlRepository.insertAll(anyList())).thenAnswer(invocation -> ((List<Url>) invocation.getArgument(0))
+                .stream().map(url -> InsertResult.shortCodeTaken(url.getShortCode())).toList());
+        when(urlRepository.findByShortCode("abc123"))
+                .thenReturn(Optional.of(createUrl("abc123", "https://other.example.com")));
+        when(urlRepository.findByShortCode("def456"))
+                .thenReturn(Optional.of(createUrl("def456", "https://example.org")));
+        queue.enqueue(createUrl("abc123", "https://example.com"));
+        queue.enqueue(createUrl("def456", "https://example.org"));
+
+        queue.flush();
+
+        assertEquals(1.0, meterRegistry.get("url.async.create.conflicts").counter().count());
+        assertEquals(1.0, meterRegistry.get("url.async.create.persisted").counter().count());
+        assertEquals(0, queue.pendingCount());
+    }
+
+    private JournaledPendingUrlQueue newQueue() {
+        return new JournaledPendingUrlQueue(urlRepository, objectMapper, meterRegistry, directory,
+                Duration.ofHours(1), 500);
+    }
+
+    private Path journalFile() {
+        return directory.resolve("pending-creates.journal");
+    }
+
+    private Url createUrl(String shortCode, String originalUrl) {
+        Url url = new Url(null, originalUrl, shortCode, null, null, LocalDateTime.now(), null, 0L, null,
+                RedirectType.CACHEABLE);
+        url.setOriginalUrlHash("hash".getBytes(StandardCharsets.UTF_8));
+        return url;
+    }
+}
@@ -0,0 +1,92 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.persistence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BulkheadDataSource")
+class BulkheadDataSourceTest {
+
+    @Mock
+    private DataSource targetDataSource;
+
+    @Mock
+    private Connection targetConnection;
+
+    private BulkheadDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new BulkheadDataSource(targetDataSource, 2, Duration.ofMillis(50));
+    }
+
+    @Test
+    @DisplayName("getConnection should hold a permit until the connection is closed")
+    void getConnection_shouldHoldPermitUntilClosed() throws SQLException {
+        when(targetDataSource.getConnection()).thenReturn(targetConnection);
+
+        Connection connection = dataSource.getConnection();
+
+        assertEquals(1, dataSource.availablePermits());
+        connection.close();
+        assertEquals(2, dataSource.availablePermits());
+        verify(targetConnection).close();
+    }
+
+    @Test
+    @DisplayName("getConnection should fail fast when all permits are taken")
+    void getConnection_shouldThrow_whenBulkheadSaturated() throws SQLException {
+        when(targetDataSource.getConnection()).thenReturn(targetConnection);
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        assertThrows(SQLTransientConnectionException.class, () -> dataSource.getConnection());
+        verify(targetDataSource, times(2)).getConnection();
+    }
+
+    @Test
+    @DisplayName("close should release the permit only once")
+    void close_shouldReleasePermitOnce_whenCalledTwice() throws SQLException {
+        when(targetDataSource.getConnection()).thenReturn(targetConnection);
+
+        Connection connection = dataSource.getConnection();
+        connection.close();
+        connection.close();
+
+        assertEquals(2, dataSource.availablePermits());
+    }
+
+    @Test
+    @DisplayName("getConnection should release the permit when the pool fails")
+    void getConnection_shouldReleasePermit_whenTargetFails() throws SQLException {
+        when(targetDataSource.getConnection()).thenThrow(new SQLException("pool down"));
+
+        assertThrows(SQLException.class, () -> dataSource.getConnection());
+
+        assertEquals(2, dataSource.availablePermits());
+    }
+
+    @Test
+    @DisplayName("connection should delegate other calls to the pooled connection")
+    void connection_shouldDelegateCalls() throws SQLException {
+        when(targetDataSource.getConnection()).thenReturn(targetConnection);
+        when(targetConnection.getAutoCommit()).thenReturn(false);
+
+        Connection connection = dataSource.getConnection();
+
+        assertFalse(connection.getAutoCommit());
+    }
+}
@@ -0,0 +1,154 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.persistence;
+
+import dev.ivanhernandez.urlshortener.domain.model.InsertResult;
+import dev.ivanhernandez.urlshortener.domain.model.Url;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("GroupCommitter")
+class GroupCommitterTest {
+
+    private final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService callers = Executors.newFixedThreadPool(8);
+    private GroupCommitter groupCommitter;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        callers.shutdownNow();
+        if (groupCommitter != null) {
+            groupCommitter.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("submit should coalesce concurrent inserts into one write")
+    void submit_shouldCoalesceConcurrentInserts() throws Exception {
+        groupCommitter = new GroupCommitter(recordingWriter(), Duration.ofMillis(500), 8, meterRegistry);
+
+        List<InsertResult> results = submitConcurrently(8);
+
+        assertEquals(List.of(8), batchSizes);
+        assertEquals(8, results.stream().filter(InsertResult.Inserted.class::isInstance).count());
+        assertEquals(1, meterRegistry.get("url.group.commit.batch.size").summary().count());
+    }
+
+    @Test
+    @DisplayName("submit should never write more than the maximum batch size at once")
+    void submit_shouldRespectMaxBatchSize() throws Exception {
+        groupCommitter = new GroupCommitter(recordingWriter(), Duration.ofMillis(500), 3, meterRegistry);
+
+        List<InsertResult> results = submitConcurrently(8);
+
+        assertEquals(8, results.size());
+        assertEquals(8, batchSizes.stream().mapToInt(Integer::intValue).sum());
+        assertTrue(batchSizes.stream().allMatch(size -> size <= 3));
+    }
+
+    @Test
+    @DisplayName("submit should complete each caller with its own result")
+    void submit_shouldReturnPerCallerResult() {
+        groupCommitter = new GroupCommitter(urls -> urls.stream()
+                .map(url -> url.getShortCode().startsWith("taken")
+                        ? InsertResult.shortCodeTaken(url.getShortCode())
+                        : InsertResult.inserted(url))
+                .toList(), Duration.ZERO, 8, meterRegistry);
+
+        assertEquals(InsertResult.shortCodeTaken("taken1"), groupCommitter.submit(createUrl("taken1")));
+        assertInstanceOf(InsertResult.Inserted.class, groupCommitter.submit(createUrl("free1")));
+    }
+
+    @Test
+    @DisplayName("submit should isolate a failing insert by retrying the batch one by one")
+    void submit_shouldIsolateFailures_whenBatchWriteFails() throws Exception {
+        groupCommitter = new GroupCommitter(urls -> {
+            batchSizes.add(urls.size());
+            if (urls.size() > 1 || urls.get(0).getShortCode().equals("code0")) {
+                throw new IllegalStateException("write failed");
+            }
+            return urls.stream().map(InsertResult::inserted).toList();
+        }, Duration.ofMillis(500), 4, meterRegistry);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<InsertResult>> futures = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Url url = createUrl("code" + i);
+            futures.add(callers.submit(() -> {
+                start.await();
+                return groupCommitter.submit(url);
+            }));
+        }
+
+        start.countDown();
+
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> futures.get(0).get());
+        assertEquals("write failed", failure.getCause().getMessage());
+        for (int i = 1; i < 4; i++) {
+            assertInstanceOf(InsertResult.Inserted.class, futures.get(i).get());
+        }
+    }
+
+    @Test
+    @DisplayName("submit should write directly once stopped")
+    void submit_shouldWriteDirectly_whenStopped() throws InterruptedException {
+        groupCommitter = new GroupCommitter(recordingWriter(), Duration.ofMillis(500), 8, meterRegistry);
+        groupCommitter.stop();
+
+        InsertResult result = groupCommitter.submit(createUrl("late1"));
+
+        assertInstanceOf(InsertResult.Inserted.class, result);
+        assertEquals(List.of(1), batchSizes);
+        assertEquals(0, meterRegistry.get("url.group.commit.batch.size").summary().count());
+    }
+
+    private Function<List<Url>, List<InsertResult>> recordingWriter() {
+        return urls -> {
+            batchSizes.add(urls.size());
+            return urls.stream().map(InsertResult::inserted).toList();
+        };
+    }
+
+    private List<InsertResult> submitConcurrently(int count) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Callable<InsertResult>> tasks = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Url url = createUrl("code" + i);
+            tasks.add(() -> {
+                start.await();
+                return groupCommitter.submit(url);
+            });
+        }
+        List<Future<InsertResult>> futures = new ArrayList<>();
+        for (Callable<InsertResult> task : tasks) {
+            futures.add(callers.submit(task));
+        }
+        start.countDown();
+        List<InsertResult> results = new ArrayList<>();
+        for (Future<InsertResult> future : futures) {
+            results.add(future.get());
+        }
+        return results;
+    }
+
+    private static Url createUrl(String shortCode) {
+        Url url = new Url();
+        url.setShortCode(shortCode);
+        url.setOriginalUrl("https://example.com/" + shortCode);
+        return url;
+    }
+}
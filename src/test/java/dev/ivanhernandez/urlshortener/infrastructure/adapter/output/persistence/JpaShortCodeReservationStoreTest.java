@@ -0,0 +1,51 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(JpaShortCodeReservationStore.class)
+@DisplayName("JpaShortCodeReservationStore")
+class JpaShortCodeReservationStoreTest {
+
+    @Autowired
+    private JpaShortCodeReservationStore reservationStore;
+
+    @Autowired
+    private SpringDataUrlRepository urlRepository;
+
+    @Test
+    @DisplayName("reserve should return only the codes it inserted when some are already reserved")
+    void reserve_shouldSkipCodes_whenAlreadyReservedConcurrently() {
+        reservationStore.reserve(List.of("aaaaaaa", "bbbbbbb"), LocalDateTime.now());
+
+        List<String> reserved = reservationStore.reserve(
+                List.of("bbbbbbb", "ccccccc", "aaaaaaa", "ddddddd"), LocalDateTime.now());
+
+        assertEquals(List.of("ccccccc", "ddddddd"), reserved);
+    }
+
+    @Test
+    @DisplayName("reserve should skip codes already used by a URL")
+    void reserve_shouldSkipCodes_whenUsedByUrl() {
+        UrlJpaEntity entity = new UrlJpaEntity();
+        entity.setOriginalUrl("https://example.com");
+        entity.setShortCode("used123");
+        entity.setCreatedAt(LocalDateTime.now());
+        urlRepository.saveAndFlush(entity);
+
+        List<String> reserved = reservationStore.reserve(List.of("used123", "free123"), LocalDateTime.now());
+
+        assertEquals(List.of("free123"), reserved);
+    }
+}
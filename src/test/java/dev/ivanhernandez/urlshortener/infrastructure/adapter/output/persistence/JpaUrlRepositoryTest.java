@@ -1,20 +1,34 @@
 package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.persistence;
 
+import dev.ivanhernandez.urlshortener.domain.model.AccessCountDelta;
+import dev.ivanhernandez.urlshortener.domain.model.InsertResult;
+import dev.ivanhernandez.urlshortener.domain.model.RedirectTarget;
 import dev.ivanhernandez.urlshortener.domain.model.Url;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
 
+import java.sql.SQLException;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("JpaUrlRepository")
@@ -23,11 +37,16 @@ class JpaUrlRepositoryTest {
     @Mock
     private SpringDataUrlRepository springDataUrlRepository;
 
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
     private JpaUrlRepository jpaUrlRepository;
 
     @BeforeEach
     void setUp() {
-        jpaUrlRepository = new JpaUrlRepository(springDataUrlRepository);
+        meterRegistry = new SimpleMeterRegistry();
+        jpaUrlRepository = new JpaUrlRepository(springDataUrlRepository, jdbcTemplate, meterRegistry);
     }
 
     @Test
@@ -46,6 +65,98 @@ class JpaUrlRepositoryTest {
         verify(springDataUrlRepository).save(any(UrlJpaEntity.class));
     }
 
+    @Test
+    @DisplayName("insert should return Inserted with the saved domain model")
+    void insert_shouldReturnInserted_whenShortCodeFree() {
+        when(springDataUrlRepository.save(any(UrlJpaEntity.class))).thenReturn(createEntity());
+
+        InsertResult result = jpaUrlRepository.insert(createUrl());
+
+        InsertResult.Inserted inserted = assertInstanceOf(InsertResult.Inserted.class, result);
+        assertEquals(1L, inserted.url().getId());
+    }
+
+    @Test
+    @DisplayName("insert should return ShortCodeTaken when the unique short code constraint is violated")
+    void insert_shouldReturnShortCodeTaken_whenShortCodeConstraintViolated() {
+        ConstraintViolationException violation = new ConstraintViolationException(
+                "duplicate", new SQLException("duplicate"), "PUBLIC.UK_SHORT_CODE_INDEX_1");
+        when(springDataUrlRepository.save(any(UrlJpaEntity.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate", violation));
+
+        InsertResult result = jpaUrlRepository.insert(createUrl());
+
+        assertEquals(InsertResult.shortCodeTaken("abc123"), result);
+        assertEquals(1.0, meterRegistry.get("url.insert.collisions").counter().count());
+    }
+
+    @Test
+    @DisplayName("insert should rethrow violations of other constraints")
+    void insert_shouldRethrow_whenOtherConstraintViolated() {
+        DataIntegrityViolationException failure = new DataIntegrityViolationException(
+                "too long", new SQLException("Value too long for column ORIGINAL_URL"));
+        when(springDataUrlRepository.save(any(UrlJpaEntity.class))).thenThrow(failure);
+
+        assertSame(failure, assertThrows(DataIntegrityViolationException.class,
+                () -> jpaUrlRepository.insert(createUrl())));
+    }
+
+    @Test
+    @DisplayName("insertAll should save free codes in one batch and report taken codes in input order")
+    @SuppressWarnings("unchecked")
+    void insertAll_shouldBatchFreeCodes_andReportTakenCodes() {
+        Url taken = createUrl("taken1");
+        Url free = createUrl("free1");
+        when(springDataUrlRepository.findExistingShortCodes(List.of("taken1", "free1"))).thenReturn(List.of("taken1"));
+        when(springDataUrlRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<InsertResult> results = jpaUrlRepository.insertAll(List.of(taken, free));
+
+        assertEquals(InsertResult.shortCodeTaken("taken1"), results.get(0));
+        assertEquals("free1", assertInstanceOf(InsertResult.Inserted.class, results.get(1)).url().getShortCode());
+        ArgumentCaptor<List<UrlJpaEntity>> batchCaptor = ArgumentCaptor.forClass(List.class);
+        verify(springDataUrlRepository).saveAll(batchCaptor.capture());
+        assertEquals(1, batchCaptor.getValue().size());
+        assertEquals(1.0, meterRegistry.get("url.insert.collisions").counter().count());
+    }
+
+    @Test
+    @DisplayName("insert should go through a batched write when group commit is enabled")
+    void insert_shouldUseBatchedWrite_whenGroupCommitEnabled() throws InterruptedException {
+        JpaUrlRepository groupCommitRepository = new JpaUrlRepository(springDataUrlRepository, jdbcTemplate,
+                meterRegistry, true, Duration.ofMillis(1), 50);
+        when(springDataUrlRepository.findExistingShortCodes(List.of("group1"))).thenReturn(List.of());
+        when(springDataUrlRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        try {
+            InsertResult result = groupCommitRepository.insert(createUrl("group1"));
+
+            assertEquals("group1", assertInstanceOf(InsertResult.Inserted.class, result).url().getShortCode());
+            verify(springDataUrlRepository).saveAll(anyList());
+            verify(springDataUrlRepository, never()).save(any(UrlJpaEntity.class));
+        } finally {
+            groupCommitRepository.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("insertAll should fall back to single inserts when the batch hits the short code constraint")
+    void insertAll_shouldInsertOneByOne_whenBatchCollides() {
+        ConstraintViolationException violation = new ConstraintViolationException(
+                "duplicate", new SQLException("duplicate"), "uk_short_code");
+        when(springDataUrlRepository.findExistingShortCodes(anyList())).thenReturn(List.of());
+        when(springDataUrlRepository.saveAll(anyList()))
+                .thenThrow(new DataIntegrityViolationException("duplicate", violation));
+        when(springDataUrlRepository.save(any(UrlJpaEntity.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate", violation))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<InsertResult> results = jpaUrlRepository.insertAll(List.of(createUrl("raced1"), createUrl("free1")));
+
+        assertEquals(InsertResult.shortCodeTaken("raced1"), results.get(0));
+        assertInstanceOf(InsertResult.Inserted.class, results.get(1));
+    }
+
     @Test
     @DisplayName("findByShortCode should return domain model when found")
     void findByShortCode_shouldReturnDomainModel_whenFound() {
@@ -71,6 +182,18 @@ class JpaUrlRepositoryTest {
         verify(springDataUrlRepository).findByShortCode("notfound");
     }
 
+    @Test
+    @DisplayName("findRedirectTarget should return the projection without loading the entity")
+    void findRedirectTarget_shouldReturnProjection() {
+        RedirectTarget target = new RedirectTarget(1L, "abc123", "https://example.com", null);
+        when(springDataUrlRepository.findRedirectTargetByShortCode("abc123")).thenReturn(Optional.of(target));
+
+        Optional<RedirectTarget> result = jpaUrlRepository.findRedirectTarget("abc123");
+
+        assertEquals(Optional.of(target), result);
+        verify(springDataUrlRepository, never()).findByShortCode(anyString());
+    }
+
     @Test
     @DisplayName("existsByShortCode should return true when exists")
     void existsByShortCode_shouldReturnTrue_whenExists() {
@@ -101,6 +224,34 @@ class JpaUrlRepositoryTest {
         verify(springDataUrlRepository).deleteByShortCode("abc123");
     }
 
+    @Test
+    @DisplayName("incrementAccessCounts should send all deltas in a single batch")
+    @SuppressWarnings("unchecked")
+    void incrementAccessCounts_shouldSendSingleBatch() {
+        List<AccessCountDelta> deltas = List.of(
+                new AccessCountDelta("abc123", 3, LocalDateTime.now()),
+                new AccessCountDelta("def456", 1, LocalDateTime.now())
+        );
+
+        jpaUrlRepository.incrementAccessCounts(deltas);
+
+        verify(jdbcTemplate).batchUpdate(anyString(), eq(deltas), eq(2), any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    @Test
+    @DisplayName("incrementAccessCounts should not touch the database when there are no deltas")
+    void incrementAccessCounts_shouldDoNothing_whenEmpty() {
+        jpaUrlRepository.incrementAccessCounts(List.of());
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    private Url createUrl(String shortCode) {
+        Url url = createUrl();
+        url.setShortCode(shortCode);
+        return url;
+    }
+
     private Url createUrl() {
         Url url = new Url();
         url.setOriginalUrl("https://example.com");
@@ -1,5 +1,6 @@
 package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.persistence;
 
+import dev.ivanhernandez.urlshortener.domain.model.RedirectType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -115,6 +116,29 @@ class SpringDataUrlRepositoryTest {
         });
     }
 
+    @Test
+    @DisplayName("findFirstByOriginalUrlHashAndRedirectType should return the oldest row with that hash and redirect type")
+    void findFirstByOriginalUrlHash_shouldReturnOldestMatch() {
+        byte[] hash = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16};
+        UrlJpaEntity first = createEntity("hash1");
+        first.setOriginalUrlHash(hash);
+        repository.save(first);
+        UrlJpaEntity second = createEntity("hash2");
+        second.setOriginalUrlHash(hash.clone());
+        repository.save(second);
+        UrlJpaEntity permanent = createEntity("hash3");
+        permanent.setOriginalUrlHash(hash.clone());
+        permanent.setRedirectType(RedirectType.PERMANENT);
+        repository.save(permanent);
+
+        Optional<UrlJpaEntity> found = repository.findFirstByOriginalUrlHashAndRedirectTypeOrderByIdAsc(
+                hash.clone(), RedirectType.TEMPORARY);
+
+        assertEquals("hash1", found.orElseThrow().getShortCode());
+        assertTrue(repository.findFirstByOriginalUrlHashAndRedirectTypeOrderByIdAsc(
+                new byte[16], RedirectType.TEMPORARY).isEmpty());
+    }
+
     private UrlJpaEntity createEntity(String shortCode) {
         UrlJpaEntity entity = new UrlJpaEntity();
         entity.setShortCode(shortCode);
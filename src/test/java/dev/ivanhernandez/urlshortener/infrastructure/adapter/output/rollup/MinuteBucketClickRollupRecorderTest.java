@@ -0,0 +1,158 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.rollup;
+
+import dev.ivanhernandez.urlshortener.application.port.output.ClickRollupRepository;
+import dev.ivanhernandez.urlshortener.domain.model.ClickGranularity;
+import dev.ivanhernandez.urlshortener.domain.model.ClickRollup;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MinuteBucketClickRollupRecorder")
+class MinuteBucketClickRollupRecorderTest {
+
+    private static final Instant HOUR_START = Instant.parse("2026-03-01T10:00:00Z");
+    private static final Instant DAY_START = Instant.parse("2026-03-01T00:00:00Z");
+
+    @Mock
+    private ClickRollupRepository clickRollupRepository;
+
+    @Captor
+    private ArgumentCaptor<List<ClickRollup>> rollupsCaptor;
+
+    private MutableClock clock;
+    private MinuteBucketClickRollupRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(HOUR_START.plusSeconds(30));
+        recorder = new MinuteBucketClickRollupRecorder(
+                clickRollupRepository, new SimpleMeterRegistry(), Duration.ofHours(1), 500, clock);
+    }
+
+    @Test
+    @DisplayName("flush should roll closed minutes up into hourly and daily buckets")
+    void flush_shouldRollUpClosedMinutes() {
+        recorder.recordClick(1L);
+        recorder.recordClick(1L);
+        clock.advance(Duration.ofMinutes(1));
+        recorder.recordClick(1L);
+        recorder.recordClick(2L);
+        clock.advance(Duration.ofMinutes(5));
+
+        recorder.flush(false);
+
+        verify(clickRollupRepository).addClicks(rollupsCaptor.capture());
+        assertEquals(Set.of(
+                new ClickRollup(1L, ClickGranularity.HOUR, HOUR_START, 3),
+                new ClickRollup(1L, ClickGranularity.DAY, DAY_START, 3),
+                new ClickRollup(2L, ClickGranularity.HOUR, HOUR_START, 1),
+                new ClickRollup(2L, ClickGranularity.DAY, DAY_START, 1)), Set.copyOf(rollupsCaptor.getValue()));
+        assertEquals(0, recorder.pendingBuckets());
+    }
+
+    @Test
+    @DisplayName("flush should keep the current minute in memory until it closes")
+    void flush_shouldKeepOpenMinute() {
+        recorder.recordClick(1L);
+
+        recorder.flush(false);
+
+        verifyNoInteractions(clickRollupRepository);
+        assertEquals(1, recorder.pendingBuckets());
+    }
+
+    @Test
+    @DisplayName("flush should include open minutes when shutting down")
+    void flush_shouldIncludeOpenMinutes_whenRequested() {
+        recorder.recordClick(1L);
+
+        recorder.flush(true);
+
+        verify(clickRollupRepository).addClicks(rollupsCaptor.capture());
+        assertEquals(2, rollupsCaptor.getValue().size());
+        assertEquals(0, recorder.pendingBuckets());
+    }
+
+    @Test
+    @DisplayName("flush should retry a failed write once without double counting")
+    void flush_shouldRetryFailedWrite_withoutDoubleCounting() {
+        List<List<ClickRollup>> written = new ArrayList<>();
+        doThrow(new IllegalStateException("database unavailable"))
+                .doAnswer(invocation -> written.add(List.copyOf(invocation.getArgument(0))))
+                .when(clickRollupRepository).addClicks(anyList());
+        recorder.recordClick(1L);
+        clock.advance(Duration.ofMinutes(2));
+
+        assertThrows(IllegalStateException.class, () -> recorder.flush(false));
+        recorder.flush(false);
+        recorder.flush(false);
+
+        assertEquals(1, written.size());
+        assertEquals(Set.of(
+                new ClickRollup(1L, ClickGranularity.HOUR, HOUR_START, 1),
+                new ClickRollup(1L, ClickGranularity.DAY, DAY_START, 1)), Set.copyOf(written.get(0)));
+    }
+
+    @Test
+    @DisplayName("flush should write rollups in chunks of the configured batch size")
+    void flush_shouldWriteInBatches() {
+        recorder = new MinuteBucketClickRollupRecorder(
+                clickRollupRepository, new SimpleMeterRegistry(), Duration.ofHours(1), 3, clock);
+        for (long urlId = 1; urlId <= 4; urlId++) {
+            recorder.recordClick(urlId);
+        }
+
+        recorder.flush(true);
+
+        verify(clickRollupRepository, times(3)).addClicks(rollupsCaptor.capture());
+        assertEquals(8, rollupsCaptor.getAllValues().stream().mapToInt(List::size).sum());
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        private void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
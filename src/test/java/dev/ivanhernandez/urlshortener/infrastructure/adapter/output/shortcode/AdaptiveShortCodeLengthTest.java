@@ -0,0 +1,100 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.shortcode;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AdaptiveShortCodeLength")
+class AdaptiveShortCodeLengthTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AdaptiveShortCodeLength codeLength;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        codeLength = new AdaptiveShortCodeLength(meterRegistry, 7, 8, 0.1, 0.5, 100);
+    }
+
+    @Test
+    @DisplayName("record should keep the length while the collision rate stays below the threshold")
+    void record_shouldKeepLength_whenCollisionRateBelowThreshold() {
+        codeLength.record(7, 100, 9);
+
+        assertEquals(7, codeLength.current());
+        assertEquals(0.09, codeLength.collisionRate(), 1e-9);
+        assertEquals(0.09, meterRegistry.get("short.code.collision.rate").gauge().value(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("record should only evaluate the collision rate once a full window has been issued")
+    void record_shouldWaitForFullWindow() {
+        codeLength.record(7, 50, 50);
+
+        assertEquals(7, codeLength.current());
+
+        codeLength.record(7, 50, 0);
+
+        assertEquals(8, codeLength.current());
+    }
+
+    @Test
+    @DisplayName("record should move to a longer length when the collision rate crosses the threshold")
+    void record_shouldGrow_whenCollisionRateCrossesThreshold() {
+        codeLength.record(7, 100, 10);
+
+        assertEquals(8, codeLength.current());
+        assertEquals(8, meterRegistry.get("short.code.length").gauge().value());
+        assertEquals(1.0, meterRegistry.get("short.code.length.increases").counter().count());
+    }
+
+    @Test
+    @DisplayName("record should ignore window statistics for codes of an older length")
+    void record_shouldIgnoreStaleLength() {
+        codeLength.record(7, 100, 50);
+
+        codeLength.record(7, 0, 100);
+        codeLength.record(8, 100, 0);
+
+        assertEquals(8, codeLength.current());
+        assertEquals(0.0, codeLength.collisionRate());
+        assertEquals(150.0, meterRegistry.get("short.code.collisions").functionCounter().count());
+        assertEquals(200.0, meterRegistry.get("short.code.issued").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("record should never grow past the maximum length")
+    void record_shouldStopAtMaxLength() {
+        codeLength.record(7, 100, 100);
+        codeLength.record(8, 100, 100);
+
+        assertEquals(8, codeLength.current());
+        assertEquals(1.0, codeLength.occupancy());
+    }
+
+    @Test
+    @DisplayName("recordOccupancy should move to a longer length once the threshold is crossed")
+    void recordOccupancy_shouldGrow_whenThresholdCrossed() {
+        codeLength.recordOccupancy(7, 0.4);
+
+        assertEquals(7, codeLength.current());
+        assertEquals(0.4, meterRegistry.get("short.code.keyspace.occupancy").gauge().value(), 1e-9);
+
+        codeLength.recordOccupancy(7, 0.5);
+
+        assertEquals(8, codeLength.current());
+        assertEquals(0.0, codeLength.occupancy());
+    }
+
+    @Test
+    @DisplayName("constructor should reject lengths outside the supported range")
+    void constructor_shouldThrow_whenLengthUnsupported() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new AdaptiveShortCodeLength(new SimpleMeterRegistry(), 11, 11, 0.1, 0.5, 100));
+        assertThrows(IllegalArgumentException.class,
+                () -> new AdaptiveShortCodeLength(new SimpleMeterRegistry(), 7, 6, 0.1, 0.5, 100));
+    }
+}
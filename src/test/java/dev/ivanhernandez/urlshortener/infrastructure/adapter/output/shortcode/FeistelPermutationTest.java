@@ -0,0 +1,60 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.shortcode;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FeistelPermutation")
+class FeistelPermutationTest {
+
+    @Test
+    @DisplayName("permute should map every value of the domain to a distinct value inside the domain")
+    void permute_shouldBeBijective_overWholeDomain() {
+        FeistelPermutation permutation = new FeistelPermutation(3844, 42L);
+        Set<Long> seen = new HashSet<>();
+
+        for (long value = 0; value < 3844; value++) {
+            long permuted = permutation.permute(value);
+            assertTrue(permuted >= 0 && permuted < 3844);
+            assertTrue(seen.add(permuted));
+        }
+
+        assertEquals(3844, seen.size());
+    }
+
+    @Test
+    @DisplayName("permute should be deterministic for the same key")
+    void permute_shouldBeDeterministic_whenSameKey() {
+        FeistelPermutation first = new FeistelPermutation(Base62.capacity(7), 7L);
+        FeistelPermutation second = new FeistelPermutation(Base62.capacity(7), 7L);
+
+        assertEquals(first.permute(123456L), second.permute(123456L));
+    }
+
+    @Test
+    @DisplayName("permute should give a different sequence for a different key")
+    void permute_shouldDiffer_whenKeyDiffers() {
+        FeistelPermutation first = new FeistelPermutation(Base62.capacity(7), 7L);
+        FeistelPermutation second = new FeistelPermutation(Base62.capacity(7), 8L);
+
+        boolean differs = false;
+        for (long value = 0; value < 10 && !differs; value++) {
+            differs = first.permute(value) != second.permute(value);
+        }
+
+        assertTrue(differs);
+    }
+
+    @Test
+    @DisplayName("permute should reject values outside the domain")
+    void permute_shouldThrow_whenValueOutsideDomain() {
+        FeistelPermutation permutation = new FeistelPermutation(100, 1L);
+
+        assertThrows(IllegalArgumentException.class, () -> permutation.permute(100));
+        assertThrows(IllegalArgumentException.class, () -> permutation.permute(-1));
+    }
+}
@@ -0,0 +1,136 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.shortcode;
+
+import dev.ivanhernandez.urlshortener.infrastructure.adapter.output.persistence.JpaShortCodeReservationStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PooledShortCodeGenerator")
+class PooledShortCodeGeneratorTest {
+
+    @Mock
+    private JpaShortCodeReservationStore reservationStore;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AdaptiveShortCodeLength codeLength;
+    private PooledShortCodeGenerator generator;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        codeLength = new AdaptiveShortCodeLength(meterRegistry, 7, 8, 0.25, 0.5, 4);
+        generator = new PooledShortCodeGenerator(reservationStore, meterRegistry, codeLength, 10, 2, 4,
+                Duration.ofSeconds(1), Duration.ofMinutes(10), Duration.ofDays(1));
+    }
+
+    @Test
+    @DisplayName("refill should reserve batches until the pool reaches its depth")
+    void refill_shouldFillPoolToDepth() {
+        when(reservationStore.reserve(anyCollection(), any(LocalDateTime.class)))
+                .thenAnswer(invocation -> new ArrayList<>(invocation.<Collection<String>>getArgument(0)));
+
+        generator.refill();
+
+        assertEquals(10, generator.size());
+        verify(reservationStore, times(3)).reserve(anyCollection(), any(LocalDateTime.class));
+        assertEquals(10, meterRegistry.get("short.code.pool.size").gauge().value());
+    }
+
+    @Test
+    @DisplayName("refill should stop when nothing could be reserved")
+    void refill_shouldStop_whenNothingReserved() {
+        when(reservationStore.reserve(anyCollection(), any(LocalDateTime.class))).thenReturn(List.of());
+
+        generator.refill();
+
+        assertEquals(0, generator.size());
+        verify(reservationStore, times(1)).reserve(anyCollection(), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("nextShortCode should hand out reserved codes without touching the store")
+    void nextShortCode_shouldServeFromPool_whenFilled() {
+        when(reservationStore.reserve(anyCollection(), any(LocalDateTime.class)))
+                .thenAnswer(invocation -> new ArrayList<>(invocation.<Collection<String>>getArgument(0)));
+        generator.refill();
+        clearInvocations(reservationStore);
+
+        String shortCode = generator.nextShortCode();
+
+        assertTrue(shortCode.matches("[A-Za-z0-9]{7}"));
+        assertEquals(9, generator.size());
+        verifyNoInteractions(reservationStore);
+    }
+
+    @Test
+    @DisplayName("nextShortCode should reserve inline and count a miss when the pool is empty")
+    void nextShortCode_shouldReserveInline_whenPoolEmpty() {
+        when(reservationStore.reserve(anyCollection(), any(LocalDateTime.class)))
+                .thenAnswer(invocation -> new ArrayList<>(invocation.<Collection<String>>getArgument(0)));
+
+        String shortCode = generator.nextShortCode();
+
+        assertEquals(7, shortCode.length());
+        assertEquals(1.0, meterRegistry.get("short.code.pool.misses").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("refill should reserve longer codes once too many candidates are already taken")
+    void refill_shouldGrowLength_whenCandidatesTaken() {
+        when(reservationStore.reserve(anyCollection(), any(LocalDateTime.class)))
+                .thenAnswer(invocation -> new ArrayList<>(invocation.<Collection<String>>getArgument(0)).subList(0, 2))
+                .thenAnswer(invocation -> new ArrayList<>(invocation.<Collection<String>>getArgument(0)));
+
+        generator.refill();
+
+        assertEquals(8, codeLength.current());
+        assertEquals(1.0, meterRegistry.get("short.code.length.increases").counter().count());
+        List<String> codes = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            codes.add(generator.nextShortCode());
+        }
+        assertEquals(2, codes.stream().filter(code -> code.length() == 7).count());
+        assertEquals(8, codes.stream().filter(code -> code.length() == 8).count());
+    }
+
+    @Test
+    @DisplayName("stop should release the codes still waiting in the pool")
+    void stop_shouldReleaseUnusedCodes() throws InterruptedException {
+        when(reservationStore.reserve(anyCollection(), any(LocalDateTime.class)))
+                .thenAnswer(invocation -> new ArrayList<>(invocation.<Collection<String>>getArgument(0)));
+        generator.refill();
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<String>> released = ArgumentCaptor.forClass(Collection.class);
+
+        generator.stop();
+
+        verify(reservationStore).release(released.capture());
+        assertEquals(10, released.getValue().size());
+        assertEquals(0, generator.size());
+    }
+
+    @Test
+    @DisplayName("constructor should reject a low watermark at or above the depth")
+    void constructor_shouldThrow_whenLowWatermarkNotBelowDepth() {
+        assertThrows(IllegalArgumentException.class, () -> new PooledShortCodeGenerator(reservationStore,
+                new SimpleMeterRegistry(), codeLength, 10, 10, 4,
+                Duration.ofSeconds(1), Duration.ofMinutes(10), Duration.ofDays(1)));
+    }
+}
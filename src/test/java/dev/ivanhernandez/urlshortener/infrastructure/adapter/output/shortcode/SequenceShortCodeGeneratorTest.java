@@ -0,0 +1,131 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.shortcode;
+
+import dev.ivanhernandez.urlshortener.infrastructure.adapter.output.persistence.JpaShortCodeBlockLeaser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SequenceShortCodeGenerator")
+class SequenceShortCodeGeneratorTest {
+
+    private static final String COUNTER = "short-code-length-7";
+
+    @Mock
+    private JpaShortCodeBlockLeaser blockLeaser;
+
+    @Test
+    @DisplayName("nextShortCode should lease one block per block-size codes")
+    void nextShortCode_shouldLeaseOncePerBlock() {
+        when(blockLeaser.leaseBlock(COUNTER, 10)).thenReturn(0L, 10L);
+        SequenceShortCodeGenerator generator = new SequenceShortCodeGenerator(blockLeaser, codeLength(7, 7), 10, 42L);
+
+        for (int i = 0; i < 15; i++) {
+            generator.nextShortCode();
+        }
+
+        verify(blockLeaser, times(2)).leaseBlock(COUNTER, 10);
+    }
+
+    @Test
+    @DisplayName("nextShortCode should return distinct Base62 codes of the configured length")
+    void nextShortCode_shouldReturnDistinctFixedLengthCodes() {
+        when(blockLeaser.leaseBlock(COUNTER, 1000)).thenReturn(0L, 1000L, 2000L);
+        SequenceShortCodeGenerator generator = new SequenceShortCodeGenerator(blockLeaser, codeLength(7, 7), 1000, 42L);
+        Set<String> codes = new HashSet<>();
+
+        for (int i = 0; i < 3000; i++) {
+            String code = generator.nextShortCode();
+            assertTrue(code.matches("[A-Za-z0-9]{7}"));
+            codes.add(code);
+        }
+
+        assertEquals(3000, codes.size());
+    }
+
+    @Test
+    @DisplayName("nextShortCode should not hand out sequential-looking codes")
+    void nextShortCode_shouldScrambleConsecutiveIds() {
+        when(blockLeaser.leaseBlock(COUNTER, 1000)).thenReturn(0L);
+        SequenceShortCodeGenerator generator = new SequenceShortCodeGenerator(blockLeaser, codeLength(7, 7), 1000, 42L);
+
+        String first = generator.nextShortCode();
+        String second = generator.nextShortCode();
+
+        assertNotEquals(first.substring(0, 6), second.substring(0, 6));
+    }
+
+    @Test
+    @DisplayName("nextShortCode should retry the lease once when another node created the counter concurrently")
+    void nextShortCode_shouldRetryLease_whenCounterCreatedConcurrently() {
+        when(blockLeaser.leaseBlock(COUNTER, 1000))
+                .thenThrow(new DataIntegrityViolationException("duplicate"))
+                .thenReturn(1000L);
+        SequenceShortCodeGenerator generator = new SequenceShortCodeGenerator(blockLeaser, codeLength(7, 7), 1000, 42L);
+
+        assertNotNull(generator.nextShortCode());
+        verify(blockLeaser, times(2)).leaseBlock(COUNTER, 1000);
+    }
+
+    @Test
+    @DisplayName("nextShortCode should fail once the keyspace is exhausted")
+    void nextShortCode_shouldThrow_whenKeyspaceExhausted() {
+        when(blockLeaser.leaseBlock("short-code-length-1", 10)).thenReturn(62L);
+        SequenceShortCodeGenerator generator = new SequenceShortCodeGenerator(blockLeaser, codeLength(1, 1), 10, 42L);
+
+        assertThrows(IllegalStateException.class, generator::nextShortCode);
+    }
+
+    @Test
+    @DisplayName("nextShortCode should move to the next length once the keyspace is exhausted")
+    void nextShortCode_shouldGrowLength_whenKeyspaceExhausted() {
+        when(blockLeaser.leaseBlock("short-code-length-1", 10)).thenReturn(62L);
+        when(blockLeaser.leaseBlock("short-code-length-2", 10)).thenReturn(0L);
+        AdaptiveShortCodeLength codeLength = codeLength(1, 2);
+        SequenceShortCodeGenerator generator = new SequenceShortCodeGenerator(blockLeaser, codeLength, 10, 42L);
+
+        String code = generator.nextShortCode();
+
+        assertEquals(2, code.length());
+        assertEquals(2, codeLength.current());
+    }
+
+    @Test
+    @DisplayName("nextShortCode should move to the next length once leased ids pass the occupancy threshold")
+    void nextShortCode_shouldGrowLength_whenOccupancyThresholdCrossed() {
+        when(blockLeaser.leaseBlock("short-code-length-1", 10)).thenReturn(30L);
+        when(blockLeaser.leaseBlock("short-code-length-2", 10)).thenReturn(0L);
+        AdaptiveShortCodeLength codeLength = codeLength(1, 2);
+        SequenceShortCodeGenerator generator = new SequenceShortCodeGenerator(blockLeaser, codeLength, 10, 42L);
+
+        assertEquals(1, generator.nextShortCode().length());
+        assertEquals(2, generator.nextShortCode().length());
+        verify(blockLeaser).leaseBlock("short-code-length-2", 10);
+    }
+
+    @Test
+    @DisplayName("constructor should refuse to start without a permutation key")
+    void constructor_shouldThrow_whenKeyMissing() {
+        AdaptiveShortCodeLength codeLength = codeLength(7, 7);
+
+        assertThrows(IllegalStateException.class,
+                () -> new SequenceShortCodeGenerator(blockLeaser, codeLength, 10, ""));
+        assertThrows(IllegalStateException.class,
+                () -> new SequenceShortCodeGenerator(blockLeaser, codeLength, 10, "not-a-number"));
+        assertEquals(-42L, SequenceShortCodeGenerator.parseKey(" -42 "));
+    }
+
+    private static AdaptiveShortCodeLength codeLength(int length, int maxLength) {
+        return new AdaptiveShortCodeLength(new SimpleMeterRegistry(), length, maxLength, 0.01, 0.5, 1000);
+    }
+}
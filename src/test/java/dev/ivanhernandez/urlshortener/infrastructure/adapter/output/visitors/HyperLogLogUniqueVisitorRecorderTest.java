@@ -0,0 +1,218 @@
+package dev.ivanhernandez.urlshortener.infrastructure.adapter.output.visitors;
+
+import dev.ivanhernandez.urlshortener.application.port.output.VisitorSketchRepository;
+import dev.ivanhernandez.urlshortener.domain.model.ClickContext;
+import dev.ivanhernandez.urlshortener.domain.model.VisitorSketch;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HyperLogLogUniqueVisitorRecorder")
+class HyperLogLogUniqueVisitorRecorderTest {
+
+    private static final ClickContext ALICE = new ClickContext(null, "Mozilla/5.0 (X11; Linux x86_64)", "203.0.113.7");
+    private static final ClickContext BOB = new ClickContext(null, "Mozilla/5.0 (iPhone)", "198.51.100.23");
+
+    @Mock
+    private VisitorSketchRepository visitorSketchRepository;
+
+    @Captor
+    private ArgumentCaptor<List<VisitorSketch>> sketchesCaptor;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private MutableClock clock;
+    private HyperLogLogUniqueVisitorRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2026-03-01T10:15:00Z"));
+        recorder = new HyperLogLogUniqueVisitorRecorder(
+                visitorSketchRepository, meterRegistry, Duration.ofHours(1), 200, 1_000, clock);
+    }
+
+    @Test
+    @DisplayName("flush should merge one sketch per link and day, counting repeat visitors once")
+    void flush_shouldMergeOneSketchPerLinkAndDay() {
+        recorder.recordVisit(1L, ALICE);
+        recorder.recordVisit(1L, ALICE);
+        recorder.recordVisit(1L, BOB);
+        recorder.recordVisit(2L, ALICE);
+
+        recorder.flush();
+
+        verify(visitorSketchRepository).mergeSketches(sketchesCaptor.capture());
+        List<VisitorSketch> sketches = sorted(sketchesCaptor.getValue());
+        assertEquals(2, sketches.size());
+        assertEquals(1L, sketches.get(0).urlId());
+        assertEquals(LocalDate.of(2026, 3, 1), sketches.get(0).day());
+        assertEquals(2, sketches.get(0).sketch().estimate());
+        assertEquals(2L, sketches.get(1).urlId());
+        assertEquals(1, sketches.get(1).sketch().estimate());
+        assertEquals(0, recorder.pendingSketches());
+    }
+
+    @Test
+    @DisplayName("recordVisit should keep a separate sketch for each UTC day")
+    void recordVisit_shouldSeparateDays() {
+        recorder.recordVisit(1L, ALICE);
+        clock.advance(Duration.ofDays(1));
+        recorder.recordVisit(1L, ALICE);
+
+        recorder.flush();
+
+        verify(visitorSketchRepository).mergeSketches(sketchesCaptor.capture());
+        assertEquals(List.of(LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 2)),
+                sorted(sketchesCaptor.getValue()).stream().map(VisitorSketch::day).toList());
+    }
+
+    @Test
+    @DisplayName("recordVisit should ignore visits without a client fingerprint")
+    void recordVisit_shouldIgnoreVisits_whenNoFingerprint() {
+        recorder.recordVisit(1L, ClickContext.NONE);
+
+        recorder.flush();
+
+        verifyNoInteractions(visitorSketchRepository);
+        assertEquals(0, recorder.pendingSketches());
+    }
+
+    @Test
+    @DisplayName("flush should keep sketches after a failed merge and retry them on the next flush")
+    void flush_shouldRetryFailedMerge() {
+        List<List<VisitorSketch>> merged = new ArrayList<>();
+        doThrow(new IllegalStateException("database unavailable"))
+                .doAnswer(invocation -> merged.add(List.copyOf(invocation.getArgument(0))))
+                .when(visitorSketchRepository).mergeSketches(anyList());
+        recorder.recordVisit(1L, ALICE);
+
+        assertThrows(IllegalStateException.class, () -> recorder.flush());
+        recorder.recordVisit(1L, BOB);
+        recorder.flush();
+
+        assertEquals(1, merged.size());
+        assertEquals(1, merged.get(0).size());
+        assertEquals(2, merged.get(0).get(0).sketch().estimate());
+        assertEquals(0, recorder.pendingSketches());
+    }
+
+    @Test
+    @DisplayName("flush should merge sketches in chunks of the configured batch size")
+    void flush_shouldMergeInBatches() {
+        recorder = new HyperLogLogUniqueVisitorRecorder(
+                visitorSketchRepository, new SimpleMeterRegistry(), Duration.ofHours(1), 2, 1_000, clock);
+        for (long urlId = 1; urlId <= 3; urlId++) {
+            recorder.recordVisit(urlId, ALICE);
+        }
+
+        recorder.flush();
+
+        verify(visitorSketchRepository, times(2)).mergeSketches(sketchesCaptor.capture());
+        assertEquals(3, sketchesCaptor.getAllValues().stream().mapToInt(List::size).sum());
+    }
+
+    @Test
+    @DisplayName("recordVisit should flush early once the pending sketches reach the limit")
+    void recordVisit_shouldFlushEarly_whenMaxPendingKeysReached() throws InterruptedException {
+        recorder = new HyperLogLogUniqueVisitorRecorder(
+                visitorSketchRepository, meterRegistry, Duration.ofHours(1), 200, 2, clock);
+        try {
+            recorder.recordVisit(1L, ALICE);
+            recorder.recordVisit(2L, ALICE);
+
+            verify(visitorSketchRepository, timeout(1_000)).mergeSketches(sketchesCaptor.capture());
+            assertEquals(2, sketchesCaptor.getValue().size());
+        } finally {
+            recorder.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("flush should drop new sketches and count them while too many are waiting to be merged")
+    void flush_shouldDropSketches_whenUnwrittenFull() throws InterruptedException {
+        doThrow(new IllegalStateException("database unavailable"))
+                .when(visitorSketchRepository).mergeSketches(anyList());
+        recorder = new HyperLogLogUniqueVisitorRecorder(
+                visitorSketchRepository, meterRegistry, Duration.ofHours(1), 200, 2, clock);
+        try {
+            recorder.recordVisit(1L, ALICE);
+            recorder.recordVisit(2L, ALICE);
+            verify(visitorSketchRepository, timeout(1_000)).mergeSketches(anyList());
+            recorder.recordVisit(3L, ALICE);
+
+            assertThrows(IllegalStateException.class, () -> recorder.flush());
+
+            assertEquals(2, recorder.pendingSketches());
+            assertEquals(1.0, meterRegistry.get("unique.visitors.sketches.dropped").functionCounter().count());
+        } finally {
+            doNothing().when(visitorSketchRepository).mergeSketches(anyList());
+            recorder.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("fingerprint should depend on both the client address and the user agent")
+    void fingerprint_shouldDependOnAddressAndUserAgent() {
+        long fingerprint = HyperLogLogUniqueVisitorRecorder.fingerprint("203.0.113.7", "curl/8.5.0");
+
+        assertEquals(fingerprint, HyperLogLogUniqueVisitorRecorder.fingerprint("203.0.113.7", "curl/8.5.0"));
+        assertNotEquals(fingerprint, HyperLogLogUniqueVisitorRecorder.fingerprint("203.0.113.8", "curl/8.5.0"));
+        assertNotEquals(fingerprint, HyperLogLogUniqueVisitorRecorder.fingerprint("203.0.113.7", "curl/8.6.0"));
+        assertNotEquals(HyperLogLogUniqueVisitorRecorder.fingerprint("ab", null),
+                HyperLogLogUniqueVisitorRecorder.fingerprint("a", "b"));
+    }
+
+    private static List<VisitorSketch> sorted(List<VisitorSketch> sketches) {
+        return sketches.stream()
+                .sorted(Comparator.comparingLong(VisitorSketch::urlId).thenComparing(VisitorSketch::day))
+                .toList();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        private void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import dev.ivanhernandez.urlshortener.application.dto.response.ErrorResponse;
 import dev.ivanhernandez.urlshortener.application.dto.response.ValidationErrorResponse;
 import dev.ivanhernandez.urlshortener.domain.exception.ExpiredUrlException;
 import dev.ivanhernandez.urlshortener.domain.exception.InvalidUrlException;
+import dev.ivanhernandez.urlshortener.domain.exception.ShortCodeExhaustedException;
 import dev.ivanhernandez.urlshortener.domain.exception.UrlNotFoundException;
 import dev.ivanhernandez.urlshortener.domain.exception.UrlOwnershipException;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,8 +13,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -54,6 +57,31 @@ class GlobalExceptionHandlerTest {
         assertNotNull(response.getBody().timestamp());
     }
 
+    @Test
+    @DisplayName("handleResourceExhaustedException should return 503 with Retry-After")
+    void handleResourceExhaustedException_shouldReturn503WithRetryAfter() {
+        CannotGetJdbcConnectionException exception = new CannotGetJdbcConnectionException("pool exhausted");
+
+        ResponseEntity<ErrorResponse> response = handler.handleResourceExhaustedException(exception);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("1", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertNotNull(response.getBody());
+        assertEquals(503, response.getBody().status());
+    }
+
+    @Test
+    @DisplayName("handleShortCodeExhaustedException should return 503 with Retry-After")
+    void handleShortCodeExhaustedException_shouldReturn503WithRetryAfter() {
+        ResponseEntity<ErrorResponse> response =
+                handler.handleShortCodeExhaustedException(new ShortCodeExhaustedException(5));
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("1", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertNotNull(response.getBody());
+        assertEquals(503, response.getBody().status());
+    }
+
     @Test
     @DisplayName("handleExpiredUrlException should return 410 with error message")
     void handleExpiredUrlException_shouldReturn410WithMessage() {